@@ -62,6 +62,19 @@ public class Metadata {
         this.key = key;
     }
 
+    /**
+     * Returns a copy of the metadata. Subclasses copy their content deeply, so
+     * that changing the copy does not change this metadata.
+     *
+     * @return a copy of the metadata
+     */
+    public Metadata copy() {
+        Metadata copy = new Metadata();
+        copy.domain = domain;
+        copy.key = key;
+        return copy;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -20,6 +20,15 @@ public class MetadataEntry extends Metadata {
      */
     private String value = "";
 
+    @Override
+    public MetadataEntry copy() {
+        MetadataEntry copy = new MetadataEntry();
+        copy.domain = domain;
+        copy.key = key;
+        copy.value = value;
+        return copy;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
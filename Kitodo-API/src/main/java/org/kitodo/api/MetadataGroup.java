@@ -43,6 +43,17 @@ public class MetadataGroup extends Metadata {
         this.metadata = metadata;
     }
 
+    @Override
+    public MetadataGroup copy() {
+        MetadataGroup copy = new MetadataGroup();
+        copy.domain = domain;
+        copy.key = key;
+        for (Metadata member : metadata) {
+            copy.metadata.add(member.copy());
+        }
+        return copy;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
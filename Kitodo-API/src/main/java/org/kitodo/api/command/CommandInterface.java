@@ -11,6 +11,8 @@
 
 package org.kitodo.api.command;
 
+import java.time.Duration;
+
 public interface CommandInterface {
 
     /**
@@ -21,4 +23,19 @@ public interface CommandInterface {
      * @return A commandResult, which contains id and result messages.
      */
     CommandResult runCommand(String command);
+
+    /**
+     * Runs a given command. If the command does not finish within the given
+     * time, it is killed and the result is not successful. The default
+     * implementation does not time out.
+     *
+     * @param command
+     *            The command as a String.
+     * @param timeout
+     *            The maximum time the command may run. Zero means no limit.
+     * @return A commandResult, which contains id and result messages.
+     */
+    default CommandResult runCommand(String command, Duration timeout) {
+        return runCommand(command);
+    }
 }
@@ -25,6 +25,12 @@ public class CommandResult {
     /** The resultMessages. */
     private List<String> messages;
 
+    /** The exit code of the command, or null if it did not exit. */
+    private Integer exitCode;
+
+    /** The time the command ran, in milliseconds. */
+    private long duration;
+
     /**
      * Constructor.
      * 
@@ -41,6 +47,28 @@ public class CommandResult {
         this.messages = messages;
     }
 
+    /**
+     * Constructor.
+     *
+     * @param command
+     *            The command.
+     * @param successful
+     *            If command was successful.
+     * @param messages
+     *            The resultMessages
+     * @param exitCode
+     *            The exit code, or null if the command did not exit by
+     *            itself.
+     * @param duration
+     *            The time the command ran, in milliseconds.
+     */
+    public CommandResult(String command, boolean successful, List<String> messages, Integer exitCode,
+            long duration) {
+        this(command, successful, messages);
+        this.exitCode = exitCode;
+        this.duration = duration;
+    }
+
     /**
      * Gets the command.
      * 
@@ -68,6 +96,25 @@ public class CommandResult {
         return messages;
     }
 
+    /**
+     * Gets the exit code. Null if the command did not run, or did not exit by
+     * itself.
+     *
+     * @return The exit code.
+     */
+    public Integer getExitCode() {
+        return exitCode;
+    }
+
+    /**
+     * Gets the time the command ran.
+     *
+     * @return The duration, in milliseconds.
+     */
+    public long getDuration() {
+        return duration;
+    }
+
     /**
      * Indicates whether a CommandResults is "equal to" this one.
      *
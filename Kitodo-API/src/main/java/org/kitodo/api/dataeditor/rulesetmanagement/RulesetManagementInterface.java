@@ -14,6 +14,7 @@ package org.kitodo.api.dataeditor.rulesetmanagement;
 import java.io.File;
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale.LanguageRange;
 import java.util.Map;
@@ -136,6 +137,18 @@ public interface RulesetManagementInterface {
      */
     void load(File rulesetFile) throws IOException;
 
+    /**
+     * Returns the files the loaded ruleset depends on. These are the ruleset
+     * file, the files it includes and the files looked up for its namespaces,
+     * even if they did not exist. If one of them changes, the ruleset must be
+     * loaded again.
+     *
+     * @return the files of the loaded ruleset
+     */
+    default Collection<File> getSourceFiles() {
+        return Collections.emptyList();
+    }
+
     /**
      * Returns the “always showing” value or otherwise the default value if the
      * attribute is not set.
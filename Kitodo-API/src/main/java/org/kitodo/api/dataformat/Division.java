@@ -103,14 +103,46 @@ public abstract class Division<T extends Division<T>> {
      *            division that serves as data source
      */
     protected Division(Division<T> source) {
-        children = source.children;
+        this(source, false);
+    }
+
+    /**
+     * Creates a new division from an existing division. If {@code deep} is
+     * set, the new division gets copies of the content IDs and the metadata,
+     * and it has no children yet. Otherwise, it shares them with the source.
+     *
+     * @param source
+     *            division that serves as data source
+     * @param deep
+     *            whether the new division should not share data with the
+     *            source
+     */
+    protected Division(Division<T> source, boolean deep) {
+        if (deep) {
+            contentIds = new ArrayList<>(source.contentIds);
+            for (Metadata metadataEntry : source.metadata) {
+                metadata.add(metadataEntry.copy());
+            }
+        } else {
+            children = source.children;
+            contentIds = source.contentIds;
+            metadata = source.metadata;
+        }
         label = source.label;
-        metadata = source.metadata;
         order = source.order;
         orderlabel = source.orderlabel;
         type = source.type;
     }
 
+    /**
+     * Returns a copy of this division that shares no data with it. Subclasses
+     * keep their own data in the copy. The copy has no children. Which other
+     * references are left out is described by the subclass.
+     *
+     * @return a copy of this division without children
+     */
+    protected abstract T copyWithoutChildren();
+
     /**
      * Returns all children of this division as a flat list. The list isn’t
      * backed by the division, which means that insertions and deletions in the
@@ -51,9 +51,43 @@ public class LogicalDivision extends Division<LogicalDivision> {
      *            logical division that serves as data source
      */
     protected LogicalDivision(LogicalDivision source) {
-        super(source);
-        link = source.link;
-        views = source.views;
+        this(source, false);
+    }
+
+    /**
+     * Creates a new logical division from an existing logical division. If
+     * {@code deep} is set, the new logical division gets a copy of the link,
+     * and it has no children and no views yet. Otherwise, it shares them with
+     * the source.
+     *
+     * @param source
+     *            logical division that serves as data source
+     * @param deep
+     *            whether the new logical division should not share data with
+     *            the source
+     */
+    protected LogicalDivision(LogicalDivision source, boolean deep) {
+        super(source, deep);
+        if (deep) {
+            if (Objects.nonNull(source.link)) {
+                link = new LinkedMetsResource();
+                link.setLoctype(source.link.getLoctype());
+                link.setUri(source.link.getUri());
+            }
+            views = new LinkedList<>();
+        } else {
+            link = source.link;
+            views = source.views;
+        }
+    }
+
+    /**
+     * {@inheritDoc} The copy has no views, as they must refer to the copied
+     * physical divisions.
+     */
+    @Override
+    protected LogicalDivision copyWithoutChildren() {
+        return new LogicalDivision(this, true);
     }
 
     /**
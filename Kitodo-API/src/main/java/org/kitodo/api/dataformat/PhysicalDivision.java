@@ -70,6 +70,35 @@ public class PhysicalDivision extends Division<PhysicalDivision> {
         logicalDivisions = new LinkedList<>();
     }
 
+    /**
+     * Creates a new physical division from an existing physical division. If
+     * {@code deep} is set, the new physical division gets a copy of the media
+     * files, and it has no children and is not yet assigned to logical
+     * divisions. Otherwise, it shares them with the source. The media variants
+     * are always shared, as they describe the file groups of the whole
+     * workpiece.
+     *
+     * @param source
+     *            physical division that serves as data source
+     * @param deep
+     *            whether the new physical division should not share data with
+     *            the source
+     */
+    protected PhysicalDivision(PhysicalDivision source, boolean deep) {
+        super(source, deep);
+        mediaFiles = deep ? new HashMap<>(source.mediaFiles) : source.mediaFiles;
+        metsDivReferrerId = source.metsDivReferrerId;
+        logicalDivisions = deep ? new LinkedList<>() : source.logicalDivisions;
+    }
+
+    /**
+     * {@inheritDoc} The copy is not assigned to any logical division, as it
+     * must refer to the copied logical divisions.
+     */
+    @Override
+    protected PhysicalDivision copyWithoutChildren() {
+        return new PhysicalDivision(this, true);
+    }
 
     /**
      * Returns the map of available media variants with the corresponding media
@@ -15,7 +15,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.GregorianCalendar;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -136,6 +139,79 @@ public class Workpiece {
         this.logicalStructure = logicalStructure;
     }
 
+    /**
+     * Creates a deep copy of this workpiece, without reading it again. The
+     * copy is equal to this workpiece, but changing it does not change this
+     * workpiece. The views of the logical divisions refer to the copied
+     * physical divisions, and the copied physical divisions know the copied
+     * logical divisions they are assigned to. The divisions are copied by
+     * their own classes, so data kept by the file format, such as the METS
+     * IDs, is preserved.
+     *
+     * @return a copy of the workpiece
+     */
+    public Workpiece copy() {
+        Workpiece copy = new Workpiece();
+        copy.creationDate = Objects.nonNull(creationDate) ? (GregorianCalendar) creationDate.clone() : null;
+        for (ProcessingNote processingNote : editHistory) {
+            ProcessingNote processingNoteCopy = new ProcessingNote();
+            processingNoteCopy.setName(processingNote.getName());
+            processingNoteCopy.setNote(processingNote.getNote());
+            processingNoteCopy.setRole(processingNote.getRole());
+            processingNoteCopy.setType(processingNote.getType());
+            copy.editHistory.add(processingNoteCopy);
+        }
+        copy.id = id;
+        Map<PhysicalDivision, PhysicalDivision> physicalDivisionCopies = new IdentityHashMap<>();
+        copy.physicalStructure = copyPhysicalDivision(physicalStructure, physicalDivisionCopies);
+        Map<LogicalDivision, LogicalDivision> logicalDivisionCopies = new IdentityHashMap<>();
+        copy.logicalStructure = copyLogicalDivision(logicalStructure, physicalDivisionCopies,
+            logicalDivisionCopies);
+        for (Entry<PhysicalDivision, PhysicalDivision> entry : physicalDivisionCopies.entrySet()) {
+            for (LogicalDivision logicalDivision : entry.getKey().getLogicalDivisions()) {
+                entry.getValue().getLogicalDivisions()
+                        .add(logicalDivisionCopies.getOrDefault(logicalDivision, logicalDivision));
+            }
+        }
+        return copy;
+    }
+
+    private static PhysicalDivision copyPhysicalDivision(PhysicalDivision physicalDivision,
+            Map<PhysicalDivision, PhysicalDivision> physicalDivisionCopies) {
+        if (Objects.isNull(physicalDivision)) {
+            return null;
+        }
+        PhysicalDivision copy = physicalDivision.copyWithoutChildren();
+        physicalDivisionCopies.put(physicalDivision, copy);
+        for (PhysicalDivision child : physicalDivision.getChildren()) {
+            copy.getChildren().add(copyPhysicalDivision(child, physicalDivisionCopies));
+        }
+        return copy;
+    }
+
+    private static LogicalDivision copyLogicalDivision(LogicalDivision logicalDivision,
+            Map<PhysicalDivision, PhysicalDivision> physicalDivisionCopies,
+            Map<LogicalDivision, LogicalDivision> logicalDivisionCopies) {
+        if (Objects.isNull(logicalDivision)) {
+            return null;
+        }
+        LogicalDivision copy = logicalDivision.copyWithoutChildren();
+        for (View view : logicalDivision.getViews()) {
+            PhysicalDivision physicalDivision = view.getPhysicalDivision();
+            PhysicalDivision physicalDivisionCopy = physicalDivisionCopies.get(physicalDivision);
+            if (Objects.isNull(physicalDivisionCopy)) {
+                // the view shows a physical division outside the physical structure
+                physicalDivisionCopy = copyPhysicalDivision(physicalDivision, physicalDivisionCopies);
+            }
+            copy.getViews().add(View.of(physicalDivisionCopy));
+        }
+        logicalDivisionCopies.put(logicalDivision, copy);
+        for (LogicalDivision child : logicalDivision.getChildren()) {
+            copy.getChildren().add(copyLogicalDivision(child, physicalDivisionCopies, logicalDivisionCopies));
+        }
+        return copy;
+    }
+
     @Override
     public String toString() {
         return id + ", " + logicalStructure;
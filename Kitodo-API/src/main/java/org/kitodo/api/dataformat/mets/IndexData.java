@@ -0,0 +1,135 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.api.dataformat.mets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The data of a METS file that is needed to index a process, read without
+ * creating a workpiece.
+ */
+public class IndexData {
+    /**
+     * The {@code <mets:dmdSec>} elements as XML.
+     */
+    private final List<String> dmdSecs = new ArrayList<>();
+
+    /**
+     * The number of physical divisions of type page.
+     */
+    private int numberOfImages;
+
+    /**
+     * The number of metadata of the logical structure.
+     */
+    private int numberOfMetadata;
+
+    /**
+     * The number of logical divisions.
+     */
+    private int numberOfStructures;
+
+    /**
+     * The type of the workpiece.
+     */
+    private String baseType;
+
+    /**
+     * Returns the {@code <mets:dmdSec>} elements of the METS file, each as it
+     * is in the file. Only the namespaces declared on the element itself are
+     * declared in its XML.
+     *
+     * @return the descriptive metadata sections
+     */
+    public List<String> getDmdSecs() {
+        return dmdSecs;
+    }
+
+    /**
+     * Returns the number of physical divisions of type page.
+     *
+     * @return the number of images
+     */
+    public int getNumberOfImages() {
+        return numberOfImages;
+    }
+
+    /**
+     * Sets the number of physical divisions of type page.
+     *
+     * @param numberOfImages
+     *            number of images to set
+     */
+    public void setNumberOfImages(int numberOfImages) {
+        this.numberOfImages = numberOfImages;
+    }
+
+    /**
+     * Returns the number of metadata entries and groups of the logical
+     * structure, not counting empty entries.
+     *
+     * @return the number of metadata
+     */
+    public int getNumberOfMetadata() {
+        return numberOfMetadata;
+    }
+
+    /**
+     * Sets the number of metadata entries and groups of the logical structure.
+     *
+     * @param numberOfMetadata
+     *            number of metadata to set
+     */
+    public void setNumberOfMetadata(int numberOfMetadata) {
+        this.numberOfMetadata = numberOfMetadata;
+    }
+
+    /**
+     * Returns the number of logical divisions.
+     *
+     * @return the number of structures
+     */
+    public int getNumberOfStructures() {
+        return numberOfStructures;
+    }
+
+    /**
+     * Sets the number of logical divisions.
+     *
+     * @param numberOfStructures
+     *            number of structures to set
+     */
+    public void setNumberOfStructures(int numberOfStructures) {
+        this.numberOfStructures = numberOfStructures;
+    }
+
+    /**
+     * Returns the type of the top element of the logical structure, and thus
+     * the type of the workpiece.
+     *
+     * @return the base type, may be {@code null}
+     */
+    public String getBaseType() {
+        return baseType;
+    }
+
+    /**
+     * Sets the type of the workpiece.
+     *
+     * @param baseType
+     *            base type to set
+     */
+    public void setBaseType(String baseType) {
+        this.baseType = baseType;
+    }
+}
@@ -15,6 +15,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import javax.xml.transform.Result;
+
 import org.kitodo.api.dataformat.Workpiece;
 
 /**
@@ -52,6 +54,18 @@ public interface MetsXmlElementAccessInterface {
      */
     Workpiece read(InputStream in) throws IOException;
 
+    /**
+     * Reads the data needed to index a process from a METS file in one
+     * streaming pass, without creating a workpiece.
+     *
+     * @param in
+     *            open input channel for reading the file
+     * @return the index data
+     * @throws IOException
+     *             if the reading fails
+     */
+    IndexData readIndexData(InputStream in) throws IOException;
+
     /**
      * Writes the workpiece to a METS file.
      *
@@ -63,4 +77,18 @@ public interface MetsXmlElementAccessInterface {
      *             if the writing fails
      */
     void save(Workpiece workpiece, OutputStream out) throws IOException;
+
+    /**
+     * Writes the workpiece as METS to a result. This can be used to pass the
+     * METS to an XSLT transformation as it is being generated, without having
+     * to hold the whole document in memory.
+     *
+     * @param workpiece
+     *            workpiece to save
+     * @param result
+     *            result to write to, for example a {@code SAXResult}
+     * @throws IOException
+     *             if the writing fails
+     */
+    void save(Workpiece workpiece, Result result) throws IOException;
 }
@@ -12,6 +12,9 @@
 package org.kitodo.api.validation.longtermpreservation;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.kitodo.api.validation.ValidationInterface;
 import org.kitodo.api.validation.ValidationResult;
@@ -30,4 +33,27 @@ public interface LongTermPreservationValidationInterface extends ValidationInter
      */
     ValidationResult validate(URI fileUri, FileType fileType);
 
+    /**
+     * Validates several files of the same type for long-term preservation,
+     * for example all images of a folder. Implementations may validate the
+     * files in parallel, but must not use more than the given number of
+     * threads. The default implementation validates one file after the
+     * other.
+     *
+     * @param fileUris
+     *            The uris to the images, which should be validated.
+     * @param fileType
+     *            The fileType of the images at the given paths.
+     * @param parallelism
+     *            The maximum number of files validated at the same time.
+     * @return the validation results, by uri, in the order of the given uris
+     */
+    default Map<URI, ValidationResult> validate(Collection<URI> fileUris, FileType fileType, int parallelism) {
+        Map<URI, ValidationResult> validationResults = new LinkedHashMap<>();
+        for (URI fileUri : fileUris) {
+            validationResults.put(fileUri, validate(fileUri, fileType));
+        }
+        return validationResults;
+    }
+
 }
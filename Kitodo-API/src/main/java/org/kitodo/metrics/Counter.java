@@ -0,0 +1,54 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A counter, which only ever increases. Counters are obtained from the
+ * {@link MetricsRegistry}.
+ */
+public class Counter {
+    private final LongAdder count = new LongAdder();
+
+    Counter() {
+    }
+
+    /**
+     * Increases the counter by one.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Increases the counter.
+     *
+     * @param amount
+     *            amount to add, must not be negative
+     */
+    public void increment(long amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("amount must not be negative: " + amount);
+        }
+        count.add(amount);
+    }
+
+    /**
+     * Returns the current count.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+}
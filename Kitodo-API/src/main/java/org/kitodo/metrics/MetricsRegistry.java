@@ -0,0 +1,252 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.metrics;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Registry of the application's metrics. Timers, counters and gauges are
+ * registered by name and labels, and can be written in the text format of
+ * Prometheus, which monitoring systems scrape. Registering a metric that
+ * already exists returns the existing one, so metrics can be obtained where
+ * they are used.
+ */
+public class MetricsRegistry {
+    private static volatile MetricsRegistry instance = null;
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[a-zA-Z_:][a-zA-Z0-9_:]*");
+
+    private static final String TYPE_COUNTER = "counter";
+    private static final String TYPE_GAUGE = "gauge";
+    private static final String TYPE_SUMMARY = "summary";
+
+    private final Map<String, Family> families = new ConcurrentHashMap<>();
+
+    /**
+     * Metrics of the same name, which differ by their labels.
+     */
+    private static class Family {
+        private final String help;
+        private final String type;
+        private final Map<String, Object> metrics = new ConcurrentHashMap<>();
+
+        Family(String help, String type) {
+            this.help = help;
+            this.type = type;
+        }
+    }
+
+    MetricsRegistry() {
+    }
+
+    /**
+     * Returns the registry of the application.
+     *
+     * @return the registry
+     */
+    public static MetricsRegistry getInstance() {
+        MetricsRegistry localReference = instance;
+        if (Objects.isNull(localReference)) {
+            synchronized (MetricsRegistry.class) {
+                localReference = instance;
+                if (Objects.isNull(localReference)) {
+                    localReference = new MetricsRegistry();
+                    instance = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+
+    /**
+     * Returns a counter, which is created if it does not exist yet.
+     *
+     * @param name
+     *            name of the counter, should end in {@code _total}
+     * @param help
+     *            description of the counter
+     * @param labels
+     *            alternating names and values of the labels
+     * @return the counter
+     */
+    public Counter counter(String name, String help, String... labels) {
+        return (Counter) register(name, help, TYPE_COUNTER, labels, key -> new Counter());
+    }
+
+    /**
+     * Returns a timer, which is created if it does not exist yet.
+     *
+     * @param name
+     *            name of the timer, should end in {@code _seconds}
+     * @param help
+     *            description of the timer
+     * @param labels
+     *            alternating names and values of the labels
+     * @return the timer
+     */
+    public Timer timer(String name, String help, String... labels) {
+        return (Timer) register(name, help, TYPE_SUMMARY, labels, key -> new Timer());
+    }
+
+    /**
+     * Registers a gauge, whose value is obtained whenever the metrics are
+     * written. A gauge registered before with the same name and labels is
+     * replaced.
+     *
+     * @param name
+     *            name of the gauge
+     * @param help
+     *            description of the gauge
+     * @param value
+     *            supplies the current value of the gauge
+     * @param labels
+     *            alternating names and values of the labels
+     */
+    public void gauge(String name, String help, Supplier<? extends Number> value, String... labels) {
+        Objects.requireNonNull(value, "value must not be null");
+        getFamily(name, help, TYPE_GAUGE).metrics.put(formatLabels(labels), value);
+    }
+
+    private Object register(String name, String help, String type, String[] labels,
+            Function<String, Object> constructor) {
+        return getFamily(name, help, type).metrics.computeIfAbsent(formatLabels(labels), constructor);
+    }
+
+    private Family getFamily(String name, String help, String type) {
+        if (Objects.isNull(name) || !NAME_PATTERN.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid metric name: " + name);
+        }
+        Family family = families.computeIfAbsent(name, key -> new Family(help, type));
+        if (!family.type.equals(type)) {
+            throw new IllegalArgumentException("Metric " + name + " is already registered as " + family.type);
+        }
+        return family;
+    }
+
+    private static String formatLabels(String[] labels) {
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("Labels must be given as pairs of name and value");
+        }
+        if (labels.length == 0) {
+            return "";
+        }
+        StringBuilder formatted = new StringBuilder("{");
+        for (int i = 0; i < labels.length; i += 2) {
+            if (Objects.isNull(labels[i]) || !NAME_PATTERN.matcher(labels[i]).matches()) {
+                throw new IllegalArgumentException("Invalid label name: " + labels[i]);
+            }
+            if (i > 0) {
+                formatted.append(',');
+            }
+            formatted.append(labels[i]).append("=\"").append(escape(String.valueOf(labels[i + 1]))).append('"');
+        }
+        return formatted.append('}').toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Writes all metrics in the text format of Prometheus.
+     *
+     * @param writer
+     *            writer to write to
+     * @throws IOException
+     *             if writing fails
+     */
+    public void write(Writer writer) throws IOException {
+        for (Map.Entry<String, Family> entry : new TreeMap<>(families).entrySet()) {
+            String name = entry.getKey();
+            Family family = entry.getValue();
+            Map<String, Object> metrics = new TreeMap<>(family.metrics);
+            writeHeader(writer, name, family.help, family.type);
+            for (Map.Entry<String, Object> metric : metrics.entrySet()) {
+                writeSamples(writer, name, metric.getKey(), metric.getValue());
+            }
+            if (TYPE_SUMMARY.equals(family.type)) {
+                writeHeader(writer, name + "_max", family.help + " (maximum)", TYPE_GAUGE);
+                for (Map.Entry<String, Object> metric : metrics.entrySet()) {
+                    writeSample(writer, name + "_max", metric.getKey(),
+                        ((Timer) metric.getValue()).getMaxTime(TimeUnit.SECONDS));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns all metrics in the text format of Prometheus.
+     *
+     * @return the metrics
+     */
+    public String write() {
+        StringWriter writer = new StringWriter();
+        try {
+            write(writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    private static void writeHeader(Writer writer, String name, String help, String type) throws IOException {
+        if (Objects.nonNull(help)) {
+            writer.write("# HELP " + name + ' ' + help.replace("\\", "\\\\").replace("\n", "\\n") + '\n');
+        }
+        writer.write("# TYPE " + name + ' ' + type + '\n');
+    }
+
+    private static void writeSamples(Writer writer, String name, String labels, Object metric) throws IOException {
+        if (metric instanceof Timer) {
+            Timer timer = (Timer) metric;
+            writeSample(writer, name + "_count", labels, timer.getCount());
+            writeSample(writer, name + "_sum", labels, timer.getTotalTime(TimeUnit.SECONDS));
+        } else if (metric instanceof Counter) {
+            writeSample(writer, name, labels, ((Counter) metric).getCount());
+        } else {
+            Object value;
+            try {
+                value = ((Supplier<?>) metric).get();
+            } catch (RuntimeException e) {
+                value = null;
+            }
+            writeSample(writer, name, labels, value instanceof Number ? (Number) value : Double.NaN);
+        }
+    }
+
+    private static void writeSample(Writer writer, String name, String labels, Number value) throws IOException {
+        writer.write(name + labels + ' ' + formatValue(value) + '\n');
+    }
+
+    private static String formatValue(Number value) {
+        if (value instanceof Double || value instanceof Float) {
+            double doubleValue = value.doubleValue();
+            if (Double.isNaN(doubleValue)) {
+                return "NaN";
+            } else if (Double.isInfinite(doubleValue)) {
+                return doubleValue > 0 ? "+Inf" : "-Inf";
+            }
+        }
+        return value.toString();
+    }
+}
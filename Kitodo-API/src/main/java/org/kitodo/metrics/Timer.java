@@ -0,0 +1,107 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A timer, which records the number, total and maximum duration of an
+ * operation. Timers are obtained from the {@link MetricsRegistry}. An
+ * operation is usually timed in a try-with-resources statement:
+ *
+ * <pre>
+ * try (Timer.Sample sample = TIMER.start()) {
+ *     operation();
+ * }
+ * </pre>
+ */
+public class Timer {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    Timer() {
+    }
+
+    /**
+     * A running measurement. Closing it records the time elapsed since it was
+     * started.
+     */
+    public final class Sample implements AutoCloseable {
+        private final long start = System.nanoTime();
+
+        private Sample() {
+        }
+
+        @Override
+        public void close() {
+            record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Starts a measurement.
+     *
+     * @return the running measurement, to be closed when the operation ends
+     */
+    public Sample start() {
+        return new Sample();
+    }
+
+    /**
+     * Records the duration of an operation.
+     *
+     * @param duration
+     *            duration of the operation
+     * @param unit
+     *            time unit of the duration
+     */
+    public void record(long duration, TimeUnit unit) {
+        long nanos = Math.max(unit.toNanos(duration), 0);
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded operations.
+     *
+     * @return the number of operations
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the total duration of all recorded operations.
+     *
+     * @param unit
+     *            time unit of the result
+     * @return the total duration
+     */
+    public double getTotalTime(TimeUnit unit) {
+        return (double) totalNanos.sum() / unit.toNanos(1);
+    }
+
+    /**
+     * Returns the duration of the longest recorded operation.
+     *
+     * @param unit
+     *            time unit of the result
+     * @return the maximum duration
+     */
+    public double getMaxTime(TimeUnit unit) {
+        return (double) maxNanos.get() / unit.toNanos(1);
+    }
+}
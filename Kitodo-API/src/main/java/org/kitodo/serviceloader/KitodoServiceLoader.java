@@ -24,18 +24,26 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.ServiceLoader;
+import java.util.ServiceLoader.Provider;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Collectors;
 
 import javax.faces.context.FacesContext;
 import javax.servlet.http.HttpSession;
@@ -60,10 +68,15 @@ public class KitodoServiceLoader<T> {
      * <p>Module/Plugin classes loaded from jar files can only be accessed through
      * this class loader.</p>
      *
-     * <p>In the future, a refresh mechanism could be implemented by throwing away
-     * this chain, starting a new one and reloading all jars.</p>
+     * <p>{@link #reload()} throws away this chain and starts a new one with all
+     * jars, so that changed jars are loaded again.</p>
      */
-    private static ClassLoader classLoaderChain = Thread.currentThread().getContextClassLoader();
+    private static volatile ClassLoader classLoaderChain = Thread.currentThread().getContextClassLoader();
+
+    /**
+     * The class loader the class loader chain starts with.
+     */
+    private static final ClassLoader baseClassLoader = classLoaderChain;
 
     /**
      * Already loaded jars are remembered by their file path, and thus, not
@@ -71,6 +84,38 @@ public class KitodoServiceLoader<T> {
      */
     private static final Set<String> loadedJars = new HashSet<>();
 
+    /**
+     * Whether the modules directory has been scanned. The directory is
+     * scanned once, when the first module is loaded, and again on
+     * {@link #reload()} or when the jars in it change.
+     */
+    private static volatile boolean modulesScanned = false;
+
+    /**
+     * The jars found by the last scan, with their modification times.
+     */
+    private static volatile Map<Path, Long> scannedJars = Collections.emptyMap();
+
+    /**
+     * When the modules directory was last checked for changed jars, as
+     * {@link System#nanoTime()}. The directory is checked at most every
+     * {@link #MODULES_CHECK_INTERVAL}.
+     */
+    private static volatile long lastModulesCheck = System.nanoTime();
+
+    /**
+     * Jars with frontend files which have not been loaded into the core yet.
+     * Frontend files can only be loaded within a faces request.
+     */
+    private static volatile List<Path> pendingFrontendJars = Collections.emptyList();
+
+    /**
+     * The providers found for each interface. A provider creates a new
+     * instance of the module on each call, as modules may keep state, so only
+     * looking up the module classes is cached.
+     */
+    private static final Map<Class<?>, List<Provider<?>>> providers = new ConcurrentHashMap<>();
+
     private static final String POM_PROPERTIES_FILE = "pom.properties";
     private static final String ARTIFACT_ID_PROPERTY = "artifactId";
     private static final String TEMP_DIR_PREFIX = "kitodo_";
@@ -79,6 +124,7 @@ public class KitodoServiceLoader<T> {
     private static final String PAGES_FOLDER = "pages";
     private static final String JAR = "*.jar";
     private static final String ERROR = "Classpath could not be accessed";
+    private static final long MODULES_CHECK_INTERVAL = TimeUnit.SECONDS.toNanos(10);
 
     private static final Path SYSTEM_TEMP_FOLDER = FileSystems.getDefault()
             .getPath(System.getProperty("java.io.tmpdir"));
@@ -102,13 +148,21 @@ public class KitodoServiceLoader<T> {
         }
     }
 
-    private ServiceLoader<T> getClassLoader() {
-        loadModulesIntoClasspath();
-        loadBeans();
-        loadFrontendFilesIntoCore();
+    @SuppressWarnings("unchecked")
+    private List<Provider<T>> getProviders() {
+        if (!modulesScanned) {
+            scanModules(modulePath, false);
+        } else if (System.nanoTime() - lastModulesCheck > MODULES_CHECK_INTERVAL) {
+            reloadIfChanged(modulePath);
+        }
+        if (!pendingFrontendJars.isEmpty() && Objects.nonNull(FacesContext.getCurrentInstance())) {
+            loadFrontends();
+        }
         // services and their classes need to be loaded from the class loader
         // chain instead of the default class loader
-        return ServiceLoader.load(clazz, KitodoServiceLoader.classLoaderChain);
+        List<Provider<?>> found = providers.computeIfAbsent(clazz,
+            service -> ServiceLoader.load(service, classLoaderChain).stream().collect(Collectors.toList()));
+        return (List<Provider<T>>) (List<?>) found;
     }
 
     /**
@@ -118,12 +172,11 @@ public class KitodoServiceLoader<T> {
      * @return A module with type T.
      */
     public T loadModule() {
-        ServiceLoader<T> loader = getClassLoader();
-        Iterator<T> loaderIterator = loader.iterator();
-        if (!loaderIterator.hasNext()) {
+        List<Provider<T>> moduleProviders = getProviders();
+        if (moduleProviders.isEmpty()) {
             logger.error("Couldn't find a module for {}!", clazz);
         }
-        return loaderIterator.next();
+        return moduleProviders.iterator().next().get();
     }
 
     /**
@@ -131,55 +184,165 @@ public class KitodoServiceLoader<T> {
      * @return List of modules with type T
      */
     public List<T> loadModules() {
-        ServiceLoader<T> loader = getClassLoader();
         LinkedList<T> modules = new LinkedList<>();
-        loader.iterator().forEachRemaining(modules::add);
+        for (Provider<T> provider : getProviders()) {
+            modules.add(provider.get());
+        }
         return modules;
     }
 
     /**
-     * Loads bean classes and registers them to the FacesContext. Afterwards
-     * they can be used in all frontend files
+     * Scans the modules directory again. Jars which were added, changed or
+     * removed since the last scan take effect for the modules loaded
+     * afterwards. Modules loaded before keep their classes. This happens
+     * automatically when a module is loaded and the jars in the modules
+     * directory have changed.
+     */
+    public static void reload() {
+        scanModules(KitodoConfig.getKitodoModulesDirectory(), true);
+    }
+
+    /**
+     * Scans the modules directory again if jars were added, changed or
+     * removed since the last scan.
+     *
+     * @param modulePath
+     *            the modules directory
+     * @return whether the modules directory was scanned again
+     */
+    static synchronized boolean reloadIfChanged(String modulePath) {
+        lastModulesCheck = System.nanoTime();
+        if (getModificationTimes(listJars(modulePath)).equals(scannedJars)) {
+            return false;
+        }
+        logger.info("Module jar files have changed");
+        scanModules(modulePath, true);
+        return true;
+    }
+
+    /**
+     * Returns the providers found for an interface, if they were looked up
+     * since the last scan.
+     *
+     * @param service
+     *            interface class of the module
+     * @return the providers, or null
+     */
+    static List<Provider<?>> getCachedProviders(Class<?> service) {
+        return providers.get(service);
+    }
+
+    /**
+     * Scans the modules directory, loads the jars into the class path and
+     * determines the jars with frontend files. The providers found before are
+     * discarded.
+     *
+     * @param modulePath
+     *            the modules directory
+     * @param reload
+     *            whether to start a new class loader chain with all jars
      */
-    private void loadBeans() {
+    private static synchronized void scanModules(String modulePath, boolean reload) {
+        if (modulesScanned && !reload) {
+            return;
+        }
+        final long begin = System.nanoTime();
+        List<Path> jars = listJars(modulePath);
+        if (reload) {
+            loadedJars.clear();
+            classLoaderChain = baseClassLoader;
+        }
+        loadModulesIntoClasspath(jars);
+        List<Path> frontendJars = new ArrayList<>();
+        for (Path jar : jars) {
+            try (JarFile jarFile = new JarFile(jar.toFile())) {
+                if (hasFrontendFiles(jarFile)) {
+                    frontendJars.add(jar);
+                }
+            } catch (IOException e) {
+                logger.error(ERROR, e.getMessage());
+            }
+        }
+        pendingFrontendJars = frontendJars;
+        providers.clear();
+        scannedJars = getModificationTimes(jars);
+        lastModulesCheck = System.nanoTime();
+        modulesScanned = true;
+        logger.info("Scanned {} module jar files in {} ms", jars.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+    }
+
+    private static List<Path> listJars(String modulePath) {
+        List<Path> jars = new ArrayList<>();
         Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
         try (DirectoryStream<Path> stream = Files.newDirectoryStream(moduleFolder, JAR)) {
-            for (Path f : stream) {
+            stream.forEach(jars::add);
+        } catch (IOException e) {
+            logger.error(ERROR, e.getMessage());
+        }
+        return jars;
+    }
+
+    private static Map<Path, Long> getModificationTimes(List<Path> jars) {
+        Map<Path, Long> modificationTimes = new HashMap<>();
+        for (Path jar : jars) {
+            modificationTimes.put(jar, jar.toFile().lastModified());
+        }
+        return modificationTimes;
+    }
+
+    private static synchronized void loadFrontends() {
+        if (pendingFrontendJars.isEmpty()) {
+            return;
+        }
+        loadBeans(pendingFrontendJars);
+        loadFrontendFilesIntoCore(pendingFrontendJars);
+        pendingFrontendJars = Collections.emptyList();
+    }
+
+    /**
+     * Loads bean classes and registers them to the FacesContext. Afterwards
+     * they can be used in all frontend files
+     *
+     * @param frontendJars
+     *            jars with frontend files
+     */
+    private static void loadBeans(List<Path> frontendJars) {
+        try {
+            for (Path f : frontendJars) {
                 try (JarFile jarFile = new JarFile(f.toString())) {
-                    if (hasFrontendFiles(jarFile)) {
-                        Enumeration<JarEntry> entries = jarFile.entries();
-                        URL[] urls = {new URL("jar:file:" + f.toString() + "!/") };
-                        try (URLClassLoader cl = URLClassLoader.newInstance(urls)) {
-                            while (entries.hasMoreElements()) {
-                                JarEntry je = entries.nextElement();
-                                /*
-                                 * IMPORTANT: Naming convention: the name of the
-                                 * java class has to be in upper camel case or
-                                 * "pascal case" and must be equal to the file
-                                 * name of the corresponding facelet file
-                                 * concatenated with the word "Form".
-                                 *
-                                 * Example: template filename "sample.xhtml" =>
-                                 * "SampleForm.java"
-                                 *
-                                 * That is the reason for the following check
-                                 * (e.g. whether the JarEntry name ends with
-                                 * "Form.class")
-                                 */
-                                if (je.isDirectory() || !je.getName().endsWith("Form.class")) {
-                                    continue;
-                                }
-
-                                String className = je.getName().substring(0, je.getName().length() - 6);
-                                className = className.replace('/', '.');
-                                Class<?> aClass = cl.loadClass(className);
-                                String beanName = className.substring(className.lastIndexOf('.') + 1).trim();
-
-                                FacesContext facesContext = FacesContext.getCurrentInstance();
-                                HttpSession session = (HttpSession) facesContext.getExternalContext().getSession(false);
-                                Object newInstance = aClass.getDeclaredConstructor().newInstance();
-                                session.getServletContext().setAttribute(beanName, newInstance);
+                    Enumeration<JarEntry> entries = jarFile.entries();
+                    URL[] urls = {new URL("jar:file:" + f.toString() + "!/") };
+                    try (URLClassLoader cl = URLClassLoader.newInstance(urls)) {
+                        while (entries.hasMoreElements()) {
+                            JarEntry je = entries.nextElement();
+                            /*
+                             * IMPORTANT: Naming convention: the name of the
+                             * java class has to be in upper camel case or
+                             * "pascal case" and must be equal to the file
+                             * name of the corresponding facelet file
+                             * concatenated with the word "Form".
+                             *
+                             * Example: template filename "sample.xhtml" =>
+                             * "SampleForm.java"
+                             *
+                             * That is the reason for the following check
+                             * (e.g. whether the JarEntry name ends with
+                             * "Form.class")
+                             */
+                            if (je.isDirectory() || !je.getName().endsWith("Form.class")) {
+                                continue;
                             }
+
+                            String className = je.getName().substring(0, je.getName().length() - 6);
+                            className = className.replace('/', '.');
+                            Class<?> aClass = cl.loadClass(className);
+                            String beanName = className.substring(className.lastIndexOf('.') + 1).trim();
+
+                            FacesContext facesContext = FacesContext.getCurrentInstance();
+                            HttpSession session = (HttpSession) facesContext.getExternalContext().getSession(false);
+                            Object newInstance = aClass.getDeclaredConstructor().newInstance();
+                            session.getServletContext().setAttribute(beanName, newInstance);
                         }
                     }
                 }
@@ -194,43 +357,38 @@ public class KitodoServiceLoader<T> {
      * copied into the frontend folder of the core module. Before copying,
      * existing frontend files of the same module will be deleted from the core
      * module. Afterwards the created temporary folder will be deleted as well.
+     *
+     * @param frontendJars
+     *            jars with frontend files
      */
-    private void loadFrontendFilesIntoCore() {
-
-        Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
-
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(moduleFolder, JAR)) {
-
-            for (Path f : stream) {
+    private static void loadFrontendFilesIntoCore(List<Path> frontendJars) {
+        try {
+            for (Path f : frontendJars) {
                 File loc = new File(f.toString());
                 try (JarFile jarFile = new JarFile(loc)) {
+                    Path temporaryFolder = Files.createTempDirectory(SYSTEM_TEMP_FOLDER, TEMP_DIR_PREFIX);
 
-                    if (hasFrontendFiles(jarFile)) {
-
-                        Path temporaryFolder = Files.createTempDirectory(SYSTEM_TEMP_FOLDER, TEMP_DIR_PREFIX);
-
-                        File tempDir = new File(Paths.get(temporaryFolder.toUri()).toAbsolutePath().toString());
+                    File tempDir = new File(Paths.get(temporaryFolder.toUri()).toAbsolutePath().toString());
 
-                        extractFrontEndFiles(loc.getAbsolutePath(), tempDir);
+                    extractFrontEndFiles(loc.getAbsolutePath(), tempDir);
 
-                        String moduleName = extractModuleName(tempDir);
-                        if (moduleName.isEmpty()) {
-                            logger.info("No module found in JarFile '{}'.", jarFile.getName());
+                    String moduleName = extractModuleName(tempDir);
+                    if (moduleName.isEmpty()) {
+                        logger.info("No module found in JarFile '{}'.", jarFile.getName());
 
-                        } else {
-                            FacesContext facesContext = FacesContext.getCurrentInstance();
-                            HttpSession session = (HttpSession) facesContext.getExternalContext().getSession(false);
+                    } else {
+                        FacesContext facesContext = FacesContext.getCurrentInstance();
+                        HttpSession session = (HttpSession) facesContext.getExternalContext().getSession(false);
 
-                            String filePath = session.getServletContext().getRealPath(File.separator + PAGES_FOLDER)
-                                    + File.separator + moduleName;
-                            FileUtils.deleteDirectory(new File(filePath));
+                        String filePath = session.getServletContext().getRealPath(File.separator + PAGES_FOLDER)
+                                + File.separator + moduleName;
+                        FileUtils.deleteDirectory(new File(filePath));
 
-                            String resourceFolder = String.join(File.separator,
-                                    Arrays.asList(tempDir.getAbsolutePath(), META_INF_FOLDER, RESOURCES_FOLDER));
-                            copyFrontEndFiles(resourceFolder, filePath);
-                        }
-                        FileUtils.deleteDirectory(tempDir);
+                        String resourceFolder = String.join(File.separator,
+                                Arrays.asList(tempDir.getAbsolutePath(), META_INF_FOLDER, RESOURCES_FOLDER));
+                        copyFrontEndFiles(resourceFolder, filePath);
                     }
+                    FileUtils.deleteDirectory(tempDir);
                 }
             }
         } catch (Exception e) {
@@ -247,7 +405,7 @@ public class KitodoServiceLoader<T> {
      *
      * @return String
      */
-    private String extractModuleName(File temporaryFolder) throws IOException {
+    private static String extractModuleName(File temporaryFolder) throws IOException {
         String moduleName = "";
         File properties = findFile(POM_PROPERTIES_FILE, temporaryFolder);
         try (InputStream input = new FileInputStream(properties)) {
@@ -269,7 +427,7 @@ public class KitodoServiceLoader<T> {
      * @param destinationFolder
      *            jarFile that will be checked for frontend files
      */
-    private void copyFrontEndFiles(String sourceFolder, String destinationFolder) throws IOException {
+    private static void copyFrontEndFiles(String sourceFolder, String destinationFolder) throws IOException {
         FileUtils.copyDirectory(new File(sourceFolder), new File(destinationFolder));
     }
 
@@ -284,7 +442,7 @@ public class KitodoServiceLoader<T> {
      *            to
      *
      */
-    private void extractFrontEndFiles(String jarPath, File destinationFolder) throws IOException {
+    private static void extractFrontEndFiles(String jarPath, File destinationFolder) throws IOException {
         if (!destinationFolder.exists()) {
             destinationFolder.mkdir();
         }
@@ -328,7 +486,7 @@ public class KitodoServiceLoader<T> {
      *
      * @return boolean
      */
-    private boolean hasFrontendFiles(JarFile jarFile) {
+    private static boolean hasFrontendFiles(JarFile jarFile) {
         Enumeration<JarEntry> enums = jarFile.entries();
         while (enums.hasMoreElements()) {
             JarEntry jarEntry = enums.nextElement();
@@ -353,7 +511,7 @@ public class KitodoServiceLoader<T> {
      *             when File with given name could not be found in given folder
      *
      */
-    private File findFile(String name, File folder) throws FileNotFoundException {
+    private static File findFile(String name, File folder) throws FileNotFoundException {
         Collection<File> files = FileUtils.listFiles(folder, null, true);
         for (File currentFile : files) {
             if (currentFile.getName().equals(name)) {
@@ -381,14 +539,11 @@ public class KitodoServiceLoader<T> {
      * things, since new classes will not be visible to jars loaded by an
      * earlier class loader created at an earlier time.</p>
      */
-    private void loadModulesIntoClasspath() {
-        Path moduleFolder = FileSystems.getDefault().getPath(modulePath);
-
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(moduleFolder, JAR)) {
-
+    private static void loadModulesIntoClasspath(List<Path> jars) {
+        try {
             // collect urls of new jars present in the module directory
             Set<URL> jarsToBeAdded = new HashSet<>();
-            for (Path f : stream) {
+            for (Path f : jars) {
 
                 File loc = new File(f.toString());
                 URL url = loc.toURI().toURL();
@@ -0,0 +1,207 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.utils;
+
+import java.io.File;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.transform.Templates;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * Cache for compiled XSLT stylesheets. Compiling a stylesheet is expensive,
+ * whereas the compiled {@link Templates} are thread-safe and create a new
+ * {@link Transformer} cheaply. Stylesheets are cached by their path and
+ * recompiled if the file was modified since. If the cache is full, the least
+ * recently used stylesheet is removed.
+ */
+public class TemplatesCache {
+
+    private final TransformerFactory transformerFactory;
+
+    private final int maximumSize;
+
+    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    /**
+     * Creates a cache compiling stylesheets with the given transformer factory.
+     *
+     * @param transformerFactory
+     *            factory used to compile the stylesheets. Its URI resolver is
+     *            used to resolve includes and imports.
+     * @param maximumSize
+     *            maximum number of compiled stylesheets kept in the cache
+     */
+    public TemplatesCache(TransformerFactory transformerFactory, int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum size must be positive, but is " + maximumSize);
+        }
+        this.transformerFactory = transformerFactory;
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the compiled stylesheet of the given file. The stylesheet is
+     * compiled if it is not cached yet or if the file was modified since it was
+     * compiled.
+     *
+     * @param stylesheet
+     *            XSLT file
+     * @return the compiled stylesheet
+     * @throws TransformerException
+     *             if the stylesheet cannot be compiled
+     */
+    public Templates getTemplates(File stylesheet) throws TransformerException {
+        String path = stylesheet.getAbsolutePath();
+        long lastModified = stylesheet.lastModified();
+        CacheEntry entry = cache.get(path);
+        if (Objects.nonNull(entry) && entry.lastModified == lastModified) {
+            hitCount.incrementAndGet();
+            entry.lastAccess = clock.incrementAndGet();
+            return entry.templates;
+        }
+        // transformer factories are not thread-safe
+        synchronized (transformerFactory) {
+            entry = cache.get(path);
+            if (Objects.nonNull(entry) && entry.lastModified == lastModified) {
+                hitCount.incrementAndGet();
+                entry.lastAccess = clock.incrementAndGet();
+                return entry.templates;
+            }
+            missCount.incrementAndGet();
+            Templates templates = transformerFactory.newTemplates(new StreamSource(stylesheet));
+            if (Objects.isNull(templates)) {
+                throw new TransformerException("Could not compile XSLT stylesheet " + path);
+            }
+            cache.put(path, new CacheEntry(templates, lastModified, clock.incrementAndGet()));
+            evict();
+            return templates;
+        }
+    }
+
+    /**
+     * Returns a new transformer for the given stylesheet. Transformers are not
+     * thread-safe, so every transformation should use its own.
+     *
+     * @param stylesheet
+     *            XSLT file
+     * @return a new transformer
+     * @throws TransformerException
+     *             if the stylesheet cannot be compiled
+     */
+    public Transformer newTransformer(File stylesheet) throws TransformerException {
+        Transformer transformer = getTemplates(stylesheet).newTransformer();
+        if (Objects.nonNull(transformerFactory.getURIResolver())) {
+            transformer.setURIResolver(transformerFactory.getURIResolver());
+        }
+        return transformer;
+    }
+
+    /**
+     * Returns a new transformer handler for the given stylesheet. The handler
+     * receives the input document as SAX events, so that the document can be
+     * transformed while it is being generated. The result must be set on the
+     * handler before the first event is sent.
+     *
+     * @param stylesheet
+     *            XSLT file
+     * @return a new transformer handler
+     * @throws TransformerException
+     *             if the stylesheet cannot be compiled, or if the transformer
+     *             factory does not support SAX
+     */
+    public TransformerHandler newTransformerHandler(File stylesheet) throws TransformerException {
+        if (!(transformerFactory instanceof SAXTransformerFactory)) {
+            throw new TransformerException(transformerFactory.getClass().getName() + " does not support SAX");
+        }
+        Templates templates = getTemplates(stylesheet);
+        TransformerHandler transformerHandler;
+        synchronized (transformerFactory) {
+            transformerHandler = ((SAXTransformerFactory) transformerFactory).newTransformerHandler(templates);
+        }
+        if (Objects.nonNull(transformerFactory.getURIResolver())) {
+            transformerHandler.getTransformer().setURIResolver(transformerFactory.getURIResolver());
+        }
+        return transformerHandler;
+    }
+
+    /**
+     * Removes all compiled stylesheets from the cache.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Returns the number of compiled stylesheets in the cache.
+     *
+     * @return the number of cached stylesheets
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns how often a stylesheet was taken from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns how often a stylesheet had to be compiled.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private void evict() {
+        while (cache.size() > maximumSize) {
+            cache.entrySet().stream().min(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                    .ifPresent(eldest -> cache.remove(eldest.getKey(), eldest.getValue()));
+        }
+    }
+
+    private static class CacheEntry {
+
+        private final Templates templates;
+
+        private final long lastModified;
+
+        private volatile long lastAccess;
+
+        CacheEntry(Templates templates, long lastModified, long lastAccess) {
+            this.templates = templates;
+            this.lastModified = lastModified;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.api.dataformat;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.net.URI;
+
+import org.junit.Test;
+import org.kitodo.api.MetadataEntry;
+import org.kitodo.api.MetadataGroup;
+
+public class WorkpieceTest {
+
+    /**
+     * Tests the method {@code Workpiece.copy()}.
+     */
+    @Test
+    public void copyTest() {
+        Workpiece workpiece = new Workpiece();
+        workpiece.setId("1");
+        MediaVariant mediaVariant = new MediaVariant();
+        mediaVariant.setUse("LOCAL");
+        mediaVariant.setMimeType("image/tiff");
+        PhysicalDivision page = new PhysicalDivision();
+        page.setType(PhysicalDivision.TYPE_PAGE);
+        page.setOrder(1);
+        page.setDivId("PHYS_0001");
+        page.getMediaFiles().put(mediaVariant, URI.create("images/00000001.tif"));
+        workpiece.getPhysicalStructure().getChildren().add(page);
+
+        LogicalDivision chapter = new LogicalDivision();
+        chapter.setType("Chapter");
+        MetadataEntry title = new MetadataEntry();
+        title.setKey("TitleDocMain");
+        title.setValue("Chapter 1");
+        MetadataGroup person = new MetadataGroup();
+        person.setKey("Person");
+        MetadataEntry lastName = new MetadataEntry();
+        lastName.setKey("LastName");
+        lastName.setValue("Doe");
+        person.getMetadata().add(lastName);
+        chapter.getMetadata().add(title);
+        chapter.getMetadata().add(person);
+        chapter.getViews().add(View.of(page));
+        page.getLogicalDivisions().add(chapter);
+        workpiece.getLogicalStructure().getChildren().add(chapter);
+
+        Workpiece copy = workpiece.copy();
+        assertEquals("Copy is not equal to the workpiece", workpiece, copy);
+
+        LogicalDivision chapterCopy = copy.getLogicalStructure().getChildren().get(0);
+        PhysicalDivision pageCopy = copy.getPhysicalStructure().getChildren().get(0);
+        assertNotSame("Logical division was not copied", chapter, chapterCopy);
+        assertNotSame("Physical division was not copied", page, pageCopy);
+        assertSame("View does not show the copied page", pageCopy,
+            chapterCopy.getViews().getFirst().getPhysicalDivision());
+        assertSame("Copied page is not assigned to the copied chapter", chapterCopy,
+            pageCopy.getLogicalDivisions().get(0));
+        assertEquals("METS identifier was not copied", "PHYS_0001", pageCopy.getDivId());
+
+        ((MetadataEntry) chapterCopy.getMetadata().stream().filter(MetadataEntry.class::isInstance).findAny()
+                .orElseThrow(IllegalStateException::new)).setValue("Chapter one");
+        assertEquals("Changing the copy changed the workpiece", "Chapter 1", title.getValue());
+        assertNotEquals("Changed copy is still equal to the workpiece", workpiece, copy);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class MetricsRegistryTest {
+
+    @Test
+    public void shouldReturnRegisteredMetric() {
+        MetricsRegistry registry = new MetricsRegistry();
+        Timer timer = registry.timer("test_seconds", "Test", "operation", "load");
+        assertSame("Timer was registered twice", timer, registry.timer("test_seconds", "Test", "operation", "load"));
+    }
+
+    @Test
+    public void shouldWriteMetricsInPrometheusFormat() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("test_documents_total", "Documents", "type", "process").increment(3);
+        registry.timer("test_requests_seconds", "Requests", "operation", "get").record(1500, TimeUnit.MILLISECONDS);
+        registry.timer("test_requests_seconds", "Requests", "operation", "get").record(500, TimeUnit.MILLISECONDS);
+        registry.gauge("test_queue_tasks", "Queue", () -> 7);
+
+        String expected = "# HELP test_documents_total Documents\n"
+                + "# TYPE test_documents_total counter\n"
+                + "test_documents_total{type=\"process\"} 3\n"
+                + "# HELP test_queue_tasks Queue\n"
+                + "# TYPE test_queue_tasks gauge\n"
+                + "test_queue_tasks 7\n"
+                + "# HELP test_requests_seconds Requests\n"
+                + "# TYPE test_requests_seconds summary\n"
+                + "test_requests_seconds_count{operation=\"get\"} 2\n"
+                + "test_requests_seconds_sum{operation=\"get\"} 2.0\n"
+                + "# HELP test_requests_seconds_max Requests (maximum)\n"
+                + "# TYPE test_requests_seconds_max gauge\n"
+                + "test_requests_seconds_max{operation=\"get\"} 1.5\n";
+        assertEquals("Wrong output", expected, registry.write());
+    }
+
+    @Test
+    public void shouldEscapeLabelValues() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("test_total", null, "path", "C:\\\"x\"").increment();
+        assertTrue("Label value was not escaped", registry.write().contains("test_total{path=\"C:\\\\\\\"x\\\"\"} 1"));
+    }
+
+    @Test
+    public void shouldWriteNaNIfGaugeFails() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.gauge("test_gauge", null, () -> {
+            throw new IllegalStateException();
+        });
+        assertTrue("Failing gauge was not written as NaN", registry.write().contains("test_gauge NaN"));
+    }
+
+    @Test
+    public void shouldRecordSample() throws Exception {
+        Timer timer = new MetricsRegistry().timer("test_seconds", null);
+        try (Timer.Sample sample = timer.start()) {
+            Thread.sleep(10);
+        }
+        assertEquals("Sample was not recorded", 1, timer.getCount());
+        assertTrue("Wrong duration", timer.getTotalTime(TimeUnit.MILLISECONDS) >= 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectNameOfOtherType() {
+        MetricsRegistry registry = new MetricsRegistry();
+        registry.counter("test_total", null);
+        registry.timer("test_total", null);
+    }
+}
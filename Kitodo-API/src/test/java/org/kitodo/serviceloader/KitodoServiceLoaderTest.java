@@ -0,0 +1,83 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.serviceloader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.ServiceLoader.Provider;
+import java.util.jar.JarOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class KitodoServiceLoaderTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    /**
+     * Interface of the module used by the test.
+     */
+    public interface TestModuleInterface {
+    }
+
+    /**
+     * Module used by the test, registered in the test resources.
+     */
+    public static class TestModule implements TestModuleInterface {
+    }
+
+    @Test
+    public void shouldCacheProvidersUntilReload() {
+        KitodoServiceLoader<TestModuleInterface> serviceLoader = new KitodoServiceLoader<>(TestModuleInterface.class);
+
+        List<TestModuleInterface> firstModules = serviceLoader.loadModules();
+        List<Provider<?>> cachedProviders = KitodoServiceLoader.getCachedProviders(TestModuleInterface.class);
+        List<TestModuleInterface> secondModules = serviceLoader.loadModules();
+
+        assertEquals("Module was not found!", 1, firstModules.size());
+        assertNotNull("Providers were not cached!", cachedProviders);
+        assertSame("Cached providers were not used!", cachedProviders,
+            KitodoServiceLoader.getCachedProviders(TestModuleInterface.class));
+        assertNotSame("Module instance was shared!", firstModules.get(0), secondModules.get(0));
+
+        KitodoServiceLoader.reload();
+        assertNull("Providers were kept on reload!", KitodoServiceLoader.getCachedProviders(TestModuleInterface.class));
+        assertEquals("Module was not found after reload!", 1, serviceLoader.loadModules().size());
+    }
+
+    @Test
+    public void shouldReloadIfJarsChange() throws IOException {
+        File modulesFolder = temporaryFolder.newFolder("modules");
+        File jar = new File(modulesFolder, "module.jar");
+        new JarOutputStream(new FileOutputStream(jar)).close();
+        String modulePath = modulesFolder.getAbsolutePath();
+        KitodoServiceLoader.reloadIfChanged(modulePath);
+
+        assertFalse("Modules were reloaded without changes!", KitodoServiceLoader.reloadIfChanged(modulePath));
+        assertTrue("Modification time could not be changed!", jar.setLastModified(jar.lastModified() + 2000));
+        assertTrue("Modules were not reloaded after a jar changed!", KitodoServiceLoader.reloadIfChanged(modulePath));
+        new JarOutputStream(new FileOutputStream(new File(modulesFolder, "other.jar"))).close();
+        assertTrue("Modules were not reloaded after a jar was added!", KitodoServiceLoader.reloadIfChanged(modulePath));
+    }
+}
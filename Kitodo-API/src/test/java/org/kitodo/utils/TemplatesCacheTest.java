@@ -0,0 +1,119 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.xml.sax.helpers.AttributesImpl;
+
+public class TemplatesCacheTest {
+
+    private static final String STYLESHEET = "<xsl:stylesheet version=\"1.0\" "
+            + "xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\"><xsl:output method=\"text\"/>"
+            + "<xsl:template match=\"/\">%s<xsl:value-of select=\"/a\"/></xsl:template></xsl:stylesheet>";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldCompileStylesheetOnce() throws Exception {
+        TemplatesCache templatesCache = new TemplatesCache(TransformerFactory.newInstance(), 4);
+        File stylesheet = createStylesheet("first.xsl", "A");
+
+        assertEquals("Wrong transformation result", "Atest", transform(templatesCache, stylesheet));
+        assertEquals("Wrong transformation result", "Atest", transform(templatesCache, stylesheet));
+        assertEquals("Wrong number of cache misses", 1, templatesCache.getMissCount());
+        assertEquals("Wrong number of cache hits", 1, templatesCache.getHitCount());
+    }
+
+    @Test
+    public void shouldRecompileModifiedStylesheet() throws Exception {
+        TemplatesCache templatesCache = new TemplatesCache(TransformerFactory.newInstance(), 4);
+        File stylesheet = createStylesheet("first.xsl", "A");
+        Templates templates = templatesCache.getTemplates(stylesheet);
+
+        createStylesheet("first.xsl", "B");
+        stylesheet.setLastModified(stylesheet.lastModified() + 2000);
+        assertNotSame("Modified stylesheet was not recompiled", templates, templatesCache.getTemplates(stylesheet));
+        assertEquals("Wrong transformation result", "Btest", transform(templatesCache, stylesheet));
+        assertEquals("Wrong number of cache misses", 2, templatesCache.getMissCount());
+        assertEquals("Outdated stylesheet was kept", 1, templatesCache.size());
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedStylesheet() throws Exception {
+        TemplatesCache templatesCache = new TemplatesCache(TransformerFactory.newInstance(), 2);
+        File first = createStylesheet("first.xsl", "A");
+        File second = createStylesheet("second.xsl", "B");
+        File third = createStylesheet("third.xsl", "C");
+
+        Templates firstTemplates = templatesCache.getTemplates(first);
+        templatesCache.getTemplates(second);
+        templatesCache.getTemplates(first);
+        templatesCache.getTemplates(third);
+
+        assertEquals("Wrong cache size", 2, templatesCache.size());
+        assertSame("Recently used stylesheet was evicted", firstTemplates, templatesCache.getTemplates(first));
+        templatesCache.getTemplates(second);
+        assertEquals("Least recently used stylesheet was not evicted", 4, templatesCache.getMissCount());
+    }
+
+    @Test
+    public void shouldTransformSaxEvents() throws Exception {
+        TemplatesCache templatesCache = new TemplatesCache(TransformerFactory.newInstance(), 4);
+        File stylesheet = createStylesheet("first.xsl", "A");
+
+        StringWriter result = new StringWriter();
+        TransformerHandler transformerHandler = templatesCache.newTransformerHandler(stylesheet);
+        transformerHandler.setResult(new StreamResult(result));
+        transformerHandler.startDocument();
+        transformerHandler.startElement("", "a", "a", new AttributesImpl());
+        transformerHandler.characters("sax".toCharArray(), 0, 3);
+        transformerHandler.endElement("", "a", "a");
+        transformerHandler.endDocument();
+
+        assertEquals("Wrong transformation result", "Asax", result.toString());
+        assertEquals("Wrong number of cache misses", 1, templatesCache.getMissCount());
+    }
+
+    private File createStylesheet(String name, String prefix) throws IOException {
+        File file = new File(temporaryFolder.getRoot(), name);
+        Files.write(file.toPath(), String.format(STYLESHEET, prefix).getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private static String transform(TemplatesCache templatesCache, File stylesheet) throws TransformerException {
+        StringWriter result = new StringWriter();
+        templatesCache.newTransformer(stylesheet).transform(new StreamSource(new StringReader("<a>test</a>")),
+            new StreamResult(result));
+        return result.toString();
+    }
+}
@@ -0,0 +1,133 @@
+#!/bin/sh
+#
+# (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+#
+# This file is part of the Kitodo project.
+#
+# It is licensed under GNU General Public License version 3 or later.
+#
+# For the full copyright and license information, please read the
+# GPL3-License.txt file that was distributed with this source code.
+#
+
+#
+# Compares two results of the benchmarks, written by JMH with "-rf csv".
+# Benchmarks which got slower by more than the threshold percentage
+# (default: 10) are marked, and the script exits with status 1 if there are
+# any. Results which are only in one of the files are listed as well.
+#
+# Usage: compare.sh baseline.csv results.csv [threshold]
+#
+
+if [ $# -lt 2 ]; then
+    echo "Usage: $0 baseline.csv results.csv [threshold]" >&2
+    exit 2
+fi
+
+Baseline="$1"
+Results="$2"
+Threshold="${3:-10}"
+
+awk -v threshold="$Threshold" '
+# splits a line of CSV into the array "fields" and returns the number of fields
+function parse(line, fields,    count, field, i, c, quoted) {
+    count = 0
+    field = ""
+    quoted = 0
+    for (i = 1; i <= length(line); i++) {
+        c = substr(line, i, 1)
+        if (quoted) {
+            if (c == "\"" && substr(line, i + 1, 1) == "\"") {
+                field = field c
+                i++
+            } else if (c == "\"") {
+                quoted = 0
+            } else {
+                field = field c
+            }
+        } else if (c == "\"") {
+            quoted = 1
+        } else if (c == ",") {
+            fields[++count] = field
+            field = ""
+        } else {
+            field = field c
+        }
+    }
+    fields[++count] = field
+    return count
+}
+
+# the benchmark and its parameters, which identify a result
+function key(fields, count,    result, i) {
+    result = fields[column["Benchmark"]]
+    for (i = 1; i <= count; i++) {
+        if (header[i] ~ /^Param: / && fields[i] != "") {
+            result = result " " substr(header[i], 8) "=" fields[i]
+        }
+    }
+    return result
+}
+
+{
+    sub(/\r$/, "")
+    count = parse($0, fields)
+    if (FNR == 1) {
+        delete column
+        for (i = 1; i <= count; i++) {
+            header[i] = fields[i]
+            column[fields[i]] = i
+        }
+        next
+    }
+    id = key(fields, count)
+    score = fields[column["Score"]]
+    unit = fields[column["Unit"]]
+    if (FILENAME == ARGV[1]) {
+        baseScore[id] = score
+        baseUnit[id] = unit
+        baseMode[id] = fields[column["Mode"]]
+        order[++baselineCount] = id
+    } else {
+        newScore[id] = score
+        newUnit[id] = unit
+        if (!(id in baseScore)) {
+            added[++addedCount] = id
+        }
+    }
+}
+
+END {
+    printf "%-100s %14s %14s %-8s %9s\n", "Benchmark", "Baseline", "Result", "Unit", "Slowdown"
+    for (i = 1; i <= baselineCount; i++) {
+        id = order[i]
+        if (!(id in newScore)) {
+            printf "%-100s %14.3f %14s %-8s %9s\n", id, baseScore[id], "-", baseUnit[id], "missing"
+            continue
+        }
+        if (newUnit[id] != baseUnit[id]) {
+            printf "%-100s %14.3f %14.3f %-8s %9s\n", id, baseScore[id], newScore[id], newUnit[id], "unit?"
+            continue
+        }
+        # for throughput, higher scores are better, otherwise lower ones
+        if (baseMode[id] == "thrpt") {
+            slower = (baseScore[id] - newScore[id]) / baseScore[id] * 100
+        } else {
+            slower = (newScore[id] - baseScore[id]) / baseScore[id] * 100
+        }
+        mark = ""
+        if (slower > threshold) {
+            mark = "  <-- slower"
+            regressions++
+        }
+        printf "%-100s %14.3f %14.3f %-8s %+8.1f%%%s\n", id, baseScore[id], newScore[id], baseUnit[id], slower, mark
+    }
+    for (i = 1; i <= addedCount; i++) {
+        printf "%-100s %14s %14.3f %-8s %9s\n", added[i], "-", newScore[added[i]], newUnit[added[i]], "new"
+    }
+    if (regressions > 0) {
+        printf "\n%d benchmark(s) slower by more than %s%%\n", regressions, threshold
+        exit 1
+    }
+}
+' "$Baseline" "$Results"
@@ -0,0 +1,74 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.elasticsearch.index.query.QueryBuilder;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.enums.ObjectType;
+import org.kitodo.production.services.data.FilterService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Building the search query of a process filter, which is done whenever a
+ * list of processes is shown. Only filters are used whose query can be built
+ * without asking the search index, that is, no task filters.
+ *
+ * <p>The filter service used does not reuse built queries, as the service
+ * of the application does for some time, so every call builds the query
+ * from the parsed filter. Otherwise only the lookup of the reused query would
+ * be measured. The parsed filter is still reused, so parsing is not
+ * measured.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class FilterServiceBenchmark {
+
+    @Param({
+        "Manuscript",
+        "\"id:1 2 3 4 5 6 7 8 9 10\" \"project:Digitization\" \"-process:Test\"",
+        "\"process:Newspaper | process:Periodical\" \"-id:3 4\" \"project:First | project:Second\" Volume",
+        "\"property:Shelfmark:Hs*\" \"batch:1 2\" \"parentprocessid:5\" \"-property:Status:closed\" 1867"
+    })
+    private String filter;
+
+    private FilterService filterService;
+
+    /**
+     * Creates a filter service which does not reuse built queries.
+     */
+    @Setup
+    public void setUp() {
+        filterService = FilterService.create(Duration.ZERO);
+    }
+
+    @Benchmark
+    public QueryBuilder queryBuilder() throws DataException {
+        return filterService.queryBuilder(filter, ObjectType.PROCESS, false, false);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.dataformat.access.MetsXmlElementAccess;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading and saving METS files of workpieces of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class MetsXmlElementAccessBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int pages;
+
+    private MetsXmlElementAccess metsXmlElementAccess;
+    private Workpiece workpiece;
+    private byte[] metsFile;
+
+    /**
+     * Creates the workpiece and its METS file.
+     *
+     * @throws IOException
+     *             if the workpiece cannot be saved
+     */
+    @Setup
+    public void setUp() throws IOException {
+        metsXmlElementAccess = new MetsXmlElementAccess();
+        workpiece = SyntheticWorkpiece.create(pages);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        metsXmlElementAccess.save(workpiece, out);
+        metsFile = out.toByteArray();
+    }
+
+    @Benchmark
+    public Workpiece read() throws IOException {
+        return metsXmlElementAccess.read(new ByteArrayInputStream(metsFile));
+    }
+
+    /**
+     * Saves the workpiece to memory.
+     *
+     * @return the length of the METS file, so that saving is not optimized
+     *         away
+     * @throws IOException
+     *             if the workpiece cannot be saved
+     */
+    @Benchmark
+    public int save() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(metsFile.length);
+        metsXmlElementAccess.save(workpiece, out);
+        return out.size();
+    }
+}
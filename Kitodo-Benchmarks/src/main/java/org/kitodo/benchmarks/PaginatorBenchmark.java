@@ -0,0 +1,77 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kitodo.production.helper.metadata.pagination.Paginator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Paginating a thousand pages, as done when the user assigns page numbers to
+ * a whole book. The sequences are arabic and roman numbers, recto and verso
+ * pages, odd numbers in brackets and two folio numbers per page.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class PaginatorBenchmark {
+
+    private static final int PAGES = 1000;
+
+    /**
+     * The sequences to paginate, with the initializers entered by the user.
+     */
+    public enum Sequence {
+        ARABIC("1"),
+        ROMAN("I"),
+        RECTO_VERSO("1° ¡r¿v½"),
+        BRACKETED_ODD("[`1`]-5²"),
+        TWO_FOLIOS("1`v` 2°r");
+
+        private final String initializer;
+
+        Sequence(String initializer) {
+            this.initializer = initializer;
+        }
+    }
+
+    @Param
+    private Sequence sequence;
+
+    /**
+     * Paginates the pages with the sequence.
+     *
+     * @param blackhole
+     *            consumes the page numbers
+     */
+    @Benchmark
+    public void paginate(Blackhole blackhole) {
+        Paginator paginator = new Paginator(sequence.initializer);
+        for (int page = 0; page < PAGES; page++) {
+            blackhole.consume(paginator.next());
+        }
+    }
+}
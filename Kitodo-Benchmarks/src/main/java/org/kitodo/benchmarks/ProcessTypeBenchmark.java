@@ -0,0 +1,154 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.benchmarks;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kitodo.data.database.beans.Batch;
+import org.kitodo.data.database.beans.Client;
+import org.kitodo.data.database.beans.Comment;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Project;
+import org.kitodo.data.database.beans.Property;
+import org.kitodo.data.database.beans.Ruleset;
+import org.kitodo.data.database.beans.Task;
+import org.kitodo.data.database.beans.Template;
+import org.kitodo.data.database.beans.User;
+import org.kitodo.data.database.enums.CommentType;
+import org.kitodo.data.database.enums.TaskStatus;
+import org.kitodo.data.database.persistence.HibernateUtil;
+import org.kitodo.data.elasticsearch.index.type.ProcessType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creating the search index document of a process, which is done for every
+ * process that is saved or indexed. The progress of the process is counted by
+ * the database, which is an in-memory H2 database here, so the time measured
+ * includes a query but not the network round trip.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class ProcessTypeBenchmark {
+
+    @Param({"10", "50"})
+    private int tasks;
+
+    private ProcessType processType;
+    private Process process;
+
+    /**
+     * Creates a process with the given number of tasks, of which the first
+     * third is done and the next one is in work, twenty properties, ten
+     * comments and two batches, and starts the database.
+     */
+    @Setup
+    public void setUp() {
+        HibernateUtil.getSession().close();
+        processType = new ProcessType();
+
+        Client client = new Client();
+        client.setId(1);
+        Project project = new Project();
+        project.setId(1);
+        project.setTitle("Benchmark project");
+        project.setClient(client);
+        Template template = new Template();
+        template.setId(1);
+        template.setTitle("Benchmark template");
+        Ruleset ruleset = new Ruleset();
+        ruleset.setId(1);
+        User user = new User();
+        user.setId(1);
+        user.setName("Alice");
+        user.setSurname("Smith");
+
+        process = new Process();
+        process.setId(1);
+        process.setTitle("Benchmark_process");
+        process.setCreationDate(new Date());
+        process.setWikiField("Benchmark");
+        process.setProject(project);
+        process.setTemplate(template);
+        process.setRuleset(ruleset);
+        process.setSortHelperImages(300);
+        addTasks(user);
+        addPropertiesAndComments(user);
+        for (int i = 1; i <= 2; i++) {
+            Batch batch = new Batch("Batch " + i);
+            batch.setId(i);
+            process.getBatches().add(batch);
+        }
+    }
+
+    private void addTasks(User user) {
+        for (int i = 1; i <= tasks; i++) {
+            Task task = new Task();
+            task.setId(i);
+            task.setTitle("Task " + i);
+            task.setOrdering(i);
+            task.setProcess(process);
+            if (i <= tasks / 3) {
+                task.setProcessingStatus(TaskStatus.DONE);
+                task.setProcessingBegin(new Date());
+                task.setProcessingEnd(new Date());
+                task.setProcessingUser(user);
+            } else if (i == tasks / 3 + 1) {
+                task.setProcessingStatus(TaskStatus.INWORK);
+                task.setProcessingBegin(new Date());
+                task.setProcessingUser(user);
+            } else {
+                task.setProcessingStatus(i == tasks / 3 + 2 ? TaskStatus.OPEN : TaskStatus.LOCKED);
+            }
+            process.getTasks().add(task);
+        }
+    }
+
+    private void addPropertiesAndComments(User user) {
+        for (int i = 1; i <= 20; i++) {
+            Property property = new Property();
+            property.setId(i);
+            property.setTitle("Property " + i);
+            property.setValue("Value " + i);
+            process.getProperties().add(property);
+        }
+        for (int i = 1; i <= 10; i++) {
+            Comment comment = new Comment();
+            comment.setId(i);
+            comment.setMessage("Comment " + i);
+            comment.setType(i % 5 == 0 ? CommentType.ERROR : CommentType.INFO);
+            comment.setAuthor(user);
+            comment.setProcess(process);
+            process.getComments().add(comment);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> getJsonObject() {
+        return processType.createDocument(process);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Locale.LanguageRange;
+import java.util.concurrent.TimeUnit;
+
+import org.kitodo.api.dataeditor.rulesetmanagement.StructuralElementViewInterface;
+import org.kitodo.dataeditor.ruleset.RulesetManagement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Loading a ruleset and opening the view on a division, as the metadata
+ * editor does for every division shown. The ruleset declares the given number
+ * of keys, every tenth of which has options, and one division per ten keys.
+ * Unchanged ruleset files are not parsed again, so loading is measured with an
+ * unchanged file and with a file changed before every load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class RulesetManagementBenchmark {
+
+    private static final List<LanguageRange> PRIORITY_LIST = LanguageRange.parse("de,en;q=0.5");
+
+    @Param({"100", "1000"})
+    private int keys;
+
+    private File rulesetFile;
+    private long lastModified;
+    private RulesetManagement rulesetManagement;
+
+    /**
+     * Writes the ruleset and loads it.
+     *
+     * @throws IOException
+     *             if the ruleset cannot be written or loaded
+     */
+    @Setup
+    public void setUp() throws IOException {
+        rulesetFile = File.createTempFile("ruleset", ".xml");
+        Files.write(rulesetFile.toPath(), createRuleset(keys).getBytes(StandardCharsets.UTF_8));
+        lastModified = rulesetFile.lastModified();
+        rulesetManagement = new RulesetManagement();
+        rulesetManagement.load(rulesetFile);
+    }
+
+    /**
+     * Deletes the ruleset.
+     *
+     * @throws IOException
+     *             if the ruleset cannot be deleted
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(rulesetFile.toPath());
+    }
+
+    /**
+     * Loads the unchanged ruleset.
+     *
+     * @return the loaded ruleset
+     * @throws IOException
+     *             if the ruleset cannot be loaded
+     */
+    @Benchmark
+    public RulesetManagement load() throws IOException {
+        RulesetManagement loaded = new RulesetManagement();
+        loaded.load(rulesetFile);
+        return loaded;
+    }
+
+    /**
+     * Changes the modification time of the ruleset and loads it.
+     *
+     * @return the loaded ruleset
+     * @throws IOException
+     *             if the ruleset cannot be loaded
+     */
+    @Benchmark
+    public RulesetManagement loadChangedFile() throws IOException {
+        lastModified += 1000;
+        rulesetFile.setLastModified(lastModified);
+        return load();
+    }
+
+    /**
+     * Opens the view on the monograph and gets the divisions and metadata
+     * allowed in it.
+     *
+     * @param blackhole
+     *            consumes the allowed divisions and metadata
+     */
+    @Benchmark
+    public void getStructuralElementView(Blackhole blackhole) {
+        StructuralElementViewInterface view = rulesetManagement.getStructuralElementView("Monograph", "",
+            PRIORITY_LIST);
+        blackhole.consume(view.getAllowedSubstructuralElements());
+        blackhole.consume(view.getAllowedMetadata());
+    }
+
+    private static String createRuleset(int numberOfKeys) {
+        StringBuilder ruleset = new StringBuilder(numberOfKeys * 200);
+        ruleset.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        ruleset.append("<ruleset xmlns=\"http://names.kitodo.org/ruleset/v2\">\n");
+        ruleset.append("    <declaration>\n");
+        appendDivision(ruleset, "Monograph");
+        appendDivision(ruleset, "Chapter");
+        for (int i = 0; i < numberOfKeys / 10; i++) {
+            appendDivision(ruleset, "Division" + i);
+        }
+        for (int i = 0; i < numberOfKeys; i++) {
+            ruleset.append("        <key id=\"key").append(i).append("\">\n");
+            ruleset.append("            <label>Key ").append(i).append("</label>\n");
+            ruleset.append("            <label lang=\"de\">Schlüssel ").append(i).append("</label>\n");
+            if (i % 10 == 0) {
+                for (int option = 0; option < 10; option++) {
+                    ruleset.append("            <option value=\"option").append(option).append("\">\n");
+                    ruleset.append("                <label>Option ").append(option).append("</label>\n");
+                    ruleset.append("            </option>\n");
+                }
+            }
+            ruleset.append("        </key>\n");
+        }
+        ruleset.append("    </declaration>\n");
+        ruleset.append("    <correlation>\n");
+        ruleset.append("        <restriction division=\"Monograph\">\n");
+        ruleset.append("            <permit division=\"Chapter\"/>\n");
+        for (int i = 0; i < numberOfKeys; i += 2) {
+            ruleset.append("            <permit key=\"key").append(i).append("\" maxOccurs=\"1\"/>\n");
+        }
+        ruleset.append("        </restriction>\n");
+        ruleset.append("    </correlation>\n");
+        ruleset.append("</ruleset>\n");
+        return ruleset.toString();
+    }
+
+    private static void appendDivision(StringBuilder ruleset, String id) {
+        ruleset.append("        <division id=\"").append(id).append("\">\n");
+        ruleset.append("            <label>").append(id).append("</label>\n");
+        ruleset.append("        </division>\n");
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.benchmarks;
+
+import java.net.URI;
+
+import org.kitodo.api.MdSec;
+import org.kitodo.api.MetadataEntry;
+import org.kitodo.api.MetadataGroup;
+import org.kitodo.api.dataformat.LogicalDivision;
+import org.kitodo.api.dataformat.MediaVariant;
+import org.kitodo.api.dataformat.PhysicalDivision;
+import org.kitodo.api.dataformat.View;
+import org.kitodo.api.dataformat.Workpiece;
+
+/**
+ * Creates workpieces of a given number of pages. The pages are linked to
+ * chapters of ten pages each, and every page has a local and a presentation
+ * file, so that the workpieces resemble digitized monographs.
+ */
+class SyntheticWorkpiece {
+
+    private static final int PAGES_PER_CHAPTER = 10;
+
+    private SyntheticWorkpiece() {
+    }
+
+    /**
+     * Creates a workpiece.
+     *
+     * @param numberOfPages
+     *            number of pages of the workpiece
+     * @return the workpiece
+     */
+    static Workpiece create(int numberOfPages) {
+        Workpiece workpiece = new Workpiece();
+        workpiece.setId("benchmark");
+
+        LogicalDivision monograph = workpiece.getLogicalStructure();
+        monograph.setType("Monograph");
+        monograph.setLabel("Synthetic monograph of " + numberOfPages + " pages");
+        monograph.getMetadata().add(createMetadataEntry("TitleDocMain", "Synthetic monograph"));
+        monograph.getMetadata().add(createMetadataEntry("DocLanguage", "ger"));
+        monograph.getMetadata().add(createMetadataEntry("PublicationYear", "1867"));
+        MetadataGroup author = new MetadataGroup();
+        author.setKey("Person");
+        author.setDomain(MdSec.DMD_SEC);
+        author.getMetadata().add(createMetadataEntry("FirstName", "Alice"));
+        author.getMetadata().add(createMetadataEntry("LastName", "Smith"));
+        monograph.getMetadata().add(author);
+
+        MediaVariant local = new MediaVariant();
+        local.setUse("LOCAL");
+        local.setMimeType("image/tiff");
+        MediaVariant max = new MediaVariant();
+        max.setUse("MAX");
+        max.setMimeType("image/jpeg");
+
+        PhysicalDivision physicalStructure = workpiece.getPhysicalStructure();
+        physicalStructure.setType("physSequence");
+        LogicalDivision chapter = null;
+        for (int order = 1; order <= numberOfPages; order++) {
+            PhysicalDivision page = new PhysicalDivision();
+            page.setType("page");
+            page.setOrder(order);
+            page.setOrderlabel(Integer.toString(order));
+            page.getMediaFiles().put(local, URI.create(String.format("images/benchmark_media/%08d.tif", order)));
+            page.getMediaFiles().put(max, URI.create(String.format("jpgs/max/%08d.jpg", order)));
+            physicalStructure.getChildren().add(page);
+
+            if ((order - 1) % PAGES_PER_CHAPTER == 0) {
+                chapter = new LogicalDivision();
+                chapter.setType("Chapter");
+                chapter.setOrder(order);
+                chapter.getMetadata().add(createMetadataEntry("TitleDocMain", "Chapter " + order));
+                monograph.getChildren().add(chapter);
+            }
+            addView(monograph, page);
+            addView(chapter, page);
+        }
+        return workpiece;
+    }
+
+    private static MetadataEntry createMetadataEntry(String key, String value) {
+        MetadataEntry metadataEntry = new MetadataEntry();
+        metadataEntry.setKey(key);
+        metadataEntry.setDomain(MdSec.DMD_SEC);
+        metadataEntry.setValue(value);
+        return metadataEntry;
+    }
+
+    private static void addView(LogicalDivision logicalDivision, PhysicalDivision page) {
+        View view = new View();
+        view.setPhysicalDivision(page);
+        logicalDivision.getViews().add(view);
+        page.getLogicalDivisions().add(logicalDivision);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.benchmarks;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Project;
+import org.kitodo.data.database.beans.Ruleset;
+import org.kitodo.data.database.beans.Task;
+import org.kitodo.production.helper.VariableReplacer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replacing the variables of a script call. The application creates a new
+ * replacer for every call, so this is measured as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(3)
+public class VariableReplacerBenchmark {
+
+    private static final String SCRIPT_CALL = "/usr/local/kitodo/scripts/script_createDirMeta.sh (processid)"
+            + " \"(processtitle)\" (projectid) (stepid) \"(stepname)\" (prefs) \"$(meta.topstruct.TitleDocMain)\""
+            + " $(meta.DocLanguage) $(meta.PublicationYear) -hardcoded value";
+
+    private Workpiece workpiece;
+    private Process process;
+    private Task task;
+    private VariableReplacer variableReplacer;
+
+    /**
+     * Creates the workpiece, process and task to read the values from.
+     */
+    @Setup
+    public void setUp() {
+        workpiece = SyntheticWorkpiece.create(100);
+
+        Project project = new Project();
+        project.setId(1);
+        Ruleset ruleset = new Ruleset();
+        ruleset.setId(1);
+        ruleset.setFile("ruleset.xml");
+        process = new Process();
+        process.setId(1);
+        process.setTitle("Benchmark_process");
+        process.setProject(project);
+        process.setRuleset(ruleset);
+        process.setProcessBaseUri(URI.create("1"));
+        task = new Task();
+        task.setId(1);
+        task.setTitle("Scanning");
+        task.setProcess(process);
+
+        variableReplacer = new VariableReplacer(workpiece, process, task);
+    }
+
+    @Benchmark
+    public String replace() {
+        return variableReplacer.replace(SCRIPT_CALL);
+    }
+
+    @Benchmark
+    public String createAndReplace() {
+        return new VariableReplacer(workpiece, process, task).replace(SCRIPT_CALL);
+    }
+}
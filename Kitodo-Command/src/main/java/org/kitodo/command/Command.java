@@ -12,11 +12,12 @@
 package org.kitodo.command;
 
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -26,7 +27,17 @@ import org.kitodo.api.command.CommandResult;
 public class Command implements CommandInterface {
 
     private static final Logger logger = LogManager.getLogger(Command.class);
-    private static final String CHARSET = "UTF-8";
+
+    /**
+     * Number of lines kept from each of the output streams of a command.
+     */
+    private static final int MAX_LINES = 1000;
+
+    /**
+     * Time to wait for the output of a killed command, in milliseconds. A
+     * killed script may have started processes which still hold the streams.
+     */
+    private static final long KILLED_OUTPUT_WAIT = 1000;
 
     /**
      * Method executes a script.
@@ -37,62 +48,105 @@ public class Command implements CommandInterface {
      */
     @Override
     public CommandResult runCommand(String command) {
-        CommandResult commandResult;
-        Process process;
-        String[] callSequence = command.split("[\\r\\n\\s]+");
+        return runCommand(command, Duration.ZERO);
+    }
 
+    /**
+     * Method executes a script. Standard output and standard error are read
+     * at the same time, so that a script writing much to one of them cannot
+     * block. Only the last lines of each are kept.
+     *
+     * @param command
+     *            The command as a String.
+     * @param timeout
+     *            The maximum time the command may run, zero for no limit.
+     * @return The command result.
+     */
+    @Override
+    public CommandResult runCommand(String command, Duration timeout) {
+        String[] callSequence = command.split("[\\r\\n\\s]+");
+        final long begin = System.nanoTime();
+        Process process;
         try {
             process = new ProcessBuilder(callSequence).start();
-            try (InputStream inputStream = process.getInputStream();
-                    InputStream errorInputStream = process.getErrorStream()) {
-                List<String> outputMessage = inputStreamArrayToList(inputStream);
-                List<String> errorMessage = inputStreamArrayToList(errorInputStream);
-                int errCode = process.waitFor();
-
-                outputMessage.addAll(errorMessage);
-
-                commandResult = new CommandResult(command, errCode == 0, outputMessage);
-                if (commandResult.isSuccessful()) {
-                    logger.info("Execution of Command {} was successful!: {}",
-                        commandResult.getCommand(), commandResult.getMessages());
-                } else {
-                    logger.error("Execution of Command {} failed!: {}",
-                        commandResult.getCommand(), commandResult.getMessages());
-                }
-            }
-        } catch (InterruptedException e) {
-            commandResult = new CommandResult(command, false, Collections.singletonList(e.getMessage()));
-            logger.error("Execution of Command Thread was interrupted!");
-            Thread.currentThread().interrupt();
-            return commandResult;
         } catch (IOException e) {
             List<String> errorMessages = new ArrayList<>();
             errorMessages.add(e.getCause().toString());
             errorMessages.add(e.getMessage());
-            commandResult = new CommandResult(command, false, errorMessages);
+            CommandResult commandResult = new CommandResult(command, false, errorMessages);
             logger.error("Execution of Command {} failed!: {}", commandResult.getCommand(),
                 commandResult.getMessages());
             return commandResult;
         }
-        return commandResult;
+        closeInput(process.getOutputStream());
+        OutputDrainer outputDrainer = new OutputDrainer(process.getInputStream(), MAX_LINES, "stdout " + command);
+        OutputDrainer errorDrainer = new OutputDrainer(process.getErrorStream(), MAX_LINES, "stderr " + command);
+        try {
+            boolean exited = waitFor(process, timeout);
+            long deadline = System.currentTimeMillis() + KILLED_OUTPUT_WAIT;
+            List<String> outputMessage = outputDrainer.getLines(exited ? 0 : KILLED_OUTPUT_WAIT);
+            outputMessage.addAll(errorDrainer.getLines(exited ? 0 : Math.max(deadline - System.currentTimeMillis(), 1)));
+            long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+            Integer exitCode = exited ? process.exitValue() : null;
+            if (!exited) {
+                outputMessage.add("Command timed out after " + timeout.toMillis() + " ms and was killed");
+            }
+            CommandResult commandResult = new CommandResult(command, exited && exitCode == 0, outputMessage,
+                    exitCode, duration);
+            if (commandResult.isSuccessful()) {
+                logger.info("Execution of Command {} was successful after {} ms!: {}",
+                    commandResult.getCommand(), duration, commandResult.getMessages());
+            } else {
+                logger.error("Execution of Command {} failed with exit code {} after {} ms!: {}",
+                    commandResult.getCommand(), exitCode, duration, commandResult.getMessages());
+            }
+            return commandResult;
+        } catch (InterruptedException e) {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+            logger.error("Execution of Command Thread was interrupted!");
+            Thread.currentThread().interrupt();
+            return new CommandResult(command, false, Collections.singletonList(e.getMessage()));
+        }
     }
 
     /**
-     * The method reads an InputStream and returns it as a ArrayList.
+     * Waits for a process to exit. If it does not exit within the timeout, it
+     * is killed, together with the processes it started.
      *
-     * @param inputStream
-     *            The Stream to convert.
-     * @return A ArrayList holding the single lines.
+     * @param process
+     *            process to wait for
+     * @param timeout
+     *            maximum time to wait, zero for no limit
+     * @return whether the process exited by itself
+     * @throws InterruptedException
+     *             if the current thread is interrupted while waiting
      */
-    private static ArrayList<String> inputStreamArrayToList(InputStream inputStream) {
-        ArrayList<String> list = new ArrayList<>();
+    private static boolean waitFor(Process process, Duration timeout) throws InterruptedException {
+        if (timeout.isZero()) {
+            process.waitFor();
+            return true;
+        }
+        if (process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            return true;
+        }
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly().waitFor();
+        return false;
+    }
 
-        try (Scanner inputLines = new Scanner(inputStream, CHARSET)) {
-            while (inputLines.hasNextLine()) {
-                String myLine = inputLines.nextLine();
-                list.add(myLine);
-            }
+    /**
+     * Closes the standard input of a process, so that a script reading from
+     * it does not wait forever.
+     *
+     * @param input
+     *            standard input of the process
+     */
+    private static void closeInput(OutputStream input) {
+        try {
+            input.close();
+        } catch (IOException e) {
+            logger.debug("Could not close standard input: {}", e.getMessage());
         }
-        return list;
     }
 }
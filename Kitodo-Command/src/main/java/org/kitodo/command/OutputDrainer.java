@@ -0,0 +1,100 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.command;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads an output stream of a process to the end in a thread of its own, so
+ * that the process never blocks on a full pipe. Only the last lines are kept,
+ * earlier lines are counted and dropped.
+ */
+class OutputDrainer implements Runnable {
+
+    private final InputStream inputStream;
+    private final int maxLines;
+    private final Deque<String> lines = new ArrayDeque<>();
+    private long droppedLines = 0;
+    private final Thread thread;
+
+    /**
+     * Starts draining a stream.
+     *
+     * @param inputStream
+     *            stream to read
+     * @param maxLines
+     *            number of lines to keep
+     * @param name
+     *            name of the thread
+     */
+    OutputDrainer(InputStream inputStream, int maxLines, String name) {
+        this.inputStream = inputStream;
+        this.maxLines = maxLines;
+        this.thread = new Thread(this, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void run() {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                add(line);
+            }
+        } catch (IOException e) {
+            // the stream was closed because the process was killed
+            if (Objects.nonNull(e.getMessage())) {
+                add(e.getMessage());
+            }
+        }
+    }
+
+    private synchronized void add(String line) {
+        if (lines.size() == maxLines) {
+            lines.removeFirst();
+            droppedLines++;
+        }
+        lines.addLast(line);
+    }
+
+    /**
+     * Waits for the stream to end and returns the lines kept. If lines were
+     * dropped, the first line says how many.
+     *
+     * @param timeoutMillis
+     *            maximum time to wait, zero to wait until the stream ends
+     * @return the last lines of the stream
+     * @throws InterruptedException
+     *             if the current thread is interrupted while waiting
+     */
+    List<String> getLines(long timeoutMillis) throws InterruptedException {
+        thread.join(timeoutMillis);
+        synchronized (this) {
+            List<String> result = new ArrayList<>(lines.size() + 1);
+            if (droppedLines > 0) {
+                result.add("[" + droppedLines + " lines omitted]");
+            }
+            result.addAll(lines);
+            return result;
+        }
+    }
+}
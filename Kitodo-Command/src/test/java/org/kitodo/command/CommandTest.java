@@ -12,12 +12,16 @@
 package org.kitodo.command;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.attribute.PosixFilePermission;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -38,6 +42,10 @@ public class CommandTest {
             System.getProperty("user.dir") + "/src/test/resources/working_script_with_parameters.sh");
     private static File notWorkingScript = new File(
             System.getProperty("user.dir") + "/src/test/resources/not_working_script.sh");
+    private static File noisyScript = new File(
+            System.getProperty("user.dir") + "/src/test/resources/noisy_script.sh");
+    private static File sleepingScript = new File(
+            System.getProperty("user.dir") + "/src/test/resources/sleeping_script.sh");
 
     @BeforeClass
     public static void setUp() throws IOException {
@@ -51,6 +59,8 @@ public class CommandTest {
             setFileExecuteable(workingScript);
             setFileExecuteable(workingScriptWithParameters);
             setFileExecuteable(notWorkingScript);
+            setFileExecuteable(noisyScript);
+            setFileExecuteable(sleepingScript);
         }
 
     }
@@ -61,6 +71,8 @@ public class CommandTest {
             setFileNotExecuteable(workingScript);
             setFileNotExecuteable(workingScriptWithParameters);
             setFileNotExecuteable(notWorkingScript);
+            setFileNotExecuteable(noisyScript);
+            setFileNotExecuteable(sleepingScript);
         }
     }
 
@@ -141,6 +153,34 @@ public class CommandTest {
                 commandResult.getMessages());
     }
 
+    @Test
+    public void shouldRunCommandWritingMuchToStandardError() {
+        Command command = new Command();
+
+        String commandString = "src/test/resources/noisy_script" + scriptExtension;
+        CommandResult commandResult = command.runCommand(commandString);
+
+        List<String> messages = commandResult.getMessages();
+        assertTrue("Command should be successful", commandResult.isSuccessful());
+        assertEquals("Exit code should be 0", Integer.valueOf(0), commandResult.getExitCode());
+        assertEquals("Only the last lines should be kept", 1002, messages.size());
+        assertEquals("Standard output should come first", "done", messages.get(0));
+        assertEquals("Omitted lines should be counted", "[19000 lines omitted]", messages.get(1));
+        assertEquals("Last line of standard error should be kept", "error line 20000", messages.get(1001).trim());
+    }
+
+    @Test
+    public void shouldKillCommandAfterTimeout() {
+        Command command = new Command();
+
+        String commandString = "src/test/resources/sleeping_script" + scriptExtension;
+        CommandResult commandResult = command.runCommand(commandString, Duration.ofMillis(500));
+
+        assertFalse("Command should not be successful", commandResult.isSuccessful());
+        assertNull("Killed command should have no exit code", commandResult.getExitCode());
+        assertTrue("Command should have been killed", commandResult.getDuration() < 10000);
+    }
+
     private static void setFileExecuteable(File file) throws IOException {
         Set<PosixFilePermission> perms = new HashSet<>();
 
@@ -15,6 +15,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale.LanguageRange;
@@ -22,6 +23,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.JAXBException;
@@ -64,6 +66,27 @@ public class RulesetManagement implements RulesetManagementInterface {
      */
     private Ruleset ruleset;
 
+    /**
+     * The files the ruleset was read from or looked up in.
+     */
+    private List<File> sourceFiles = Collections.emptyList();
+
+    /**
+     * The keys per functional metadata, determined on first request. A loaded
+     * ruleset does not change, so they can be reused.
+     */
+    private final Map<FunctionalMetadata, List<String>> functionalKeys = new ConcurrentHashMap<>();
+
+    /**
+     * The divisions per functional division, determined on first request.
+     */
+    private final Map<FunctionalDivision, List<String>> functionalDivisions = new ConcurrentHashMap<>();
+
+    /**
+     * The divisions configured without workflow, determined on first request.
+     */
+    private volatile Collection<String> divisionsWithNoWorkflow;
+
     /**
      * Returns the acquisition levels defined in this rule set. This function
      * was not parallelized to repeatedly serve JSF in the same order when the
@@ -83,20 +106,25 @@ public class RulesetManagement implements RulesetManagementInterface {
 
     @Override
     public List<String> getFunctionalKeys(FunctionalMetadata functionalMetadata) {
-        return getIdsOfKeysForSpecialField(ruleset.getKeys(), functionalMetadata);
+        return new ArrayList<>(functionalKeys.computeIfAbsent(functionalMetadata,
+            functional -> getIdsOfKeysForSpecialField(ruleset.getKeys(), functional)));
     }
 
     @Override
     public List<String> getFunctionalDivisions(FunctionalDivision functionalDivision) {
-        return getIdsOfDivisionsForSpecialField(ruleset.getDivisions(), functionalDivision);
+        return new ArrayList<>(functionalDivisions.computeIfAbsent(functionalDivision,
+            functional -> getIdsOfDivisionsForSpecialField(ruleset.getDivisions(), functional)));
     }
 
     @Override
     public Collection<String> getDivisionsWithNoWorkflow() {
-        Collection<DivisionDeclaration> divisionDeclarations = ruleset.getDivisionDeclarations(true, true);
-        List<Division> divisions = divisionDeclarations.stream().map(DivisionDeclaration::getDivision)
-                .collect(Collectors.toList());
-        return getDivionsWithNoWorkflow(divisions);
+        if (Objects.isNull(divisionsWithNoWorkflow)) {
+            Collection<DivisionDeclaration> divisionDeclarations = ruleset.getDivisionDeclarations(true, true);
+            List<Division> divisions = divisionDeclarations.stream().map(DivisionDeclaration::getDivision)
+                    .collect(Collectors.toList());
+            divisionsWithNoWorkflow = getDivionsWithNoWorkflow(divisions);
+        }
+        return new ArrayList<>(divisionsWithNoWorkflow);
     }
 
     private Collection<String> getDivionsWithNoWorkflow(List<Division> divisions) {
@@ -229,8 +257,19 @@ public class RulesetManagement implements RulesetManagementInterface {
      */
     @Override
     public void load(File rulesetFile) throws IOException {
-        this.ruleset = read(rulesetFile);
-        initializeNamespaces(ruleset.getKeys(), rulesetFile.getParentFile());
+        List<File> files = new ArrayList<>();
+        Ruleset loadedRuleset = read(rulesetFile, files);
+        initializeNamespaces(loadedRuleset.getKeys(), rulesetFile.getParentFile(), files);
+        this.ruleset = loadedRuleset;
+        this.sourceFiles = Collections.unmodifiableList(files);
+        functionalKeys.clear();
+        functionalDivisions.clear();
+        divisionsWithNoWorkflow = null;
+    }
+
+    @Override
+    public Collection<File> getSourceFiles() {
+        return sourceFiles;
     }
 
     /**
@@ -240,15 +279,18 @@ public class RulesetManagement implements RulesetManagementInterface {
      *            the keys of the rule set (are processed recursively)
      * @param home
      *            the ruleset directory
+     * @param files
+     *            the namespace files looked up are added here
      * @throws IOException
      *             if I/O fails
      */
-    private void initializeNamespaces(List<Key> keys, File home) throws IOException {
+    private void initializeNamespaces(List<Key> keys, File home, List<File> files) throws IOException {
         for (Key key : keys) {
             Optional<String> optionalNamespace = key.getNamespace();
             if (optionalNamespace.isPresent()) {
                 String namespaceURI = optionalNamespace.get();
                 File file = new File(home, namespaceURI.replaceFirst("^.*?/([^/]*?)[#/]?$", "$1").concat(".xml"));
+                files.add(file);
                 if (file.isFile()) {
                     try {
                         Namespace namespace = read(Namespace.class, file);
@@ -269,15 +311,17 @@ public class RulesetManagement implements RulesetManagementInterface {
                 }
             }
             // is applied recursively to the sub-elements
-            initializeNamespaces(key.getKeys(), home);
+            initializeNamespaces(key.getKeys(), home, files);
         }
     }
 
-    private static Ruleset read(File rulesetFile) throws IOException {
+    private static Ruleset read(File rulesetFile, List<File> files) throws IOException {
         Ruleset result = new Ruleset();
+        files.add(rulesetFile);
         Ruleset base = read(Ruleset.class, rulesetFile);
         for (String include : base.getIncludes()) {
             File includedFile = new File(rulesetFile.getParentFile(), include);
+            files.add(includedFile);
             Ruleset included = read(Ruleset.class, includedFile);
             result.addAll(included);
         }
@@ -17,6 +17,8 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.assertEquals;
@@ -1069,6 +1071,23 @@ public class RulesetManagementIT {
             Collections.emptyList()));
     }
 
+    /**
+     * The test verifies that the files the ruleset depends on are reported,
+     * including the namespace files, so that a changed file can be noticed.
+     */
+    @Test
+    public void testSourceFilesAreReported() throws IOException {
+        RulesetManagement underTest = new RulesetManagement();
+        File rulesetFile = new File("src/test/resources/testValidationByCodomain.xml");
+        underTest.load(rulesetFile);
+
+        assertThat(underTest.getSourceFiles(), hasItems(rulesetFile,
+            new File("src/test/resources/testValidationByCodomainNamespace.xml")));
+        List<String> functionalKeys = underTest.getFunctionalKeys(FunctionalMetadata.TITLE);
+        functionalKeys.add("modifiedByCaller");
+        assertThat(underTest.getFunctionalKeys(FunctionalMetadata.TITLE), not(hasItem("modifiedByCaller")));
+    }
+
     @Test
     public void testReimportOfMetadataModesCreate() throws Exception {
         RulesetManagement underTest = new RulesetManagement();
@@ -85,6 +85,17 @@ public class DivXmlElementAccess extends LogicalDivision {
                 : KitodoUUID.randomUUID();
     }
 
+    /**
+     * Creates a copy of a DivXmlElementAccess which keeps its METS identifier.
+     *
+     * @param source
+     *            structure to copy
+     */
+    private DivXmlElementAccess(DivXmlElementAccess source) {
+        super(source, true);
+        metsReferrerId = source.metsReferrerId;
+    }
+
     /**
      * Constructor to read a structure from METS.
      *
@@ -224,6 +235,11 @@ public class DivXmlElementAccess extends LogicalDivision {
         return metadata;
     }
 
+    @Override
+    protected DivXmlElementAccess copyWithoutChildren() {
+        return new DivXmlElementAccess(this);
+    }
+
     /**
      * Creates a METS {@code <div>} element from this structure.
      *
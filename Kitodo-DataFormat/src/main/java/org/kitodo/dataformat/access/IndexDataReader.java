@@ -0,0 +1,411 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.dataformat.access;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.stream.util.StreamReaderDelegate;
+
+import org.kitodo.api.MdSec;
+import org.kitodo.api.Metadata;
+import org.kitodo.api.dataformat.PhysicalDivision;
+import org.kitodo.api.dataformat.mets.IndexData;
+import org.kitodo.dataformat.metskitodo.MdSecType;
+
+/**
+ * Reads the data needed to index a process from a METS file in a single
+ * streaming pass. The metadata sections are unmarshalled one at a time and
+ * their metadata is read as {@link DivXmlElementAccess} does it, the
+ * structural maps are only counted. The {@code <mets:dmdSec>} elements are
+ * copied as they are, so that neither the whole document nor a workpiece has
+ * to be held in memory.
+ */
+class IndexDataReader {
+    private static final String METS_NAMESPACE = "http://www.loc.gov/METS/";
+    private static final String DMD_SEC = "dmdSec";
+
+    private static final Map<String, MdSec> ADMINISTRATIVE_SECTIONS = Map.of("sourceMD", MdSec.SOURCE_MD,
+        "digiprovMD", MdSec.DIGIPROV_MD, "rightsMD", MdSec.RIGHTS_MD, "techMD", MdSec.TECH_MD);
+
+    /**
+     * Marks an element inside a structural map which is not a division.
+     */
+    private static final Object OTHER_ELEMENT = new Object();
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+
+    private final Unmarshaller unmarshaller;
+    private final IndexData indexData = new IndexData();
+    private final Map<String, Section> sections = new HashMap<>();
+    private List<Division> logicalDivisions = Collections.emptyList();
+    private List<Division> physicalDivisions = Collections.emptyList();
+    private boolean logicalStructMapRead = false;
+    private boolean physicalStructMapRead = false;
+
+    /**
+     * Creates a reader for one METS file.
+     *
+     * @param unmarshaller
+     *            unmarshaller for the METS data structure
+     */
+    IndexDataReader(Unmarshaller unmarshaller) {
+        this.unmarshaller = unmarshaller;
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return xmlInputFactory;
+    }
+
+    /**
+     * Reads the index data from a METS file.
+     *
+     * @param in
+     *            stream to read the METS file from
+     * @return the index data
+     * @throws XMLStreamException
+     *             if the stream does not contain well-formed XML
+     * @throws JAXBException
+     *             if a metadata section cannot be unmarshalled
+     */
+    IndexData read(InputStream in) throws XMLStreamException, JAXBException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+        try {
+            while (reader.hasNext() && reader.next() != XMLStreamConstants.START_ELEMENT) {
+                // skip prolog
+            }
+            if (!reader.isStartElement()) {
+                throw new XMLStreamException("Document has no root element");
+            }
+            boolean metsRoot = "mets".equals(reader.getLocalName());
+            while (nextChildElement(reader)) {
+                readSection(reader, metsRoot);
+            }
+        } finally {
+            reader.close();
+        }
+
+        indexData.setNumberOfImages(Math.toIntExact(physicalDivisions.stream()
+                .filter(division -> Objects.equals(division.type, PhysicalDivision.TYPE_PAGE)).count()));
+        int numberOfMetadata = 0;
+        for (Division division : logicalDivisions) {
+            numberOfMetadata += countMetadata(division);
+        }
+        indexData.setNumberOfMetadata(numberOfMetadata);
+        indexData.setNumberOfStructures(logicalDivisions.size());
+        indexData.setBaseType(getBaseType());
+        return indexData;
+    }
+
+    private void readSection(XMLStreamReader reader, boolean metsRoot) throws XMLStreamException, JAXBException {
+        boolean metsElement = METS_NAMESPACE.equals(reader.getNamespaceURI());
+        String localName = reader.getLocalName();
+        if (DMD_SEC.equals(localName) && (metsRoot || metsElement)) {
+            StringWriter dmdSec = new StringWriter();
+            ElementReader elementReader = new ElementReader(reader,
+                    metsRoot ? XML_OUTPUT_FACTORY.createXMLStreamWriter(dmdSec) : null);
+            if (metsElement) {
+                addSection(unmarshaller.unmarshal(elementReader, MdSecType.class).getValue(), MdSec.DMD_SEC);
+            }
+            elementReader.skipToEnd();
+            if (metsRoot) {
+                indexData.getDmdSecs().add(dmdSec.toString());
+            }
+        } else if (metsElement && "amdSec".equals(localName)) {
+            while (nextChildElement(reader)) {
+                MdSec domain = ADMINISTRATIVE_SECTIONS.get(reader.getLocalName());
+                if (METS_NAMESPACE.equals(reader.getNamespaceURI()) && Objects.nonNull(domain)) {
+                    ElementReader elementReader = new ElementReader(reader, null);
+                    addSection(unmarshaller.unmarshal(elementReader, MdSecType.class).getValue(), domain);
+                    elementReader.skipToEnd();
+                } else {
+                    skipElement(reader);
+                }
+            }
+        } else if (metsElement && "structMap".equals(localName)) {
+            String type = reader.getAttributeValue(null, "TYPE");
+            if ("LOGICAL".equals(type) && !logicalStructMapRead) {
+                logicalDivisions = readDivisions(reader);
+                logicalStructMapRead = true;
+            } else if ("PHYSICAL".equals(type) && !physicalStructMapRead) {
+                physicalDivisions = readDivisions(reader);
+                physicalStructMapRead = true;
+            } else {
+                skipElement(reader);
+            }
+        } else {
+            skipElement(reader);
+        }
+    }
+
+    private void addSection(MdSecType mdSecType, MdSec domain) {
+        if (Objects.nonNull(mdSecType.getID())) {
+            sections.put(mdSecType.getID(), new Section(mdSecType, domain));
+        }
+    }
+
+    /**
+     * Reads the divisions of a structural map in document order, so the root
+     * division comes first.
+     */
+    private static List<Division> readDivisions(XMLStreamReader reader) throws XMLStreamException {
+        List<Division> divisions = new ArrayList<>();
+        Deque<Object> openElements = new ArrayDeque<>();
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                Object parent = openElements.peek();
+                if (METS_NAMESPACE.equals(reader.getNamespaceURI()) && "div".equals(reader.getLocalName())
+                        && (Objects.isNull(parent) || parent instanceof Division)) {
+                    Division division = new Division(reader.getAttributeValue(null, "TYPE"),
+                            reader.getAttributeValue(null, "DMDID"), reader.getAttributeValue(null, "ADMID"));
+                    if (Objects.nonNull(parent) && Objects.isNull(((Division) parent).firstChild)) {
+                        ((Division) parent).firstChild = division;
+                    }
+                    divisions.add(division);
+                    openElements.push(division);
+                } else {
+                    openElements.push(OTHER_ELEMENT);
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                if (openElements.isEmpty()) {
+                    break;
+                }
+                openElements.pop();
+            }
+        }
+        return divisions;
+    }
+
+    /**
+     * Counts the metadata of a division the way it ends up in the logical
+     * structure of a workpiece: equal metadata is only counted once.
+     */
+    private int countMetadata(Division division) {
+        Set<Metadata> metadata = new HashSet<>();
+        for (String id : division.dmdIds) {
+            Section section = sections.get(id);
+            if (Objects.nonNull(section)) {
+                metadata.addAll(DivXmlElementAccess.readMetadata(section.mdSecType, MdSec.DMD_SEC));
+            }
+        }
+        for (String id : division.admIds) {
+            Section section = sections.get(id);
+            if (Objects.nonNull(section)) {
+                metadata.addAll(DivXmlElementAccess.readMetadata(section.mdSecType, section.domain));
+            }
+        }
+        return metadata.size();
+    }
+
+    private String getBaseType() {
+        if (logicalDivisions.isEmpty()) {
+            return null;
+        }
+        Division division = logicalDivisions.get(0);
+        while (Objects.isNull(division.type) && Objects.nonNull(division.firstChild)) {
+            division = division.firstChild;
+        }
+        return division.type;
+    }
+
+    /**
+     * Advances the reader to the next child element of the current element.
+     *
+     * @return whether there is another child element
+     */
+    private static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Reads one element, starting at its start tag, and stops on its end tag,
+     * even if the consumer, as JAXB does, tries to move beyond it. On the way,
+     * the element can be copied to a writer.
+     */
+    private static class ElementReader extends StreamReaderDelegate {
+        private final XMLStreamWriter copy;
+        private int depth = 1;
+
+        ElementReader(XMLStreamReader reader, XMLStreamWriter copy) throws XMLStreamException {
+            super(reader);
+            this.copy = copy;
+            writeStartElement();
+        }
+
+        @Override
+        public boolean hasNext() throws XMLStreamException {
+            return depth > 0 && super.hasNext();
+        }
+
+        @Override
+        public int next() throws XMLStreamException {
+            if (depth == 0) {
+                return getEventType();
+            }
+            int event = super.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+                writeStartElement();
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+                if (Objects.nonNull(copy)) {
+                    copy.writeEndElement();
+                    if (depth == 0) {
+                        copy.close();
+                    }
+                }
+            } else if (Objects.nonNull(copy)) {
+                writeContent(event);
+            }
+            return event;
+        }
+
+        /**
+         * Reads the rest of the element, if the consumer stopped early.
+         */
+        void skipToEnd() throws XMLStreamException {
+            while (depth > 0) {
+                next();
+            }
+        }
+
+        /**
+         * Writes the current start tag. Only the namespaces declared on the
+         * element itself are written, prefixes are taken over unchanged.
+         */
+        private void writeStartElement() throws XMLStreamException {
+            if (Objects.isNull(copy)) {
+                return;
+            }
+            copy.writeStartElement(Objects.toString(getPrefix(), ""), getLocalName(),
+                Objects.toString(getNamespaceURI(), ""));
+            for (int i = 0; i < getNamespaceCount(); i++) {
+                String prefix = getNamespacePrefix(i);
+                if (Objects.isNull(prefix) || prefix.isEmpty()) {
+                    copy.writeDefaultNamespace(getNamespaceURI(i));
+                } else {
+                    copy.writeNamespace(prefix, getNamespaceURI(i));
+                }
+            }
+            for (int i = 0; i < getAttributeCount(); i++) {
+                String prefix = getAttributePrefix(i);
+                if (Objects.isNull(prefix) || prefix.isEmpty()) {
+                    copy.writeAttribute(getAttributeLocalName(i), getAttributeValue(i));
+                } else {
+                    copy.writeAttribute(prefix, getAttributeNamespace(i), getAttributeLocalName(i),
+                        getAttributeValue(i));
+                }
+            }
+        }
+
+        private void writeContent(int event) throws XMLStreamException {
+            switch (event) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    copy.writeCharacters(getTextCharacters(), getTextStart(), getTextLength());
+                    break;
+                case XMLStreamConstants.CDATA:
+                    copy.writeCData(getText());
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    copy.writeComment(getText());
+                    break;
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    copy.writeProcessingInstruction(getPITarget(), getPIData());
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * A metadata section and the domain it belongs to.
+     */
+    private static class Section {
+        private final MdSecType mdSecType;
+        private final MdSec domain;
+
+        Section(MdSecType mdSecType, MdSec domain) {
+            this.mdSecType = mdSecType;
+            this.domain = domain;
+        }
+    }
+
+    /**
+     * The parts of a {@code <mets:div>} needed for the index.
+     */
+    private static class Division {
+        private final String type;
+        private final List<String> dmdIds;
+        private final List<String> admIds;
+        private Division firstChild;
+
+        Division(String type, String dmdIds, String admIds) {
+            this.type = type;
+            this.dmdIds = splitIdRefs(dmdIds);
+            this.admIds = splitIdRefs(admIds);
+        }
+
+        private static List<String> splitIdRefs(String idRefs) {
+            if (Objects.isNull(idRefs) || idRefs.isBlank()) {
+                return Collections.emptyList();
+            }
+            return List.of(idRefs.trim().split("\\s+"));
+        }
+    }
+}
@@ -35,6 +35,8 @@ import javax.xml.bind.Unmarshaller;
 import javax.xml.datatype.DatatypeConfigurationException;
 import javax.xml.datatype.DatatypeFactory;
 import javax.xml.datatype.XMLGregorianCalendar;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.transform.Result;
 
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
@@ -43,6 +45,7 @@ import org.kitodo.api.dataformat.MediaVariant;
 import org.kitodo.api.dataformat.PhysicalDivision;
 import org.kitodo.api.dataformat.ProcessingNote;
 import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.api.dataformat.mets.IndexData;
 import org.kitodo.api.dataformat.mets.MetsXmlElementAccessInterface;
 import org.kitodo.dataformat.metskitodo.DivType;
 import org.kitodo.dataformat.metskitodo.FileType;
@@ -235,6 +238,29 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
         }
     }
 
+    /**
+     * Reads the data needed to index a process from METS. The file is read
+     * with StAX, and only the metadata sections are unmarshalled, one by one.
+     *
+     * @param in
+     *            InputStream to read from
+     */
+    @Override
+    public IndexData readIndexData(InputStream in) throws IOException {
+        try {
+            JAXBContext jc = JAXBContextCache.getJAXBContext(Mets.class);
+            return new IndexDataReader(jc.createUnmarshaller()).read(in);
+        } catch (JAXBException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else {
+                throw new IOException(e.getMessage(), e);
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
     /**
      * Writes the contents of this workpiece as a METS file into an output
      * stream.
@@ -247,10 +273,7 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
     @Override
     public void save(Workpiece workpiece, OutputStream out) throws IOException {
         try {
-            JAXBContext context = JAXBContextCache.getJAXBContext(Mets.class);
-            Marshaller marshal = context.createMarshaller();
-            marshal.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
-            marshal.marshal(new MetsXmlElementAccess(workpiece).toMets(), out);
+            createMarshaller().marshal(new MetsXmlElementAccess(workpiece).toMets(), out);
         } catch (JAXBException e) {
             if (e.getCause() instanceof IOException) {
                 throw (IOException) e.getCause();
@@ -260,6 +283,37 @@ public class MetsXmlElementAccess implements MetsXmlElementAccessInterface {
         }
     }
 
+    /**
+     * Writes the contents of this workpiece as METS into a result. The METS
+     * structure is passed on while it is being serialized, no intermediate
+     * document is created.
+     *
+     * @param result
+     *            result to write to
+     * @throws IOException
+     *             if the output device or the receiver of the result has an
+     *             error
+     */
+    @Override
+    public void save(Workpiece workpiece, Result result) throws IOException {
+        try {
+            createMarshaller().marshal(new MetsXmlElementAccess(workpiece).toMets(), result);
+        } catch (JAXBException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else {
+                throw new IOException(e.getMessage(), e);
+            }
+        }
+    }
+
+    private static Marshaller createMarshaller() throws JAXBException {
+        JAXBContext context = JAXBContextCache.getJAXBContext(Mets.class);
+        Marshaller marshal = context.createMarshaller();
+        marshal.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        return marshal;
+    }
+
     /**
      * Generates a METS XML structure from this workpiece in the form of Java
      * objects in the main memory.
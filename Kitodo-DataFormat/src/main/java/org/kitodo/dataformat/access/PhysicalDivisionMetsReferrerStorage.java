@@ -28,6 +28,29 @@ class PhysicalDivisionMetsReferrerStorage extends PhysicalDivision {
      */
     private Map<URI, String> metsFileReferrerIds = new HashMap<>();
 
+    /**
+     * Creates a new memory brick.
+     */
+    PhysicalDivisionMetsReferrerStorage() {
+    }
+
+    /**
+     * Creates a copy of a memory brick which keeps the METS identifiers of the
+     * media files.
+     *
+     * @param source
+     *            memory brick to copy
+     */
+    private PhysicalDivisionMetsReferrerStorage(PhysicalDivisionMetsReferrerStorage source) {
+        super(source, true);
+        metsFileReferrerIds.putAll(source.metsFileReferrerIds);
+    }
+
+    @Override
+    protected PhysicalDivisionMetsReferrerStorage copyWithoutChildren() {
+        return new PhysicalDivisionMetsReferrerStorage(this);
+    }
+
     /**
      * Passthrough function for reading the file identifier to the URI.
      *
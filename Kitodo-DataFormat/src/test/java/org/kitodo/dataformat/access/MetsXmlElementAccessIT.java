@@ -12,20 +12,27 @@
 package org.kitodo.dataformat.access;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.junit.Test;
@@ -38,11 +45,14 @@ import org.kitodo.api.dataformat.MediaVariant;
 import org.kitodo.api.dataformat.ProcessingNote;
 import org.kitodo.api.dataformat.View;
 import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.api.dataformat.mets.IndexData;
 
 public class MetsXmlElementAccessIT {
 
     private static final File OUT_FILE = new File("src/test/resources/out.xml");
 
+    private static final Pattern DIV_AND_FILE_IDS = Pattern.compile("<mets:(?:div|file)[^>]* ID=\"([^\"]*)\"");
+
     public static void clean() throws Exception {
         Files.deleteIfExists(OUT_FILE.toPath());
     }
@@ -92,6 +102,30 @@ public class MetsXmlElementAccessIT {
                     .collect(Collectors.toList()));
     }
 
+    /**
+     * Tests that reading the index data yields the same figures as loading
+     * the workpiece.
+     */
+    @Test
+    public void shouldReadIndexData() throws Exception {
+        File metsFile = new File("src/test/resources/meta.xml");
+        Workpiece workpiece = new MetsXmlElementAccess().read(new FileInputStream(metsFile));
+        IndexData indexData;
+        try (InputStream in = new FileInputStream(metsFile)) {
+            indexData = new MetsXmlElementAccess().readIndexData(in);
+        }
+
+        assertEquals(183, indexData.getNumberOfImages());
+        assertEquals(Workpiece.treeStream(workpiece.getLogicalStructure()).count(),
+            indexData.getNumberOfStructures());
+        assertEquals(Workpiece.treeStream(workpiece.getLogicalStructure())
+                .mapToInt(logicalDivision -> logicalDivision.getMetadata().size()).sum(),
+            indexData.getNumberOfMetadata());
+        assertEquals(workpiece.getLogicalStructure().getType(), indexData.getBaseType());
+        assertEquals(105, indexData.getDmdSecs().size());
+        assertTrue(indexData.getDmdSecs().get(0).startsWith("<mets:dmdSec ID=\"DMDLOG_0000\""));
+    }
+
     @Test
     public void testSave() throws Exception {
         Workpiece workpiece = new Workpiece();
@@ -249,6 +283,32 @@ public class MetsXmlElementAccessIT {
         clean();
     }
 
+    /**
+     * Tests that a copy of a workpiece is saved with the METS IDs it was read
+     * with.
+     */
+    @Test
+    public void shouldKeepMetsIdsInCopy() throws Exception {
+        Workpiece workpiece = new MetsXmlElementAccess()
+                .read(new FileInputStream(new File("src/test/resources/meta.xml")));
+        Workpiece copy = workpiece.copy();
+
+        List<String> ids = getDivAndFileIds(workpiece);
+        assertFalse("METS IDs were not found!", ids.isEmpty());
+        assertEquals("METS IDs were not kept in the copy!", ids, getDivAndFileIds(copy));
+    }
+
+    private static List<String> getDivAndFileIds(Workpiece workpiece) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new MetsXmlElementAccess().save(workpiece, out);
+        List<String> ids = new ArrayList<>();
+        Matcher matcher = DIV_AND_FILE_IDS.matcher(new String(out.toByteArray(), StandardCharsets.UTF_8));
+        while (matcher.find()) {
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+
     @Test
     public void missingMetsHeaderCreationDateDidNotThrowNullPointerException() throws IOException {
         Workpiece workpiece = new MetsXmlElementAccess()
@@ -62,6 +62,9 @@ public class ImportConfiguration extends BaseBean {
     @Column(name = "default_import_depth")
     private Integer defaultImportDepth;
 
+    @Column(name = "mass_import_parallelism")
+    private Integer massImportParallelism;
+
     @Column(name = "parent_element_trim_mode")
     private String parentElementTrimMode;
 
@@ -310,6 +313,25 @@ public class ImportConfiguration extends BaseBean {
         this.defaultImportDepth = defaultImportDepth;
     }
 
+    /**
+     * Get massImportParallelism.
+     *
+     * @return number of records requested from the catalogue at the same time
+     *         during mass import
+     */
+    public Integer getMassImportParallelism() {
+        return massImportParallelism;
+    }
+
+    /**
+     * Set massImportParallelism.
+     *
+     * @param massImportParallelism as java.lang.Integer
+     */
+    public void setMassImportParallelism(Integer massImportParallelism) {
+        this.massImportParallelism = massImportParallelism;
+    }
+
     /**
      * Get host.
      *
@@ -43,6 +43,16 @@ public class AuthorityDAO extends BaseDAO<Authority> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<Authority> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Authority WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Authority> getAllNotIndexedAfter(int lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Authority.class, id);
@@ -33,6 +33,8 @@ import org.kitodo.data.database.beans.BaseBean;
 import org.kitodo.data.database.beans.BaseIndexedBean;
 import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.exceptions.DAOException;
+import org.kitodo.metrics.MetricsRegistry;
+import org.kitodo.metrics.Timer;
 
 /**
  * Base class for DAOs.
@@ -41,6 +43,12 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
 
     private static final Object lockObject = new Object();
 
+    private static final Timer COUNT_TIMER = getQueryTimer("count");
+    private static final Timer GET_TIMER = getQueryTimer("get");
+    private static final Timer QUERY_TIMER = getQueryTimer("query");
+    private static final Timer REMOVE_TIMER = getQueryTimer("remove");
+    private static final Timer STORE_TIMER = getQueryTimer("store");
+
     /**
      * Retrieves a BaseBean identified by the given id from the database.
      *
@@ -81,6 +89,34 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      */
     public abstract List<T> getAllNotIndexed(int offset, int size) throws DAOException;
 
+    /**
+     * Retrieves BaseBean objects with an ID greater than the given one, ordered
+     * by ID. In contrast to {@link #getAll(int, int)}, the database can seek
+     * directly to the first result instead of skipping all previous rows, so
+     * the time per page does not grow while iterating over a large table.
+     *
+     * @param lastId
+     *            ID of the last object of the previous page, 0 for the first
+     *            page
+     * @param size
+     *            amount of results
+     * @return constrained list of persisted beans
+     */
+    public abstract List<T> getAllAfter(int lastId, int size) throws DAOException;
+
+    /**
+     * Retrieves not indexed BaseBean objects with an ID greater than the given
+     * one, ordered by ID. See {@link #getAllAfter(int, int)}.
+     *
+     * @param lastId
+     *            ID of the last object of the previous page, 0 for the first
+     *            page
+     * @param size
+     *            amount of results
+     * @return constrained list of persisted beans
+     */
+    public abstract List<T> getAllNotIndexedAfter(int lastId, int size) throws DAOException;
+
     /**
      * Saves a BaseBean object to the database.
      *
@@ -129,7 +165,7 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      */
     public void remove(T baseBean) throws DAOException {
         if (baseBean.getId() != null) {
-            try (Session session = HibernateUtil.getSession()) {
+            try (Timer.Sample sample = REMOVE_TIMER.start(); Session session = HibernateUtil.getSession()) {
                 Transaction transaction = session.beginTransaction();
                 synchronized (lockObject) {
                     Object merged = session.merge(baseBean);
@@ -178,7 +214,7 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      */
     @SuppressWarnings("unchecked")
     public List<T> getByQuery(String query, Map<String, Object> parameters, int first, int max) {
-        try (Session session = HibernateUtil.getSession()) {
+        try (Timer.Sample sample = QUERY_TIMER.start(); Session session = HibernateUtil.getSession()) {
             Query<T> q = session.createQuery(query);
             q.setFirstResult(first);
             q.setMaxResults(max);
@@ -200,7 +236,7 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      */
     @SuppressWarnings("unchecked")
     public List<T> getByQuery(String query, Map<String, Object> parameters) {
-        try (Session session = HibernateUtil.getSession()) {
+        try (Timer.Sample sample = QUERY_TIMER.start(); Session session = HibernateUtil.getSession()) {
             Query<T> q = session.createQuery(query);
             addParameters(q, parameters);
             return q.list();
@@ -216,7 +252,7 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      */
     @SuppressWarnings("unchecked")
     public List<T> getByQuery(String query) {
-        try (Session session = HibernateUtil.getSession()) {
+        try (Timer.Sample sample = QUERY_TIMER.start(); Session session = HibernateUtil.getSession()) {
             List<T> baseBeanObjects = session.createQuery(query).list();
             if (Objects.isNull(baseBeanObjects)) {
                 baseBeanObjects = new ArrayList<>();
@@ -235,7 +271,7 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      * @return amount of rows in database according to given query
      */
     public Long count(String query, Map<String, Object> parameters) throws DAOException {
-        try (Session session = HibernateUtil.getSession()) {
+        try (Timer.Sample sample = COUNT_TIMER.start(); Session session = HibernateUtil.getSession()) {
             Query<?> q = session.createQuery(query);
             addParameters(q, parameters);
             return (Long) q.uniqueResult();
@@ -252,7 +288,7 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      * @return amount of rows in database according to given query
      */
     public Long count(String query) throws DAOException {
-        try (Session session = HibernateUtil.getSession()) {
+        try (Timer.Sample sample = COUNT_TIMER.start(); Session session = HibernateUtil.getSession()) {
             return (Long) session.createQuery(query).uniqueResult();
         } catch (PersistenceException e) {
             throw new DAOException(e);
@@ -271,7 +307,7 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      *             if a HibernateException is thrown
      */
     static void removeObject(Class<?> cls, Integer objectId) throws DAOException {
-        try (Session session = HibernateUtil.getSession()) {
+        try (Timer.Sample sample = REMOVE_TIMER.start(); Session session = HibernateUtil.getSession()) {
             Transaction transaction = session.beginTransaction();
             synchronized (lockObject) {
                 Object object = session.load(cls, objectId);
@@ -310,7 +346,7 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      * @return Object may be null if object with ID doesn't exist
      */
     T retrieveObject(Class<T> cls, Integer id) throws DAOException {
-        try (Session session = HibernateUtil.getSession()) {
+        try (Timer.Sample sample = GET_TIMER.start(); Session session = HibernateUtil.getSession()) {
             return session.get(cls, id);
         } catch (PersistenceException e) {
             throw new DAOException(e);
@@ -330,7 +366,7 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      */
     @SuppressWarnings("unchecked")
     List<T> retrieveObjects(String query, int first, int max) throws DAOException {
-        try (Session session = HibernateUtil.getSession()) {
+        try (Timer.Sample sample = QUERY_TIMER.start(); Session session = HibernateUtil.getSession()) {
             Query<T> sessionQuery = session.createQuery(query);
             sessionQuery.setFirstResult(first);
             sessionQuery.setMaxResults(max);
@@ -340,6 +376,30 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    /**
+     * Retrieve objects by given query with an ID greater than the given one.
+     * The query must contain the named parameter {@code :lastId}.
+     *
+     * @param query
+     *            string
+     * @param lastId
+     *            value of the parameter {@code :lastId}
+     * @param max
+     *            amount of results
+     * @return constrained list of results
+     */
+    @SuppressWarnings("unchecked")
+    List<T> retrieveObjectsAfter(String query, int lastId, int max) throws DAOException {
+        try (Timer.Sample sample = QUERY_TIMER.start(); Session session = HibernateUtil.getSession()) {
+            Query<T> sessionQuery = session.createQuery(query);
+            sessionQuery.setParameter("lastId", lastId);
+            sessionQuery.setMaxResults(max);
+            return sessionQuery.list();
+        } catch (PersistenceException e) {
+            throw new DAOException(e);
+        }
+    }
+
     /**
      * Retrieve all objects fro given class.
      *
@@ -349,7 +409,7 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      */
     @SuppressWarnings("unchecked")
     List<T> retrieveAllObjects(Class<T> cls) throws DAOException {
-        try (Session session = HibernateUtil.getSession()) {
+        try (Timer.Sample sample = QUERY_TIMER.start(); Session session = HibernateUtil.getSession()) {
             Query<T> query = session.createQuery(String.format("FROM %s ORDER BY id ASC", cls.getSimpleName()));
             return query.list();
         } catch (PersistenceException e) {
@@ -364,7 +424,7 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      *            to persist
      */
     void storeObject(T object) throws DAOException {
-        try (Session session = HibernateUtil.getSession()) {
+        try (Timer.Sample sample = STORE_TIMER.start(); Session session = HibernateUtil.getSession()) {
             Transaction transaction = session.beginTransaction();
             session.saveOrUpdate(object);
             session.flush();
@@ -389,7 +449,7 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
      *            of objects
      */
     void storeList(List<T> list) throws DAOException {
-        try (Session session = HibernateUtil.getSession()) {
+        try (Timer.Sample sample = STORE_TIMER.start(); Session session = HibernateUtil.getSession()) {
             Transaction transaction = session.beginTransaction();
             for (Object obj : list) {
                 session.saveOrUpdate(obj);
@@ -437,6 +497,11 @@ public abstract class BaseDAO<T extends BaseBean> implements Serializable {
         }
     }
 
+    private static Timer getQueryTimer(String operation) {
+        return MetricsRegistry.getInstance().timer("kitodo_database_queries_seconds",
+            "Duration of database queries and updates", "operation", operation);
+    }
+
     private void addParameters(Query<?> query, Map<String, Object> parameters) {
         if (Objects.nonNull(parameters)) {
             for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
@@ -49,6 +49,17 @@ public class BatchDAO extends BaseDAO<Batch> {
             size);
     }
 
+    @Override
+    public List<Batch> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Batch WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Batch> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Batch WHERE (indexAction = 'INDEX' OR indexAction IS NULL)"
+                + " AND id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Batch.class, id);
@@ -42,6 +42,16 @@ public class ClientDAO extends BaseDAO<Client> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<Client> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Client WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Client> getAllNotIndexedAfter(int lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(Integer clientId) throws DAOException {
         removeObject(Client.class, clientId);
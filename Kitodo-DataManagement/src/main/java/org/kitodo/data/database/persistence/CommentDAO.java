@@ -45,6 +45,16 @@ public class CommentDAO extends BaseDAO<Comment> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<Comment> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Comment WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Comment> getAllNotIndexedAfter(int lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(Integer commentId) throws DAOException {
         removeObject(Comment.class, commentId);
@@ -42,6 +42,16 @@ public class DataEditorSettingDAO extends BaseDAO<DataEditorSetting> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<DataEditorSetting> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM DataEditorSetting WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<DataEditorSetting> getAllNotIndexedAfter(int lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(Integer dataEditorSettingId) throws DAOException {
         removeObject(DataEditorSetting.class, dataEditorSettingId);
@@ -43,6 +43,17 @@ public class DocketDAO extends BaseDAO<Docket> {
                 size);
     }
 
+    @Override
+    public List<Docket> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Docket WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Docket> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Docket WHERE (indexAction = 'INDEX' OR indexAction IS NULL)"
+                + " AND id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
     @Override
     public void remove(Integer docketId) throws DAOException {
         removeObject(Docket.class, docketId);
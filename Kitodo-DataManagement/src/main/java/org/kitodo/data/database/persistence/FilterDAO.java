@@ -46,6 +46,17 @@ public class FilterDAO extends BaseDAO<Filter> {
                 size);
     }
 
+    @Override
+    public List<Filter> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Filter WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Filter> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Filter WHERE (indexAction = 'INDEX' OR indexAction IS NULL)"
+                + " AND id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
     @Override
     public void remove(Integer filterId) throws DAOException {
         removeObject(Filter.class, filterId);
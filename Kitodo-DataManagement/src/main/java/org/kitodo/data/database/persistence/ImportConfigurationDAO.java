@@ -68,6 +68,16 @@ public class ImportConfigurationDAO extends BaseDAO<ImportConfiguration> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<ImportConfiguration> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM ImportConfiguration WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<ImportConfiguration> getAllNotIndexedAfter(int lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Removes ImportConfiguration object specified by the given importConfigurationId from the database.
      *
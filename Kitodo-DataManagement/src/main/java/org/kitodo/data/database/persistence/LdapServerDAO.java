@@ -46,4 +46,14 @@ public class LdapServerDAO extends BaseDAO<LdapServer> {
     public List<LdapServer> getAllNotIndexed(int offset, int size) {
         throw new UnsupportedOperationException();
     }
+
+    @Override
+    public List<LdapServer> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM LdapServer WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<LdapServer> getAllNotIndexedAfter(int lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
 }
@@ -60,6 +60,16 @@ public class ListColumnDAO extends BaseDAO<ListColumn> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<ListColumn> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM ListColumn WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<ListColumn> getAllNotIndexedAfter(int lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(Integer listColumnId) throws DAOException {
         removeObject(ListColumn.class, listColumnId);
@@ -68,6 +68,16 @@ public class MappingFileDAO extends BaseDAO<MappingFile> {
         return getAll();
     }
 
+    @Override
+    public List<MappingFile> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM MappingFile WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<MappingFile> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        return getAllAfter(lastId, size);
+    }
+
     /**
      * Removes BaseBean object specified by the given id from the database.
      *
@@ -45,6 +45,19 @@ public class ProcessDAO extends BaseDAO<Process> {
             offset, size);
     }
 
+    @Override
+    public List<Process> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Process WHERE " + getDateFilter("creationDate")
+                + " AND id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Process> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Process WHERE " + getDateFilter("creationDate")
+                + " AND (indexAction = 'INDEX' OR indexAction IS NULL) AND id > :lastId ORDER BY id ASC",
+            lastId, size);
+    }
+
     /**
      * Save process with regard to its progress.
      *
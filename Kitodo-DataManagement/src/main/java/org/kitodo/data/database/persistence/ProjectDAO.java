@@ -43,6 +43,17 @@ public class ProjectDAO extends BaseDAO<Project> {
             offset, size);
     }
 
+    @Override
+    public List<Project> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Project WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Project> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Project WHERE (indexAction = 'INDEX' OR indexAction IS NULL)"
+                + " AND id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Project.class, id);
@@ -48,6 +48,17 @@ public class PropertyDAO extends BaseDAO<Property> {
             offset, size);
     }
 
+    @Override
+    public List<Property> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Property WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Property> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Property WHERE (indexAction = 'INDEX' OR indexAction IS NULL)"
+                + " AND id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
     @Override
     public void remove(Integer propertyId) throws DAOException {
         removeObject(Property.class, propertyId);
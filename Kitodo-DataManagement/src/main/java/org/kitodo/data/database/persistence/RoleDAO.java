@@ -46,6 +46,16 @@ public class RoleDAO extends BaseDAO<Role> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<Role> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Role WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Role> getAllNotIndexedAfter(int lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Role.class, id);
@@ -43,6 +43,17 @@ public class RulesetDAO extends BaseDAO<Ruleset> {
             offset, size);
     }
 
+    @Override
+    public List<Ruleset> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Ruleset WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Ruleset> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Ruleset WHERE (indexAction = 'INDEX' OR indexAction IS NULL)"
+                + " AND id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
     @Override
     public void remove(Integer rulesetId) throws DAOException {
         removeObject(Ruleset.class, rulesetId);
@@ -63,6 +63,16 @@ public class SearchFieldDAO extends BaseDAO<SearchField> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<SearchField> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM SearchField WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<SearchField> getAllNotIndexedAfter(int lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Removes BaseBean object specified by the given searchFieldId from the database.
      *
@@ -58,6 +58,19 @@ public class TaskDAO extends BaseDAO<Task> {
             size);
     }
 
+    @Override
+    public List<Task> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Task WHERE " + getDateFilter("processingBegin")
+                + " AND id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Task> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Task WHERE " + getDateFilter("processingBegin")
+                + " AND (indexAction = 'INDEX' OR indexAction IS NULL) AND id > :lastId ORDER BY id ASC",
+            lastId, size);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Task.class, id);
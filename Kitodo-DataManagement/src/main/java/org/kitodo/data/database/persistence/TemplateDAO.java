@@ -45,6 +45,17 @@ public class TemplateDAO extends BaseDAO<Template> {
             offset, size);
     }
 
+    @Override
+    public List<Template> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Template WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Template> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Template WHERE (indexAction = 'INDEX' OR indexAction IS NULL)"
+                + " AND id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
     /**
      * Save list of templates.
      *
@@ -69,6 +69,16 @@ public class UrlParameterDAO extends BaseDAO<UrlParameter> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<UrlParameter> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM UrlParameter WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<UrlParameter> getAllNotIndexedAfter(int lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Removes a UrlParameter object specified by the given urlParameterId from the database.
      * @param urlParameterId
@@ -45,6 +45,16 @@ public class UserDAO extends BaseDAO<User> {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public List<User> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM User WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<User> getAllNotIndexedAfter(int lastId, int size) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public void remove(User user) throws DAOException {
         user.selfDestruct();
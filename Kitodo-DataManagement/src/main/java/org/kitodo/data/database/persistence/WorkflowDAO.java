@@ -44,6 +44,17 @@ public class WorkflowDAO extends BaseDAO<Workflow> {
             offset, size);
     }
 
+    @Override
+    public List<Workflow> getAllAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Workflow WHERE id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
+    @Override
+    public List<Workflow> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        return retrieveObjectsAfter("FROM Workflow WHERE (indexAction = 'INDEX' OR indexAction IS NULL)"
+                + " AND id > :lastId ORDER BY id ASC", lastId, size);
+    }
+
     @Override
     public void remove(Integer id) throws DAOException {
         removeObject(Workflow.class, id);
@@ -43,6 +43,8 @@ import org.elasticsearch.rest.RestStatus;
 import org.kitodo.config.ConfigMain;
 import org.kitodo.data.elasticsearch.api.RestClientInterface;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.metrics.MetricsRegistry;
+import org.kitodo.metrics.Timer;
 
 /**
  * Implementation of ElasticSearch REST Client for Index Module.
@@ -58,6 +60,18 @@ public abstract class KitodoRestClient implements RestClientInterface {
     public static final List<String> MAPPING_TYPES = Arrays.asList("batch", "docket", "filter", "process", "project",
             "property", "ruleset", "task", "template", "workflow");
 
+    /**
+     * Returns the timer of the requests of an operation to the index.
+     *
+     * @param operation
+     *            operation requested, such as {@code get} or {@code bulk}
+     * @return the timer
+     */
+    protected static Timer getRequestTimer(String operation) {
+        return MetricsRegistry.getInstance().timer("kitodo_elasticsearch_requests_seconds",
+            "Duration of requests to Elasticsearch", "operation", operation);
+    }
+
     /**
      * Create REST client.
      *
@@ -12,6 +12,7 @@
 package org.kitodo.data.elasticsearch.index;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -20,6 +21,7 @@ import javax.ws.rs.HttpMethod;
 import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.nio.entity.NStringEntity;
+import org.elasticsearch.action.DocWriteRequest;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.action.delete.DeleteRequest;
@@ -33,6 +35,9 @@ import org.elasticsearch.client.ResponseException;
 import org.kitodo.data.elasticsearch.KitodoRestClient;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.exceptions.DataException;
+import org.kitodo.metrics.Counter;
+import org.kitodo.metrics.MetricsRegistry;
+import org.kitodo.metrics.Timer;
 
 /**
  * Implementation of ElasticSearch REST Client for index package.
@@ -43,6 +48,12 @@ public class IndexRestClient extends KitodoRestClient {
      * IndexRestClient singleton.
      */
     private static volatile IndexRestClient instance = null;
+
+    private static final Timer BULK_TIMER = getRequestTimer("bulk");
+    private static final Timer DELETE_TIMER = getRequestTimer("delete");
+    private static final Timer INDEX_TIMER = getRequestTimer("index");
+    private static final Counter BULK_DOCUMENTS = MetricsRegistry.getInstance().counter(
+        "kitodo_elasticsearch_bulk_documents_total", "Number of documents sent to Elasticsearch in bulk requests");
     private final Object lock = new Object();
 
     private IndexRestClient() {
@@ -86,11 +97,17 @@ public class IndexRestClient extends KitodoRestClient {
             throws IOException, CustomResponseException {
         IndexRequest indexRequest = new IndexRequest(this.indexBase + "_" + type).source(entity);
         indexRequest.id(String.valueOf(id));
+        if (IndexUnitOfWork.add(indexRequest, forceRefresh)) {
+            return;
+        }
         if (forceRefresh) {
             indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
         }
 
-        IndexResponse indexResponse = highLevelClient.index(indexRequest, RequestOptions.DEFAULT);
+        IndexResponse indexResponse;
+        try (Timer.Sample sample = INDEX_TIMER.start()) {
+            indexResponse = highLevelClient.index(indexRequest, RequestOptions.DEFAULT);
+        }
         processStatusCode(indexResponse.status());
     }
 
@@ -105,8 +122,9 @@ public class IndexRestClient extends KitodoRestClient {
      */
     void addTypeSync(String type, Map<Integer, Map<String, Object>> documentsToIndex) throws CustomResponseException {
         BulkRequest bulkRequest = prepareBulkRequest(type, documentsToIndex);
+        BULK_DOCUMENTS.increment(documentsToIndex.size());
 
-        try {
+        try (Timer.Sample sample = BULK_TIMER.start()) {
             BulkResponse bulkResponse = highLevelClient.bulk(bulkRequest, RequestOptions.DEFAULT);
             if (bulkResponse.hasFailures()) {
                 throw new CustomResponseException(bulkResponse.buildFailureMessage());
@@ -128,16 +146,19 @@ public class IndexRestClient extends KitodoRestClient {
     void addTypeAsync(String type, Map<Integer, Map<String, Object>> documentsToIndex) {
         BulkRequest bulkRequest = prepareBulkRequest(type, documentsToIndex);
 
+        BULK_DOCUMENTS.increment(documentsToIndex.size());
         ResponseListener responseListener = new ResponseListener(type, documentsToIndex.size());
-        highLevelClient.bulkAsync(bulkRequest, RequestOptions.DEFAULT, responseListener);
-
-        synchronized (lock) {
-            while (Objects.isNull(responseListener.getBulkResponse())) {
-                try {
-                    lock.wait(1000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    break;
+        try (Timer.Sample sample = BULK_TIMER.start()) {
+            highLevelClient.bulkAsync(bulkRequest, RequestOptions.DEFAULT, responseListener);
+
+            synchronized (lock) {
+                while (Objects.isNull(responseListener.getBulkResponse())) {
+                    try {
+                        lock.wait(1000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
                 }
             }
         }
@@ -157,11 +178,14 @@ public class IndexRestClient extends KitodoRestClient {
     void deleteDocument(String type, Integer id, boolean forceRefresh) throws CustomResponseException, DataException {
         DeleteRequest deleteRequest = new DeleteRequest(this.indexBase + "_" + type);
         deleteRequest.id(String.valueOf(id));
+        if (IndexUnitOfWork.add(deleteRequest, forceRefresh)) {
+            return;
+        }
         if (forceRefresh) {
             deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
         }
 
-        try {
+        try (Timer.Sample sample = DELETE_TIMER.start()) {
             highLevelClient.delete(deleteRequest, RequestOptions.DEFAULT);
         } catch (ResponseException e) {
             handleResponseException(e);
@@ -170,6 +194,31 @@ public class IndexRestClient extends KitodoRestClient {
         }
     }
 
+    /**
+     * Sends index and delete requests of single documents in one bulk request.
+     *
+     * @param requests
+     *            requests to send
+     * @param refresh
+     *            whether the index is refreshed once after the requests
+     */
+    void performBulkRequest(List<DocWriteRequest<?>> requests, boolean refresh) throws CustomResponseException {
+        BulkRequest bulkRequest = new BulkRequest();
+        requests.forEach(bulkRequest::add);
+        if (refresh) {
+            bulkRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        }
+        BULK_DOCUMENTS.increment(requests.size());
+        try (Timer.Sample sample = BULK_TIMER.start()) {
+            BulkResponse bulkResponse = highLevelClient.bulk(bulkRequest, RequestOptions.DEFAULT);
+            if (bulkResponse.hasFailures()) {
+                throw new CustomResponseException(bulkResponse.buildFailureMessage());
+            }
+        } catch (IOException e) {
+            throw new CustomResponseException(e);
+        }
+    }
+
     /**
      * Enable sorting by text field.
      *
@@ -0,0 +1,132 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.elasticsearch.index;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.elasticsearch.action.DocWriteRequest;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+
+/**
+ * Collects the index and delete requests of single documents, which are issued
+ * by the current thread between {@link #begin()} and {@link #commit()}, and
+ * sends them to the index in bulk requests. If a document is written more than
+ * once, only the last request is sent. The index is refreshed at most once, if
+ * any of the collected requests asked for it.
+ *
+ * <p>Units of work may be nested; the requests are sent when the outermost
+ * unit of work is committed. Each unit of work must be ended by
+ * {@link #end()}, which discards requests not committed, for example after
+ * an exception.</p>
+ *
+ * <p>At most {@link #MAX_BULK_SIZE} requests are held in memory. When
+ * another document is written, the collected requests are sent before the
+ * commit, so a large cascade does not pile up. Requests that have been sent
+ * this way are not discarded by {@link #end()}.</p>
+ */
+public class IndexUnitOfWork {
+
+    /**
+     * Maximum number of requests sent in one bulk request.
+     */
+    static final int MAX_BULK_SIZE = 1000;
+
+    private static final ThreadLocal<IndexUnitOfWork> current = new ThreadLocal<>();
+
+    private final Map<String, DocWriteRequest<?>> requests = new LinkedHashMap<>();
+    private boolean refresh = false;
+    private int depth = 0;
+
+    private IndexUnitOfWork() {
+    }
+
+    /**
+     * Starts collecting the index requests of the current thread.
+     */
+    public static void begin() {
+        IndexUnitOfWork unitOfWork = current.get();
+        if (Objects.isNull(unitOfWork)) {
+            unitOfWork = new IndexUnitOfWork();
+            current.set(unitOfWork);
+        }
+        unitOfWork.depth++;
+    }
+
+    /**
+     * Sends the collected requests to the index, if the outermost unit of
+     * work is committed.
+     *
+     * @throws CustomResponseException
+     *             if a request failed
+     */
+    public static void commit() throws CustomResponseException {
+        IndexUnitOfWork unitOfWork = current.get();
+        if (Objects.isNull(unitOfWork) || unitOfWork.depth > 1 || unitOfWork.requests.isEmpty()) {
+            return;
+        }
+        unitOfWork.flush(unitOfWork.refresh);
+        unitOfWork.refresh = false;
+    }
+
+    /**
+     * Ends a unit of work started with {@link #begin()}. If the outermost unit
+     * of work ends, requests not committed are discarded.
+     */
+    public static void end() {
+        IndexUnitOfWork unitOfWork = current.get();
+        if (Objects.nonNull(unitOfWork) && --unitOfWork.depth == 0) {
+            current.remove();
+        }
+    }
+
+    /**
+     * Adds a request to the unit of work of the current thread, replacing an
+     * earlier request for the same document.
+     *
+     * @param request
+     *            index or delete request of a single document
+     * @param forceRefresh
+     *            whether the index must be refreshed after the request
+     * @return whether the request was added; false if the current thread does
+     *         not run a unit of work, so the request must be sent at once
+     * @throws CustomResponseException
+     *             if the collected requests had to be sent and a request
+     *             failed
+     */
+    static boolean add(DocWriteRequest<?> request, boolean forceRefresh) throws CustomResponseException {
+        IndexUnitOfWork unitOfWork = current.get();
+        if (Objects.isNull(unitOfWork)) {
+            return false;
+        }
+        String key = request.index() + '/' + request.id();
+        if (Objects.isNull(unitOfWork.requests.remove(key)) && unitOfWork.requests.size() >= MAX_BULK_SIZE) {
+            unitOfWork.flush(false);
+        }
+        unitOfWork.requests.put(key, request);
+        unitOfWork.refresh |= forceRefresh;
+        return true;
+    }
+
+    /**
+     * Sends the collected requests in one bulk request. A pending refresh is
+     * left to the commit, which always has at least one request left to send.
+     */
+    private void flush(boolean refresh) throws CustomResponseException {
+        List<DocWriteRequest<?>> pending = new ArrayList<>(requests.values());
+        requests.clear();
+        IndexRestClient.getInstance().performBulkRequest(pending, refresh);
+    }
+}
@@ -107,10 +107,28 @@ public class Indexer<T extends BaseIndexedBean, S extends BaseType> extends Inde
      */
     @SuppressWarnings("unchecked")
     public void performMultipleRequests(List<T> baseIndexedBeans, S baseType, boolean async) throws CustomResponseException {
+        if (method.equals(HttpMethod.PUT)) {
+            performMultipleRequests(baseType.createDocuments(baseIndexedBeans), async);
+        } else {
+            throw new CustomResponseException(INCORRECT_HTTP);
+        }
+    }
+
+    /**
+     * Adds documents which were already created to the index in one bulk
+     * request. This allows to create the documents of the next objects while
+     * the documents of the previous objects are transferred.
+     *
+     * @param documents
+     *            documents to add to index, mapped by the ID of the bean
+     * @param async
+     *            whether the request is performed asynchronously
+     */
+    public void performMultipleRequests(Map<Integer, Map<String, Object>> documents, boolean async)
+            throws CustomResponseException {
         IndexRestClient restClient = initiateRestClient();
 
         if (method.equals(HttpMethod.PUT)) {
-            Map<Integer, Map<String, Object>> documents = baseType.createDocuments(baseIndexedBeans);
             if (async) {
                 restClient.addTypeAsync(this.type, documents);
             } else {
@@ -0,0 +1,110 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.data.elasticsearch.search;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.search.SearchHit;
+import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.data.exceptions.DataException;
+
+/**
+ * Iterates over the documents of a scroll context. The next page is only
+ * requested from the index when all documents of the current page have been
+ * returned, so at most one page is held in memory. The scroll context is
+ * released when the last page has been read or the iterator is closed.
+ */
+class ScrollIterator implements Iterator<Map<String, Object>>, AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ScrollIterator.class);
+
+    private final SearchRestClient restClient;
+    private String scrollId;
+    private SearchHit[] hits;
+    private int position;
+
+    /**
+     * Constructor for an iterator starting with the given first page of a
+     * scroll context.
+     *
+     * @param restClient
+     *            client used to request the following pages
+     * @param firstPage
+     *            response to the request opening the scroll context, may be
+     *            null if nothing was found
+     */
+    ScrollIterator(SearchRestClient restClient, SearchResponse firstPage) {
+        this.restClient = restClient;
+        setPage(firstPage);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (position < hits.length) {
+            return true;
+        }
+        if (Objects.isNull(scrollId)) {
+            return false;
+        }
+        try {
+            setPage(restClient.continueScroll(scrollId));
+        } catch (CustomResponseException | DataException e) {
+            close();
+            throw new IllegalStateException("Could not read next page of documents from index", e);
+        }
+        return position < hits.length;
+    }
+
+    @Override
+    public Map<String, Object> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        SearchHit hit = hits[position++];
+        Map<String, Object> document = hit.hasSource() ? hit.getSourceAsMap() : new HashMap<>();
+        document.put("id", hit.getId());
+        return document;
+    }
+
+    /**
+     * Releases the scroll context if it is still open.
+     */
+    @Override
+    public void close() {
+        if (Objects.nonNull(scrollId)) {
+            try {
+                restClient.clearScroll(scrollId);
+            } catch (CustomResponseException | DataException e) {
+                logger.warn("Could not clear scroll context: " + e.getMessage());
+            }
+            scrollId = null;
+        }
+    }
+
+    private void setPage(SearchResponse page) {
+        position = 0;
+        hits = Objects.nonNull(page) ? page.getHits().getHits() : new SearchHit[0];
+        if (Objects.nonNull(page) && Objects.nonNull(page.getScrollId())) {
+            scrollId = page.getScrollId();
+        }
+        if (hits.length == 0) {
+            close();
+        }
+    }
+}
@@ -25,27 +25,43 @@ import org.apache.http.nio.entity.NStringEntity;
 import org.apache.http.util.EntityUtils;
 import org.elasticsearch.action.get.GetRequest;
 import org.elasticsearch.action.get.GetResponse;
+import org.elasticsearch.action.search.ClearScrollRequest;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.SearchScrollRequest;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.search.SearchHits;
 import org.elasticsearch.search.aggregations.AggregationBuilder;
 import org.elasticsearch.search.aggregations.Aggregations;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.kitodo.data.elasticsearch.KitodoRestClient;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
 import org.kitodo.data.exceptions.DataException;
+import org.kitodo.metrics.Timer;
 
 /**
  * Extension of KitodoRestClient for search package.
  */
 public class SearchRestClient extends KitodoRestClient {
 
+    /**
+     * Time for which the index keeps a scroll context between two pages.
+     */
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
+    private static final Timer AGGREGATE_TIMER = getRequestTimer("aggregate");
+    private static final Timer COUNT_TIMER = getRequestTimer("count");
+    private static final Timer GET_TIMER = getRequestTimer("get");
+    private static final Timer SCROLL_TIMER = getRequestTimer("scroll");
+    private static final Timer SEARCH_TIMER = getRequestTimer("search");
+
     /**
      * SearchRestClient singleton.
      */
@@ -110,7 +126,7 @@ public class SearchRestClient extends KitodoRestClient {
         SearchRequest searchRequest = new SearchRequest(this.indexBase + "_" + type);
         searchRequest.source(sourceBuilder);
 
-        try {
+        try (Timer.Sample sample = AGGREGATE_TIMER.start()) {
             SearchResponse response = highLevelClient.search(searchRequest, RequestOptions.DEFAULT);
             return response.getAggregations();
         } catch (ResponseException e) {
@@ -131,9 +147,29 @@ public class SearchRestClient extends KitodoRestClient {
      * @return http entity as String
      */
     Map<String, Object> getDocument(String type, Integer id) throws CustomResponseException, DataException {
-        try {
+        return getDocument(type, id, null);
+    }
+
+    /**
+     * Get document by id, restricted to the fields of the given projection.
+     *
+     * @param type
+     *            for which request is performed
+     * @param id
+     *            of searched document
+     * @param projection
+     *            fields of the source to include or exclude, null for the
+     *            whole source
+     * @return http entity as String
+     */
+    Map<String, Object> getDocument(String type, Integer id, FetchSourceContext projection)
+            throws CustomResponseException, DataException {
+        try (Timer.Sample sample = GET_TIMER.start()) {
             GetRequest getRequest = new GetRequest(this.indexBase + "_" + type);
             getRequest.id(String.valueOf(id));
+            if (Objects.nonNull(projection)) {
+                getRequest.fetchSourceContext(projection);
+            }
             GetResponse getResponse = highLevelClient.get(getRequest, RequestOptions.DEFAULT);
             if (getResponse.isExists()) {
                 Map<String, Object> response = getResponse.getSourceAsMap();
@@ -165,7 +201,34 @@ public class SearchRestClient extends KitodoRestClient {
      */
     SearchHits getDocument(String type, QueryBuilder query, SortBuilder sort, Integer offset, Integer size)
             throws CustomResponseException, DataException {
+        return getDocument(type, query, sort, offset, size, null);
+    }
+
+    /**
+     * Get document by query with possible sort of results, restricted to the
+     * fields of the given projection.
+     *
+     * @param type
+     *            for which request is performed
+     * @param query
+     *            to find a document
+     * @param sort
+     *            as String with sort conditions
+     * @param offset
+     *            as Integer
+     * @param size
+     *            as Integer
+     * @param projection
+     *            fields of the source to include or exclude, null for the
+     *            whole source
+     * @return http entity as String
+     */
+    SearchHits getDocument(String type, QueryBuilder query, SortBuilder sort, Integer offset, Integer size,
+            FetchSourceContext projection) throws CustomResponseException, DataException {
         SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        if (Objects.nonNull(projection)) {
+            sourceBuilder.fetchSource(projection);
+        }
         sourceBuilder.query(query);
         if (Objects.nonNull(sort)) {
             sourceBuilder.sort(sort);
@@ -182,7 +245,7 @@ public class SearchRestClient extends KitodoRestClient {
         SearchRequest searchRequest = new SearchRequest(this.indexBase + "_" + type);
         searchRequest.source(sourceBuilder);
 
-        try {
+        try (Timer.Sample sample = SEARCH_TIMER.start()) {
             SearchResponse response = highLevelClient.search(searchRequest, RequestOptions.DEFAULT);
             return response.getHits();
         } catch (ResponseException e) {
@@ -193,10 +256,96 @@ public class SearchRestClient extends KitodoRestClient {
         }
     }
 
+    /**
+     * Get the first page of documents matching the given query and open a
+     * scroll context to get the following pages with
+     * {@link #continueScroll(String)}. The scroll context must be released
+     * with {@link #clearScroll(String)}.
+     *
+     * @param type
+     *            for which request is performed
+     * @param query
+     *            to find a document
+     * @param sort
+     *            sort conditions, null to sort by score
+     * @param size
+     *            number of documents per page
+     * @param projection
+     *            fields of the source to include or exclude, null for the
+     *            whole source
+     * @return search response with the first page and the scroll id
+     */
+    SearchResponse startScroll(String type, QueryBuilder query, SortBuilder sort, int size,
+            FetchSourceContext projection) throws CustomResponseException, DataException {
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        if (Objects.nonNull(projection)) {
+            sourceBuilder.fetchSource(projection);
+        }
+        sourceBuilder.query(query);
+        if (Objects.nonNull(sort)) {
+            sourceBuilder.sort(sort);
+        }
+        sourceBuilder.size(size);
+
+        SearchRequest searchRequest = new SearchRequest(this.indexBase + "_" + type);
+        searchRequest.source(sourceBuilder);
+        searchRequest.scroll(SCROLL_KEEP_ALIVE);
+
+        try (Timer.Sample sample = SEARCH_TIMER.start()) {
+            return highLevelClient.search(searchRequest, RequestOptions.DEFAULT);
+        } catch (ResponseException e) {
+            handleResponseException(e);
+            return null;
+        } catch (IOException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Get the next page of documents of a scroll context opened with
+     * {@link #startScroll(String, QueryBuilder, SortBuilder, int, FetchSourceContext)}.
+     *
+     * @param scrollId
+     *            id of the scroll context
+     * @return search response with the next page, which is empty after the
+     *         last page
+     */
+    SearchResponse continueScroll(String scrollId) throws CustomResponseException, DataException {
+        SearchScrollRequest scrollRequest = new SearchScrollRequest(scrollId);
+        scrollRequest.scroll(SCROLL_KEEP_ALIVE);
+        try (Timer.Sample sample = SCROLL_TIMER.start()) {
+            return highLevelClient.scroll(scrollRequest, RequestOptions.DEFAULT);
+        } catch (ResponseException e) {
+            handleResponseException(e);
+            return null;
+        } catch (IOException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Release a scroll context, so that the index does not have to keep it
+     * until it expires.
+     *
+     * @param scrollId
+     *            id of the scroll context
+     */
+    void clearScroll(String scrollId) throws CustomResponseException, DataException {
+        ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+        clearScrollRequest.addScrollId(scrollId);
+        try {
+            highLevelClient.clearScroll(clearScrollRequest, RequestOptions.DEFAULT);
+        } catch (ResponseException e) {
+            handleResponseException(e);
+        } catch (IOException e) {
+            throw new DataException(e);
+        }
+    }
+
     private String performRequest(String type, HttpEntity entity, String httpMethod, String urlRequest)
             throws CustomResponseException, DataException {
         String output = "";
-        try {
+        try (Timer.Sample sample = COUNT_TIMER.start()) {
             Request request = new Request(httpMethod, "/" + indexBase + "_" + type + "/" + urlRequest);
             request.addParameter("pretty", "true");
             request.setEntity(entity);
@@ -17,17 +17,24 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.json.Json;
 import javax.json.JsonObject;
 import javax.json.JsonReader;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchHits;
 import org.elasticsearch.search.aggregations.AggregationBuilder;
 import org.elasticsearch.search.aggregations.Aggregations;
+import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.kitodo.data.elasticsearch.Index;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
@@ -38,6 +45,14 @@ import org.kitodo.data.exceptions.DataException;
  * Module.
  */
 public class Searcher extends Index {
+    private static final Logger logger = LogManager.getLogger(Searcher.class);
+
+    /**
+     * Number of documents returned at most if no size is given. To read more
+     * documents, use {@link #streamDocuments(QueryBuilder, SortBuilder,
+     * FetchSourceContext, int)}.
+     */
+    private static final int DEFAULT_SIZE = 10000;
 
     /**
      * Constructor for searcher with type names equal to table names.
@@ -112,8 +127,23 @@ public class Searcher extends Index {
      * @return JSONObject
      */
     public Map<String, Object> findDocument(Integer id) throws CustomResponseException, DataException {
+        return findDocument(id, null);
+    }
+
+    /**
+     * Find document by id, restricted to the fields of the given projection.
+     *
+     * @param id
+     *            of searched document
+     * @param projection
+     *            fields of the source to include or exclude, null for the
+     *            whole source
+     * @return JSONObject
+     */
+    public Map<String, Object> findDocument(Integer id, FetchSourceContext projection)
+            throws CustomResponseException, DataException {
         SearchRestClient restClient = initiateRestClient();
-        return restClient.getDocument(this.type, id);
+        return restClient.getDocument(this.type, id, projection);
     }
 
     /**
@@ -198,10 +228,34 @@ public class Searcher extends Index {
      */
     public List<Map<String, Object>> findDocuments(QueryBuilder query, SortBuilder sort, Integer offset, Integer size)
             throws CustomResponseException, DataException {
+        return findDocuments(query, sort, offset, size, null);
+    }
+
+    /**
+     * Find many documents by query, sort condition, offset and size of result
+     * set. Only the fields of the given projection are returned, so that large
+     * fields not needed by the caller are not transferred.
+     *
+     * @param query
+     *            as String
+     * @param sort
+     *            as String
+     * @param projection
+     *            fields of the source to include or exclude, null for the
+     *            whole source
+     * @return list of JSON objects
+     */
+    public List<Map<String, Object>> findDocuments(QueryBuilder query, SortBuilder sort, Integer offset, Integer size,
+            FetchSourceContext projection) throws CustomResponseException, DataException {
         SearchRestClient restClient = initiateRestClient();
         List<Map<String, Object>> searchResults = new ArrayList<>();
 
-        SearchHits hits = restClient.getDocument(this.type, query, sort, offset, size);
+        SearchHits hits = restClient.getDocument(this.type, query, sort, offset,
+            Objects.isNull(size) ? DEFAULT_SIZE : size, projection);
+        if (Objects.isNull(size) && hits.getHits().length == DEFAULT_SIZE) {
+            logger.warn("Search in {} was limited to {} documents, use streamDocuments() to read all of them",
+                this.type, DEFAULT_SIZE);
+        }
         for (SearchHit hit : hits.getHits()) {
             Map<String,Object> result = hit.getSourceAsMap();
             result.put("id", hit.getId());
@@ -210,6 +264,40 @@ public class Searcher extends Index {
         return searchResults;
     }
 
+    /**
+     * Stream all documents matching the given query. The documents are read
+     * lazily from the index, page by page, so the number of documents is not
+     * limited by the maximum result window of the index and only one page is
+     * held in memory at a time. The stream must be closed after use to
+     * release the resources held by the index, preferably with a
+     * try-with-resources statement.
+     *
+     * <p>
+     * Errors reading a page after the first one are thrown as
+     * {@link IllegalStateException} when the stream is consumed.
+     *
+     * @param query
+     *            as QueryBuilder
+     * @param sort
+     *            sort conditions, null to sort by score
+     * @param projection
+     *            fields of the source to include or exclude, null for the
+     *            whole source
+     * @param pageSize
+     *            number of documents read from the index at once
+     * @return stream of JSON objects
+     */
+    public Stream<Map<String, Object>> streamDocuments(QueryBuilder query, SortBuilder sort,
+            FetchSourceContext projection, int pageSize) throws CustomResponseException, DataException {
+        SearchRestClient restClient = initiateRestClient();
+        ScrollIterator iterator = new ScrollIterator(restClient,
+                restClient.startScroll(this.type, query, sort, pageSize, projection));
+        return StreamSupport
+                .stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                    false)
+                .onClose(iterator::close);
+    }
+
     private SearchRestClient initiateRestClient() {
         SearchRestClient restClient = SearchRestClient.getInstance();
         restClient.setIndexBase(index);
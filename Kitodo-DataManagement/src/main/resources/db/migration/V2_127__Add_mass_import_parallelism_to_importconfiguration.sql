@@ -0,0 +1,14 @@
+--
+-- (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+--
+-- This file is part of the Kitodo project.
+--
+-- It is licensed under GNU General Public License version 3 or later.
+--
+-- For the full copyright and license information, please read the
+-- GPL3-License.txt file that was distributed with this source code.
+--
+
+--
+-- Migration: Add column for number of parallel catalogue requests during mass import to importconfiguration table.
+ALTER TABLE importconfiguration ADD mass_import_parallelism INT(11) DEFAULT NULL;
@@ -39,6 +39,11 @@ public class RulesetDaoIT {
 
         assertEquals("Objects were not saved or not found!", 3, rulesetDAO.getAll().size());
         assertEquals("Objects were not saved or not found!", 2, rulesetDAO.getAll(1,2).size());
+        assertEquals("Objects were not found after ID!", 2, rulesetDAO.getAllAfter(1, 5).size());
+        assertEquals("Objects were not found after ID!", "second_ruleset",
+            rulesetDAO.getAllAfter(1, 1).get(0).getTitle());
+        assertEquals("Not indexed objects were not found after ID!", 2, rulesetDAO.getAllNotIndexedAfter(0, 5).size());
+        assertEquals("Not indexed objects were not found after ID!", 1, rulesetDAO.getAllNotIndexedAfter(2, 5).size());
         assertEquals("Object was not saved or not found!", "first_ruleset", rulesetDAO.getById(1).getTitle());
 
         rulesetDAO.remove(1);
@@ -122,6 +122,55 @@ public class IndexRestClientIT {
         assertFalse("Delete of document has failed!", isFound(response));
     }
 
+    @Test
+    public void shouldSendRequestsOfUnitOfWorkInBulk() throws Exception {
+        Map<Integer, Map<String, Object>> entities = MockEntity.createEntities();
+        IndexUnitOfWork.begin();
+        try {
+            restClient.addDocument(testTypeName, entities.get(1), 1, true);
+            restClient.addDocument(testTypeName, entities.get(2), 2, true);
+            IndexUnitOfWork.begin();
+            try {
+                restClient.deleteDocument(testTypeName, 2, true);
+                IndexUnitOfWork.commit();
+            } finally {
+                IndexUnitOfWork.end();
+            }
+            assertFalse("Document was added before commit!", isFound(searcher.findDocument(1)));
+            IndexUnitOfWork.commit();
+        } finally {
+            IndexUnitOfWork.end();
+        }
+        assertTrue("Add of document has failed!", isFound(searcher.findDocument(1)));
+        assertFalse("Document deleted in unit of work exists!", isFound(searcher.findDocument(2)));
+
+        IndexUnitOfWork.begin();
+        try {
+            restClient.addDocument(testTypeName, entities.get(3), 3, true);
+        } finally {
+            IndexUnitOfWork.end();
+        }
+        assertFalse("Document of uncommitted unit of work exists!", isFound(searcher.findDocument(3)));
+    }
+
+    @Test
+    public void shouldSendFullChunkOfUnitOfWorkBeforeCommit() throws Exception {
+        Map<String, Object> entity = MockEntity.createEntities().get(1);
+        IndexUnitOfWork.begin();
+        try {
+            for (int id = 1; id <= IndexUnitOfWork.MAX_BULK_SIZE; id++) {
+                restClient.addDocument(testTypeName, entity, id, false);
+            }
+            assertFalse("Document was added before chunk was full!", isFound(searcher.findDocument(1)));
+            restClient.addDocument(testTypeName, entity, IndexUnitOfWork.MAX_BULK_SIZE + 1, false);
+            assertTrue("Full chunk was not sent!", isFound(searcher.findDocument(1)));
+        } finally {
+            IndexUnitOfWork.end();
+        }
+        assertFalse("Document of uncommitted unit of work exists!",
+            isFound(searcher.findDocument(IndexUnitOfWork.MAX_BULK_SIZE + 1)));
+    }
+
     @Test
     public void shouldGetServerInfo() throws Exception {
         System.out.println(restClient.getServerInformation());
@@ -14,8 +14,11 @@ package org.kitodo.data.elasticsearch.search;
 import static org.awaitility.Awaitility.await;
 import static org.junit.Assert.assertEquals;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
@@ -191,6 +194,24 @@ public class SearcherIT {
             getIdFromJSONObject(searcher.findDocuments(query, sort, 1, 2).get(1)).intValue()));
     }
 
+    @Test
+    public void shouldStreamDocumentsByQueryAndSort() {
+        SortBuilder sort = new FieldSortBuilder(TITLE).order(SortOrder.DESC);
+        await().ignoreExceptions().untilAsserted(() -> {
+            try (Stream<Map<String, Object>> documents = searcher.streamDocuments(query, sort, null, 3)) {
+                List<Integer> ids = documents.map(SearcherIT::getIdFromJSONObject).collect(Collectors.toList());
+                assertEquals(WRONG_ID, List.of(2, 4, 3, 1), ids);
+            }
+        });
+
+        QueryBuilder queryNonexistent = QueryBuilders.matchQuery(TITLE, "Nonexistent");
+        await().ignoreExceptions().untilAsserted(() -> {
+            try (Stream<Map<String, Object>> documents = searcher.streamDocuments(queryNonexistent, null, null, 3)) {
+                assertEquals("Incorrect result - size is bigger than 0!", 0, documents.count());
+            }
+        });
+    }
+
     private static IndexRestClient initializeIndexRestClient() {
         IndexRestClient restClient = IndexRestClient.getInstance();
         restClient.setIndexBase(testIndexName);
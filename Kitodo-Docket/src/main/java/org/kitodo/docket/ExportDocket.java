@@ -30,6 +30,7 @@ import org.apache.fop.apps.FopFactory;
 import org.apache.fop.apps.FopFactoryBuilder;
 import org.apache.fop.apps.MimeConstants;
 import org.kitodo.api.docket.DocketData;
+import org.kitodo.utils.TemplatesCache;
 
 /**
  * This class provides generating a run note based on the generated xml log.
@@ -38,6 +39,8 @@ import org.kitodo.api.docket.DocketData;
  */
 public class ExportDocket {
 
+    private static final TemplatesCache templatesCache = new TemplatesCache(TransformerFactory.newInstance(), 32);
+
     File xsltFile;
 
     /**
@@ -91,14 +94,13 @@ public class ExportDocket {
     private byte[] generatePdfBytes(ByteArrayOutputStream out) throws IOException {
         // generate pdf file
         StreamSource source = new StreamSource(new ByteArrayInputStream(out.toByteArray()));
-        StreamSource transformSource = new StreamSource(xsltFile);
         FopFactoryBuilder builder = new FopFactoryBuilder(new File(".").toURI());
         builder.setStrictFOValidation(false);
         FopFactory fopFactory = builder.build();
         ByteArrayOutputStream outStream = new ByteArrayOutputStream();
         // transform xml
         try {
-            Transformer xslTransformer = TransformerFactory.newInstance().newTransformer(transformSource);
+            Transformer xslTransformer = templatesCache.newTransformer(xsltFile);
             Fop fop = fopFactory.newFop(MimeConstants.MIME_PDF, outStream);
             Result res = new SAXResult(fop.getDefaultHandler());
             xslTransformer.transform(source, res);
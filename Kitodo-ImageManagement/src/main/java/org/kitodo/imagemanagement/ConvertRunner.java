@@ -30,6 +30,9 @@ import org.apache.logging.log4j.Logger;
 import org.im4java.core.IMOperation;
 import org.kitodo.config.KitodoConfig;
 import org.kitodo.config.enums.ParameterImageManagement;
+import org.kitodo.metrics.Counter;
+import org.kitodo.metrics.MetricsRegistry;
+import org.kitodo.metrics.Timer;
 
 /**
  * Executes the {@code convert} command.
@@ -53,6 +56,18 @@ class ConvertRunner {
      */
     private static final int DEFAULT_TIMEOUT_MINS = (int) TimeUnit.MINUTES.convert(2, TimeUnit.HOURS);
 
+    /**
+     * Duration of the {@code convert} runs.
+     */
+    private static final Timer CONVERT_TIMER = MetricsRegistry.getInstance().timer("kitodo_imagemagick_seconds",
+        "Duration of ImageMagick convert runs");
+
+    /**
+     * Number of failed {@code convert} runs.
+     */
+    private static final Counter FAILED_CONVERTS = MetricsRegistry.getInstance().counter(
+        "kitodo_imagemagick_failures_total", "Number of ImageMagick convert runs that failed");
+
     /**
      * {@code convert} command, optionally with full path.
      */
@@ -89,12 +104,13 @@ class ConvertRunner {
             command.addArguments(commandLine.toString(), false);
         }
 
-        try {
+        try (Timer.Sample sample = CONVERT_TIMER.start()) {
             logger.debug("Executing: {}", command);
             logger.trace("Timeout: {} mins", timeoutMillis / 60000d);
             executor.execute(command);
             logger.debug("Command output:{}{}", System.lineSeparator(), outAndErr.toString());
         } catch (IOException | RuntimeException e) {
+            FAILED_CONVERTS.increment();
             logger.error("Command output:{}{}", System.lineSeparator(), outAndErr.toString());
             throw e;
         }
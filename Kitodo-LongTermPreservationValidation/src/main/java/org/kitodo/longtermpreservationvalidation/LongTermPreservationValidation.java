@@ -13,9 +13,19 @@ package org.kitodo.longtermpreservationvalidation;
 
 import java.net.URI;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.kitodo.api.validation.ValidationResult;
 import org.kitodo.api.validation.longtermpreservation.FileType;
@@ -48,6 +58,14 @@ public class LongTermPreservationValidation implements LongTermPreservationValid
         "edu.harvard.hul.ois.jhove.module.PdfModule", "com.mcgath.jhove.module.PngModule",
         "edu.harvard.hul.ois.jhove.module.TiffModule");
 
+    /**
+     * Initialized JHOVE instances not currently in use. Initializing JHOVE and
+     * its modules is expensive, so the instances are reused. An instance is
+     * only used by one thread at a time, so the pool grows up to the number of
+     * files validated at the same time.
+     */
+    private static final Queue<KitodoJhoveBase> JHOVE_POOL = new ConcurrentLinkedQueue<>();
+
     /**
      * {@inheritDoc}<!-- . -->
      *
@@ -60,11 +78,70 @@ public class LongTermPreservationValidation implements LongTermPreservationValid
     public ValidationResult validate(URI fileUri, FileType fileType) {
         KitodoOutputHandler result = new KitodoOutputHandler();
         try {
-            KitodoJhoveBase jhoveBase = new KitodoJhoveBase(MODULES);
+            KitodoJhoveBase jhoveBase = JHOVE_POOL.poll();
+            if (Objects.isNull(jhoveBase)) {
+                jhoveBase = new KitodoJhoveBase(MODULES);
+            }
             jhoveBase.validate(fileUri.getPath(), MODULE_NAMES.get(fileType), result);
+            JHOVE_POOL.offer(jhoveBase);
         } catch (Exception e) {
             result.treatException(e);
         }
         return result.toValidationResult();
     }
+
+    /**
+     * {@inheritDoc} The files are validated by a pool of at most
+     * {@code parallelism} threads.
+     *
+     * @param fileUris
+     *            file URIs to validate
+     * @param fileType
+     *            file type to validate
+     * @param parallelism
+     *            maximum number of files validated at the same time
+     */
+    @Override
+    public Map<URI, ValidationResult> validate(Collection<URI> fileUris, FileType fileType, int parallelism) {
+        if (parallelism < 2 || fileUris.size() < 2) {
+            return LongTermPreservationValidationInterface.super.validate(fileUris, fileType, parallelism);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, fileUris.size()));
+        try {
+            Map<URI, Future<ValidationResult>> futures = new LinkedHashMap<>();
+            for (URI fileUri : fileUris) {
+                futures.put(fileUri, executor.submit(() -> validate(fileUri, fileType)));
+            }
+            Map<URI, ValidationResult> validationResults = new LinkedHashMap<>();
+            for (Entry<URI, Future<ValidationResult>> entry : futures.entrySet()) {
+                validationResults.put(entry.getKey(), getValidationResult(entry.getValue()));
+            }
+            return validationResults;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Waits for the validation of a file to complete. If the validation could
+     * not complete, an error result is returned.
+     *
+     * @param future
+     *            pending validation
+     * @return the validation result
+     */
+    private static ValidationResult getValidationResult(Future<ValidationResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            KitodoOutputHandler result = new KitodoOutputHandler();
+            result.treatException(e);
+            return result.toValidationResult();
+        } catch (ExecutionException e) {
+            KitodoOutputHandler result = new KitodoOutputHandler();
+            result.treatException(e);
+            return result.toValidationResult();
+        }
+    }
 }
@@ -19,6 +19,7 @@ import java.net.URISyntaxException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 import org.kitodo.api.validation.State;
@@ -115,4 +116,15 @@ public class LongTermPreservationValidationIT {
         assertEquals(WELL_FORMED_AND_VALID, validationResult.getResultMessages());
     }
 
+    @Test
+    public void testThatSeveralFilesValidateInParallel() {
+        LongTermPreservationValidationInterface validator = new LongTermPreservationValidation();
+        List<URI> fileUris = Arrays.asList(TIF_URI, CORRUPTED_TIF_URI, PNG_URI);
+        Map<URI, ValidationResult> validationResults = validator.validate(fileUris, FileType.TIFF, 2);
+        assertEquals(fileUris, Arrays.asList(validationResults.keySet().toArray()));
+        assertEquals(State.SUCCESS, validationResults.get(TIF_URI).getState());
+        assertEquals(WELL_FORMED_AND_VALID, validationResults.get(TIF_URI).getResultMessages());
+        assertEquals(State.ERROR, validationResults.get(CORRUPTED_TIF_URI).getState());
+        assertEquals(State.ERROR, validationResults.get(PNG_URI).getState());
+    }
 }
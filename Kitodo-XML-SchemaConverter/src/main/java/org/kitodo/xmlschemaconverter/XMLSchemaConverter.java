@@ -13,11 +13,9 @@ package org.kitodo.xmlschemaconverter;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InvalidClassException;
 import java.io.StringReader;
 import java.io.StringWriter;
-import java.nio.file.Files;
 import java.util.List;
 import java.util.Objects;
 import java.util.UnknownFormatConversionException;
@@ -44,11 +42,13 @@ import org.kitodo.api.schemaconverter.FileFormat;
 import org.kitodo.api.schemaconverter.MetadataFormat;
 import org.kitodo.api.schemaconverter.SchemaConverterInterface;
 import org.kitodo.exceptions.ConfigException;
+import org.kitodo.utils.TemplatesCache;
 import org.xml.sax.InputSource;
 
 public class XMLSchemaConverter implements SchemaConverterInterface {
     private static final FileFormat supportedSourceFileFormat = FileFormat.XML;
     private static final FileFormat supportedTargetFileFormat = FileFormat.XML;
+    private static final TemplatesCache templatesCache = new TemplatesCache(createTransformerFactory(), 32);
 
     /**
      * Converts a given DataRecord to the given MetadataFormat 'targetMetadataFormat' and FileFormat 'targetFileFormat'.
@@ -74,9 +74,7 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
                 throw new ConfigException("No mapping files found!");
             } else {
                 for (File mappingFile : mappingFiles) {
-                    try (InputStream fileStream = Files.newInputStream(mappingFile.toPath())) {
-                        xmlString = transformXmlByXslt(xmlString, fileStream);
-                    }
+                    xmlString = transformXmlByXslt(xmlString, mappingFile);
                 }
             }
             conversionResult = xmlString;
@@ -102,7 +100,13 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
         return supportedSourceFileFormat.equals(format);
     }
 
-    private String transformXmlByXslt(String xmlString, InputStream stylesheetFile) {
+    private static TransformerFactory createTransformerFactory() {
+        TransformerFactory transformerFactory = new TransformerFactoryImpl();
+        transformerFactory.setURIResolver((href, base) -> new StreamSource(href.replace("http:", "https:")));
+        return transformerFactory;
+    }
+
+    private String transformXmlByXslt(String xmlString, File stylesheetFile) {
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
         try {
             factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
@@ -112,10 +116,8 @@ public class XMLSchemaConverter implements SchemaConverterInterface {
         factory.setNamespaceAware(true);
         try {
             StringWriter stringWriter = new StringWriter();
-            TransformerFactory transformerFactory = new TransformerFactoryImpl();
-            transformerFactory.setURIResolver((href, base) -> new StreamSource(href.replace("http:", "https:")));
             System.setProperty("http.agent", "Chrome");
-            Transformer xsltTransformer = transformerFactory.newTransformer(new StreamSource(stylesheetFile));
+            Transformer xsltTransformer = templatesCache.newTransformer(stylesheetFile);
             TransformerHandler handler
                     = ((SAXTransformerFactory) SAXTransformerFactory.newInstance()).newTransformerHandler();
             handler.setResult(new StreamResult(stringWriter));
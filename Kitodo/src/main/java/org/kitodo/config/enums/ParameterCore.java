@@ -175,6 +175,28 @@ public enum ParameterCore implements ParameterInterface {
      */
     PROCESS_PROPERTY_SYMLINK_NAME(new Parameter<>("processProperty_symLinkName", "")),
 
+    /*
+     * Script execution
+     */
+
+    /**
+     * Integer, maximum time in seconds a script may run before it is killed.
+     * 0 means no limit.
+     */
+    SCRIPT_TIMEOUT(new Parameter<>("script.timeout", 0)),
+
+    /**
+     * Integer, maximum number of scripts running at the same time. 0 means no
+     * limit.
+     */
+    SCRIPT_MAX_PARALLEL(new Parameter<>("script.maxParallel", 0)),
+
+    /**
+     * Integer, maximum number of instances of the same script running at the
+     * same time. 0 means no limit.
+     */
+    SCRIPT_MAX_PARALLEL_PER_SCRIPT(new Parameter<>("script.maxParallelPerScript", 0)),
+
     /*
      * Runnotes
      */
@@ -213,6 +235,32 @@ public enum ParameterCore implements ParameterInterface {
      */
     DONE_DIRECTORY_NAME(new Parameter<>("image.doneDirectoryName", "fertig/")),
 
+    /**
+     * Number of images generated at the same time by one image generation
+     * task. Integer, defaults to the number of available processors divided
+     * by the limit of tasks run in parallel by the task manager, but at least
+     * 1. A value of 1 generates the images one after another.
+     */
+    IMAGE_GENERATOR_PARALLELISM(new Parameter<UndefinedParameter>("image.generator.parallelism")),
+
+    /**
+     * Length of the longer edge of the thumbnails shown in the gallery of the
+     * metadata editor, in pixels. Integer, defaults to {@code 300}. A value of
+     * 0 shows the preview images as they are.
+     */
+    THUMBNAIL_SIZE(new Parameter<>("thumbnail.size", 300)),
+
+    /**
+     * Number of thumbnails kept in memory. Integer, defaults to {@code 1000}.
+     */
+    THUMBNAIL_MEMORY_CACHE_SIZE(new Parameter<>("thumbnail.memoryCacheSize", 1000)),
+
+    /**
+     * Number of thumbnails kept in the thumbnail folder in the temporary
+     * directory. Integer, defaults to {@code 50000}.
+     */
+    THUMBNAIL_DISK_CACHE_SIZE(new Parameter<>("thumbnail.diskCacheSize", 50000)),
+
     /*
      * VISUAL APPEARANCE
      *
@@ -507,6 +555,24 @@ public enum ParameterCore implements ParameterInterface {
      */
     EXPORT_WITHOUT_TIME_LIMIT(new Parameter<>("exportWithoutTimeLimit", true)),
 
+    /**
+     * Integer, number of files copied at the same time during an export to
+     * the DMS. Defaults to {@code 4}.
+     */
+    EXPORT_COPY_MAX_PARALLEL(new Parameter<>("exportCopy.maxParallel", 4)),
+
+    /**
+     * Whether exported files are hard-linked instead of copied, if source and
+     * target are on the same file system. Boolean, defaults to {@code false}.
+     */
+    EXPORT_COPY_HARD_LINKS(new Parameter<>("exportCopy.hardLinks", false)),
+
+    /**
+     * Whether the checksums of copied files are compared with those of their
+     * sources during an export to the DMS. Boolean, defaults to {@code false}.
+     */
+    EXPORT_COPY_VERIFY_CHECKSUMS(new Parameter<>("exportCopy.verifyChecksums", false)),
+
     /*
      * REMOTE SERVICES
      *
@@ -618,6 +684,24 @@ public enum ParameterCore implements ParameterInterface {
 
     ACTIVE_MQ_TASK_ACTION_QUEUE(new Parameter<UndefinedParameter>("activeMQ.taskAction.queue")),
 
+    /**
+     * Integer, number of messages from the finalize step queue processed at
+     * the same time.
+     */
+    ACTIVE_MQ_FINALIZE_STEP_CONSUMERS(new Parameter<>("activeMQ.finalizeStep.consumers", 1)),
+
+    /**
+     * Integer, number of messages from the task action queue processed at the
+     * same time.
+     */
+    ACTIVE_MQ_TASK_ACTION_CONSUMERS(new Parameter<>("activeMQ.taskAction.consumers", 1)),
+
+    /**
+     * Boolean, whether messages concerning the same process are never
+     * processed at the same time.
+     */
+    ACTIVE_MQ_ORDER_BY_PROCESS(new Parameter<>("activeMQ.orderByProcess", true)),
+
     ACTIVE_MQ_USER(new Parameter<UndefinedParameter>("activeMQ.user")),
 
     ACTIVE_MQ_RESULTS_TOPIC(new Parameter<UndefinedParameter>("activeMQ.results.topic")),
@@ -637,6 +721,13 @@ public enum ParameterCore implements ParameterInterface {
     ELASTICSEARCH_TIME_BETWEEN_ATTEMPTS(new Parameter<>("elasticsearch.timeBetweenAttempts", 2000)),
     ELASTICSEARCH_THREADS(new Parameter<>("elasticsearch.threads", 4)),
 
+    /**
+     * Integer, time in seconds for which the search query built from a filter
+     * is reused. Defaults to {@code 30}. A value of 0 builds the query anew
+     * for every search.
+     */
+    ELASTICSEARCH_FILTER_CACHE_TIME_TO_LIVE(new Parameter<>("elasticsearch.filterCacheTimeToLive", 30)),
+
     /*
      * Security properties
      */
@@ -647,6 +738,13 @@ public enum ParameterCore implements ParameterInterface {
      */
     SECURITY_SECRET_LDAPMANAGERPASSWORD(new Parameter<>("security.secret.ldapManagerPassword", "")),
 
+    /**
+     * Comma-separated IP addresses of the hosts allowed to read the metrics
+     * from {@code /metrics}. Defaults to empty, which disables the metrics
+     * endpoint.
+     */
+    METRICS_ALLOWED_ADDRESSES(new Parameter<>("metrics.allowedAddresses", "")),
+
     /* Optional parameter can be used to limit the number of processes for which media renaming can be conducted as a
      * list function. Values different from positive integers are interpreted as "unlimited".
      */
@@ -15,6 +15,8 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -35,6 +37,9 @@ import org.kitodo.data.elasticsearch.index.converter.ProcessConverter;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.exceptions.ExportException;
 import org.kitodo.exceptions.MetadataException;
+import org.kitodo.metrics.Counter;
+import org.kitodo.metrics.MetricsRegistry;
+import org.kitodo.metrics.Timer;
 import org.kitodo.production.enums.ProcessState;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.VariableReplacer;
@@ -57,6 +62,10 @@ public class ExportDms extends ExportMets {
     private static final Logger logger = LogManager.getLogger(ExportDms.class);
     private static final String EXPORT_DIR_DELETE = "errorDirectoryDeleting";
     private static final String ERROR_EXPORT = "errorExport";
+    private static final Timer EXPORT_TIMER = MetricsRegistry.getInstance().timer("kitodo_export_seconds",
+        "Duration of exports", "type", "dms");
+    private static final Counter SUCCESSFUL_EXPORTS = getExportCounter("success");
+    private static final Counter FAILED_EXPORTS = getExportCounter("failure");
 
     private final FileService fileService = ServiceManager.getFileService();
     private final ProcessService processService = ServiceManager.getProcessService();
@@ -155,9 +164,11 @@ public class ExportDms extends ExportMets {
      */
     public boolean startExport(Process process, ExportDmsTask exportDmsTask) {
         this.exportDmsTask = exportDmsTask;
-        try {
-            return startExport(process,
+        boolean exported = false;
+        try (Timer.Sample sample = EXPORT_TIMER.start()) {
+            exported = startExport(process,
                 processService.readMetadataFile(process).getDigitalDocument());
+            return exported;
         } catch (IOException | DAOException e) {
             if (Objects.nonNull(exportDmsTask)) {
                 exportDmsTask.setException(e);
@@ -166,6 +177,8 @@ public class ExportDms extends ExportMets {
                 Helper.setErrorMessage(ERROR_EXPORT, new Object[] {process.getTitle() }, logger, e);
             }
             return false;
+        } finally {
+            (exported ? SUCCESSFUL_EXPORTS : FAILED_EXPORTS).increment();
         }
     }
 
@@ -440,25 +453,34 @@ public class ExportDms extends ExportMets {
         if (!uriToDestination.endsWith("/")) {
             uriToDestination = uriToDestination.concat("/");
         }
+        ParallelFileCopier copier = new ParallelFileCopier(
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.EXPORT_COPY_MAX_PARALLEL),
+                ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.EXPORT_COPY_HARD_LINKS),
+                ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.EXPORT_COPY_VERIFY_CHECKSUMS));
         for (Subfolder processDir : processDirs) {
             URI dstDir = new URI(uriToDestination
                     + variableReplacer.replace(processDir.getFolder().getRelativePath()));
             fileService.createDirectories(dstDir);
 
-            Collection<URI> srcs = processDir.listContents().values();
-            int progress = 0;
-            for (URI src : srcs) {
-                if (Objects.nonNull(exportDmsTask)) {
-                    exportDmsTask.setWorkDetail(fileService.getFileName(src));
-                }
-                fileService.copyFileToDirectory(src, dstDir);
-                if (Objects.nonNull(exportDmsTask)) {
-                    exportDmsTask.setProgress((int) ((progress++ + 1) * 98d / processDirs.size() / srcs.size() + 1));
-                    if (exportDmsTask.isInterrupted()) {
-                        throw new InterruptedException();
-                    }
-                }
+            Path targetDirectory = fileService.getFile(dstDir).toPath();
+            for (URI src : processDir.listContents().values()) {
+                Path source = Paths.get(src);
+                copier.addFile(source, targetDirectory.resolve(source.getFileName()));
             }
         }
+        copier.copy((copiedBytes, totalBytes, fileName) -> {
+            if (Objects.nonNull(exportDmsTask)) {
+                exportDmsTask.setWorkDetail(fileName);
+                exportDmsTask.setProgress((int) (copiedBytes * 98d / Math.max(totalBytes, 1) + 1));
+                if (exportDmsTask.isInterrupted()) {
+                    throw new InterruptedException();
+                }
+            }
+        });
+    }
+
+    private static Counter getExportCounter(String result) {
+        return MetricsRegistry.getInstance().counter("kitodo_exports_total", "Number of finished exports", "type",
+            "dms", "result", result);
     }
 }
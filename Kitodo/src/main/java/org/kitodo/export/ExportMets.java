@@ -12,20 +12,20 @@
 package org.kitodo.export;
 
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.Objects;
 
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.stream.StreamSource;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.sax.TransformerHandler;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -147,28 +147,57 @@ public class ExportMets {
          * We write to the user’s home directory or to the hotfolder here, not
          * to a content repository, therefore no use of file service.
          */
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            ServiceManager.getMetsService().save(workpiece, out);
-            try (ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(out.toByteArray())) {
-                StreamSource source = new StreamSource(byteArrayInputStream);
-                try (BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(new FileOutputStream(new File(metaFile)))) {
-                    URI xslFile = XsltHelper.getXsltFileFromConfig(process);
-                    if (!Files.exists(Paths.get(xslFile))) {
-                        String message = Helper.getTranslation("xsltFileNotFound", xslFile.toString());
-                        throw new FileNotFoundException(message);
-                    }
-                    bufferedOutputStream.write(XsltHelper.transformXmlByXslt(source, xslFile).toByteArray());
-                } catch (FileNotFoundException | TransformerException e) {
-                    if (Objects.nonNull(exportDmsTask)) {
-                        exportDmsTask.setException(e);
-                    }
-                    Helper.setErrorMessage("Writing Mets file failed!", e.getLocalizedMessage(), logger, e);
-                    return false;
-                }
+        URI xslFile = XsltHelper.getXsltFileFromConfig(process);
+        try {
+            writeTransformedMetsFile(workpiece, xslFile, Paths.get(metaFile));
+        } catch (IOException | TransformerException e) {
+            if (Objects.nonNull(exportDmsTask)) {
+                exportDmsTask.setException(e);
             }
+            Helper.setErrorMessage("Writing Mets file failed!", e.getLocalizedMessage(), logger, e);
+            return false;
         }
 
         Helper.setMessage(process.getTitle() + ": ", "exportFinished");
         return true;
     }
+
+    /**
+     * Writes the workpiece as METS, transformed by the stylesheet, to the
+     * target file. The METS is transformed while it is being marshalled, so
+     * the document is never held in memory as a whole. It is written into a
+     * temporary file next to the target file, which is only moved into place
+     * once the METS file is complete, so that the DMS never picks up a
+     * partial file.
+     *
+     * @param workpiece
+     *            workpiece to write
+     * @param xslFile
+     *            stylesheet to transform the METS with
+     * @param metaFile
+     *            file to write
+     * @throws IOException
+     *             if the stylesheet is missing, or if writing or
+     *             transforming fails
+     * @throws TransformerException
+     *             if the stylesheet cannot be compiled
+     */
+    static void writeTransformedMetsFile(Workpiece workpiece, URI xslFile, Path metaFile)
+            throws IOException, TransformerException {
+        if (!Files.exists(Paths.get(xslFile))) {
+            String message = Helper.getTranslation("xsltFileNotFound", xslFile.toString());
+            throw new FileNotFoundException(message);
+        }
+        // not Files.createTempFile(), which would restrict the exported file to its owner
+        Path temporaryFile = metaFile.resolveSibling(metaFile.getFileName() + ".tmp");
+        try {
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(temporaryFile))) {
+                TransformerHandler transformerHandler = XsltHelper.newTransformerHandler(xslFile, outputStream);
+                ServiceManager.getMetsService().save(workpiece, new SAXResult(transformerHandler));
+            }
+            Files.move(temporaryFile, metaFile, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
 }
@@ -0,0 +1,263 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.export;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Copies files with several threads at once. The files are copied from
+ * channel to channel in chunks, so that the progress can be reported by the
+ * byte and a cancelled copy stops quickly. Optionally, files are hard-linked
+ * instead of copied if source and target are on the same file system, and the
+ * checksums of the copies are compared with those of their sources.
+ */
+public class ParallelFileCopier {
+    private static final Logger logger = LogManager.getLogger(ParallelFileCopier.class);
+
+    /**
+     * Number of bytes transferred at once. After each chunk, the progress is
+     * updated and cancellation is checked.
+     */
+    private static final long CHUNK_SIZE = 8 * 1024 * 1024;
+
+    /**
+     * Interval in which the progress listener is called while copying.
+     */
+    private static final long PROGRESS_INTERVAL_MILLIS = 500;
+
+    private final int parallelism;
+    private final boolean hardLinks;
+    private final boolean verifyChecksums;
+    private final List<Pair<Path, Path>> files = new ArrayList<>();
+    private long totalBytes = 0;
+    private final AtomicLong copiedBytes = new AtomicLong();
+    private volatile String currentFileName;
+    private volatile boolean cancelled = false;
+
+    /**
+     * Receives the progress of the copy.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        /**
+         * Called repeatedly while files are copied, at least once after each
+         * file.
+         *
+         * @param copiedBytes
+         *            number of bytes copied so far
+         * @param totalBytes
+         *            number of bytes to copy
+         * @param fileName
+         *            name of the file copied last, may be null
+         * @throws InterruptedException
+         *             to cancel the copy
+         */
+        void progress(long copiedBytes, long totalBytes, String fileName) throws InterruptedException;
+    }
+
+    /**
+     * Creates a new parallel file copier.
+     *
+     * @param parallelism
+     *            maximum number of files copied at the same time
+     * @param hardLinks
+     *            whether to create hard links instead of copies where possible
+     * @param verifyChecksums
+     *            whether to compare the checksums of the copies with those of
+     *            their sources
+     */
+    public ParallelFileCopier(int parallelism, boolean hardLinks, boolean verifyChecksums) {
+        this.parallelism = Math.max(parallelism, 1);
+        this.hardLinks = hardLinks;
+        this.verifyChecksums = verifyChecksums;
+    }
+
+    /**
+     * Adds a file to copy. An existing target file is replaced.
+     *
+     * @param source
+     *            file to copy
+     * @param target
+     *            path of the copy
+     * @throws IOException
+     *             if the size of the source file cannot be determined
+     */
+    public void addFile(Path source, Path target) throws IOException {
+        totalBytes += Files.size(source);
+        files.add(Pair.of(source, target));
+    }
+
+    /**
+     * Returns the number of bytes to copy.
+     *
+     * @return the total number of bytes
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Copies all added files. Returns when all files have been copied. If one
+     * file cannot be copied or the copy is cancelled, the remaining files are
+     * not copied, and the method returns once the running copies stopped.
+     *
+     * @param progressListener
+     *            receives the progress, may throw an InterruptedException to
+     *            cancel the copy
+     * @throws IOException
+     *             if a file cannot be copied
+     * @throws InterruptedException
+     *             if the copy was cancelled
+     */
+    public void copy(ProgressListener progressListener) throws IOException, InterruptedException {
+        /*
+         * The threads of the pool are created by this thread, so they inherit
+         * its context class loader, which the module loader depends on.
+         */
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(files.size(), 1)));
+        try {
+            List<Future<?>> copies = new ArrayList<>(files.size());
+            for (Pair<Path, Path> file : files) {
+                copies.add(executor.submit(() -> {
+                    copyFile(file.getLeft(), file.getRight());
+                    return null;
+                }));
+            }
+            for (Future<?> copy : copies) {
+                boolean done;
+                do {
+                    done = awaitCopy(copy);
+                    progressListener.progress(copiedBytes.get(), totalBytes, currentFileName);
+                } while (!done);
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new UndeclaredThrowableException(e.getCause());
+        } finally {
+            cancelled = true;
+            executor.shutdownNow();
+            awaitTermination(executor);
+        }
+    }
+
+    /**
+     * Waits for the copies still running to stop, so that no more files are
+     * written after the copy has returned.
+     */
+    private static void awaitTermination(ExecutorService executor) {
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.warn("Copy threads did not stop within a minute");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean awaitCopy(Future<?> copy) throws InterruptedException, ExecutionException {
+        try {
+            copy.get(PROGRESS_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    private void copyFile(Path source, Path target) throws IOException {
+        if (cancelled) {
+            return;
+        }
+        currentFileName = source.getFileName().toString();
+        if (hardLinks && createLink(source, target)) {
+            copiedBytes.addAndGet(Files.size(target));
+            return;
+        }
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                if (cancelled) {
+                    throw new InterruptedIOException("Copying " + source + " was cancelled");
+                }
+                long transferred = in.transferTo(position, Math.min(CHUNK_SIZE, size - position), out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                copiedBytes.addAndGet(transferred);
+            }
+        }
+        Files.setLastModifiedTime(target, Files.getLastModifiedTime(source));
+        if (verifyChecksums && checksum(source) != checksum(target)) {
+            throw new IOException("Checksum of " + target + " does not match the checksum of " + source);
+        }
+    }
+
+    /**
+     * Hard-links the target to the source. This fails if the file system does
+     * not support hard links, or if source and target are on different file
+     * systems.
+     *
+     * @return whether the link was created
+     */
+    private static boolean createLink(Path source, Path target) {
+        try {
+            Files.deleteIfExists(target);
+            Files.createLink(target, source);
+            return true;
+        } catch (IOException | UnsupportedOperationException e) {
+            logger.debug("Cannot link {} to {}, copying it: {}", target, source, e.getMessage());
+            return false;
+        }
+    }
+
+    private static long checksum(Path file) throws IOException {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+}
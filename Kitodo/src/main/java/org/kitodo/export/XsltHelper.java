@@ -12,14 +12,16 @@
 package org.kitodo.export;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.nio.file.Paths;
 import java.util.Objects;
 
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 
@@ -29,9 +31,12 @@ import org.apache.commons.io.FilenameUtils;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Process;
+import org.kitodo.utils.TemplatesCache;
 
 public class XsltHelper {
 
+    private static final TemplatesCache templatesCache = new TemplatesCache(new TransformerFactoryImpl(), 32);
+
     private XsltHelper() {
         // private constructor to hide implicit one
     }
@@ -49,9 +54,7 @@ public class XsltHelper {
             throws TransformerException, IOException {
 
         String xsltPath = xslFile.getPath();
-        StreamSource xsltSource = new StreamSource(xsltPath);
-        TransformerFactory factory = new TransformerFactoryImpl();
-        Transformer transformer = factory.newTransformer(xsltSource);
+        Transformer transformer = templatesCache.newTransformer(new File(xsltPath));
         if (Objects.isNull(transformer)) {
             throw new IllegalArgumentException("Could not create XSLT transformer. Check " + xsltPath + " for errors.");
         }
@@ -62,6 +65,26 @@ public class XsltHelper {
         }
     }
 
+    /**
+     * Creates a transformer handler that transforms an XML document by xslt
+     * while it is being generated. The document is passed to the handler as
+     * SAX events, and the handler writes the result to the given stream.
+     *
+     * @param xslFile
+     *            The xsl file.
+     * @param outputStream
+     *            The stream to write the result of the transformation to.
+     * @return The transformer handler to send the XML document to.
+     */
+    static TransformerHandler newTransformerHandler(URI xslFile, OutputStream outputStream)
+            throws TransformerException {
+
+        String xsltPath = xslFile.getPath();
+        TransformerHandler transformerHandler = templatesCache.newTransformerHandler(new File(xsltPath));
+        transformerHandler.setResult(new StreamResult(outputStream));
+        return transformerHandler;
+    }
+
     static URI getXsltFileFromConfig(Process process) {
         String path = ConfigCore.getParameter(ParameterCore.DIR_XSLT);
         String file = process.getRuleset().getFile().replaceFirst("\\.[Xx][Mm][Ll]$", ".xsl");
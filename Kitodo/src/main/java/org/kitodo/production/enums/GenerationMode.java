@@ -11,8 +11,11 @@
 
 package org.kitodo.production.enums;
 
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
+import org.kitodo.api.validation.ValidationResult;
 import org.kitodo.production.model.Subfolder;
 import org.kitodo.production.services.image.MissingImagesFilterPredicate;
 import org.kitodo.production.services.image.MissingOrDamagedImagesFilterPredicate;
@@ -26,7 +29,8 @@ public enum GenerationMode {
      */
     ALL {
         @Override
-        public Predicate<Subfolder> getFilter(String unused) {
+        public Predicate<Subfolder> getFilter(String unused,
+                Function<Subfolder, Map<String, ValidationResult>> unusedToo) {
             return all -> true;
         }
     },
@@ -36,7 +40,8 @@ public enum GenerationMode {
      */
     MISSING {
         @Override
-        public Predicate<Subfolder> getFilter(String canonical) {
+        public Predicate<Subfolder> getFilter(String canonical,
+                Function<Subfolder, Map<String, ValidationResult>> unused) {
             return new MissingImagesFilterPredicate(canonical);
         }
     },
@@ -47,8 +52,9 @@ public enum GenerationMode {
      */
     MISSING_OR_DAMAGED {
         @Override
-        public Predicate<Subfolder> getFilter(String canonical) {
-            return new MissingOrDamagedImagesFilterPredicate(canonical);
+        public Predicate<Subfolder> getFilter(String canonical,
+                Function<Subfolder, Map<String, ValidationResult>> validationResults) {
+            return new MissingOrDamagedImagesFilterPredicate(canonical, validationResults);
         }
     };
 
@@ -57,7 +63,11 @@ public enum GenerationMode {
      *
      * @param canonical
      *            canonical part of the file name
+     * @param validationResults
+     *            returns the results of validating all files of a folder, by
+     *            canonical part of the file name
      * @return the filter for the generator variant
      */
-    public abstract Predicate<Subfolder> getFilter(String canonical);
+    public abstract Predicate<Subfolder> getFilter(String canonical,
+            Function<Subfolder, Map<String, ValidationResult>> validationResults);
 }
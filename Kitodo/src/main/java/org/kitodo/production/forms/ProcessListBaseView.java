@@ -11,8 +11,6 @@
 
 package org.kitodo.production.forms;
 
-import com.itextpdf.text.DocumentException;
-
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
@@ -375,11 +373,23 @@ public class ProcessListBaseView extends BaseForm {
         try {
             ServiceManager.getProcessService().generateResultAsPdf(this.filter, this.isShowClosedProcesses(),
                     this.isShowInactiveProjects());
-        } catch (IOException | DocumentException e) {
+        } catch (IOException e) {
             Helper.setErrorMessage(ERROR_CREATING, new Object[] {Helper.getTranslation("resultPDF") }, logger, e);
         }
     }
 
+    /**
+     * Generate result as CSV.
+     */
+    public void generateResultAsCsv() {
+        try {
+            ServiceManager.getProcessService().generateResultAsCsv(this.filter, this.isShowClosedProcesses(),
+                    this.isShowInactiveProjects());
+        } catch (IOException e) {
+            Helper.setErrorMessage(ERROR_CREATING, new Object[] {Helper.getTranslation("resultCSV") }, logger, e);
+        }
+    }
+
     /**
      * Download to home for selected processes.
      */
@@ -88,6 +88,7 @@ public class RulesetForm extends BaseForm {
                     return this.stayOnCurrentPage;
                 }
                 ServiceManager.getRulesetService().save(this.ruleset);
+                ServiceManager.getRulesetService().reloadRuleset(this.ruleset.getId());
                 return projectsPage;
             } else {
                 Helper.setErrorMessage("rulesetNotFound", new Object[] {this.ruleset.getFile()});
@@ -109,6 +110,7 @@ public class RulesetForm extends BaseForm {
                 Helper.setErrorMessage("rulesetInUse");
             } else {
                 ServiceManager.getRulesetService().remove(this.ruleset);
+                ServiceManager.getRulesetService().reloadRuleset(this.ruleset.getId());
             }
         } catch (DataException e) {
             Helper.setErrorMessage(ERROR_DELETING, new Object[] {ObjectType.RULESET.getTranslationSingular() }, logger,
@@ -116,6 +118,15 @@ public class RulesetForm extends BaseForm {
         }
     }
 
+    /**
+     * Discards the loaded ruleset, so that changes to its files are read the
+     * next time it is used.
+     */
+    public void reload() {
+        ServiceManager.getRulesetService().reloadRuleset(this.ruleset.getId());
+        Helper.setMessage(Helper.getTranslation("rulesetReloaded", this.ruleset.getTitle()));
+    }
+
     /**
      * Checks that ruleset file exists.
      *
@@ -149,6 +149,8 @@ public class AddDocStrucTypeDialog {
     private void addMultiDocStruc() {
         Optional<LogicalDivision> selectedStructure = dataEditor.getSelectedStructure();
         if (selectedStructure.isPresent()) {
+            List<LogicalDivision> divisionsToUpdate = getDivisionsToUpdate(selectedStructure.get(),
+                Collections.emptyList());
             if (selectedMetadata != "") {
                 MetadataViewInterface metadataView = getMetadataViewFromKey(
                     docStructAddTypeSelectionSelectedItem, selectedMetadata);
@@ -159,7 +161,7 @@ public class AddDocStrucTypeDialog {
                 MetadataEditor.addMultipleStructures(elementsToAddSpinnerValue, docStructAddTypeSelectionSelectedItem,
                     dataEditor.getWorkpiece(), selectedStructure.get(), selectedDocStructPosition);
             }
-            dataEditor.refreshStructurePanel();
+            dataEditor.refreshStructurePanel(divisionsToUpdate, true);
             dataEditor.getPaginationPanel().show();
         }
     }
@@ -171,16 +173,18 @@ public class AddDocStrucTypeDialog {
     private void addSingleDocStruc(boolean selectViews) {
         Optional<LogicalDivision> selectedStructure = dataEditor.getSelectedStructure();
         if (selectedStructure.isPresent()) {
+            List<View> viewsToAdd = getViewsToAdd();
+            List<LogicalDivision> divisionsToUpdate = getDivisionsToUpdate(selectedStructure.get(), viewsToAdd);
             LogicalDivision newStructure = MetadataEditor.addLogicalDivision(docStructAddTypeSelectionSelectedItem,
                     dataEditor.getWorkpiece(), selectedStructure.get(),
-                    selectedDocStructPosition, getViewsToAdd());
+                    selectedDocStructPosition, viewsToAdd);
             dataEditor.getSelectedMedia().clear();
             if (selectViews) {
-                for (View view : getViewsToAdd()) {
+                for (View view : viewsToAdd) {
                     dataEditor.getSelectedMedia().add(new ImmutablePair<>(view.getPhysicalDivision(), newStructure));
                 }
             }
-            dataEditor.refreshStructurePanel();
+            dataEditor.refreshStructurePanel(divisionsToUpdate, true);
             TreeNode selectedLogicalTreeNode = dataEditor.getStructurePanel().updateLogicalNodeSelectionRecursive(newStructure,
                     this.dataEditor.getStructurePanel().getLogicalTree());
             if (Objects.nonNull(selectedLogicalTreeNode)) {
@@ -392,6 +396,29 @@ public class AddDocStrucTypeDialog {
         return selectPageOnAddNodeItems;
     }
 
+    /**
+     * Returns the logical divisions whose children or views change when
+     * structures are added at the selected position. These are the division
+     * that receives the new structures, and the divisions the views to add
+     * are taken from. Must be called before the structures are added.
+     */
+    private List<LogicalDivision> getDivisionsToUpdate(LogicalDivision selectedStructure, List<View> viewsToAdd) {
+        List<LogicalDivision> divisionsToUpdate = new ArrayList<>();
+        if (CURRENT_POSITION.equals(selectedDocStructPosition)
+                || FIRST_CHILD_OF_CURRENT_ELEMENT.equals(selectedDocStructPosition)
+                || LAST_CHILD_OF_CURRENT_ELEMENT.equals(selectedDocStructPosition)) {
+            divisionsToUpdate.add(selectedStructure);
+        } else {
+            LinkedList<LogicalDivision> ancestors = MetadataEditor.getAncestorsOfLogicalDivision(selectedStructure,
+                dataEditor.getWorkpiece().getLogicalStructure());
+            divisionsToUpdate.add(ancestors.isEmpty() ? selectedStructure : ancestors.getLast());
+        }
+        for (View view : viewsToAdd) {
+            divisionsToUpdate.addAll(view.getPhysicalDivision().getLogicalDivisions());
+        }
+        return divisionsToUpdate;
+    }
+
     private List<View> getViewsToAdd() {
         if (Objects.nonNull(preselectedViews) && preselectedViews.size() > 0) {
             return preselectedViews;
@@ -18,6 +18,7 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -169,10 +170,17 @@ public class DataEditorForm implements MetadataTreeTableInterface, RulesetSetupI
     private Workpiece workpiece;
 
     /**
-     * Original state of workpiece. Used to check whether any unsaved changes exist when leaving the editor.
+     * Original state of workpiece. Used to check whether any unsaved changes exist when leaving the editor. It is an
+     * in-memory copy of the workpiece as it was opened or last saved.
      */
     private Workpiece workpieceOriginalState;
 
+    /**
+     * Whether the workpiece has been changed since it was opened or last saved. Once a change has been found, the
+     * workpiece is not compared with its original state again until it is saved.
+     */
+    private boolean unsavedChanges;
+
     /**
      * This List of Pairs stores all selected physical elements and the logical elements in which the physical element was selected.
      * It is necessary to store the logical elements as well, because a physical element can be assigned to multiple logical elements.
@@ -336,7 +344,8 @@ public class DataEditorForm implements MetadataTreeTableInterface, RulesetSetupI
     private boolean openMetsFile() throws IOException, InvalidImagesException, MediaNotFoundException {
         mainFileUri = ServiceManager.getProcessService().getMetadataFileUri(process);
         workpiece = ServiceManager.getMetsService().loadWorkpiece(mainFileUri);
-        workpieceOriginalState = ServiceManager.getMetsService().loadWorkpiece(mainFileUri);
+        workpieceOriginalState = workpiece.copy();
+        unsavedChanges = false;
         if (Objects.isNull(workpiece.getId())) {
             logger.warn("Workpiece has no ID. Cannot verify workpiece ID. Setting workpiece ID.");
             workpiece.setId(process.getId().toString());
@@ -513,7 +522,8 @@ public class DataEditorForm implements MetadataTreeTableInterface, RulesetSetupI
                 } else {
                     PrimeFaces.current().executeScript("PF('notifications').renderMessage({'summary':'"
                             + Helper.getTranslation("metadataSaved") + "','severity':'info'})");
-                    workpieceOriginalState = ServiceManager.getMetsService().loadWorkpiece(mainFileUri);
+                    workpieceOriginalState = workpiece.copy();
+                    unsavedChanges = false;
                     PrimeFaces.current().executeScript("setUnsavedChanges(false);");
                 }
             } catch (IOException e) {
@@ -729,6 +739,49 @@ public class DataEditorForm implements MetadataTreeTableInterface, RulesetSetupI
         galleryPanel.updateStripes();
     }
 
+    /**
+     * Updates the logical structure tree and the gallery stripes after logical
+     * divisions have been changed, without changes to the physical structure.
+     * Only the part of the tree and the stripes below the closest common
+     * ancestor of the divisions are built again.
+     *
+     * @param changed
+     *            the logical divisions whose children or views have changed
+     * @param keepSelection
+     *            if true, keeps the currently selected logical node
+     */
+    void refreshStructurePanel(Collection<LogicalDivision> changed, boolean keepSelection) {
+        refreshStructurePanel(changed, keepSelection, false);
+    }
+
+    /**
+     * Updates the structure trees and the gallery after logical divisions have
+     * been changed, e.g., by drag and drop. The logical structure tree and the
+     * gallery stripes are updated below the closest common ancestor of the
+     * divisions. If the order of the physical divisions has changed as well,
+     * the physical structure tree is built again and the gallery media are
+     * sorted again.
+     *
+     * @param changed
+     *            the logical divisions whose children or views have changed
+     * @param keepSelection
+     *            if true, keeps the currently selected logical node
+     * @param physicalOrderChanged
+     *            whether the order of the physical divisions has changed
+     */
+    void refreshStructurePanel(Collection<LogicalDivision> changed, boolean keepSelection,
+            boolean physicalOrderChanged) {
+        LogicalDivision updated = structurePanel.update(changed, keepSelection);
+        if (Objects.isNull(updated) || physicalOrderChanged && !galleryPanel.sortMedia()) {
+            galleryPanel.updateStripes();
+        } else {
+            galleryPanel.updateStripes(updated);
+        }
+        if (Objects.nonNull(updated) && physicalOrderChanged) {
+            structurePanel.updatePhysicalTree();
+        }
+    }
+
     void setProcess(Process process) {
         this.process = process;
     }
@@ -951,7 +1004,9 @@ public class DataEditorForm implements MetadataTreeTableInterface, RulesetSetupI
      */
     public void checkForChanges() {
         if (Objects.nonNull(PrimeFaces.current())) {
-            boolean unsavedChanges = !this.workpiece.equals(workpieceOriginalState);
+            if (!unsavedChanges) {
+                unsavedChanges = !this.workpiece.equals(workpieceOriginalState);
+            }
             PrimeFaces.current().executeScript("setUnsavedChanges(" + unsavedChanges + ");");
         }
     }
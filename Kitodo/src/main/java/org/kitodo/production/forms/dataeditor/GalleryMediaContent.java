@@ -13,11 +13,10 @@ package org.kitodo.production.forms.dataeditor;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.Optional;
 
 import javax.faces.context.FacesContext;
 import javax.faces.event.PhaseId;
@@ -26,7 +25,10 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.api.dataformat.View;
 import org.kitodo.production.enums.MediaContentType;
+import org.kitodo.production.handler.ByteArrayStreamedContent;
+import org.kitodo.production.handler.FileStreamedContent;
 import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.image.ThumbnailService.Thumbnail;
 import org.primefaces.model.DefaultStreamedContent;
 import org.primefaces.model.StreamedContent;
 
@@ -176,6 +178,10 @@ public class GalleryMediaContent {
      * @return a Primefaces object that handles the output of media data
      */
     StreamedContent getPreviewData() {
+        if (Objects.nonNull(previewMimeType) && previewMimeType.startsWith("image/")
+                && ServiceManager.getThumbnailService().isEnabled()) {
+            return sendThumbnail(previewUri, previewMimeType);
+        }
         return sendData(previewUri, previewMimeType);
     }
 
@@ -238,10 +244,7 @@ public class GalleryMediaContent {
          * that after transferring the data.
          */
         try {
-            InputStream viewData = ServiceManager.getFileService().read(uri);
-            return DefaultStreamedContent.builder().stream(() -> viewData).contentType(mimeType)
-                    .name(Paths.get(uri.getPath()).getFileName().toString()).contentLength(viewData.available())
-                    .build();
+            return new FileStreamedContent(ServiceManager.getFileService().getFile(uri).toPath(), mimeType);
         } catch (IOException e) {
             logger.catching(e);
             String errorpage = "<html>" + System.lineSeparator() + "<h1>Error!</h1>" + System.lineSeparator() + "<p>"
@@ -253,6 +256,35 @@ public class GalleryMediaContent {
         }
     }
 
+    /**
+     * Method for output of a thumbnail of an image. If the image format is
+     * not supported, or the thumbnail cannot be created, the image itself is
+     * sent.
+     *
+     * @param uri
+     *         internal URI of the image
+     * @param mimeType
+     *         the Internet MIME type of the image
+     * @return a Primefaces object that handles the output of the thumbnail
+     */
+    private StreamedContent sendThumbnail(URI uri, String mimeType) {
+        if (FacesContext.getCurrentInstance().getCurrentPhaseId() == PhaseId.RENDER_RESPONSE) {
+            return DefaultStreamedContent.builder().build();
+        }
+        try {
+            Optional<Thumbnail> thumbnail = ServiceManager.getThumbnailService()
+                    .getThumbnail(ServiceManager.getFileService().getFile(uri));
+            if (thumbnail.isPresent()) {
+                return new ByteArrayStreamedContent(thumbnail.get().getName(), thumbnail.get().getContentType(),
+                        thumbnail.get().getData(), thumbnail.get().getLastModified(),
+                        thumbnail.get().getEntityTag());
+            }
+        } catch (IOException e) {
+            logger.warn("Cannot create thumbnail of {}: {}", uri, e.getMessage());
+        }
+        return sendData(uri, mimeType);
+    }
+
     public View getView() {
         return view;
     }
@@ -13,9 +13,11 @@ package org.kitodo.production.forms.dataeditor;
 
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale.LanguageRange;
@@ -86,12 +88,20 @@ public class GalleryPanel {
     private static final Pattern DROP_UNSTRUCTURED_MEDIA_LAST_AREA = Pattern.compile(
             "imagePreviewForm:unstructuredMediaList:(\\d+):unstructuredPageLastDropArea");
 
+    private static final String UNKNOWN_TREE_NODE_ID = "unknown";
+
     private final DataEditorForm dataEditor;
     private GalleryViewMode galleryViewMode = GalleryViewMode.LIST;
     private List<GalleryMediaContent> medias = Collections.emptyList();
 
     private Map<String, GalleryMediaContent> previewImageResolver = new HashMap<>();
 
+    /**
+     * Media contents by their physical divisions, which are compared by identity. The media contents are reused when
+     * the stripes are recreated, as long as the gallery is not shown again.
+     */
+    private Map<PhysicalDivision, GalleryMediaContent> mediaContents = new IdentityHashMap<>();
+
     private Map<MediaContentType, Map<GalleryViewMode, MediaVariant>> mediaContentTypeVariants = new HashMap<>();
 
     private Map<MediaContentType, Subfolder> mediaContentTypePreviewFolder = new HashMap<>();
@@ -215,16 +225,19 @@ public class GalleryPanel {
             PrimeFaces.current().executeScript("$('#loadingScreen').hide();");
             PrimeFaces.current().executeScript("PF('corruptDataWarning').show();");
         }
-        dataEditor.getStructurePanel().show();
+        List<LogicalDivision> changed = viewsToBeMoved.stream().map(Pair::getValue).collect(Collectors.toList());
+        changed.add(toStripe.getStructure());
+        dataEditor.refreshStructurePanel(changed, false, true);
         dataEditor.getPaginationPanel().show();
-        this.updateStripes();
         dataEditor.getSelectedMedia().clear();
 
         // mark previously selected thumbnail in new stripe as selected
+        GalleryStripe updatedToStripe = stripes.stream()
+                .filter(stripe -> stripe.getStructure() == toStripe.getStructure()).findFirst().orElse(toStripe);
         List<View> movedViews = viewsToBeMoved.stream().map(Pair::getKey).collect(Collectors.toList());
-        for (GalleryMediaContent toStripeMedia : toStripe.getMedias()) {
+        for (GalleryMediaContent toStripeMedia : updatedToStripe.getMedias()) {
             if (movedViews.contains(toStripeMedia.getView())) {
-                select(toStripeMedia, toStripe, "multi");
+                select(toStripeMedia, updatedToStripe, "multi");
             }
         }
     }
@@ -369,6 +382,7 @@ public class GalleryPanel {
                 MediaContentType.VIDEO);
 
         medias = new ArrayList<>(physicalDivisions.size());
+        mediaContents = new IdentityHashMap<>();
         stripes = new ArrayList<>();
         dataEditor.getMediaProvider().resetMediaResolverForProcess(process.getId());
         cachingUUID = UUID.randomUUID().toString();
@@ -397,22 +411,52 @@ public class GalleryPanel {
     }
 
     /**
-     * Recreate media list from workpiece, which provides medias in correct order after drag and drop.
+     * Recreate media list from workpiece, which provides medias in correct order after drag and drop. The media
+     * contents of physical divisions already shown are reused.
      */
     private void updateMedia() {
         List<PhysicalDivision> physicalDivisions = dataEditor.getWorkpiece()
                 .getAllPhysicalDivisionChildrenSortedFilteredByPageAndTrack();
         medias = new ArrayList<>(physicalDivisions.size());
+        Map<PhysicalDivision, GalleryMediaContent> previousMediaContents = mediaContents;
+        mediaContents = new IdentityHashMap<>();
         dataEditor.getMediaProvider().resetMediaResolverForProcess(dataEditor.getProcess().getId());
         for (PhysicalDivision physicalDivision : physicalDivisions) {
-            View wholeMediaUnitView = new View();
-            wholeMediaUnitView.setPhysicalDivision(physicalDivision);
-            GalleryMediaContent galleryMediaContent = createGalleryMediaContent(wholeMediaUnitView, null, null);
+            GalleryMediaContent galleryMediaContent = previousMediaContents.get(physicalDivision);
+            if (Objects.isNull(galleryMediaContent)) {
+                View wholeMediaUnitView = new View();
+                wholeMediaUnitView.setPhysicalDivision(physicalDivision);
+                galleryMediaContent = createGalleryMediaContent(wholeMediaUnitView, null, null);
+            } else {
+                galleryMediaContent.setLogicalTreeNodeId(UNKNOWN_TREE_NODE_ID);
+            }
             medias.add(galleryMediaContent);
+            mediaContents.put(physicalDivision, galleryMediaContent);
             dataEditor.getMediaProvider().addMediaContent(dataEditor.getProcess().getId(), galleryMediaContent);
         }
     }
 
+    /**
+     * Sort the media list in the order of the physical divisions of the workpiece, e.g., after pages were moved.
+     * The media contents and their tree node IDs are kept.
+     *
+     * @return false if a physical division has no media content yet, so the media must be recreated
+     */
+    boolean sortMedia() {
+        List<PhysicalDivision> physicalDivisions = dataEditor.getWorkpiece()
+                .getAllPhysicalDivisionChildrenSortedFilteredByPageAndTrack();
+        List<GalleryMediaContent> sortedMedias = new ArrayList<>(physicalDivisions.size());
+        for (PhysicalDivision physicalDivision : physicalDivisions) {
+            GalleryMediaContent galleryMediaContent = mediaContents.get(physicalDivision);
+            if (Objects.isNull(galleryMediaContent)) {
+                return false;
+            }
+            sortedMedias.add(galleryMediaContent);
+        }
+        medias = sortedMedias;
+        return true;
+    }
+
     /**
      * Recreate gallery stripes, e.g., after drag and drop.
      *
@@ -425,6 +469,46 @@ public class GalleryPanel {
         addStripesRecursive(dataEditor.getWorkpiece().getLogicalStructure());
     }
 
+    /**
+     * Recreate the gallery stripes of a logical division and its descendants, e.g., after a division was added or
+     * deleted, or pages were assigned. The other stripes and the media are kept, so if the order of the physical
+     * divisions has changed, the media must be sorted before. If there is no stripe for the division, all stripes are
+     * recreated.
+     *
+     * @param changed
+     *         logical division whose children or views have changed
+     */
+    void updateStripes(LogicalDivision changed) {
+        int first = -1;
+        for (int i = 0; Objects.nonNull(stripes) && i < stripes.size(); i++) {
+            if (stripes.get(i).getStructure() == changed) {
+                first = i;
+                break;
+            }
+        }
+        if (first < 0) {
+            updateStripes();
+            return;
+        }
+        String treeNodeId = stripes.get(first).getLogicalTreeNodeId();
+        int end = first + 1;
+        while (end < stripes.size() && stripes.get(end).getLogicalTreeNodeId().startsWith(treeNodeId + '_')) {
+            end++;
+        }
+        List<GalleryStripe> subtreeStripes = stripes.subList(first, end);
+        for (GalleryStripe stripe : subtreeStripes) {
+            for (GalleryMediaContent galleryMediaContent : stripe.getMedias()) {
+                galleryMediaContent.setLogicalTreeNodeId(UNKNOWN_TREE_NODE_ID);
+            }
+        }
+        subtreeStripes.clear();
+        List<GalleryStripe> updatedStripes = new ArrayList<>();
+        List<Integer> treeNodeIdList = Arrays.stream(treeNodeId.split("_")).map(Integer::valueOf)
+                .collect(Collectors.toList());
+        addStripesRecursive(changed, treeNodeIdList, updatedStripes);
+        subtreeStripes.addAll(updatedStripes);
+    }
+
     private static MediaVariant getMediaVariant(Folder folderSettings, List<PhysicalDivision> physicalDivisions) {
         String use = folderSettings.getFileGroup();
         Optional<MediaVariant> optionalMediaVariant = physicalDivisions.parallelStream().map(PhysicalDivision::getMediaFiles)
@@ -450,13 +534,14 @@ public class GalleryPanel {
             idx = dataEditor.getStructurePanel().getNumberOfParentLinkRootNodesAdded();
         }
         treeNodeIdList.add(idx);
-        addStripesRecursive(structure, treeNodeIdList);
+        addStripesRecursive(structure, treeNodeIdList, stripes);
     }
 
-    private void addStripesRecursive(LogicalDivision structure, List<Integer> treeNodeIdList) {
+    private void addStripesRecursive(LogicalDivision structure, List<Integer> treeNodeIdList,
+            List<GalleryStripe> result) {
         String stripeTreeNodeId = treeNodeIdList.stream().map(String::valueOf).collect(Collectors.joining("_"));
         GalleryStripe galleryStripe = new GalleryStripe(this, structure, stripeTreeNodeId);
-        stripes.add(galleryStripe);
+        result.add(galleryStripe);
 
         int siblingWithViewsIdx = 0;
         int siblingWithoutViewsIdx = 0;
@@ -472,23 +557,21 @@ public class GalleryPanel {
                     } else {
                         childTreeNodeIdList.add(siblingWithViewsIdx);
                     }
-                    addStripesRecursive(child, childTreeNodeIdList);
+                    addStripesRecursive(child, childTreeNodeIdList, result);
                 }
                 siblingWithViewsIdx += 1;
                 siblingWithoutViewsIdx += 1;
             } else {
                 // add view
-                for (GalleryMediaContent galleryMediaContent : medias) {
-                    if (Objects.equals(view.getPhysicalDivision(), galleryMediaContent.getView().getPhysicalDivision())) {
-                        galleryStripe.getMedias().add(galleryMediaContent);
-                        List<Integer> viewTreeNodeIdList = new ArrayList<>(treeNodeIdList);
-                        viewTreeNodeIdList.add(siblingWithViewsIdx);
-                        String viewTreeNodeId = viewTreeNodeIdList.stream().map(String::valueOf).collect(Collectors.joining("_"));
-                        galleryMediaContent.setLogicalTreeNodeId(viewTreeNodeId);
-                        dataEditor.getMediaProvider().addMediaContent(dataEditor.getProcess().getId(), galleryMediaContent);
-                        siblingWithViewsIdx += 1;
-                        break;
-                    }
+                GalleryMediaContent galleryMediaContent = mediaContents.get(view.getPhysicalDivision());
+                if (Objects.nonNull(galleryMediaContent)) {
+                    galleryStripe.getMedias().add(galleryMediaContent);
+                    List<Integer> viewTreeNodeIdList = new ArrayList<>(treeNodeIdList);
+                    viewTreeNodeIdList.add(siblingWithViewsIdx);
+                    String viewTreeNodeId = viewTreeNodeIdList.stream().map(String::valueOf).collect(Collectors.joining("_"));
+                    galleryMediaContent.setLogicalTreeNodeId(viewTreeNodeId);
+                    dataEditor.getMediaProvider().addMediaContent(dataEditor.getProcess().getId(), galleryMediaContent);
+                    siblingWithViewsIdx += 1;
                 }
             }
         }
@@ -544,7 +627,7 @@ public class GalleryPanel {
             canonical = dataEditor.getStructurePanel().findCanonicalIdForView(view);
         }
 
-        String treeNodeId = "unknown";
+        String treeNodeId = UNKNOWN_TREE_NODE_ID;
         if (Objects.nonNull(stripeTreeNodeId) && Objects.nonNull(index)) {
             treeNodeId = stripeTreeNodeId + "_" + index;
         }
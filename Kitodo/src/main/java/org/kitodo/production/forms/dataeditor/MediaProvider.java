@@ -11,9 +11,9 @@
 
 package org.kitodo.production.forms.dataeditor;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.faces.context.FacesContext;
@@ -28,7 +28,8 @@ import org.primefaces.model.StreamedContent;
 
 
 /**
- * Application scoped media provider bean.
+ * Application scoped media provider bean. As it is shared by all sessions, the
+ * media resolver is safe to be used by several threads at once.
  */
 @ApplicationScoped
 @Named
@@ -36,7 +37,7 @@ public class MediaProvider {
 
     private static final Logger logger = LogManager.getLogger(MediaProvider.class);
 
-    private final Map<Integer, Map<String, GalleryMediaContent>> mediaResolver = new HashMap<>();
+    private final Map<Integer, Map<String, GalleryMediaContent>> mediaResolver = new ConcurrentHashMap<>();
 
     private static final String PREVIEW = "preview";
 
@@ -48,11 +49,7 @@ public class MediaProvider {
      * @return value of media resolver
      */
     public Map<String, GalleryMediaContent> getMediaResolver(int processId) {
-        if (!mediaResolver.containsKey(processId)) {
-            mediaResolver.put(processId, new HashMap<>());
-
-        }
-        return mediaResolver.get(processId);
+        return mediaResolver.computeIfAbsent(processId, unused -> new ConcurrentHashMap<>());
     }
 
     /**
@@ -120,10 +117,10 @@ public class MediaProvider {
             String processIdString = context.getExternalContext().getRequestParameterMap().get("process");
             try {
                 int processId = Integer.parseInt(processIdString);
-                if (mediaResolver.containsKey(processId)) {
+                Map<String, GalleryMediaContent> processPreviewData = mediaResolver.get(processId);
+                if (Objects.nonNull(processPreviewData)) {
                     String id = context.getExternalContext().getRequestParameterMap().get("mediaId");
-                    Map<String, GalleryMediaContent> processPreviewData = mediaResolver.get(processId);
-                    GalleryMediaContent mediaContent = processPreviewData.get(id);
+                    GalleryMediaContent mediaContent = Objects.nonNull(id) ? processPreviewData.get(id) : null;
                     if (Objects.nonNull(mediaContent)) {
                         logger.trace("Serving image request {}", id);
                         if (PREVIEW.equals(mediaVariant)) {
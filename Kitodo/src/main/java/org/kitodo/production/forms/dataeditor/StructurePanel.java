@@ -15,11 +15,13 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -95,14 +97,16 @@ public class StructurePanel implements Serializable {
     private DefaultTreeNode physicalTree = null;
 
     /**
-     * HashMap containing the current expansion states of all TreeNodes in the logical structure tree.
+     * Map containing the current expansion states of all TreeNodes in the logical structure tree. The divisions are
+     * compared by identity, as their hash codes cover all their descendants and change whenever these are edited.
      */
-    private HashMap<LogicalDivision, Boolean> previousExpansionStatesLogicalTree;
+    private Map<LogicalDivision, Boolean> previousExpansionStatesLogicalTree;
 
     /**
-     * HashMap containing the current expansion states of all TreeNodes in the physical structure tree.
+     * Map containing the current expansion states of all TreeNodes in the physical structure tree, by identity of
+     * the divisions.
      */
-    private HashMap<PhysicalDivision, Boolean> previousExpansionStatesPhysicalTree;
+    private Map<PhysicalDivision, Boolean> previousExpansionStatesPhysicalTree;
 
     /**
      * HashMap acting as cache for faster retrieval of Subfolders.
@@ -204,8 +208,7 @@ public class StructurePanel implements Serializable {
         parent.getViews().sort(Comparator.comparingInt(v -> v.getPhysicalDivision().getOrder()));
 
         parent.getChildren().remove(selectedStructure);
-        show();
-        dataEditor.getGalleryPanel().updateStripes();
+        dataEditor.refreshStructurePanel(Collections.singletonList(parent), false);
     }
 
     private void getAllSubViews(LogicalDivision selectedStructure, Collection<View> views) {
@@ -486,15 +489,187 @@ public class StructurePanel implements Serializable {
         this.logicalTree = buildStructureTree();
         updateLogicalNodeExpansionStates(this.logicalTree, this.previousExpansionStatesLogicalTree);
 
+        this.selectedLogicalNode = logicalTree.getChildren().get(logicalTree.getChildCount() - 1);
+        this.previouslySelectedLogicalNode = selectedLogicalNode;
+        updatePhysicalTree();
+        dataEditor.checkForChanges();
+    }
+
+    /**
+     * Builds the physical structure tree again and selects its root, e.g.,
+     * after the order of the physical divisions changed. The logical
+     * structure tree is kept.
+     */
+    void updatePhysicalTree() {
         this.previousExpansionStatesPhysicalTree = getPhysicalTreeNodeExpansionStates(this.physicalTree);
         this.physicalTree = buildMediaTree(dataEditor.getWorkpiece().getPhysicalStructure());
         updatePhysicalNodeExpansionStates(this.physicalTree, this.previousExpansionStatesPhysicalTree);
-
-        this.selectedLogicalNode = logicalTree.getChildren().get(logicalTree.getChildCount() - 1);
         this.selectedPhysicalNode = physicalTree.getChildren().get(0);
-        this.previouslySelectedLogicalNode = selectedLogicalNode;
         this.previouslySelectedPhysicalNode = selectedPhysicalNode;
+    }
+
+    /**
+     * Updates the logical structure tree after logical divisions or their
+     * descendants have been changed, without changes to the physical
+     * structure. Only the subtree of the closest common ancestor of the
+     * divisions is built again, the rest of the logical tree and the physical
+     * tree are kept. If one of the divisions is not shown in the tree, both
+     * trees are built again completely.
+     *
+     * @param changed
+     *            the logical divisions whose children or views have changed
+     * @param keepSelection
+     *            if true, keeps the currently selected node
+     * @return the logical division whose subtree was built again, or null if
+     *         the trees were built again completely
+     */
+    LogicalDivision update(Collection<LogicalDivision> changed, boolean keepSelection) {
+        String logicalRowKey = Objects.nonNull(selectedLogicalNode) ? selectedLogicalNode.getRowKey() : null;
+        LogicalDivision updated = updateLogicalSubtree(changed);
+        if (Objects.isNull(updated)) {
+            show(keepSelection);
+            return null;
+        }
+        TreeNode rootNode = logicalTree.getChildren().get(logicalTree.getChildCount() - 1);
+        TreeNode selection = rootNode;
+        if (keepSelection && Objects.nonNull(logicalRowKey)) {
+            selection = isInTree(selectedLogicalNode, logicalTree) ? selectedLogicalNode
+                    : findNodeByRowKey(logicalRowKey, logicalTree);
+            if (Objects.isNull(selection)) {
+                selection = rootNode;
+            } else {
+                selection.setSelected(true);
+            }
+        } else if (Objects.nonNull(selectedLogicalNode)) {
+            selectedLogicalNode.setSelected(false);
+        }
+        this.selectedLogicalNode = selection;
+        this.previouslySelectedLogicalNode = selection;
         dataEditor.checkForChanges();
+        return updated;
+    }
+
+    /**
+     * Builds the subtree of the closest common ancestor of logical divisions
+     * in the logical structure tree again, and updates the labels of its
+     * ancestors. If the views shown in the subtree changed, the subtree of its
+     * parent is built again, because the parent shows those of its views that
+     * are not shown on a child.
+     *
+     * @param changed
+     *            the logical divisions whose children or views have changed
+     * @return the logical division whose subtree was built again, or null if
+     *         one of the divisions is not shown in the tree
+     */
+    LogicalDivision updateLogicalSubtree(Collection<LogicalDivision> changed) {
+        if (Objects.isNull(logicalTree) || changed.isEmpty()
+                || structure != dataEditor.getWorkpiece().getLogicalStructure()) {
+            return null;
+        }
+        TreeNode treeNode = null;
+        for (LogicalDivision logicalDivision : changed) {
+            TreeNode logicalNode = findLogicalNode(logicalDivision, logicalTree);
+            if (Objects.isNull(logicalNode)) {
+                return null;
+            }
+            treeNode = Objects.isNull(treeNode) ? logicalNode : getCommonAncestor(treeNode, logicalNode);
+        }
+        LogicalDivision division = getTreeNodeStructuralElement(treeNode);
+        while (true) {
+            final Set<PhysicalDivision> shownBefore = getShownPhysicalDivisions(treeNode,
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+            this.previousExpansionStatesLogicalTree = getLogicalTreeNodeExpansionStatesRecursively(treeNode,
+                new IdentityHashMap<>());
+            treeNode.getChildren().clear();
+            ((DefaultTreeNode) treeNode).setData(buildStructureTreeNode(division));
+            buildStructureTreeChildren(division, (DefaultTreeNode) treeNode);
+            updateNodeExpansionStatesRecursively(treeNode, this.previousExpansionStatesLogicalTree);
+            Set<PhysicalDivision> shownAfter = getShownPhysicalDivisions(treeNode,
+                Collections.newSetFromMap(new IdentityHashMap<>()));
+            LogicalDivision parent = getTreeNodeStructuralElement(treeNode.getParent());
+            if (shownBefore.equals(shownAfter) || Objects.isNull(parent)) {
+                break;
+            }
+            treeNode = treeNode.getParent();
+            division = parent;
+        }
+        for (TreeNode ancestor = treeNode.getParent(); Objects.nonNull(ancestor)
+                && Objects.nonNull(getTreeNodeStructuralElement(ancestor)); ancestor = ancestor.getParent()) {
+            ((DefaultTreeNode) ancestor).setData(buildStructureTreeNode(getTreeNodeStructuralElement(ancestor)));
+        }
+        return division;
+    }
+
+    private Set<PhysicalDivision> getShownPhysicalDivisions(TreeNode treeNode, Set<PhysicalDivision> shown) {
+        for (TreeNode child : treeNode.getChildren()) {
+            if (child.getData() instanceof StructureTreeNode
+                    && ((StructureTreeNode) child.getData()).getDataObject() instanceof View) {
+                shown.add(((View) ((StructureTreeNode) child.getData()).getDataObject()).getPhysicalDivision());
+            }
+            getShownPhysicalDivisions(child, shown);
+        }
+        return shown;
+    }
+
+    private static TreeNode getCommonAncestor(TreeNode treeNode, TreeNode other) {
+        Set<TreeNode> ancestors = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (TreeNode ancestor = treeNode; Objects.nonNull(ancestor); ancestor = ancestor.getParent()) {
+            ancestors.add(ancestor);
+        }
+        TreeNode commonAncestor = other;
+        while (!ancestors.contains(commonAncestor)) {
+            commonAncestor = commonAncestor.getParent();
+        }
+        return commonAncestor;
+    }
+
+    private TreeNode findLogicalNode(LogicalDivision logicalDivision, TreeNode treeNode) {
+        if (getTreeNodeStructuralElement(treeNode) == logicalDivision) {
+            return treeNode;
+        }
+        for (TreeNode child : treeNode.getChildren()) {
+            TreeNode found = findLogicalNode(logicalDivision, child);
+            if (Objects.nonNull(found)) {
+                return found;
+            }
+        }
+        return null;
+    }
+
+    private static TreeNode findNodeByRowKey(String rowKey, TreeNode treeNode) {
+        for (TreeNode child : treeNode.getChildren()) {
+            if (rowKey.equals(child.getRowKey())) {
+                return child;
+            }
+            if (rowKey.startsWith(child.getRowKey() + '_')) {
+                return findNodeByRowKey(rowKey, child);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a tree node is still part of a tree. Nodes removed from
+     * the tree still refer to their former parent, so it must be checked that
+     * each parent still contains the node.
+     */
+    private static boolean isInTree(TreeNode treeNode, TreeNode tree) {
+        for (TreeNode node = treeNode; node != tree; node = node.getParent()) {
+            TreeNode parent = node.getParent();
+            if (Objects.isNull(parent) || !containsNode(parent, node)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsNode(TreeNode parent, TreeNode node) {
+        for (TreeNode child : parent.getChildren()) {
+            if (child == node) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private void restoreSelection(String rowKey, TreeNode parentNode) {
@@ -596,7 +771,17 @@ public class StructurePanel implements Serializable {
         if (logicalNodeStateUnknown(this.previousExpansionStatesLogicalTree, parent)) {
             parent.setExpanded(true);
         }
+        return buildStructureTreeChildren(structure, parent);
+    }
 
+    /**
+     * Adds the children and views of a logical division to its tree node.
+     *
+     * @param structure the logical division
+     * @param parent the tree node of the logical division
+     * @return a collection of views that contains all views of the full sub-tree
+     */
+    private Collection<View> buildStructureTreeChildren(LogicalDivision structure, DefaultTreeNode parent) {
         Set<View> viewsShowingOnAChild = new HashSet<>();
         if (!this.logicalStructureTreeContainsMedia()) {
             for (LogicalDivision child : structure.getChildren()) {
@@ -1197,9 +1382,8 @@ public class StructurePanel implements Serializable {
                 // FIXME waiting for PrimeFaces' tree drop index bug to be fixed.
                 // Until fixed dropping nodes onto other nodes will produce random drop indices.
                 preserveLogicalAndPhysical();
-                show();
-                expandNode(event.getDropNode());
-                dataEditor.getGalleryPanel().updateStripes();
+                dataEditor.refreshStructurePanel(Arrays.asList((LogicalDivision) dragParentTreeNode.getDataObject(),
+                    (LogicalDivision) dropNode.getDataObject()), false, true);
                 dataEditor.getPaginationPanel().show();
                 return;
             } else {
@@ -1395,13 +1579,17 @@ public class StructurePanel implements Serializable {
             if (!dragParents.isEmpty()) {
                 LogicalDivision parentStructure = dragParents.get(dragParents.size() - 1);
                 if (parentStructure.getChildren().contains(dragStructure)) {
-                    if (logicalStructureTreeContainsMedia()) {
+                    // pages shown in the logical tree are numbered in the order of the tree
+                    boolean physicalOrderChanged = logicalStructureTreeContainsMedia();
+                    if (physicalOrderChanged) {
                         preserveLogicalAndPhysical();
                     } else {
                         preserveLogical();
                     }
-                    this.dataEditor.getGalleryPanel().updateStripes();
+                    this.dataEditor.refreshStructurePanel(Arrays.asList(parentStructure, dropStructure), false,
+                        physicalOrderChanged);
                     this.dataEditor.getPaginationPanel().show();
+                    return;
                 } else {
                     Helper.setErrorMessage(Helper.getTranslation("dataEditor.childNotContainedError",
                         dragNode.getLabel()));
@@ -1524,63 +1712,63 @@ public class StructurePanel implements Serializable {
         }
     }
 
-    private HashMap<LogicalDivision, Boolean> getLogicalTreeNodeExpansionStates(DefaultTreeNode tree) {
+    private Map<LogicalDivision, Boolean> getLogicalTreeNodeExpansionStates(DefaultTreeNode tree) {
         if (Objects.nonNull(tree) && tree.getChildCount() == 1) {
             TreeNode treeRoot = tree.getChildren().get(0);
             LogicalDivision structuralElement = getTreeNodeStructuralElement(treeRoot);
             if (Objects.nonNull(structuralElement)) {
-                return getLogicalTreeNodeExpansionStatesRecursively(treeRoot, new HashMap<>());
+                return getLogicalTreeNodeExpansionStatesRecursively(treeRoot, new IdentityHashMap<>());
             }
         }
-        return new HashMap<>();
+        return new IdentityHashMap<>();
     }
 
-    private HashMap<LogicalDivision, Boolean> getLogicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
-            HashMap<LogicalDivision, Boolean> expansionStates) {
+    private Map<LogicalDivision, Boolean> getLogicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
+            Map<LogicalDivision, Boolean> expansionStates) {
         if (Objects.nonNull(treeNode)) {
             LogicalDivision structureData = getTreeNodeStructuralElement(treeNode);
             if (Objects.nonNull(structureData)) {
                 expansionStates.put(structureData, treeNode.isExpanded());
                 for (TreeNode childNode : treeNode.getChildren()) {
-                    expansionStates.putAll(getLogicalTreeNodeExpansionStatesRecursively(childNode, expansionStates));
+                    getLogicalTreeNodeExpansionStatesRecursively(childNode, expansionStates);
                 }
             }
         }
         return expansionStates;
     }
 
-    private HashMap<PhysicalDivision, Boolean> getPhysicalTreeNodeExpansionStates(DefaultTreeNode tree) {
+    private Map<PhysicalDivision, Boolean> getPhysicalTreeNodeExpansionStates(DefaultTreeNode tree) {
         if (Objects.nonNull(tree) && tree.getChildCount() == 1) {
             TreeNode treeRoot = tree.getChildren().get(0);
             PhysicalDivision physicalDivision = getTreeNodePhysicalDivision(treeRoot);
             if (Objects.nonNull(physicalDivision)) {
-                return getPhysicalTreeNodeExpansionStatesRecursively(treeRoot, new HashMap<>());
+                return getPhysicalTreeNodeExpansionStatesRecursively(treeRoot, new IdentityHashMap<>());
             }
         }
-        return new HashMap<>();
+        return new IdentityHashMap<>();
     }
 
-    private HashMap<PhysicalDivision, Boolean> getPhysicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
-            HashMap<PhysicalDivision, Boolean> expansionStates) {
+    private Map<PhysicalDivision, Boolean> getPhysicalTreeNodeExpansionStatesRecursively(TreeNode treeNode,
+            Map<PhysicalDivision, Boolean> expansionStates) {
         if (Objects.nonNull(treeNode)) {
             PhysicalDivision physicalDivision = getTreeNodePhysicalDivision(treeNode);
             if (Objects.nonNull(physicalDivision)) {
                 expansionStates.put(physicalDivision, treeNode.isExpanded());
                 for (TreeNode childNode : treeNode.getChildren()) {
-                    expansionStates.putAll(getPhysicalTreeNodeExpansionStatesRecursively(childNode, expansionStates));
+                    getPhysicalTreeNodeExpansionStatesRecursively(childNode, expansionStates);
                 }
             }
         }
         return expansionStates;
     }
 
-    private void updateLogicalNodeExpansionStates(DefaultTreeNode tree, HashMap<LogicalDivision, Boolean> expansionStates) {
+    private void updateLogicalNodeExpansionStates(DefaultTreeNode tree, Map<LogicalDivision, Boolean> expansionStates) {
         if (Objects.nonNull(tree) && Objects.nonNull(expansionStates) && !expansionStates.isEmpty()) {
             updateNodeExpansionStatesRecursively(tree, expansionStates);
         }
     }
 
-    private void updateNodeExpansionStatesRecursively(TreeNode treeNode, HashMap<LogicalDivision, Boolean> expansionStates) {
+    private void updateNodeExpansionStatesRecursively(TreeNode treeNode, Map<LogicalDivision, Boolean> expansionStates) {
         LogicalDivision element = getTreeNodeStructuralElement(treeNode);
         if (Objects.nonNull(element) && expansionStates.containsKey(element)) {
             treeNode.setExpanded(expansionStates.get(element));
@@ -1590,13 +1778,13 @@ public class StructurePanel implements Serializable {
         }
     }
 
-    private void updatePhysicalNodeExpansionStates(DefaultTreeNode tree, HashMap<PhysicalDivision, Boolean> expansionStates) {
+    private void updatePhysicalNodeExpansionStates(DefaultTreeNode tree, Map<PhysicalDivision, Boolean> expansionStates) {
         if (Objects.nonNull(tree) && Objects.nonNull(expansionStates) && !expansionStates.isEmpty()) {
             updatePhysicalNodeExpansionStatesRecursively(tree, expansionStates);
         }
     }
 
-    private void updatePhysicalNodeExpansionStatesRecursively(TreeNode treeNode, HashMap<PhysicalDivision, Boolean> expansionStates) {
+    private void updatePhysicalNodeExpansionStatesRecursively(TreeNode treeNode, Map<PhysicalDivision, Boolean> expansionStates) {
         PhysicalDivision physicalDivision = getTreeNodePhysicalDivision(treeNode);
         if (Objects.nonNull(physicalDivision) && expansionStates.containsKey(physicalDivision)) {
             treeNode.setExpanded(expansionStates.get(physicalDivision));
@@ -1606,12 +1794,12 @@ public class StructurePanel implements Serializable {
         }
     }
 
-    private boolean logicalNodeStateUnknown(HashMap<LogicalDivision, Boolean> expansionStates, TreeNode treeNode) {
+    private boolean logicalNodeStateUnknown(Map<LogicalDivision, Boolean> expansionStates, TreeNode treeNode) {
         LogicalDivision element = getTreeNodeStructuralElement(treeNode);
         return !Objects.nonNull(expansionStates) || (Objects.nonNull(element) && !expansionStates.containsKey(element));
     }
 
-    private boolean physicalNodeStateUnknown(HashMap<PhysicalDivision, Boolean> expanionStates, TreeNode treeNode) {
+    private boolean physicalNodeStateUnknown(Map<PhysicalDivision, Boolean> expanionStates, TreeNode treeNode) {
         PhysicalDivision physicalDivision = getTreeNodePhysicalDivision(treeNode);
         return Objects.isNull(expanionStates) || (Objects.nonNull(physicalDivision) && !expanionStates.containsKey(physicalDivision));
     }
@@ -1738,9 +1926,8 @@ public class StructurePanel implements Serializable {
             LogicalDivision logicalDivision = (LogicalDivision) structureTreeNodeSibling.getDataObject();
             dataEditor.assignView(logicalDivision, viewToAssign, 0);
             severalAssignments.add(viewToAssign.getPhysicalDivision());
-            show();
             dataEditor.getSelectedMedia().clear();
-            dataEditor.getGalleryPanel().updateStripes();
+            dataEditor.refreshStructurePanel(viewToAssign.getPhysicalDivision().getLogicalDivisions(), false);
         }
     }
 
@@ -1761,8 +1948,9 @@ public class StructurePanel implements Serializable {
                     if (view.getPhysicalDivision().getLogicalDivisions().size() <= 1) {
                         severalAssignments.remove(view.getPhysicalDivision());
                     }
-                    show();
-                    dataEditor.getGalleryPanel().updateStripes();
+                    List<LogicalDivision> changed = new ArrayList<>(view.getPhysicalDivision().getLogicalDivisions());
+                    changed.add(logicalDivision);
+                    dataEditor.refreshStructurePanel(changed, false);
                 }
             }
         }
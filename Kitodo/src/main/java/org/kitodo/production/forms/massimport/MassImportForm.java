@@ -14,7 +14,6 @@ package org.kitodo.production.forms.massimport;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -34,8 +33,9 @@ import org.kitodo.exceptions.ImportException;
 import org.kitodo.production.forms.BaseForm;
 import org.kitodo.production.forms.CsvRecord;
 import org.kitodo.production.helper.Helper;
+import org.kitodo.production.helper.tasks.MassImportTask;
+import org.kitodo.production.helper.tasks.TaskManager;
 import org.kitodo.production.services.ServiceManager;
-import org.kitodo.production.services.data.ImportService;
 import org.kitodo.production.services.data.MassImportService;
 import org.primefaces.PrimeFaces;
 import org.primefaces.event.FileUploadEvent;
@@ -59,7 +59,7 @@ public class MassImportForm extends BaseForm {
     private final List<Character> csvSeparatorCharacters = Arrays.asList(',', ';');
     private final MassImportService massImportService = ServiceManager.getMassImportService();
     private final AddMetadataDialog addMetadataDialog = new AddMetadataDialog(this);
-    private HashMap<String, String> importSuccessMap = new HashMap<>();
+    private MassImportTask massImportTask;
     private Integer progress = 0;
     private Boolean rulesetConfigurationForOpacImportComplete = null;
 
@@ -117,7 +117,7 @@ public class MassImportForm extends BaseForm {
     private void resetValues() {
         metadataKeys = new LinkedList<>();
         records = new LinkedList<>();
-        importSuccessMap = new HashMap<>();
+        massImportTask = null;
     }
 
     /**
@@ -145,50 +145,31 @@ public class MassImportForm extends BaseForm {
     }
 
     /**
-     * Import all records from list.
+     * Import all records from list. The records are imported by a task in the
+     * background, whose progress is shown by the progress dialog.
      */
     public void startMassImport() {
-        importSuccessMap = new HashMap<>();
+        massImportTask = null;
         PrimeFaces.current().ajax().update("massImportResultDialog");
         try {
             Map<String, Map<String, String>> presetMetadata = massImportService.prepareMetadata(metadataKeys, records);
-            importRecords(presetMetadata);
-            PrimeFaces.current().executeScript("PF('massImportResultDialog').show();");
-            PrimeFaces.current().ajax().update("massImportResultDialog");
+            massImportTask = new MassImportTask(presetMetadata, projectId, templateId, importConfiguration);
+            TaskManager.addTask(massImportTask);
         } catch (ImportException e) {
             Helper.setErrorMessage(e.getLocalizedMessage(), logger, e);
+            PrimeFaces.current().executeScript("PF('massImportProgressDialog').hide();");
         }
     }
 
     /**
-     * Prepare massimport by resetting progress and import success map.
+     * Prepare massimport by resetting progress and import results.
      */
     public void prepare() {
         progress = 0;
-        importSuccessMap = new HashMap<>();
+        massImportTask = null;
         PrimeFaces.current().ajax().update("massImportProgressForm:massImportProgress");
     }
 
-    /**
-     * Import records by ID and add preset metadata.
-     *
-     * @param processMetadata Map containing record IDs as keys and preset metadata lists as values
-     */
-    private void importRecords(Map<String, Map<String, String>> processMetadata) {
-        ImportService importService = ServiceManager.getImportService();
-        PrimeFaces.current().ajax().update("massImportProgressDialog");
-        for (Map.Entry<String, Map<String, String>> entry : processMetadata.entrySet()) {
-            try {
-                importService.importProcess(entry.getKey(), projectId, templateId, importConfiguration,
-                        entry.getValue());
-                importSuccessMap.put(entry.getKey(), null);
-            } catch (ImportException e) {
-                importSuccessMap.put(entry.getKey(), e.getLocalizedMessage());
-            }
-            PrimeFaces.current().ajax().update("massImportProgressDialog");
-        }
-    }
-
     /**
      * Get column header for column with index "columnIndex".
      *
@@ -366,8 +347,8 @@ public class MassImportForm extends BaseForm {
      * @return list of IDs of successfully import processes
      */
     public List<String> getSuccessfulImports() {
-        if (Objects.nonNull(importSuccessMap)) {
-            return importSuccessMap.entrySet().stream().filter(entry -> Objects.isNull(entry.getValue()))
+        if (Objects.nonNull(massImportTask)) {
+            return massImportTask.getResults().entrySet().stream().filter(entry -> Objects.isNull(entry.getValue()))
                     .map(Map.Entry::getKey).collect(Collectors.toList());
         }
         return Collections.emptyList();
@@ -379,8 +360,8 @@ public class MassImportForm extends BaseForm {
      * @return list of IDs of failed imports
      */
     public List<String> getFailedImports() {
-        if (Objects.nonNull(importSuccessMap)) {
-            return importSuccessMap.entrySet().stream().filter(entry -> Objects.nonNull(entry.getValue()))
+        if (Objects.nonNull(massImportTask)) {
+            return massImportTask.getResults().entrySet().stream().filter(entry -> Objects.nonNull(entry.getValue()))
                     .map(Map.Entry::getKey).collect(Collectors.toList());
         }
         return Collections.emptyList();
@@ -393,7 +374,7 @@ public class MassImportForm extends BaseForm {
      * @return error message of import for ID 'recordId'; returns 'null' if no error occurred
      */
     public String getImportErrorMessage(String recordId) {
-        return importSuccessMap.get(recordId);
+        return Objects.nonNull(massImportTask) ? massImportTask.getResults().get(recordId) : null;
     }
 
 
@@ -417,10 +398,12 @@ public class MassImportForm extends BaseForm {
      * @return mass import progress
      */
     public int getProgress() {
-        if (records.isEmpty()) {
+        if (Objects.isNull(massImportTask) || records.isEmpty()) {
             progress = 0;
+        } else if (massImportTask.getState().equals(Thread.State.TERMINATED)) {
+            progress = 100;
         } else {
-            progress = (importSuccessMap.size() * 100) / records.size();
+            progress = Math.min(massImportTask.getProgress(), 99);
         }
         PrimeFaces.current().ajax().update("massImportProgressForm:massImportProgress");
         return progress;
@@ -432,7 +415,7 @@ public class MassImportForm extends BaseForm {
      * @return number of imported records
      */
     public int getNumberOfProcessesRecords() {
-        return importSuccessMap.size();
+        return Objects.nonNull(massImportTask) ? massImportTask.getResults().size() : 0;
     }
 
     /**
@@ -0,0 +1,88 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.handler;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+/**
+ * Streamed content held in memory, such as a thumbnail.
+ */
+public class ByteArrayStreamedContent implements CacheableStreamedContent {
+
+    private final String name;
+    private final String contentType;
+    private final byte[] data;
+    private final long lastModified;
+    private final String entityTag;
+    private final InputStream stream;
+
+    /**
+     * Creates streamed content of bytes in memory.
+     *
+     * @param name
+     *            file name of the content
+     * @param contentType
+     *            the Internet MIME type of the content
+     * @param data
+     *            the content
+     * @param lastModified
+     *            time the content was last modified, in milliseconds since
+     *            the epoch
+     * @param entityTag
+     *            entity tag of the content, including the quotation marks
+     */
+    public ByteArrayStreamedContent(String name, String contentType, byte[] data, long lastModified,
+            String entityTag) {
+        this.name = name;
+        this.contentType = contentType;
+        this.data = data;
+        this.lastModified = lastModified;
+        this.entityTag = entityTag;
+        this.stream = new ByteArrayInputStream(data);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public InputStream getStream() {
+        return stream;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public String getContentEncoding() {
+        return null;
+    }
+
+    @Override
+    public Integer getContentLength() {
+        return data.length;
+    }
+
+    @Override
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    @Override
+    public String getEntityTag() {
+        return entityTag;
+    }
+}
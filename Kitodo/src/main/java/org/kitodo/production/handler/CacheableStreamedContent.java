@@ -0,0 +1,37 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.handler;
+
+import org.primefaces.model.StreamedContent;
+
+/**
+ * Streamed content that the browser may keep. The
+ * {@link RangeStreamContentHandler} sends its entity tag and time of last
+ * modification, and answers a conditional request for unchanged content with
+ * “304 Not Modified”, without sending the content again.
+ */
+public interface CacheableStreamedContent extends StreamedContent {
+    /**
+     * Returns an entity tag that changes whenever the content changes.
+     *
+     * @return the entity tag, including the quotation marks
+     */
+    String getEntityTag();
+
+    /**
+     * Returns the time the content was last modified.
+     *
+     * @return the time of the last modification, in milliseconds since the
+     *         epoch
+     */
+    long getLastModified();
+}
@@ -0,0 +1,126 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.handler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streamed content backed by a file. The {@link RangeStreamContentHandler}
+ * reads the requested byte ranges directly from the file channel, so that
+ * seeking in a large media file does not read the file up to the requested
+ * position. Closing the stream closes the file.
+ */
+public class FileStreamedContent implements CacheableStreamedContent {
+
+    private final String name;
+    private final String contentType;
+    private final FileChannel channel;
+    private final long size;
+    private final long lastModified;
+    private final InputStream stream;
+
+    /**
+     * Opens a file for streaming.
+     *
+     * @param path
+     *            path of the file
+     * @param contentType
+     *            the Internet MIME type of the file
+     * @throws IOException
+     *             if the file cannot be opened
+     */
+    public FileStreamedContent(Path path, String contentType) throws IOException {
+        this.name = path.getFileName().toString();
+        this.contentType = contentType;
+        this.lastModified = Files.getLastModifiedTime(path).toMillis();
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.stream = Channels.newInputStream(channel);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public InputStream getStream() {
+        return stream;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public String getContentEncoding() {
+        return null;
+    }
+
+    /**
+     * Returns the size of the file, if it fits into an integer. Use
+     * {@link #getSize()} for files of any size.
+     *
+     * @return the size of the file, or null for files of 2 GB and more
+     */
+    @Override
+    public Integer getContentLength() {
+        return size <= Integer.MAX_VALUE ? (int) size : null;
+    }
+
+    /**
+     * Returns the channel of the file.
+     *
+     * @return the file channel
+     */
+    FileChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Returns the size of the file.
+     *
+     * @return the size of the file, in bytes
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the time the file was last modified.
+     *
+     * @return the time of the last modification, in milliseconds since the
+     *         epoch
+     */
+    @Override
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Returns an entity tag for the file, derived from its name, size and
+     * time of last modification.
+     *
+     * @return the entity tag
+     */
+    @Override
+    public String getEntityTag() {
+        return "\"" + name + '-' + Long.toHexString(size) + '-' + Long.toHexString(lastModified) + "\"";
+    }
+}
@@ -16,7 +16,6 @@ import static org.kitodo.production.helper.RangeStreamHelper.copy;
 import static org.kitodo.production.helper.RangeStreamHelper.sublong;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
@@ -81,7 +80,7 @@ public class RangeStreamContentHandler extends BaseDynamicContentHandler {
                             return;
                         }
 
-                        handleCache(externalContext, cache);
+                        handleCache(externalContext, streamedContent, cache);
                         process(streamedContent, externalContext);
                     }
                 }
@@ -105,6 +104,19 @@ public class RangeStreamContentHandler extends BaseDynamicContentHandler {
         }
     }
 
+    /**
+     * Sets the caching headers. Content that is not to be cached, but has an
+     * entity tag, may still be kept by the browser, if it asks whether the
+     * content is still current before using it.
+     */
+    private void handleCache(ExternalContext externalContext, StreamedContent streamedContent, boolean cache) {
+        if (!cache && streamedContent instanceof CacheableStreamedContent) {
+            externalContext.setResponseHeader("Cache-Control", "private, no-cache");
+        } else {
+            handleCache(externalContext, cache);
+        }
+    }
+
     private boolean isErrorResponse(StreamedContent streamedContent, ExternalContext externalContext)
             throws IOException {
         if (Objects.isNull(streamedContent) || Objects.isNull(streamedContent.getStream())) {
@@ -129,27 +141,71 @@ public class RangeStreamContentHandler extends BaseDynamicContentHandler {
         // Adapt implementation of Warren Dew
         // (https://stackoverflow.com/questions/28427339/how-to-implement-http-byte-range-requests-in-spring-mvc)
         // using org.primefaces.application.resource.StreamedContentHandler
+        HttpServletRequest request = (HttpServletRequest) externalContext.getRequest();
         HttpServletResponse response = (HttpServletResponse) externalContext.getResponse();
 
+        String entityTag = streamedContent.getName();
+        if (streamedContent instanceof CacheableStreamedContent) {
+            CacheableStreamedContent cacheableStreamedContent = (CacheableStreamedContent) streamedContent;
+            entityTag = cacheableStreamedContent.getEntityTag();
+            response.setDateHeader("Last-Modified", cacheableStreamedContent.getLastModified());
+        }
         if (Objects.nonNull(streamedContent.getName())) {
             response.setHeader("Content-Disposition", "inline;filename=\"" + streamedContent.getName() + "\"");
-            response.setHeader("ETag", streamedContent.getName());
+            response.setHeader("ETag", entityTag);
+        }
+
+        if (streamedContent instanceof CacheableStreamedContent
+                && isNotModified(request, entityTag, ((CacheableStreamedContent) streamedContent).getLastModified())) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
         }
 
         response.setHeader("Accept-Ranges", "bytes");
         response.setBufferSize(DEFAULT_BUFFER_SIZE);
 
-        processInputStreamToOutputStream((HttpServletRequest) externalContext.getRequest(), response, streamedContent,
+        processInputStreamToOutputStream(request, response, streamedContent, entityTag,
                 externalContext.getResponseOutputStream());
     }
 
+    /**
+     * Evaluates the conditional request headers. If-None-Match takes precedence
+     * over If-Modified-Since, as required by RFC 7232.
+     *
+     * @param request
+     *         the HTTP request
+     * @param entityTag
+     *         the entity tag of the content
+     * @param lastModified
+     *         time of the last modification of the content, in milliseconds
+     * @return whether the client already has the current content
+     */
+    private static boolean isNotModified(HttpServletRequest request, String entityTag, long lastModified) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (Objects.nonNull(ifNoneMatch)) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || tag.equals(entityTag) || tag.equals("W/" + entityTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader("If-Modified-Since");
+            // HTTP dates have a precision of seconds
+            return ifModifiedSince != -1 && lastModified / 1000 <= ifModifiedSince / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     private void processInputStreamToOutputStream(HttpServletRequest request, HttpServletResponse response,
-            StreamedContent streamedContent, OutputStream outputStream) throws IOException {
-        InputStream inputStream = streamedContent.getStream();
+            StreamedContent streamedContent, String entityTag, OutputStream outputStream) throws IOException {
         // Prepare some variables. The full Range represents the complete file.
-        int length = inputStream.available(); // Length of file
+        long length = getLength(streamedContent);
         Range full = new Range(0, length - 1, length);
-        List<Range> ranges = getRanges(request, response, length, streamedContent.getName());
+        List<Range> ranges = getRanges(request, response, length, entityTag);
 
         if (ranges.isEmpty() || Objects.equals(ranges.get(0), full)) {
             // Return full file.
@@ -158,7 +214,7 @@ public class RangeStreamContentHandler extends BaseDynamicContentHandler {
             response.setHeader("Content-Range",
                     "bytes " + full.getStart() + "-" + full.getEnd() + "/" + full.getTotal());
             response.setHeader("Content-Length", String.valueOf(full.getLength()));
-            copy(inputStream, outputStream, length, full.getStart(), full.getLength());
+            copyRange(streamedContent, outputStream, length, full);
         } else if (ranges.size() == 1) {
             // Return single part of file.
             Range r = ranges.get(0);
@@ -168,7 +224,7 @@ public class RangeStreamContentHandler extends BaseDynamicContentHandler {
             response.setHeader("Content-Length", String.valueOf(r.getLength()));
             response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT); // 206.
             // Copy single part range.
-            copy(inputStream, outputStream, length, r.getStart(), r.getLength());
+            copyRange(streamedContent, outputStream, length, r);
         } else {
             // Return multiple parts of file.
             response.setContentType("multipart/byteranges; boundary=" + MULTIPART_BOUNDARY);
@@ -186,7 +242,7 @@ public class RangeStreamContentHandler extends BaseDynamicContentHandler {
                         "Content-Range: bytes " + r.getStart() + "-" + r.getEnd() + "/" + r.getTotal());
 
                 // Copy single part range of multipart range.
-                copy(inputStream, outputStream, length, r.getStart(), r.getLength());
+                copyRange(streamedContent, outputStream, length, r);
             }
             // End with multipart boundary.
             servletOutputStream.println();
@@ -194,8 +250,36 @@ public class RangeStreamContentHandler extends BaseDynamicContentHandler {
         }
     }
 
-    private static List<Range> getRanges(HttpServletRequest request, HttpServletResponse response, int length,
-            String fileName) throws IOException {
+    /**
+     * Returns the length of the content. For files, this is the real file
+     * size; otherwise the content length, if known, or the number of bytes
+     * available from the stream.
+     */
+    private static long getLength(StreamedContent streamedContent) throws IOException {
+        if (streamedContent instanceof FileStreamedContent) {
+            return ((FileStreamedContent) streamedContent).getSize();
+        }
+        if (Objects.nonNull(streamedContent.getContentLength())) {
+            return streamedContent.getContentLength();
+        }
+        return streamedContent.getStream().available();
+    }
+
+    /**
+     * Copies a range of the content. Files are read at the position of the
+     * range, other streams are read up to it.
+     */
+    private static void copyRange(StreamedContent streamedContent, OutputStream outputStream, long length, Range r)
+            throws IOException {
+        if (streamedContent instanceof FileStreamedContent) {
+            copy(((FileStreamedContent) streamedContent).getChannel(), outputStream, r.getStart(), r.getLength());
+        } else {
+            copy(streamedContent.getStream(), outputStream, length, r.getStart(), r.getLength());
+        }
+    }
+
+    private static List<Range> getRanges(HttpServletRequest request, HttpServletResponse response, long length,
+            String entityTag) throws IOException {
         Range full = new Range(0, length - 1, length);
         List<Range> ranges = new ArrayList<>();
         // Validate and process Range and If-Range headers.
@@ -209,7 +293,7 @@ public class RangeStreamContentHandler extends BaseDynamicContentHandler {
                 return ranges;
             }
             String ifRange = request.getHeader("If-Range");
-            if (Objects.nonNull(ifRange) && !ifRange.equals(fileName)) {
+            if (Objects.nonNull(ifRange) && !ifRange.equals(entityTag)) {
                 try {
                     long ifRangeTime = request.getDateHeader("If-Range"); // Throws IAE if invalid.
                     if (ifRangeTime != -1) {
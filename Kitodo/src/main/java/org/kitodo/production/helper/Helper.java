@@ -49,7 +49,7 @@ import org.kitodo.production.interfaces.activemq.WebServiceResult;
 
 public class Helper {
 
-    private static Map<String, String> activeMQReporting = null;
+    private static final ThreadLocal<Map<String, String>> activeMQReporting = new ThreadLocal<>();
     private static final Logger logger = LogManager.getLogger(Helper.class);
     private static Map<Locale, ResourceBundle> commonMessages = null;
     private static Map<Locale, ResourceBundle> errorMessages = null;
@@ -312,6 +312,7 @@ public class Helper {
             }
             detail = null;
         }
+        Map<String, String> activeMQReporting = Helper.activeMQReporting.get();
         if (Objects.nonNull(activeMQReporting)) {
             new WebServiceResult(activeMQReporting.get("queueName"), activeMQReporting.get("id"),
                     MessageLevel.ERROR.equals(level) ? ReportLevel.ERROR :
@@ -509,13 +510,18 @@ public class Helper {
     }
 
     /**
-     * Set activeMQReporting.
+     * Set activeMQReporting for the current thread. Several Active MQ messages
+     * may be processed at the same time, each by a thread of its own.
      *
      * @param activeMQReporting
-     *            as Map of Strings
+     *            as Map of Strings, or null to turn reporting off
      */
     public static void setActiveMQReporting(Map<String, String> activeMQReporting) {
-        Helper.activeMQReporting = activeMQReporting;
+        if (Objects.isNull(activeMQReporting)) {
+            Helper.activeMQReporting.remove();
+        } else {
+            Helper.activeMQReporting.set(activeMQReporting);
+        }
     }
 
     /**
@@ -11,90 +11,241 @@
 
 package org.kitodo.production.helper;
 
-import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
-import org.kitodo.data.database.exceptions.DAOException;
-import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.data.database.beans.BaseIndexedBean;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.services.data.base.SearchService;
 
-public class IndexWorker implements Runnable {
+/**
+ * Indexes all objects of one type in three stages which run at the same time
+ * and are connected by bounded queues: the objects are read from the database
+ * page by page, ordered by ID, the index documents are created from them, and
+ * the documents are sent to the index in bulk requests. Each stage is started
+ * as a separate task, the document creation in several tasks.
+ */
+public class IndexWorker {
 
     private static final Logger logger = LogManager.getLogger(IndexWorker.class);
-    
+
+    /**
+     * Time in milliseconds after which a waiting stage checks whether indexing
+     * has failed or was canceled.
+     */
+    private static final long POLL_INTERVAL = 500;
+
+    /**
+     * Marks the end of the objects in a queue.
+     */
+    private static final IndexBatch END_OF_BATCHES = new IndexBatch(Collections.emptyList(), null);
+
     private final boolean indexAllObjects;
     private final ObjectType objectType;
     private final SearchService searchService;
     private final IndexWorkerStatus indexWorkerStatus;
+    private final int documentCreators;
+    private final AtomicInteger runningDocumentCreators;
+    private final BlockingQueue<IndexBatch> loadedBatches;
+    private final BlockingQueue<IndexBatch> createdBatches;
+    private final int maxAttempts;
+    private final int batchSize;
+    private final int timeBetweenAttempts;
 
     /**
-     * Constructor initializing an IndexWorker object with the given SearchService
-     * and list of objects that will be indexed.
+     * Constructor initializing an IndexWorker object with the given
+     * SearchService.
      *
      * @param searchService
      *            SearchService instance used for indexing
+     * @param objectType
+     *            type of the objects to index
+     * @param indexWorkerStatus
+     *            status shared by all stages
+     * @param indexAllObjects
+     *            whether all or only not indexed objects are indexed
+     * @param documentCreators
+     *            number of tasks running {@link #createDocuments()}
      */
-    public IndexWorker(SearchService searchService, ObjectType objectType, IndexWorkerStatus indexWorkerStatus, boolean indexAllObjects) {
+    public IndexWorker(SearchService searchService, ObjectType objectType, IndexWorkerStatus indexWorkerStatus,
+            boolean indexAllObjects, int documentCreators) {
         this.searchService = searchService;
         this.indexWorkerStatus = indexWorkerStatus;
         this.indexAllObjects = indexAllObjects;
         this.objectType = objectType;
+        this.documentCreators = documentCreators;
+        this.runningDocumentCreators = new AtomicInteger(documentCreators);
+        this.loadedBatches = new ArrayBlockingQueue<>(documentCreators);
+        this.createdBatches = new ArrayBlockingQueue<>(documentCreators);
+        this.maxAttempts = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_ATTEMPTS);
+        this.batchSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH);
+        this.timeBetweenAttempts = ConfigCore
+                .getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_TIME_BETWEEN_ATTEMPTS);
+    }
+
+    /**
+     * First stage: reads the objects from the database. Instead of an offset,
+     * the ID of the last object read is used to get the next page.
+     */
+    @SuppressWarnings("unchecked")
+    public void loadObjects() {
+        int lastId = 0;
+        while (isRunning()) {
+            int batch = indexWorkerStatus.getAndIncrementNextBatch();
+            final int afterId = lastId;
+            List<Object> objects = attempt("load " + objectType + " batch " + (batch + 1) + "/"
+                    + indexWorkerStatus.getMaxBatch() + " after ID " + afterId,
+                () -> indexAllObjects ? searchService.getAllAfter(afterId, batchSize)
+                        : searchService.getAllNotIndexedAfter(afterId, batchSize));
+            if (Objects.isNull(objects) || objects.isEmpty()) {
+                break;
+            }
+            lastId = ((BaseIndexedBean) objects.get(objects.size() - 1)).getId();
+            if (!put(loadedBatches, new IndexBatch(objects, null))) {
+                return;
+            }
+        }
+        for (int i = 0; i < documentCreators; i++) {
+            if (!put(loadedBatches, END_OF_BATCHES)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Second stage: creates the index documents of the loaded objects.
+     */
+    @SuppressWarnings("unchecked")
+    public void createDocuments() {
+        try {
+            IndexBatch batch = take(loadedBatches);
+            while (Objects.nonNull(batch) && batch != END_OF_BATCHES) {
+                List<Object> objects = batch.getObjects();
+                Map<Integer, Map<String, Object>> documents = attempt(
+                    "create documents for " + objects.size() + " " + objectType,
+                    () -> searchService.createIndexDocuments(objects));
+                if (Objects.isNull(documents) || !put(createdBatches, new IndexBatch(objects, documents))) {
+                    return;
+                }
+                batch = take(loadedBatches);
+            }
+        } finally {
+            if (runningDocumentCreators.decrementAndGet() == 0) {
+                put(createdBatches, END_OF_BATCHES);
+            }
+        }
     }
 
-    @Override
+    /**
+     * Third stage: sends the created documents to the index.
+     */
     @SuppressWarnings("unchecked")
-    public void run() {
-        int maxAttempts = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_ATTEMPTS);
-        int batchSize = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_BATCH);
-        int timeBetweenAttempts = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_TIME_BETWEEN_ATTEMPTS);
-        int maxBatch = indexWorkerStatus.getMaxBatch();
-
-        int nextBatch = indexWorkerStatus.getAndIncrementNextBatch();
-        while (!indexWorkerStatus.hasFailed() && !indexWorkerStatus.isCanceled() && nextBatch < maxBatch) {
-            // nextBatch is a valid batch that needs to be processed
-
-            int attempt = 1;
-            while (attempt < maxAttempts) {
+    public void storeDocuments() {
+        IndexBatch batch = take(createdBatches);
+        while (Objects.nonNull(batch) && batch != END_OF_BATCHES) {
+            IndexBatch documents = batch;
+            if (Objects.isNull(attempt("index " + documents.getObjects().size() + " " + objectType, () -> {
+                searchService.addIndexDocuments(documents.getObjects(), documents.getDocuments());
+                return documents;
+            }))) {
+                return;
+            }
+            batch = take(createdBatches);
+        }
+    }
+
+    /**
+     * Runs the given action until it succeeds or the maximum number of
+     * attempts is reached. In the latter case, the indexing is marked as
+     * failed.
+     *
+     * @return the result of the action, or {@code null} if it did not succeed
+     */
+    private <R> R attempt(String action, Callable<R> callable) {
+        for (int attempt = 1; attempt < maxAttempts && isRunning(); attempt++) {
+            try {
+                logger.info(action + ", attempt " + attempt + "/" + maxAttempts);
+                return callable.call();
+            } catch (Exception e) {
+                logger.error(e.getMessage(), e);
                 try {
-                    int offset = nextBatch * batchSize;
-                    logger.info("index " + objectType.toString() + " with offset " + offset + " and attempt " 
-                        + attempt + "/" + maxAttempts);
-
-                    if (indexAllObjects) {
-                        indexObjects(searchService.getAll(offset, batchSize));
-                    } else {
-                        indexObjects(searchService.getAllNotIndexed(offset, batchSize));
-                    }
-
-                    break;
-                } catch (Exception e) {
-                    logger.error(e.getMessage(), e);
-                    attempt += 1;
-                    try {
-                        Thread.sleep(timeBetweenAttempts);
-                    } catch (InterruptedException e2) {
-                        logger.trace("Index worker sleep is interrupted while waiting for next indexing attempt");
-                    }
+                    Thread.sleep(timeBetweenAttempts);
+                } catch (InterruptedException e2) {
+                    logger.trace("Index worker sleep is interrupted while waiting for next indexing attempt");
+                    Thread.currentThread().interrupt();
+                    return null;
                 }
             }
+        }
+        if (isRunning()) {
+            logger.error("stop indexing after maximum amount of attempts");
+            indexWorkerStatus.markAsFailed();
+        }
+        return null;
+    }
 
-            if (attempt >= maxAttempts) {
-                logger.error("stop indexing after maximum amount of attempts");
-                this.indexWorkerStatus.markAsFailed();
-            } else {
-                // find next batch that can be indexed
-                nextBatch = indexWorkerStatus.getAndIncrementNextBatch();
+    private boolean put(BlockingQueue<IndexBatch> queue, IndexBatch batch) {
+        try {
+            while (isRunning()) {
+                if (queue.offer(batch, POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
+        return false;
     }
 
-    @SuppressWarnings("unchecked")
-    private void indexObjects(List<Object> objectsToIndex) throws CustomResponseException, DAOException, IOException {
-        this.searchService.addAllObjectsToIndex(objectsToIndex);
+    private IndexBatch take(BlockingQueue<IndexBatch> queue) {
+        try {
+            while (isRunning()) {
+                IndexBatch batch = queue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                if (Objects.nonNull(batch)) {
+                    return batch;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return null;
+    }
+
+    private boolean isRunning() {
+        return !indexWorkerStatus.hasFailed() && !indexWorkerStatus.isCanceled()
+                && !Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Objects passed from one stage to the next, together with their documents
+     * after they have been created.
+     */
+    private static class IndexBatch {
+        private final List<Object> objects;
+        private final Map<Integer, Map<String, Object>> documents;
+
+        IndexBatch(List<Object> objects, Map<Integer, Map<String, Object>> documents) {
+            this.objects = objects;
+            this.documents = documents;
+        }
+
+        List<Object> getObjects() {
+            return objects;
+        }
+
+        Map<Integer, Map<String, Object>> getDocuments() {
+            return documents;
+        }
     }
 }
@@ -17,15 +17,16 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class IndexWorkerStatus {
 
     /**
-     * Stores the maximum batch number that needs to be indexed.
+     * Stores the number of batches expected to be indexed, as counted when
+     * indexing started.
      * 
-     * <p>If a worker thread receives a batch number higher than this number, there are 
-     * no additional batches that need to be processed, and the worker thread stops.</p>
+     * <p>The worker stops when the database returns no further objects, so
+     * this number is only used to report progress.</p>
      */
     private final Integer maxBatch;
 
     /**
-     * Stores the number of the next batch that needs to be indexed.
+     * Stores the number of the next batch that is loaded from the database.
      */
     private final AtomicInteger nextBatch = new AtomicInteger(0);
 
@@ -58,7 +59,7 @@ public class IndexWorkerStatus {
     }
 
     /**
-     * Access and increase next batch that needs to be indexed in a thread-safe way.
+     * Access and increase next batch that is loaded in a thread-safe way.
      * 
      * @return the next batch that needs to be indexed
      */
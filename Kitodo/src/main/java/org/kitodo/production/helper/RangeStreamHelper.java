@@ -14,6 +14,11 @@ package org.kitodo.production.helper;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+import org.apache.commons.io.IOUtils;
 
 /**
  * The class contains functions for handling ranges in RangeStreamContentHandler.
@@ -66,7 +71,7 @@ public class RangeStreamHelper {
                 output.flush();
             }
         } else {
-            input.skip(start);
+            IOUtils.skipFully(input, start);
             long toRead = length;
 
             while ((read = input.read(buffer)) > 0) {
@@ -82,4 +87,34 @@ public class RangeStreamHelper {
             }
         }
     }
+
+    /**
+     * Copy range of a file channel to output stream. Only the bytes of the
+     * range are read from the file, and the operating system may transfer
+     * them without copying them into the heap.
+     *
+     * @param input
+     *         The file channel
+     * @param output
+     *         The output stream
+     * @param start
+     *         The start of range.
+     * @param length
+     *         The length of range.
+     * @throws IOException
+     *         The exception when working with the channel or stream
+     */
+    public static void copy(FileChannel input, OutputStream output, long start, long length) throws IOException {
+        WritableByteChannel target = Channels.newChannel(output);
+        long position = start;
+        long end = start + length;
+        while (position < end) {
+            long transferred = input.transferTo(position, end - position, target);
+            if (transferred <= 0) {
+                break;
+            }
+            position += transferred;
+        }
+        output.flush();
+    }
 }
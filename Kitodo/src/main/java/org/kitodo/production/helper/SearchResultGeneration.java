@@ -11,21 +11,20 @@
 
 package org.kitodo.production.helper;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.apache.poi.hssf.usermodel.HSSFRow;
-import org.apache.poi.hssf.usermodel.HSSFSheet;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.elasticsearch.index.query.BoolQueryBuilder;
-import org.elasticsearch.index.query.RangeQueryBuilder;
 import org.elasticsearch.search.sort.SortOrder;
-import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.enums.ObjectType;
+import org.kitodo.production.helper.searchresult.SearchResultWriter;
 import org.kitodo.production.services.ServiceManager;
 
 public class SearchResultGeneration {
@@ -52,24 +51,30 @@ public class SearchResultGeneration {
     }
 
     /**
-     * Get result.
+     * Writes the search result with the given writer. The processes are read
+     * from the index page by page and written one after the other, so that
+     * the search result is never held in memory completely.
      *
-     * @return HSSFWorkbook
+     * @param writer
+     *            writer for the output format
+     * @throws IOException
+     *             if the search result cannot be written
      */
-    public HSSFWorkbook getResult() {
-        return getWorkbook();
-    }
-
-    private List<ProcessDTO> getResultsWithFilter() {
-        List<ProcessDTO> processDTOS = new ArrayList<>();
-        try {
-            processDTOS = ServiceManager.getProcessService().findByQuery(getQueryForFilter(ObjectType.PROCESS),
-                ServiceManager.getProcessService().sortById(SortOrder.ASC), true);
+    public void write(SearchResultWriter writer) throws IOException {
+        writer.writeTitle(this.filter);
+        writer.writeHeader(Arrays.asList(Helper.getTranslation("title"), Helper.getTranslation("ID"),
+            Helper.getTranslation("Datum"), Helper.getTranslation("CountImages"),
+            Helper.getTranslation("CountStructuralElements"), Helper.getTranslation("CountMetadata"),
+            Helper.getTranslation("Project"), Helper.getTranslation("Status")));
+        try (Stream<ProcessDTO> processDTOs = ServiceManager.getProcessService().streamByQuery(
+            getQueryForFilter(ObjectType.PROCESS), ServiceManager.getProcessService().sortById(SortOrder.ASC), true)) {
+            Iterator<ProcessDTO> iterator = processDTOs.iterator();
+            while (iterator.hasNext()) {
+                writer.writeRow(getRow(iterator.next()));
+            }
         } catch (DataException e) {
             logger.error(e.getMessage(), e);
         }
-
-        return processDTOS;
     }
 
     /**
@@ -96,80 +101,9 @@ public class SearchResultGeneration {
         return query;
     }
 
-    private HSSFWorkbook getWorkbook() {
-        HSSFWorkbook workbook = new HSSFWorkbook();
-        HSSFSheet sheet = workbook.createSheet("Search results");
-
-        HSSFRow title = sheet.createRow(0);
-        title.createCell(0).setCellValue(this.filter);
-        for (int i = 1; i < 8; i++) {
-            title.createCell(i).setCellValue("");
-        }
-
-        setRowHeader(sheet);
-
-        insertRowData(sheet);
-
-        return workbook;
-    }
-
-    private void insertRowData(HSSFSheet sheet) {
-        int rowCounter = 2;
-        int numberOfProcessedProcesses = 0;
-        int elasticsearchLimit = 9999;
-        try {
-            Long numberOfExpectedProcesses = ServiceManager.getProcessService()
-                    .count(getQueryForFilter(ObjectType.PROCESS));
-            if (numberOfExpectedProcesses > elasticsearchLimit) {
-                List<ProcessDTO> processDTOS;
-                int queriedIds = 0;
-                while (numberOfProcessedProcesses < numberOfExpectedProcesses) {
-                    RangeQueryBuilder rangeQueryBuilder = new RangeQueryBuilder(ProcessTypeField.ID.toString());
-                    rangeQueryBuilder.gte(queriedIds).lt(queriedIds + elasticsearchLimit);
-                    BoolQueryBuilder queryForFilter = getQueryForFilter(ObjectType.PROCESS);
-                    queryForFilter.must(rangeQueryBuilder);
-                    processDTOS = ServiceManager.getProcessService().findByQuery(queryForFilter,
-                        ServiceManager.getProcessService().sortById(SortOrder.ASC), true);
-                    queriedIds += elasticsearchLimit;
-                    for (ProcessDTO processDTO : processDTOS) {
-                        prepareRow(rowCounter, sheet, processDTO);
-                        rowCounter++;
-                    }
-                    numberOfProcessedProcesses += processDTOS.size();
-                }
-            } else {
-                List<ProcessDTO> resultsWithFilter = getResultsWithFilter();
-                for (ProcessDTO processDTO : resultsWithFilter) {
-                    prepareRow(rowCounter, sheet, processDTO);
-                    rowCounter++;
-                }
-            }
-        } catch (DataException e) {
-            logger.error(e.getMessage(), e);
-        }
-    }
-
-    private void setRowHeader(HSSFSheet sheet) {
-        HSSFRow rowHeader = sheet.createRow(1);
-        rowHeader.createCell(0).setCellValue(Helper.getTranslation("title"));
-        rowHeader.createCell(1).setCellValue(Helper.getTranslation("ID"));
-        rowHeader.createCell(2).setCellValue(Helper.getTranslation("Datum"));
-        rowHeader.createCell(3).setCellValue(Helper.getTranslation("CountImages"));
-        rowHeader.createCell(4).setCellValue(Helper.getTranslation("CountStructuralElements"));
-        rowHeader.createCell(5).setCellValue(Helper.getTranslation("CountMetadata"));
-        rowHeader.createCell(6).setCellValue(Helper.getTranslation("Project"));
-        rowHeader.createCell(7).setCellValue(Helper.getTranslation("Status"));
-    }
-
-    private void prepareRow(int rowCounter, HSSFSheet sheet, ProcessDTO processDTO) {
-        HSSFRow row = sheet.createRow(rowCounter);
-        row.createCell(0).setCellValue(processDTO.getTitle());
-        row.createCell(1).setCellValue(processDTO.getId());
-        row.createCell(2).setCellValue(processDTO.getCreationDate());
-        row.createCell(3).setCellValue(processDTO.getNumberOfImages());
-        row.createCell(4).setCellValue(processDTO.getNumberOfStructures());
-        row.createCell(5).setCellValue(processDTO.getNumberOfMetadata());
-        row.createCell(6).setCellValue(processDTO.getProject().getTitle());
-        row.createCell(7).setCellValue(processDTO.getSortHelperStatus());
+    private static List<Object> getRow(ProcessDTO processDTO) {
+        return Arrays.asList(processDTO.getTitle(), processDTO.getId(), processDTO.getCreationDate(),
+            processDTO.getNumberOfImages(), processDTO.getNumberOfStructures(), processDTO.getNumberOfMetadata(),
+            processDTO.getProject().getTitle(), processDTO.getSortHelperStatus());
     }
 }
@@ -0,0 +1,91 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.faces.context.FacesContext;
+
+/**
+ * Caches the DTOs of related objects by their ID, so that an object referenced
+ * by many search results, for example the project of the processes in a list,
+ * is only read once from the index.
+ *
+ * <p>Within a request, the cache lives as long as the request, see
+ * {@link RequestScopeCacheHelper}. Outside of a request, for example in a
+ * background task, objects are only cached between {@link #beginBatch()} and
+ * {@link #endBatch()}, while a batch of search results is converted by the
+ * current thread.</p>
+ */
+public class RelatedDTOCache {
+
+    private static final String ATTRIBUTE_PREFIX = "RelatedDTOCache.";
+
+    private static final ThreadLocal<Batch> batch = new ThreadLocal<>();
+
+    private RelatedDTOCache() {
+    }
+
+    /**
+     * Starts caching related objects for the current thread if it is not
+     * processing a request. Batches may be nested; the objects are cached until
+     * the outermost batch ends.
+     */
+    public static void beginBatch() {
+        Batch currentBatch = batch.get();
+        if (Objects.isNull(currentBatch)) {
+            currentBatch = new Batch();
+            batch.set(currentBatch);
+        }
+        currentBatch.depth++;
+    }
+
+    /**
+     * Ends a batch started with {@link #beginBatch()}.
+     */
+    public static void endBatch() {
+        Batch currentBatch = batch.get();
+        if (Objects.nonNull(currentBatch) && --currentBatch.depth == 0) {
+            batch.remove();
+        }
+    }
+
+    /**
+     * Returns the cache for the related objects of the given type.
+     *
+     * @param <T>
+     *            type of the DTOs
+     * @param type
+     *            name of the type of the related objects
+     * @return the cache, which is empty and not kept if there is neither a
+     *         request nor a batch
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Map<Integer, T> getCache(String type) {
+        if (Objects.nonNull(FacesContext.getCurrentInstance())) {
+            return RequestScopeCacheHelper.getFromCache(ATTRIBUTE_PREFIX + type, ConcurrentHashMap::new, Map.class);
+        }
+        Batch currentBatch = batch.get();
+        if (Objects.nonNull(currentBatch)) {
+            return (Map<Integer, T>) currentBatch.caches.computeIfAbsent(type, key -> new HashMap<>());
+        }
+        return new HashMap<>();
+    }
+
+    private static class Batch {
+        private final Map<String, Map<Integer, ?>> caches = new HashMap<>();
+        private int depth = 0;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.searchresult;
+
+import com.opencsv.CSVWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes a search result as UTF-8 encoded CSV file, one line per row.
+ */
+public class CsvSearchResultWriter implements SearchResultWriter {
+
+    private final CSVWriter csvWriter;
+
+    /**
+     * Constructor.
+     *
+     * @param outputStream
+     *            stream to write the CSV file to
+     */
+    public CsvSearchResultWriter(OutputStream outputStream) {
+        this.csvWriter = new CSVWriter(
+                new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public void writeTitle(String title) {
+        csvWriter.writeNext(new String[] {Objects.toString(title, "") });
+    }
+
+    @Override
+    public void writeHeader(List<String> headers) {
+        csvWriter.writeNext(headers.toArray(new String[0]));
+    }
+
+    @Override
+    public void writeRow(List<Object> values) {
+        String[] line = new String[values.size()];
+        for (int column = 0; column < line.length; column++) {
+            line[column] = Objects.toString(values.get(column), "");
+        }
+        csvWriter.writeNext(line);
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the CSV writer does not throw exceptions while writing, they must be checked for
+        boolean failed = csvWriter.checkError();
+        csvWriter.close();
+        if (failed) {
+            throw new IOException("Could not write search result as CSV");
+        }
+    }
+}
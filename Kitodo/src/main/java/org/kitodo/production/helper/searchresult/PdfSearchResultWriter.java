@@ -0,0 +1,110 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.searchresult;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.PageSize;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Rectangle;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Writes a search result as PDF table on landscape A3 pages. The table is
+ * added to the document in chunks of rows, after which the rows are removed
+ * from memory. The header is repeated on every page.
+ */
+public class PdfSearchResultWriter implements SearchResultWriter {
+
+    /**
+     * Number of rows after which the table is written to the document.
+     */
+    private static final int ROWS_PER_CHUNK = 100;
+
+    private final Document document;
+    private final PdfPTable table;
+    private int bufferedRows = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param outputStream
+     *            stream to write the PDF document to
+     * @param relativeWidths
+     *            relative width of each column of the table
+     * @throws IOException
+     *             if the document cannot be created
+     */
+    public PdfSearchResultWriter(OutputStream outputStream, int[] relativeWidths) throws IOException {
+        document = new Document();
+        try {
+            PdfWriter.getInstance(document, outputStream);
+            document.setPageSize(new Rectangle(PageSize.A3.getHeight(), PageSize.A3.getWidth()));
+            document.open();
+            table = new PdfPTable(relativeWidths.length);
+            table.setWidths(relativeWidths);
+        } catch (DocumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+        table.setSpacingBefore(20);
+        table.setComplete(false);
+    }
+
+    @Override
+    public void writeTitle(String title) throws IOException {
+        add(new Paragraph(Objects.toString(title, "")));
+    }
+
+    @Override
+    public void writeHeader(List<String> headers) {
+        for (String header : headers) {
+            table.addCell(header);
+        }
+        table.setHeaderRows(1);
+    }
+
+    @Override
+    public void writeRow(List<Object> values) throws IOException {
+        for (Object value : values) {
+            table.addCell(Objects.toString(value, ""));
+        }
+        if (++bufferedRows == ROWS_PER_CHUNK) {
+            add(table);
+            bufferedRows = 0;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            table.setComplete(true);
+            add(table);
+        } finally {
+            document.close();
+        }
+    }
+
+    private void add(Element element) throws IOException {
+        try {
+            document.add(element);
+        } catch (DocumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.searchresult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes a search result to an output stream, row by row. Implementations
+ * only keep a bounded number of rows in memory, so that the size of the
+ * search result does not matter. Closing the writer completes the document
+ * and closes the output stream.
+ */
+public interface SearchResultWriter extends Closeable {
+
+    /**
+     * Writes the title of the search result, which must be written first.
+     *
+     * @param title
+     *            title, usually the filter of the search
+     * @throws IOException
+     *             if the output stream cannot be written
+     */
+    void writeTitle(String title) throws IOException;
+
+    /**
+     * Writes the column headers, which must be written after the title and
+     * before the first row.
+     *
+     * @param headers
+     *            header of each column
+     * @throws IOException
+     *             if the output stream cannot be written
+     */
+    void writeHeader(List<String> headers) throws IOException;
+
+    /**
+     * Writes one row of the search result.
+     *
+     * @param values
+     *            value of each column; numbers are written as numbers where
+     *            the format distinguishes them, null as empty cell
+     * @throws IOException
+     *             if the output stream cannot be written
+     */
+    void writeRow(List<Object> values) throws IOException;
+}
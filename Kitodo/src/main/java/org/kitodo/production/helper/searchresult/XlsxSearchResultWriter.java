@@ -0,0 +1,85 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.searchresult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Writes a search result as Excel workbook in Office Open XML format. The
+ * workbook is a streaming workbook, which only keeps the last rows in memory
+ * and swaps the other ones out to a temporary file.
+ */
+public class XlsxSearchResultWriter implements SearchResultWriter {
+
+    /**
+     * Number of rows kept in memory.
+     */
+    private static final int ROW_ACCESS_WINDOW_SIZE = 100;
+
+    private final OutputStream outputStream;
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private int rowNumber = 0;
+
+    /**
+     * Constructor.
+     *
+     * @param outputStream
+     *            stream to write the workbook to
+     */
+    public XlsxSearchResultWriter(OutputStream outputStream) {
+        this.outputStream = outputStream;
+        this.workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW_SIZE);
+        this.sheet = workbook.createSheet("Search results");
+    }
+
+    @Override
+    public void writeTitle(String title) {
+        sheet.createRow(rowNumber++).createCell(0).setCellValue(title);
+    }
+
+    @Override
+    public void writeHeader(List<String> headers) {
+        writeRow(new ArrayList<>(headers));
+    }
+
+    @Override
+    public void writeRow(List<Object> values) {
+        Row row = sheet.createRow(rowNumber++);
+        for (int column = 0; column < values.size(); column++) {
+            Object value = values.get(column);
+            if (value instanceof Number) {
+                row.createCell(column).setCellValue(((Number) value).doubleValue());
+            } else {
+                row.createCell(column).setCellValue(Objects.toString(value, ""));
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (OutputStream out = outputStream) {
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.api.schemaconverter.DataRecord;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.data.database.beans.ImportConfiguration;
+import org.kitodo.exceptions.ImportException;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.ImportService;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.w3c.dom.Document;
+
+/**
+ * A task to import processes for a list of catalogue records in the
+ * background. The records are requested from the catalogue and converted to
+ * the internal format by worker threads, while the processes are created and
+ * saved one after another by the task itself, in the order of the records. If
+ * the task was interrupted or crashed, it can be restarted and continues with
+ * the records which have not been imported successfully yet.
+ */
+public class MassImportTask extends EmptyTask {
+    private static final Logger logger = LogManager.getLogger(MassImportTask.class);
+
+    /**
+     * Number of records requested from the catalogue at the same time, if the
+     * import configuration does not specify it.
+     */
+    private static final int DEFAULT_PARALLELISM = 4;
+
+    private final Map<String, Map<String, String>> records;
+    private final int projectId;
+    private final int templateId;
+    private final ImportConfiguration importConfiguration;
+    private final String metadataLanguage;
+    private final Authentication authentication;
+
+    /**
+     * Error message for each record processed so far, or {@code null} if the
+     * record was imported successfully.
+     */
+    private final Map<String, String> results;
+
+    /**
+     * Creates a new mass import task. Must be called by the thread of the
+     * user who started the import, as the processes are created on behalf of
+     * this user.
+     *
+     * @param records
+     *            IDs of the records to import, with the preset metadata for
+     *            each record
+     * @param projectId
+     *            ID of project for which processes are created
+     * @param templateId
+     *            ID of template used to create processes
+     * @param importConfiguration
+     *            import configuration of the catalogue
+     */
+    public MassImportTask(Map<String, Map<String, String>> records, int projectId, int templateId,
+            ImportConfiguration importConfiguration) {
+        super(importConfiguration.getTitle());
+        this.records = new LinkedHashMap<>(records);
+        this.projectId = projectId;
+        this.templateId = templateId;
+        this.importConfiguration = importConfiguration;
+        this.metadataLanguage = ServiceManager.getUserService().getCurrentUser().getMetadataLanguage();
+        this.authentication = SecurityContextHolder.getContext().getAuthentication();
+        this.results = Collections.synchronizedMap(new LinkedHashMap<>());
+    }
+
+    /**
+     * <b>Clone constructor.</b><!-- --> Provides the ability to restart the
+     * task if it was previously interrupted.
+     *
+     * @param source
+     *            terminated thread
+     */
+    private MassImportTask(MassImportTask source) {
+        super(source);
+        this.records = source.records;
+        this.projectId = source.projectId;
+        this.templateId = source.templateId;
+        this.importConfiguration = source.importConfiguration;
+        this.metadataLanguage = source.metadataLanguage;
+        this.authentication = source.authentication;
+        this.results = source.results;
+    }
+
+    /**
+     * Creates a new thread based on this thread to be able to restart the
+     * interrupted import.
+     *
+     * @return a new thread based on this thread
+     */
+    @Override
+    public MassImportTask replace() {
+        return new MassImportTask(this);
+    }
+
+    /**
+     * Imports the records which have not been imported successfully yet.
+     */
+    @Override
+    public void run() {
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        // load the lazy collections before the worker threads read them
+        importConfiguration.getSearchFields();
+        importConfiguration.getUrlParameters();
+        importConfiguration.getMappingFiles();
+        int parallelism = Objects.nonNull(importConfiguration.getMassImportParallelism())
+                ? importConfiguration.getMassImportParallelism()
+                : DEFAULT_PARALLELISM;
+        ExecutorService fetchExecutor = Executors.newFixedThreadPool(parallelism);
+        // the conversion writes its debug files under fixed names, so it must not run concurrently then
+        int convertThreads = Objects.nonNull(ConfigCore.getKitodoDebugDirectory()) ? 1
+                : Runtime.getRuntime().availableProcessors();
+        ExecutorService convertExecutor = Executors.newFixedThreadPool(convertThreads);
+        try {
+            Iterator<String> pending = getPendingRecordIds().iterator();
+            Deque<Map.Entry<String, Future<Document>>> loading = new ArrayDeque<>();
+            while (pending.hasNext() || !loading.isEmpty()) {
+                while (loading.size() < 2 * parallelism && pending.hasNext()) {
+                    String recordId = pending.next();
+                    loading.add(new SimpleImmutableEntry<>(recordId,
+                            load(recordId, fetchExecutor, convertExecutor)));
+                }
+                Map.Entry<String, Future<Document>> next = loading.poll();
+                setWorkDetail(next.getKey());
+                importRecord(next.getKey(), next.getValue());
+                setProgress(100 * results.size() / records.size());
+                if (isInterrupted()) {
+                    return;
+                }
+            }
+            setWorkDetail(null);
+            setProgress(100);
+        } catch (InterruptedException e) {
+            interrupt();
+        } finally {
+            fetchExecutor.shutdownNow();
+            convertExecutor.shutdownNow();
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private List<String> getPendingRecordIds() {
+        synchronized (results) {
+            return records.keySet().stream()
+                    .filter(recordId -> !results.containsKey(recordId) || Objects.nonNull(results.get(recordId)))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private Future<Document> load(String recordId, ExecutorService fetchExecutor, ExecutorService convertExecutor) {
+        ImportService importService = ServiceManager.getImportService();
+        return CompletableFuture.supplyAsync(() -> fetch(importService, recordId), fetchExecutor)
+                .thenApplyAsync(dataRecord -> convert(importService, dataRecord), convertExecutor);
+    }
+
+    private DataRecord fetch(ImportService importService, String recordId) {
+        try {
+            return importService.fetchDataRecord(recordId, importConfiguration);
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private Document convert(ImportService importService, DataRecord dataRecord) {
+        try {
+            return importService.convertDataRecordToInternal(dataRecord, importConfiguration, false);
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void importRecord(String recordId, Future<Document> document) throws InterruptedException {
+        try {
+            ServiceManager.getImportService().importProcess(document.get(), projectId, templateId,
+                importConfiguration, records.get(recordId), metadataLanguage);
+            results.put(recordId, null);
+        } catch (ExecutionException e) {
+            Throwable cause = Objects.nonNull(e.getCause()) ? e.getCause() : e;
+            logger.error("Unable to import record {}: {}", recordId, cause.getLocalizedMessage(), cause);
+            results.put(recordId, Objects.toString(cause.getLocalizedMessage(), cause.getClass().getSimpleName()));
+        } catch (ImportException e) {
+            results.put(recordId, e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Returns the results of the records processed so far.
+     *
+     * @return error message for each processed record, or {@code null} if the
+     *         record was imported successfully
+     */
+    public Map<String, String> getResults() {
+        synchronized (results) {
+            return new LinkedHashMap<>(results);
+        }
+    }
+
+    /**
+     * Returns the error messages of the records which could not be imported,
+     * or the stack trace if the task crashed.
+     *
+     * @return the error messages, or {@code null} if there are none
+     */
+    @Override
+    public String getLongMessage() {
+        if (Objects.nonNull(getException())) {
+            return super.getLongMessage();
+        }
+        String errors = getResults().entrySet().stream().filter(result -> Objects.nonNull(result.getValue()))
+                .map(result -> result.getKey() + ": " + result.getValue()).collect(Collectors.joining("\n"));
+        return errors.isEmpty() ? null : errors;
+    }
+}
@@ -24,6 +24,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.metrics.MetricsRegistry;
 import org.kitodo.production.helper.tasks.EmptyTask.Behaviour;
 
 /**
@@ -63,6 +64,14 @@ public class TaskManager {
         taskSitter = Executors.newSingleThreadScheduledExecutor();
         long delay = ConfigCore.getLongParameterOrDefaultValue(ParameterCore.TASK_MANAGER_INSPECTION_INTERVAL_MILLIS);
         taskSitter.scheduleWithFixedDelay(new TaskSitter(), delay, delay, TimeUnit.MILLISECONDS);
+        for (TaskState state : TaskState.values()) {
+            MetricsRegistry.getInstance().gauge("kitodo_task_manager_tasks", "Number of tasks in the task manager",
+                () -> countTasks(state), "state", state.name().toLowerCase());
+        }
+    }
+
+    private static long countTasks(TaskState state) {
+        return getTaskList().stream().filter(task -> task.getTaskState().equals(state)).count();
     }
 
     /**
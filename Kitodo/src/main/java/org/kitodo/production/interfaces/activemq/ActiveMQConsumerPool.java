@@ -0,0 +1,255 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.interfaces.activemq;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import javax.jms.Connection;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageConsumer;
+import javax.jms.QueueBrowser;
+import javax.jms.Session;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.metrics.MetricsRegistry;
+import org.kitodo.metrics.Timer;
+
+/**
+ * The consumers of one queue. A JMS session delivers its messages one after
+ * the other, so each consumer has a session and a processor of its own, and
+ * as many messages as there are consumers are processed at the same time.
+ * Messages with the same ordering key, see
+ * {@link ActiveMQProcessor#getOrderingKey(MapMessageObjectReader)}, wait for
+ * each other. The depth of the queue, the messages in progress and the time
+ * the messages waited and needed to be processed are published through the
+ * {@link MetricsRegistry}, labelled with the queue name.
+ */
+public class ActiveMQConsumerPool {
+    private static final Logger logger = LogManager.getLogger(ActiveMQConsumerPool.class);
+
+    /**
+     * Number of locks the ordering keys are distributed to. Messages with
+     * different keys may share a lock, which only makes them wait
+     * unnecessarily.
+     */
+    private static final int ORDERING_LOCKS = 64;
+
+    private final Supplier<? extends ActiveMQProcessor> processorFactory;
+    private final int consumers;
+    private final boolean orderByKey;
+    private final Lock[] orderingLocks = new Lock[ORDERING_LOCKS];
+    private final AtomicInteger inProgress = new AtomicInteger();
+    private Timer waitTimer;
+    private Timer processingTimer;
+    private final List<ActiveMQProcessor> processors = new ArrayList<>();
+    private final List<Session> sessions = new ArrayList<>();
+    private Connection connection;
+    private String queueName;
+
+    /**
+     * Creates the consumers of a queue.
+     *
+     * @param processorFactory
+     *            creates a processor for each consumer
+     * @param consumers
+     *            parameter holding the number of consumers
+     */
+    public ActiveMQConsumerPool(Supplier<? extends ActiveMQProcessor> processorFactory, ParameterCore consumers) {
+        this(processorFactory, ConfigCore.getIntParameterOrDefaultValue(consumers),
+                ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.ACTIVE_MQ_ORDER_BY_PROCESS));
+    }
+
+    /**
+     * Creates the consumers of a queue.
+     *
+     * @param processorFactory
+     *            creates a processor for each consumer
+     * @param consumers
+     *            number of consumers
+     * @param orderByKey
+     *            whether messages with the same ordering key wait for each
+     *            other
+     */
+    ActiveMQConsumerPool(Supplier<? extends ActiveMQProcessor> processorFactory, int consumers, boolean orderByKey) {
+        this.processorFactory = processorFactory;
+        this.consumers = Math.max(consumers, 1);
+        this.orderByKey = orderByKey && this.consumers > 1;
+        for (int i = 0; i < ORDERING_LOCKS; i++) {
+            orderingLocks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Starts the consumers, if a queue name is configured for the processor.
+     * With several consumers, each consumer fetches only one message at a
+     * time from the server, so that the messages are distributed evenly.
+     *
+     * @param connection
+     *            connection to the Active MQ server
+     * @throws JMSException
+     *             if a consumer cannot be set up
+     */
+    void start(Connection connection) throws JMSException {
+        this.connection = connection;
+        for (int i = 0; i < consumers; i++) {
+            ActiveMQProcessor processor = processorFactory.get();
+            queueName = processor.getQueueName();
+            if (Objects.isNull(queueName)) {
+                return;
+            }
+            Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            sessions.add(session);
+            Destination queue = session.createQueue(consumers > 1 ? queueName + "?consumer.prefetchSize=1" : queueName);
+            MessageConsumer messageConsumer = session.createConsumer(queue);
+            messageConsumer.setMessageListener(message -> dispatch(processor, message));
+            processor.setMessageConsumer(messageConsumer);
+            processors.add(processor);
+        }
+        registerMetrics();
+        logger.info("Started {} consumer(s) on \"{}\"", consumers, queueName);
+    }
+
+    private void registerMetrics() {
+        MetricsRegistry metricsRegistry = MetricsRegistry.getInstance();
+        waitTimer = metricsRegistry.timer("kitodo_activemq_message_wait_seconds",
+            "Time messages waited from being sent until processing began", "queue", queueName);
+        processingTimer = metricsRegistry.timer("kitodo_activemq_message_processing_seconds",
+            "Time needed to process messages", "queue", queueName);
+        metricsRegistry.gauge("kitodo_activemq_messages_in_progress", "Number of messages being processed",
+            inProgress::get, "queue", queueName);
+        metricsRegistry.gauge("kitodo_activemq_queue_depth", "Number of messages waiting in the queue", () -> {
+            try {
+                return getQueueDepth();
+            } catch (JMSException e) {
+                throw new IllegalStateException(e);
+            }
+        }, "queue", queueName);
+    }
+
+    /**
+     * Lets the processor of a consumer process a message. If the message has
+     * an ordering key, waits until no other message with that key is being
+     * processed.
+     *
+     * @param processor
+     *            processor of the consumer that received the message
+     * @param message
+     *            message received
+     */
+    private void dispatch(ActiveMQProcessor processor, Message message) {
+        Optional<Lock> orderingLock = orderByKey ? processor.getOrderingKey(message)
+                .map(key -> orderingLocks[Math.floorMod(key.hashCode(), ORDERING_LOCKS)]) : Optional.empty();
+        orderingLock.ifPresent(Lock::lock);
+        final long begin = System.currentTimeMillis();
+        inProgress.incrementAndGet();
+        try {
+            long sent = getTimestamp(message);
+            waitTimer.record(sent > 0 ? begin - sent : 0, TimeUnit.MILLISECONDS);
+            processor.onMessage(message);
+        } finally {
+            processingTimer.record(System.currentTimeMillis() - begin, TimeUnit.MILLISECONDS);
+            inProgress.decrementAndGet();
+            orderingLock.ifPresent(Lock::unlock);
+        }
+        logger.debug("Processed message from \"{}\" in {} ms", queueName, System.currentTimeMillis() - begin);
+    }
+
+    private static long getTimestamp(Message message) {
+        try {
+            return message.getJMSTimestamp();
+        } catch (JMSException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the name of the queue. Null if the processor is not active.
+     *
+     * @return the queue name
+     */
+    public String getQueueName() {
+        return queueName;
+    }
+
+    /**
+     * Returns the number of consumers running.
+     *
+     * @return the number of consumers
+     */
+    public int getConsumers() {
+        return processors.size();
+    }
+
+    /**
+     * Returns the number of messages waiting in the queue. The messages are
+     * counted by browsing the queue, so this should not be called often on
+     * long queues. It is counted when the metrics are scraped.
+     *
+     * @return the number of messages waiting
+     * @throws JMSException
+     *             if the queue cannot be browsed
+     */
+    int getQueueDepth() throws JMSException {
+        if (Objects.isNull(connection) || Objects.isNull(queueName)) {
+            return 0;
+        }
+        Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        try {
+            QueueBrowser browser = session.createBrowser(session.createQueue(queueName));
+            Enumeration<?> messages = browser.getEnumeration();
+            int depth = 0;
+            while (messages.hasMoreElements()) {
+                messages.nextElement();
+                depth++;
+            }
+            return depth;
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Shuts down the consumers and their sessions.
+     */
+    void close() {
+        for (ActiveMQProcessor processor : processors) {
+            try {
+                processor.getMessageConsumer().close();
+            } catch (JMSException e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+        for (Session session : sessions) {
+            try {
+                session.close();
+            } catch (JMSException e) {
+                logger.error(e.getMessage(), e);
+            }
+        }
+        processors.clear();
+        sessions.clear();
+    }
+}
@@ -20,7 +20,6 @@ import javax.jms.Connection;
 import javax.jms.DeliveryMode;
 import javax.jms.Destination;
 import javax.jms.JMSException;
-import javax.jms.MessageConsumer;
 import javax.jms.MessageProducer;
 import javax.jms.Session;
 import javax.servlet.ServletContextEvent;
@@ -54,10 +53,12 @@ public class ActiveMQDirector implements Runnable, ServletContextListener {
     private static final Logger logger = LogManager.getLogger(ActiveMQDirector.class);
 
     // When implementing new services, add them to this list
-    private static Collection<? extends ActiveMQProcessor> services;
+    private static Collection<ActiveMQConsumerPool> services;
 
     static {
-        services = Arrays.asList(new FinalizeStepProcessor(), new TaskActionProcessor());
+        services = Arrays.asList(
+            new ActiveMQConsumerPool(FinalizeStepProcessor::new, ParameterCore.ACTIVE_MQ_FINALIZE_STEP_CONSUMERS),
+            new ActiveMQConsumerPool(TaskActionProcessor::new, ParameterCore.ACTIVE_MQ_TASK_ACTION_CONSUMERS));
     }
 
     private static Connection connection = null;
@@ -66,8 +67,8 @@ public class ActiveMQDirector implements Runnable, ServletContextListener {
 
     /**
      * The method is called by the web container on startup
-     * and is used to start up the active MQ connection. All processors from
-     * {@link #services} are registered.
+     * and is used to start up the active MQ connection. The consumers of all
+     * processors from {@link #services} are registered.
      */
     @Override
     public void contextInitialized(ServletContextEvent initialisation) {
@@ -152,23 +153,19 @@ public class ActiveMQDirector implements Runnable, ServletContextListener {
      * This method registers the listeners with the active MQ server.
      *
      * <p>
-     * If a queue name was configured for a service, a MessageConsumer is set up
-     * to listen on that queue and, in case of incoming messages, make the
-     * service process the message. The message checker is saved inside the
-     * service to be able to shut it down later.
+     * If a queue name was configured for a service, the configured number of
+     * MessageConsumers is set up to listen on that queue and, in case of
+     * incoming messages, make the service process the message. Each consumer
+     * has a session of its own, so that several messages can be processed at
+     * the same time. The consumers are saved inside the pool to be able to
+     * shut them down later.
      */
-    private void registerListeners(Collection<? extends ActiveMQProcessor> processors) {
-        for (ActiveMQProcessor processor : processors) {
-            if (Objects.nonNull(processor.getQueueName())) {
-                MessageConsumer messageConsumer;
-                try {
-                    Destination queue = session.createQueue(processor.getQueueName());
-                    messageConsumer = session.createConsumer(queue);
-                    messageConsumer.setMessageListener(processor);
-                    processor.setMessageConsumer(messageConsumer);
-                } catch (JMSException | RuntimeException e) {
-                    logger.fatal("Error setting up monitoring for \"{}\": Giving up.", processor.getQueueName(), e);
-                }
+    private void registerListeners(Collection<ActiveMQConsumerPool> consumerPools) {
+        for (ActiveMQConsumerPool consumerPool : consumerPools) {
+            try {
+                consumerPool.start(connection);
+            } catch (JMSException | RuntimeException e) {
+                logger.fatal("Error setting up monitoring for \"{}\": Giving up.", consumerPool.getQueueName(), e);
             }
         }
     }
@@ -229,15 +226,8 @@ public class ActiveMQDirector implements Runnable, ServletContextListener {
     @Override
     public void contextDestroyed(ServletContextEvent destruction) {
         // Shut down all message consumers on any queues
-        for (ActiveMQProcessor service : services) {
-            MessageConsumer messageConsumer = service.getMessageConsumer();
-            if (Objects.nonNull(messageConsumer)) {
-                try {
-                    messageConsumer.close();
-                } catch (JMSException e) {
-                    logger.error(e.getMessage(), e);
-                }
-            }
+        for (ActiveMQConsumerPool consumerPool : services) {
+            consumerPool.close();
         }
 
         // quit session
@@ -25,6 +25,8 @@ import javax.jms.MessageListener;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Client;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.exceptions.ProcessorException;
@@ -66,6 +68,42 @@ public abstract class ActiveMQProcessor implements MessageListener {
      */
     protected abstract void process(MapMessageObjectReader ticket) throws ProcessorException, JMSException;
 
+    /**
+     * Returns the key of the message, if any. If several messages are
+     * processed at the same time, messages with the same key wait for each
+     * other. The default implementation returns no key, so all messages can
+     * be processed independently.
+     *
+     * @param ticket
+     *            an object providing access to the fields of the received map
+     *            message
+     * @return the key of the message, or empty
+     * @throws JMSException
+     *             if a field of the message cannot be read
+     * @throws DAOException
+     *             if an object referenced in the message cannot be loaded
+     */
+    protected Optional<String> getOrderingKey(MapMessageObjectReader ticket) throws JMSException, DAOException {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the key of a received message. If the key cannot be determined,
+     * for example because the message is incomplete, the message is treated
+     * as having no key; the error will be reported when processing it.
+     *
+     * @param arg
+     *            received message
+     * @return the key of the message, or empty
+     */
+    Optional<String> getOrderingKey(Message arg) {
+        try {
+            return getOrderingKey(getMessageFromObjectReader(arg));
+        } catch (JMSException | DAOException | RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Instantiating the class ActiveMQProcessor always requires to pass the
      * name of the queue it should be attached to. That means, your constructor
@@ -130,15 +168,41 @@ public abstract class ActiveMQProcessor implements MessageListener {
                 securityContext.setAuthentication(null);
             }
 
-            // turn off logging again
-            Helper.setActiveMQReporting(null);
-
             // if everything ‘s fine, report success
             new WebServiceResult(queueName, ticketID, ReportLevel.SUCCESS).send();
         } catch (Exception e) {
             // report any errors
             new WebServiceResult(queueName, ticketID, ReportLevel.FATAL, e.getMessage()).send();
+        } finally {
+            // turn off logging again
+            Helper.setActiveMQReporting(null);
+        }
+    }
+
+    /**
+     * Returns the ID of the process of a task, as ordering key. The task and
+     * its process are evicted from the session afterwards, so that they are
+     * loaded freshly when the message is processed, which may be after
+     * another message for the same process was processed.
+     *
+     * @param taskId
+     *            ID of the task
+     * @return the ID of the process, or empty
+     * @throws DAOException
+     *             if the task cannot be loaded
+     */
+    protected static Optional<String> getProcessIdOfTask(Integer taskId) throws DAOException {
+        Task task = ServiceManager.getTaskService().getById(taskId);
+        if (Objects.isNull(task)) {
+            return Optional.empty();
+        }
+        Process process = task.getProcess();
+        ServiceManager.getTaskService().evict(task);
+        if (Objects.isNull(process)) {
+            return Optional.empty();
         }
+        ServiceManager.getProcessService().evict(process);
+        return Optional.of(process.getId().toString());
     }
 
     private void setUserAuthentification(Optional<String> optionalLogin, SecurityContext securityContext) throws DAOException {
@@ -14,6 +14,7 @@ package org.kitodo.production.interfaces.activemq;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import javax.jms.JMSException;
 
@@ -77,6 +78,19 @@ public class FinalizeStepProcessor extends ActiveMQProcessor {
         }
     }
 
+    /**
+     * Messages concerning tasks of the same process must not be processed at
+     * the same time, so the process of the task is the key of the message.
+     *
+     * @param ticket
+     *            the incoming message
+     * @return the ID of the process of the task
+     */
+    @Override
+    protected Optional<String> getOrderingKey(MapMessageObjectReader ticket) throws JMSException, DAOException {
+        return getProcessIdOfTask(ticket.getMandatoryInteger("id"));
+    }
+
     /**
      * Transfers the properties to set into Production’s data model.
      *
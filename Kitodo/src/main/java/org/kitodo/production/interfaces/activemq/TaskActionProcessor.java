@@ -86,6 +86,19 @@ public class TaskActionProcessor extends ActiveMQProcessor {
         }
     }
 
+    /**
+     * Messages concerning tasks of the same process must not be processed at
+     * the same time, so the process of the task is the key of the message.
+     *
+     * @param ticket
+     *            the incoming message
+     * @return the ID of the process of the task
+     */
+    @Override
+    protected Optional<String> getOrderingKey(MapMessageObjectReader ticket) throws JMSException, DAOException {
+        return getProcessIdOfTask(ticket.getMandatoryInteger(KEY_TASK_ID));
+    }
+
     private void processAction(MapMessageObjectReader mapMessageObjectReader, TaskAction taskAction, Task currentTask)
             throws JMSException, ProcessorException, DataException, DAOException, IOException {
         Comment comment = null;
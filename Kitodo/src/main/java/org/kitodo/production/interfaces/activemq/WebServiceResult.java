@@ -17,6 +17,7 @@ import java.util.Objects;
 
 import javax.jms.JMSException;
 import javax.jms.MapMessage;
+import javax.jms.MessageProducer;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -67,7 +68,8 @@ public class WebServiceResult {
     }
 
     /**
-     * Send.
+     * Send. The session is shared by all consumers, so sending is
+     * synchronized on the results topic.
      */
     public void send() {
         if (Objects.isNull(ActiveMQDirector.getResultsTopic())) {
@@ -77,22 +79,28 @@ public class WebServiceResult {
                         + (Objects.nonNull(message) ? " (" + message + ")" : ""));
         } else {
             try {
-                MapMessage report = ActiveMQDirector.getSession().createMapMessage();
-
-                report.setString("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME));
-                report.setString("queue", queueName);
-                report.setString("id", id);
-                report.setString("level", level.toLowerCase());
-                if (Objects.nonNull(message)) {
-                    report.setString("message", message);
-                }
-
-                ActiveMQDirector.getResultsTopic().send(report);
-
+                sendReport();
             } catch (JMSException | RuntimeException e) {
                 logger.fatal("Error sending report  for \"{}@{}\" ({}{}): Giving up.", id, queueName,
                     level.toLowerCase(), Objects.nonNull(message) ? ": " + message : "", e);
             }
         }
     }
+
+    private void sendReport() throws JMSException {
+        MessageProducer resultsTopic = ActiveMQDirector.getResultsTopic();
+        synchronized (resultsTopic) {
+            MapMessage report = ActiveMQDirector.getSession().createMapMessage();
+
+            report.setString("timestamp", LocalDateTime.now().format(DateTimeFormatter.ISO_DATE_TIME));
+            report.setString("queue", queueName);
+            report.setString("id", id);
+            report.setString("level", level.toLowerCase());
+            if (Objects.nonNull(message)) {
+                report.setString("message", message);
+            }
+
+            resultsTopic.send(report);
+        }
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.metrics.MetricsRegistry;
+
+/**
+ * Provides the metrics of the application in the text format of Prometheus.
+ * The metrics can only be read from the addresses configured in
+ * {@code metrics.allowedAddresses}, as the endpoint does not require a login.
+ * Without any addresses configured, the endpoint is disabled.
+ */
+@WebServlet("/metrics")
+public class MetricsServlet extends HttpServlet {
+    private static final Logger logger = LogManager.getLogger(MetricsServlet.class);
+
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        List<InetAddress> allowedAddresses = getAllowedAddresses();
+        if (allowedAddresses.isEmpty()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!allowedAddresses.contains(InetAddress.getByName(request.getRemoteAddr()))) {
+            logger.warn("Metrics requested from {}, which is not allowed", request.getRemoteAddr());
+            response.sendError(HttpServletResponse.SC_FORBIDDEN);
+            return;
+        }
+        response.setContentType(CONTENT_TYPE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader("Cache-Control", "no-store");
+        try (Writer writer = response.getWriter()) {
+            MetricsRegistry.getInstance().write(writer);
+        }
+    }
+
+    private static List<InetAddress> getAllowedAddresses() {
+        List<InetAddress> allowedAddresses = new ArrayList<>();
+        for (String address : ConfigCore.getParameterOrDefaultValue(ParameterCore.METRICS_ALLOWED_ADDRESSES)
+                .split(",")) {
+            if (StringUtils.isNotBlank(address)) {
+                try {
+                    allowedAddresses.add(InetAddress.getByName(address.trim()));
+                } catch (UnknownHostException e) {
+                    logger.warn("Ignoring unknown address {} in metrics.allowedAddresses", address.trim());
+                }
+            }
+        }
+        return allowedAddresses;
+    }
+}
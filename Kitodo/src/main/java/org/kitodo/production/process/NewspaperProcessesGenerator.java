@@ -217,6 +217,12 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
      */
     private Process yearProcess;
 
+    /**
+     * IDs of the existing year processes, by year mark. Built once in the
+     * initialization step and extended as year processes are created.
+     */
+    private Map<String, Integer> yearProcessIds;
+
     /**
      * Views of metadata to add process title to year processes.
      */
@@ -296,6 +302,7 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
                 Helper.setErrorMessage("duplicatedTitles");
                 return false;
             }
+            indexYearProcesses();
         } else if (currentStep - NUMBER_OF_INIT_STEPS < processesToCreate.size()) {
             createProcess(currentStep - NUMBER_OF_INIT_STEPS);
         } else {
@@ -682,47 +689,73 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         }
     }
 
-    private boolean openExistingYearProcess(String yearMark)
-            throws DAOException, IOException {
+    /**
+     * Determines the year mark of every existing year process of the
+     * newspaper. Each year process is read once here, so that changing to
+     * another year does not need to read all year processes again.
+     *
+     * @throws DAOException
+     *             if a year process cannot be loaded from the database
+     * @throws IOException
+     *             if the metadata file of a year process cannot be read
+     */
+    private void indexYearProcesses() throws DAOException, IOException {
         final long begin = System.nanoTime();
 
-        boolean couldOpenExistingProcess = false;
+        yearProcessIds = new HashMap<>();
         for (LogicalDivision firstLevelChild : overallWorkpiece.getLogicalStructure().getChildren()) {
             LinkedMetsResource firstLevelChildLink = firstLevelChild.getLink();
             if (Objects.isNull(firstLevelChildLink)) {
                 continue;
             }
-            Process linkedProcess = processService
-                    .getById(processService.processIdFromUri(firstLevelChildLink.getUri()));
-            URI metadataFileUri = processService.getMetadataFileUri(linkedProcess);
-            Workpiece workpiece = metsService.loadWorkpiece(metadataFileUri);
-            String yearMetadataEntry = null;
-            if (yearSimpleMetadataView.getId().equals("ORDERLABEL")) {
-                yearMetadataEntry = workpiece.getLogicalStructure().getOrderlabel();
-            }
-            for (Metadata metadata : workpiece.getLogicalStructure().getMetadata()) {
-                if (metadata.getKey().equals(yearSimpleMetadataView.getId()) && metadata instanceof MetadataEntry) {
-                    yearMetadataEntry = ((MetadataEntry) metadata).getValue();
-                    break;
-                }
-            }
-            if (Objects.isNull(yearMetadataEntry)) {
-                continue;
+            int linkedProcessId = processService.processIdFromUri(firstLevelChildLink.getUri());
+            Process linkedProcess = processService.getById(linkedProcessId);
+            Workpiece workpiece = metsService.loadWorkpiece(processService.getMetadataFileUri(linkedProcess));
+            String yearMetadataEntry = getYearMetadataEntry(workpiece);
+            if (Objects.nonNull(yearMetadataEntry)) {
+                yearProcessIds.putIfAbsent(yearMetadataEntry, linkedProcessId);
             }
-            couldOpenExistingProcess = yearMetadataEntry.equals(yearMark);
-            if (couldOpenExistingProcess) {
-                this.yearProcess = linkedProcess;
-                this.yearWorkpiece = workpiece;
-                this.yearMetadataFileUri = metadataFileUri;
-                this.currentYear = yearMark;
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace("Indexing {} year processes took {} ms", yearProcessIds.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
+        }
+    }
+
+    private String getYearMetadataEntry(Workpiece workpiece) {
+        String yearMetadataEntry = null;
+        if (yearSimpleMetadataView.getId().equals("ORDERLABEL")) {
+            yearMetadataEntry = workpiece.getLogicalStructure().getOrderlabel();
+        }
+        for (Metadata metadata : workpiece.getLogicalStructure().getMetadata()) {
+            if (metadata.getKey().equals(yearSimpleMetadataView.getId()) && metadata instanceof MetadataEntry) {
+                yearMetadataEntry = ((MetadataEntry) metadata).getValue();
                 break;
             }
         }
+        return yearMetadataEntry;
+    }
+
+    private boolean openExistingYearProcess(String yearMark)
+            throws DAOException, IOException {
+        final long begin = System.nanoTime();
+
+        Integer yearProcessId = yearProcessIds.get(yearMark);
+        if (Objects.isNull(yearProcessId)) {
+            return false;
+        }
+        Process linkedProcess = processService.getById(yearProcessId);
+        URI metadataFileUri = processService.getMetadataFileUri(linkedProcess);
+        this.yearProcess = linkedProcess;
+        this.yearWorkpiece = metsService.loadWorkpiece(metadataFileUri);
+        this.yearMetadataFileUri = metadataFileUri;
+        this.currentYear = yearMark;
+
         if (logger.isTraceEnabled()) {
-            logger.trace("Searching year process for {} took {} ms", yearMark,
+            logger.trace("Opening year process for {} took {} ms", yearMark,
                 TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
         }
-        return couldOpenExistingProcess;
+        return true;
     }
 
     private void createNewYearProcess(String yearMark, Map<String, String> genericFields)
@@ -764,6 +797,7 @@ public class NewspaperProcessesGenerator extends ProcessGenerator {
         this.yearWorkpiece = workpiece;
         this.yearMetadataFileUri = metadataFileUri;
         this.currentYear = yearMark;
+        yearProcessIds.put(yearMark, getGeneratedProcess().getId());
 
         if (logger.isTraceEnabled()) {
             logger.trace("Creating year process for {} took {} ms", yearMark,
@@ -146,6 +146,8 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
             .antMatchers("/javax.faces.resource/**", "**/resources/**").permitAll()
             .antMatchers("/js/modeler.js").permitAll()
             .antMatchers("/js/toggle.js").permitAll()
+            // restricted to the configured addresses by the servlet
+            .antMatchers("/metrics").permitAll()
             .anyRequest().authenticated();
     }
 
@@ -46,6 +46,7 @@ import org.kitodo.production.services.dataeditor.RulesetManagementService;
 import org.kitodo.production.services.dataformat.MetsService;
 import org.kitodo.production.services.file.FileService;
 import org.kitodo.production.services.image.ImageService;
+import org.kitodo.production.services.image.ThumbnailService;
 import org.kitodo.production.services.index.IndexingService;
 import org.kitodo.production.services.migration.MigrationService;
 import org.kitodo.production.services.ocr.OcrdWorkflowService;
@@ -97,6 +98,7 @@ public class ServiceManager {
     private static SessionService sessionService;
     private static TaskService taskService;
     private static TemplateService templateService;
+    private static ThumbnailService thumbnailService;
     private static UserService userService;
     private static WorkflowService workflowService;
     private static WorkflowConditionService workflowConditionService;
@@ -245,6 +247,12 @@ public class ServiceManager {
         }
     }
 
+    private static void initializeThumbnailService() {
+        if (Objects.isNull(thumbnailService)) {
+            thumbnailService = ThumbnailService.getInstance();
+        }
+    }
+
     private static void initializeRoleService() {
         if (Objects.isNull(roleService)) {
             roleService = RoleService.getInstance();
@@ -591,6 +599,17 @@ public class ServiceManager {
         return templateService;
     }
 
+    /**
+     * Initialize ThumbnailService if it is not yet initialized and next return
+     * it.
+     *
+     * @return ThumbnailService object
+     */
+    public static ThumbnailService getThumbnailService() {
+        initializeThumbnailService();
+        return thumbnailService;
+    }
+
     /**
      * Initialize RoleService if it is not yet initialized and next return it.
      *
@@ -16,23 +16,64 @@ import io.reactivex.schedulers.Schedulers;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.kitodo.api.command.CommandInterface;
 import org.kitodo.api.command.CommandResult;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.metrics.MetricsRegistry;
 import org.kitodo.serviceloader.KitodoServiceLoader;
 
 public class CommandService {
+    private static final Logger logger = LogManager.getLogger(CommandService.class);
+
     private final CommandInterface commandModule;
     private final ArrayList<CommandResult> finishedCommandResults = new ArrayList<>();
+    private final Duration timeout;
+    private final Semaphore scriptsRunning;
+    private final int maxParallelPerScript;
+    private final Map<String, Semaphore> runsOfScript = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> running = new ConcurrentHashMap<>();
 
     /**
      * Initialize Command Service.
      */
     public CommandService() {
+        this(ConfigCore.getIntParameterOrDefaultValue(ParameterCore.SCRIPT_MAX_PARALLEL),
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.SCRIPT_MAX_PARALLEL_PER_SCRIPT),
+                Duration.ofSeconds(ConfigCore.getIntParameterOrDefaultValue(ParameterCore.SCRIPT_TIMEOUT)));
+    }
+
+    /**
+     * Initialize Command Service with the given limits.
+     *
+     * @param maxParallel
+     *            maximum number of scripts running at the same time, zero for
+     *            no limit
+     * @param maxParallelPerScript
+     *            maximum number of runs of the same script at the same time,
+     *            zero for no limit
+     * @param timeout
+     *            time after which a script is killed, zero for no limit
+     */
+    CommandService(int maxParallel, int maxParallelPerScript, Duration timeout) {
         commandModule = new KitodoServiceLoader<CommandInterface>(CommandInterface.class).loadModule();
+        this.scriptsRunning = maxParallel > 0 ? new Semaphore(maxParallel, true) : null;
+        this.maxParallelPerScript = maxParallelPerScript;
+        this.timeout = timeout;
     }
 
     /**
@@ -48,10 +89,29 @@ public class CommandService {
      *             an IOException
      */
     public CommandResult runCommand(String script) throws IOException {
+        return runCommand(script, timeout);
+    }
+
+    /**
+     * Method executes a script string and kills it if it runs longer than the
+     * given time.
+     *
+     * @param script
+     *            Path to the script file with optional arguments (filepath
+     *            parameter1 parameter2 ...).
+     * @param timeout
+     *            time after which the script is killed, zero for no limit
+     *
+     * @return The CommandResult.
+     *
+     * @throws IOException
+     *             an IOException
+     */
+    public CommandResult runCommand(String script, Duration timeout) throws IOException {
         if (Objects.isNull(script)) {
             return null;
         }
-        CommandResult commandResult = commandModule.runCommand(script);
+        CommandResult commandResult = runLimited(script, timeout);
         List<String> commandResultMessages = commandResult.getMessages();
         if (!commandResultMessages.isEmpty() && commandResultMessages.get(0).contains("IOException")) {
             throw new IOException(commandResultMessages.get(1));
@@ -107,7 +167,7 @@ public class CommandService {
     public void runCommandAsync(String script) {
         if (Objects.nonNull(script)) {
             Flowable<CommandResult> source = Flowable.fromCallable(() ->
-                commandModule.runCommand(script)
+                runLimited(script, timeout)
             );
 
             Flowable<CommandResult> commandBackgroundWorker = source.subscribeOn(Schedulers.io());
@@ -143,6 +203,105 @@ public class CommandService {
         }
     }
 
+    /**
+     * Runs a script once the configured number of scripts running at the same
+     * time allows it, and records its duration and exit code in the metrics.
+     *
+     * @param script
+     *            Path to the script file with optional arguments
+     * @param timeout
+     *            time after which the script is killed, zero for no limit
+     * @return The CommandResult.
+     */
+    private CommandResult runLimited(String script, Duration timeout) {
+        String scriptName = getScriptName(script);
+        Semaphore runs = maxParallelPerScript > 0
+                ? runsOfScript.computeIfAbsent(scriptName, unused -> new Semaphore(maxParallelPerScript, true))
+                : null;
+        try {
+            acquire(runs);
+            try {
+                acquire(scriptsRunning);
+            } catch (InterruptedException e) {
+                release(runs);
+                throw e;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new CommandResult(script, false,
+                    Collections.singletonList("Interrupted while waiting to run " + scriptName));
+        }
+        AtomicInteger runningOfScript = running.computeIfAbsent(scriptName, this::registerRunningGauge);
+        runningOfScript.incrementAndGet();
+        CommandResult commandResult = null;
+        try {
+            commandResult = commandModule.runCommand(script, timeout);
+            return commandResult;
+        } finally {
+            runningOfScript.decrementAndGet();
+            release(scriptsRunning);
+            release(runs);
+            recordMetrics(scriptName, commandResult);
+        }
+    }
+
+    private AtomicInteger registerRunningGauge(String scriptName) {
+        AtomicInteger runningOfScript = new AtomicInteger();
+        MetricsRegistry.getInstance().gauge("kitodo_scripts_running", "Number of scripts running",
+            runningOfScript::get, "script", scriptName);
+        return runningOfScript;
+    }
+
+    /**
+     * Records the duration and the exit code of a script run. Runs killed
+     * after the timeout are counted with the exit code "timeout", runs that
+     * could not be started with "error".
+     *
+     * @param scriptName
+     *            file name of the script
+     * @param commandResult
+     *            result of the run, null if the run failed with an exception
+     */
+    private static void recordMetrics(String scriptName, CommandResult commandResult) {
+        String exitCode = "error";
+        if (Objects.nonNull(commandResult)) {
+            MetricsRegistry.getInstance().timer("kitodo_script_seconds", "Duration of script runs", "script",
+                scriptName).record(commandResult.getDuration(), TimeUnit.MILLISECONDS);
+            if (Objects.nonNull(commandResult.getExitCode())) {
+                exitCode = commandResult.getExitCode().toString();
+            } else if (commandResult.getDuration() > 0) {
+                exitCode = "timeout";
+            }
+        }
+        MetricsRegistry.getInstance().counter("kitodo_script_runs_total", "Number of finished script runs",
+            "script", scriptName, "exit_code", exitCode).increment();
+        logger.debug("Script {} finished with exit code {}", scriptName, exitCode);
+    }
+
+    private static void acquire(Semaphore semaphore) throws InterruptedException {
+        if (Objects.nonNull(semaphore)) {
+            semaphore.acquire();
+        }
+    }
+
+    private static void release(Semaphore semaphore) {
+        if (Objects.nonNull(semaphore)) {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * Returns the file name of the script, without path and arguments.
+     *
+     * @param script
+     *            Path to the script file with optional arguments
+     * @return the file name of the script
+     */
+    private static String getScriptName(String script) {
+        String scriptFile = StringUtils.substringBefore(script.trim(), " ");
+        return new File(scriptFile).getName();
+    }
+
     /**
      * Should be used to handle finished asynchronous script executions.
      *
@@ -12,16 +12,19 @@
 package org.kitodo.production.services.data;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -51,12 +54,11 @@ import org.kitodo.data.elasticsearch.search.enums.SearchCondition;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.BaseDTO;
 import org.kitodo.production.dto.FilterDTO;
-import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.dto.ProjectDTO;
-import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.enums.FilterString;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.helper.Helper;
+import org.kitodo.production.security.SecurityUserDetails;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.base.SearchService;
 import org.primefaces.model.SortOrder;
@@ -72,11 +74,59 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
     private static final Pattern CONDITION_PATTERN = Pattern.compile("\\(([^\\)]+)\\)|([^\\(\\)\\|]+)");
     public static final String FILTER_STRING = "filterString";
 
+    /**
+     * Number of filter plans and of queries kept in memory.
+     */
+    private static final int CACHE_SIZE = 1000;
+
+    /**
+     * Types of conditions in the order in which they are checked. The first
+     * type whose filter name a condition starts with is the type of the
+     * condition.
+     */
+    private static final List<FilterString> CONDITION_TYPES = Arrays.asList(FilterString.TASK,
+        FilterString.TASKINWORK, FilterString.TASKLOCKED, FilterString.TASKOPEN, FilterString.TASKDONE,
+        FilterString.TASKDONETITLE, FilterString.TASKDONEUSER, FilterString.TASKAUTOMATIC, FilterString.PROJECT,
+        FilterString.ID, FilterString.PARENTPROCESSID, FilterString.PROPERTY, FilterString.PROCESS,
+        FilterString.BATCH);
+
+    private final long queryTimeToLive;
+    private final Map<String, List<List<Condition>>> filterPlans = createCache();
+    private final Map<List<Object>, CachedQuery> queries = createCache();
+
     /**
      * Constructor with Searcher and Indexer assigning.
      */
     private FilterService() {
+        this(TimeUnit.SECONDS.toNanos(
+            ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_FILTER_CACHE_TIME_TO_LIVE)));
+    }
+
+    /**
+     * Constructor with Searcher and Indexer assigning, which reuses the built
+     * queries for the given time.
+     *
+     * @param queryTimeToLive
+     *            time in nanoseconds for which a query is reused, 0 builds
+     *            every query anew
+     */
+    private FilterService(long queryTimeToLive) {
         super(new FilterDAO(), new FilterType(), new Indexer<>(Filter.class), new Searcher(Filter.class));
+        this.queryTimeToLive = queryTimeToLive;
+    }
+
+    /**
+     * Creates a filter service with caches of its own, which reuses the built
+     * queries for the given time instead of the configured one. This is meant
+     * for tests and benchmarks; the application uses {@link #getInstance()}.
+     *
+     * @param queryTimeToLive
+     *            time for which a query is reused, zero builds every query
+     *            anew
+     * @return a new filter service
+     */
+    public static FilterService create(Duration queryTimeToLive) {
+        return new FilterService(queryTimeToLive.toNanos());
     }
 
     /**
@@ -163,6 +213,12 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      * progress. The negation thereof would be "-stepinwork:Scanning". A disjunction 
      * of conditions would be "stepinwork:Scanning | stepinwork:QC".</p>
      *
+     * <p>A filter string is parsed only once. The query built from it, for
+     * which objects referred to by the filter may have to be looked up in the
+     * index, is reused for the same object type, client, user and flags for
+     * the time configured by {@code elasticsearch.filterCacheTimeToLive}. The
+     * query returned may be extended by the caller.</p>
+     *
      * @param filters
      *            as String
      * @param objectType
@@ -176,7 +232,30 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
     public BoolQueryBuilder queryBuilder(String filters, ObjectType objectType, Boolean onlyOpenTasks,
             Boolean onlyUserAssignedTasks) throws DataException {
 
-        filters = replaceLegacyFilters(filters);
+        if (queryTimeToLive <= 0) {
+            return buildQuery(getFilterPlan(filters), objectType, onlyOpenTasks, onlyUserAssignedTasks);
+        }
+        // tasks are limited to those of the current user
+        Integer userId = null;
+        if (objectType == ObjectType.TASK) {
+            SecurityUserDetails user = ServiceManager.getUserService().getAuthenticatedUser();
+            userId = Objects.nonNull(user) ? user.getId() : null;
+        }
+        List<Object> key = Arrays.asList(filters, objectType, ServiceManager.getUserService().getSessionClientId(),
+            userId, onlyOpenTasks, onlyUserAssignedTasks);
+        long now = System.nanoTime();
+        CachedQuery cachedQuery = queries.get(key);
+        if (Objects.isNull(cachedQuery) || now - cachedQuery.created > queryTimeToLive) {
+            cachedQuery = new CachedQuery(
+                    buildQuery(getFilterPlan(filters), objectType, onlyOpenTasks, onlyUserAssignedTasks), now);
+            queries.put(key, cachedQuery);
+        }
+        return copyOf(cachedQuery.query);
+    }
+
+    private BoolQueryBuilder buildQuery(List<List<Condition>> filterPlan, ObjectType objectType,
+            Boolean onlyOpenTasks, Boolean onlyUserAssignedTasks) throws DataException {
+
         BoolQueryBuilder query = new BoolQueryBuilder();
 
         // this is needed if we filter task
@@ -184,16 +263,14 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
             query = buildTaskQuery(onlyOpenTasks, onlyUserAssignedTasks);
         }
 
-        for (String filter : splitFilters(filters)) {
+        for (List<Condition> filter : filterPlan) {
             BoolQueryBuilder bool = new BoolQueryBuilder();
-            for (String condition : splitConditions(filter)) {
-                boolean negated = condition.startsWith("-");
-                if (negated) {
-                    bool.should(new BoolQueryBuilder().mustNot(
-                        buildQueryFromCondition(condition.substring(1), objectType))
-                    );
+            for (Condition condition : filter) {
+                QueryBuilder conditionQuery = buildQueryFromCondition(condition, objectType);
+                if (condition.negated) {
+                    bool.should(new BoolQueryBuilder().mustNot(conditionQuery));
                 } else {
-                    bool.should(buildQueryFromCondition(condition, objectType));
+                    bool.should(conditionQuery);
                 }
             }
             query.must(bool);
@@ -201,6 +278,65 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         return query;
     }
 
+    /**
+     * Returns the filters and their conditions of a filter string. The filter
+     * string is only parsed the first time.
+     *
+     * @param filters
+     *            the filter string
+     * @return an unmodifiable list of the filters, each of which is an
+     *         unmodifiable list of alternative conditions
+     */
+    private List<List<Condition>> getFilterPlan(String filters) {
+        List<List<Condition>> filterPlan = filterPlans.get(filters);
+        if (Objects.isNull(filterPlan)) {
+            filterPlan = new ArrayList<>();
+            for (String filter : splitFilters(replaceLegacyFilters(filters))) {
+                List<Condition> conditions = new ArrayList<>();
+                for (String condition : splitConditions(filter)) {
+                    boolean negated = condition.startsWith("-");
+                    String text = negated ? condition.substring(1) : condition;
+                    conditions.add(new Condition(text, negated, getConditionType(text)));
+                }
+                filterPlan.add(Collections.unmodifiableList(conditions));
+            }
+            filterPlan = Collections.unmodifiableList(filterPlan);
+            filterPlans.put(filters, filterPlan);
+        }
+        return filterPlan;
+    }
+
+    private FilterString getConditionType(String condition) {
+        for (FilterString conditionType : CONDITION_TYPES) {
+            if (evaluateFilterString(condition, conditionType, null)) {
+                return conditionType;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Copies the clauses of a cached query into a new query, so that the
+     * cached query is not changed if the caller adds clauses.
+     */
+    private static BoolQueryBuilder copyOf(BoolQueryBuilder query) {
+        BoolQueryBuilder copy = new BoolQueryBuilder();
+        query.must().forEach(copy::must);
+        query.mustNot().forEach(copy::mustNot);
+        query.should().forEach(copy::should);
+        query.filter().forEach(copy::filter);
+        return copy;
+    }
+
+    private static <K, V> Map<K, V> createCache() {
+        return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        });
+    }
+
     /**
      * Splits a filter into multiple alternative conditions.
      * 
@@ -223,40 +359,47 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
      * @param objectType the object type that is being filtered (either task or process)
      * @return a elastic search query builder object representing the condition
      */
-    private QueryBuilder buildQueryFromCondition(String condition, ObjectType objectType) throws DataException {
-        if (evaluateFilterString(condition, FilterString.TASK, null)) {
-            return createHistoricFilter(condition);
-        } else if (evaluateFilterString(condition, FilterString.TASKINWORK, null)) {
-            return createTaskFilters(condition, FilterString.TASKINWORK, TaskStatus.INWORK, false, objectType);
-        } else if (evaluateFilterString(condition, FilterString.TASKLOCKED, null)) {
-            return createTaskFilters(condition, FilterString.TASKLOCKED, TaskStatus.LOCKED, false, objectType);
-        } else if (evaluateFilterString(condition, FilterString.TASKOPEN, null)) {
-            return createTaskFilters(condition, FilterString.TASKOPEN, TaskStatus.OPEN, false, objectType);
-        } else if (evaluateFilterString(condition, FilterString.TASKDONE, null)) {
-            return createTaskFilters(condition, FilterString.TASKDONE, TaskStatus.DONE, false, objectType);
-        } else if (evaluateFilterString(condition, FilterString.TASKDONETITLE, null)) {
-            String taskTitle = getFilterValueFromFilterString(condition, FilterString.TASKDONETITLE);
-            return filterTaskTitle(taskTitle, TaskStatus.DONE, false, objectType);
-        } else if (evaluateFilterString(condition, FilterString.TASKDONEUSER, null)
-                && ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.WITH_USER_STEP_DONE_SEARCH)) {
-            return filterTaskDoneUser(condition, objectType);
-        } else if (evaluateFilterString(condition, FilterString.TASKAUTOMATIC, null)) {
-            return filterAutomaticTasks(condition, objectType);
-        } else if (evaluateFilterString(condition, FilterString.PROJECT, null)) {
-            return filterProject(condition, false, objectType);
-        } else if (evaluateFilterString(condition, FilterString.ID, null)) {
-            return createProcessIdFilter(condition, objectType);
-        } else if (evaluateFilterString(condition, FilterString.PARENTPROCESSID, null)) {
-            return createParentProcessIdFilter(condition, objectType);
-        } else if (evaluateFilterString(condition, FilterString.PROPERTY, null)) {
-            return createProcessPropertyFilter(condition, objectType);
-        } else if (evaluateFilterString(condition, FilterString.PROCESS, null)) {
-            return createProcessTitleFilter(condition, objectType);
-        } else if (evaluateFilterString(condition, FilterString.BATCH, null)) {
-            return createBatchIdFilter(condition, objectType, true);
-        } else {
+    private QueryBuilder buildQueryFromCondition(Condition condition, ObjectType objectType) throws DataException {
+        String text = condition.text;
+        if (Objects.isNull(condition.type)) {
             /* standard-search parameter */
-            return createDefaultQuery(condition, false, objectType);
+            return createDefaultQuery(text, false, objectType);
+        }
+        switch (condition.type) {
+            case TASK:
+                return createHistoricFilter(text);
+            case TASKINWORK:
+                return createTaskFilters(text, FilterString.TASKINWORK, TaskStatus.INWORK, false, objectType);
+            case TASKLOCKED:
+                return createTaskFilters(text, FilterString.TASKLOCKED, TaskStatus.LOCKED, false, objectType);
+            case TASKOPEN:
+                return createTaskFilters(text, FilterString.TASKOPEN, TaskStatus.OPEN, false, objectType);
+            case TASKDONE:
+                return createTaskFilters(text, FilterString.TASKDONE, TaskStatus.DONE, false, objectType);
+            case TASKDONETITLE:
+                String taskTitle = getFilterValueFromFilterString(text, FilterString.TASKDONETITLE);
+                return filterTaskTitle(taskTitle, TaskStatus.DONE, false, objectType);
+            case TASKDONEUSER:
+                if (ConfigCore.getBooleanParameterOrDefaultValue(ParameterCore.WITH_USER_STEP_DONE_SEARCH)) {
+                    return filterTaskDoneUser(text, objectType);
+                }
+                return createDefaultQuery(text, false, objectType);
+            case TASKAUTOMATIC:
+                return filterAutomaticTasks(text, objectType);
+            case PROJECT:
+                return filterProject(text, false, objectType);
+            case ID:
+                return createProcessIdFilter(text, objectType);
+            case PARENTPROCESSID:
+                return createParentProcessIdFilter(text, objectType);
+            case PROPERTY:
+                return createProcessPropertyFilter(text, objectType);
+            case PROCESS:
+                return createProcessTitleFilter(text, objectType);
+            case BATCH:
+                return createBatchIdFilter(text, objectType, true);
+            default:
+                return createDefaultQuery(text, false, objectType);
         }
     }
 
@@ -550,9 +693,9 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         if (objectType == ObjectType.PROCESS) {
             return createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), negate);
         } else if (objectType == ObjectType.TASK) {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService().findByQuery(
-                createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), negate), true);
-            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), negate);
+            Set<Integer> processIds = ServiceManager.getProcessService().findIdsByQuery(
+                createSetQuery("batches.id", filterValuesAsIntegers(filter, FilterString.BATCH), negate));
+            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), processIds, negate);
         }
         return new BoolQueryBuilder();
     }
@@ -962,8 +1105,7 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
     private QueryBuilder getQueryAccordingToObjectTypeAndSearchInTask(ObjectType objectType, QueryBuilder query)
             throws DataException {
         if (objectType == ObjectType.PROCESS) {
-            List<TaskDTO> taskDTOS = ServiceManager.getTaskService().findByQuery(query, true);
-            return createSetQuery("tasks.id", collectIds(taskDTOS), true);
+            return createSetQuery("tasks.id", ServiceManager.getTaskService().findIdsByQuery(query), true);
         } else if (objectType == ObjectType.TASK) {
             return query;
         }
@@ -975,8 +1117,8 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         if (objectType == ObjectType.PROCESS) {
             return query;
         } else if (objectType == ObjectType.TASK) {
-            List<ProcessDTO> processDTOS = ServiceManager.getProcessService().findByQuery(query, true);
-            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), collectIds(processDTOS), true);
+            Set<Integer> processIds = ServiceManager.getProcessService().findIdsByQuery(query);
+            return createSetQuery(TaskTypeField.PROCESS_ID.getKey(), processIds, true);
         }
         return new BoolQueryBuilder();
     }
@@ -1145,4 +1287,33 @@ public class FilterService extends SearchService<Filter, FilterDTO, FilterDAO> {
         }
         return new ArrayList<>();
     }
+
+    /**
+     * A condition of a filter, with its type determined when the filter
+     * string is parsed.
+     */
+    private static final class Condition {
+        private final String text;
+        private final boolean negated;
+        private final FilterString type;
+
+        private Condition(String text, boolean negated, FilterString type) {
+            this.text = text;
+            this.negated = negated;
+            this.type = type;
+        }
+    }
+
+    /**
+     * A query built from a filter, with the time it was built.
+     */
+    private static final class CachedQuery {
+        private final BoolQueryBuilder query;
+        private final long created;
+
+        private CachedQuery(BoolQueryBuilder query, long created) {
+            this.query = query;
+            this.created = created;
+        }
+    }
 }
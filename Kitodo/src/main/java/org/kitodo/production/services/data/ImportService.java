@@ -89,6 +89,9 @@ import org.kitodo.exceptions.ParameterNotFoundException;
 import org.kitodo.exceptions.ProcessGenerationException;
 import org.kitodo.exceptions.RecordIdentifierMissingDetail;
 import org.kitodo.exceptions.UnsupportedFormatException;
+import org.kitodo.metrics.Counter;
+import org.kitodo.metrics.MetricsRegistry;
+import org.kitodo.metrics.Timer;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.forms.createprocess.ProcessBooleanMetadata;
 import org.kitodo.production.forms.createprocess.ProcessDetail;
@@ -115,6 +118,15 @@ import org.xml.sax.SAXParseException;
 public class ImportService {
 
     private static final Logger logger = LogManager.getLogger(ImportService.class);
+
+    private static final String IMPORT_TIMER_NAME = "kitodo_import_seconds";
+    private static final String IMPORT_TIMER_HELP = "Duration of imports from catalogues and of creating processes";
+    private static final Timer CATALOGUE_TIMER = MetricsRegistry.getInstance().timer(IMPORT_TIMER_NAME,
+        IMPORT_TIMER_HELP, "operation", "catalogue");
+    private static final Timer PROCESS_TIMER = MetricsRegistry.getInstance().timer(IMPORT_TIMER_NAME,
+        IMPORT_TIMER_HELP, "operation", "process");
+    private static final Counter FAILED_IMPORTS = MetricsRegistry.getInstance().counter(
+        "kitodo_import_failures_total", "Number of imports of processes that failed");
     public static final String ACQUISITION_STAGE_CREATE = "create";
 
     private static volatile ImportService instance = null;
@@ -1174,54 +1186,116 @@ public class ImportService {
      */
     public Process importProcess(String ppn, int projectId, int templateId, ImportConfiguration importConfiguration,
                                  Map<String, String> presetMetadata) throws ImportException {
-        LinkedList<TempProcess> processList = new LinkedList<>();
+        Document internalDocument;
+        try (Timer.Sample sample = CATALOGUE_TIMER.start()) {
+            internalDocument = importDocument(importConfiguration, ppn, true, false);
+        } catch (IOException | ProcessGenerationException | XPathExpressionException | ParserConfigurationException
+                | NoRecordFoundException | UnsupportedFormatException | URISyntaxException | SAXException
+                | CatalogException e) {
+            FAILED_IMPORTS.increment();
+            logger.error(e);
+            throw new ImportException(e.getLocalizedMessage());
+        }
+        String metadataLanguage = ServiceManager.getUserService().getCurrentUser().getMetadataLanguage();
+        return importProcess(internalDocument, projectId, templateId, importConfiguration, presetMetadata,
+            metadataLanguage);
+    }
+
+    /**
+     * Creates a process from a record already converted to the internal format
+     * and saves it to database.
+     *
+     * @param internalDocument
+     *            the record in the internal format, see
+     *            {@link #convertDataRecordToInternal(DataRecord, ImportConfiguration, boolean)}
+     * @param projectId
+     *            the projectId
+     * @param templateId
+     *            the templateId
+     * @param importConfiguration
+     *            the import configuration the record was imported with
+     * @param presetMetadata
+     *            Map containing preset metadata with keys as metadata keys and
+     *            values as metadata values
+     * @param metadataLanguage
+     *            metadata language of the user importing the process
+     * @return the importedProcess
+     */
+    public Process importProcess(Document internalDocument, int projectId, int templateId,
+            ImportConfiguration importConfiguration, Map<String, String> presetMetadata, String metadataLanguage)
+            throws ImportException {
         TempProcess tempProcess;
-        Template template;
-        try {
-            template = ServiceManager.getTemplateService().getById(templateId);
-            String parentMetadataKey = "";
+        try (Timer.Sample sample = PROCESS_TIMER.start()) {
+            Template template = ServiceManager.getTemplateService().getById(templateId);
+            tempProcess = createTempProcessFromDocument(importConfiguration, internalDocument, templateId, projectId);
             List<String> higherLevelIdentifiers = new ArrayList<>(
                     getHigherLevelIdentifierMetadata(template.getRuleset()));
-            if (!higherLevelIdentifiers.isEmpty()) {
-                parentMetadataKey = higherLevelIdentifiers.get(0);
-            }
-            final String parentId = importProcessAndReturnParentID(ppn, processList, importConfiguration, projectId,
-                    templateId, false, parentMetadataKey);
+            String parentId = higherLevelIdentifiers.isEmpty() ? null
+                    : getParentID(internalDocument, higherLevelIdentifiers.get(0),
+                        importConfiguration.getParentElementTrimMode());
             setParentProcess(parentId, projectId, template);
-            tempProcess = processList.get(0);
-            String metadataLanguage = ServiceManager.getUserService().getCurrentUser().getMetadataLanguage();
             tempProcess.getWorkpiece().getLogicalStructure().getMetadata().addAll(createMetadata(presetMetadata));
             processTempProcess(tempProcess, ServiceManager.getRulesetService().openRuleset(template.getRuleset()),
                     "create", Locale.LanguageRange.parse(metadataLanguage.isEmpty() ? "en" : metadataLanguage),
                     parentTempProcess);
-            String title = tempProcess.getProcess().getTitle();
-            String validateRegEx = ConfigCore.getParameterOrDefaultValue(ParameterCore.VALIDATE_PROCESS_TITLE_REGEX);
-            if (StringUtils.isBlank(title)) {
-                throw new ProcessGenerationException(Helper.getTranslation("processTitleEmpty"));
-            } else if (!title.matches(validateRegEx)) {
-                throw new ProcessGenerationException(Helper.getTranslation("processTitleInvalid", title));
-            } else if (ServiceManager.getProcessService().findNumberOfProcessesWithTitle(title) > 0) {
-                throw new ProcessGenerationException(Helper.getTranslation("processTitleAlreadyInUse", title));
-            }
-            ServiceManager.getProcessService().save(tempProcess.getProcess(), true);
-            URI processBaseUri = ServiceManager.getFileService().createProcessLocation(tempProcess.getProcess());
-            tempProcess.getProcess().setProcessBaseUri(processBaseUri);
-            OutputStream out = ServiceManager.getFileService()
-                    .write(ServiceManager.getProcessService().getMetadataFileUri(tempProcess.getProcess()));
-            tempProcess.getWorkpiece().setId(tempProcess.getProcess().getId().toString());
-            ServiceManager.getMetsService().save(tempProcess.getWorkpiece(), out);
-            linkToParent(tempProcess);
-            ServiceManager.getProcessService().save(tempProcess.getProcess());
+            checkProcessTitle(tempProcess.getProcess().getTitle());
+            saveImportedProcess(tempProcess);
         } catch (DAOException | IOException | ProcessGenerationException | XPathExpressionException
-                | ParserConfigurationException | NoRecordFoundException | UnsupportedFormatException
-                | URISyntaxException | SAXException | InvalidMetadataValueException | NoSuchMetadataFieldException
-                | DataException | CommandException | TransformerException | CatalogException e) {
+                | InvalidMetadataValueException | NoSuchMetadataFieldException | DataException | CommandException
+                | TransformerException e) {
+            FAILED_IMPORTS.increment();
             logger.error(e);
             throw new ImportException(e.getLocalizedMessage());
         }
         return tempProcess.getProcess();
     }
 
+    /**
+     * Loads the record with the given ID from the catalogue of the given import
+     * configuration. Other than the import functions, this function does not
+     * change the state of the import service and may be called by multiple
+     * threads at the same time.
+     *
+     * @param recordId
+     *            ID of the record
+     * @param importConfiguration
+     *            import configuration of the catalogue
+     * @return the record as returned by the catalogue
+     * @throws NoRecordFoundException
+     *             if the catalogue does not contain a record with the given ID
+     */
+    public DataRecord fetchDataRecord(String recordId, ImportConfiguration importConfiguration)
+            throws NoRecordFoundException {
+        return initializeImportModule().getFullRecordById(
+            createDataImportFromImportConfiguration(importConfiguration),
+            getSearchTermWithDelimiter(recordId, importConfiguration));
+    }
+
+    private void checkProcessTitle(String title) throws ProcessGenerationException, DataException {
+        String validateRegEx = ConfigCore.getParameterOrDefaultValue(ParameterCore.VALIDATE_PROCESS_TITLE_REGEX);
+        if (StringUtils.isBlank(title)) {
+            throw new ProcessGenerationException(Helper.getTranslation("processTitleEmpty"));
+        } else if (!title.matches(validateRegEx)) {
+            throw new ProcessGenerationException(Helper.getTranslation("processTitleInvalid", title));
+        } else if (ServiceManager.getProcessService().findNumberOfProcessesWithTitle(title) > 0) {
+            throw new ProcessGenerationException(Helper.getTranslation("processTitleAlreadyInUse", title));
+        }
+    }
+
+    private void saveImportedProcess(TempProcess tempProcess)
+            throws DataException, IOException, CommandException, DAOException, ProcessGenerationException {
+        ServiceManager.getProcessService().save(tempProcess.getProcess(), true);
+        URI processBaseUri = ServiceManager.getFileService().createProcessLocation(tempProcess.getProcess());
+        tempProcess.getProcess().setProcessBaseUri(processBaseUri);
+        tempProcess.getWorkpiece().setId(tempProcess.getProcess().getId().toString());
+        try (OutputStream out = ServiceManager.getFileService()
+                .write(ServiceManager.getProcessService().getMetadataFileUri(tempProcess.getProcess()))) {
+            ServiceManager.getMetsService().save(tempProcess.getWorkpiece(), out);
+        }
+        linkToParent(tempProcess);
+        ServiceManager.getProcessService().save(tempProcess.getProcess());
+    }
+
     private void linkToParent(TempProcess tempProcess) throws DAOException, ProcessGenerationException, IOException {
         if (Objects.nonNull(parentTempProcess) && Objects.nonNull(parentTempProcess.getProcess())) {
             URI parentProcessUri = ServiceManager.getProcessService()
@@ -1248,11 +1322,7 @@ public class ImportService {
 
     private static Collection<String> getFunctionalMetadata(Ruleset ruleset, FunctionalMetadata metadata)
             throws IOException {
-        RulesetManagementInterface rulesetManagement = ServiceManager.getRulesetManagementService()
-                .getRulesetManagement();
-        String rulesetDir = ConfigCore.getParameter(ParameterCore.DIR_RULESETS);
-        String rulesetPath = Paths.get(rulesetDir, ruleset.getFile()).toString();
-        rulesetManagement.load(new File(rulesetPath));
+        RulesetManagementInterface rulesetManagement = ServiceManager.getRulesetService().openRuleset(ruleset);
         return rulesetManagement.getFunctionalKeys(metadata);
     }
 
@@ -18,14 +18,6 @@ import static org.kitodo.data.database.enums.CorrectionComments.NO_CORRECTION_CO
 import static org.kitodo.data.database.enums.CorrectionComments.NO_OPEN_CORRECTION_COMMENTS;
 import static org.kitodo.data.database.enums.CorrectionComments.OPEN_CORRECTION_COMMENTS;
 
-import com.itextpdf.text.Document;
-import com.itextpdf.text.DocumentException;
-import com.itextpdf.text.PageSize;
-import com.itextpdf.text.Paragraph;
-import com.itextpdf.text.Rectangle;
-import com.itextpdf.text.pdf.PdfPTable;
-import com.itextpdf.text.pdf.PdfWriter;
-
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FilenameFilter;
@@ -34,7 +26,6 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.text.DateFormat;
@@ -49,7 +40,6 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -60,6 +50,7 @@ import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.faces.context.ExternalContext;
 import javax.faces.context.FacesContext;
@@ -76,13 +67,6 @@ import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.join.ScoreMode;
-import org.apache.poi.hssf.usermodel.HSSFCell;
-import org.apache.poi.hssf.usermodel.HSSFRow;
-import org.apache.poi.hssf.usermodel.HSSFSheet;
-import org.apache.poi.hssf.usermodel.HSSFWorkbook;
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.DataFormatter;
-import org.apache.poi.ss.usermodel.Row;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.MatchQueryBuilder;
 import org.elasticsearch.index.query.MultiMatchQueryBuilder;
@@ -90,15 +74,12 @@ import org.elasticsearch.index.query.NestedQueryBuilder;
 import org.elasticsearch.index.query.Operator;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.WildcardQueryBuilder;
+import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.elasticsearch.search.sort.SortBuilders;
 import org.elasticsearch.search.sort.SortOrder;
-import org.json.JSONArray;
-import org.json.JSONObject;
-import org.json.XML;
 import org.kitodo.api.dataeditor.rulesetmanagement.FunctionalDivision;
 import org.kitodo.api.dataformat.LogicalDivision;
-import org.kitodo.api.dataformat.PhysicalDivision;
 import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.docket.DocketData;
 import org.kitodo.api.docket.DocketInterface;
@@ -110,6 +91,7 @@ import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.beans.Comment;
 import org.kitodo.data.database.beans.Folder;
+import org.kitodo.data.database.beans.ListColumn;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.database.beans.Property;
@@ -129,6 +111,7 @@ import org.kitodo.data.elasticsearch.index.Indexer;
 import org.kitodo.data.elasticsearch.index.type.ProcessType;
 import org.kitodo.data.elasticsearch.index.type.enums.BatchTypeField;
 import org.kitodo.data.elasticsearch.index.type.enums.ProcessTypeField;
+import org.kitodo.data.elasticsearch.index.type.enums.TaskTypeField;
 import org.kitodo.data.elasticsearch.search.Searcher;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.exceptions.InvalidImagesException;
@@ -143,6 +126,7 @@ import org.kitodo.production.enums.ProcessState;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.SearchResultGeneration;
 import org.kitodo.production.helper.WebDav;
+import org.kitodo.production.helper.cache.RelatedDTOCache;
 import org.kitodo.production.helper.metadata.ImageHelper;
 import org.kitodo.production.helper.metadata.MetadataHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyDocStructHelperInterface;
@@ -150,12 +134,17 @@ import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMet
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetadataTypeHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetsModsDigitalDocumentHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyPrefsHelper;
+import org.kitodo.production.helper.searchresult.CsvSearchResultWriter;
+import org.kitodo.production.helper.searchresult.PdfSearchResultWriter;
+import org.kitodo.production.helper.searchresult.SearchResultWriter;
+import org.kitodo.production.helper.searchresult.XlsxSearchResultWriter;
 import org.kitodo.production.metadata.MetadataEditor;
 import org.kitodo.production.metadata.copier.CopierData;
 import org.kitodo.production.metadata.copier.DataCopier;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.production.services.data.base.ProjectSearchService;
-import org.kitodo.production.services.dataformat.MetsService;
+import org.kitodo.production.services.data.base.SearchService;
+import org.kitodo.production.services.dataformat.MetsIndexData;
 import org.kitodo.production.services.file.FileService;
 import org.kitodo.production.services.workflow.WorkflowControllerService;
 import org.kitodo.production.workflow.KitodoNamespaceContext;
@@ -184,6 +173,10 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     private static final String METADATA_SEARCH_KEY = ProcessTypeField.METADATA + ".mdWrap.xmlData.kitodo.metadata";
     private static final String METADATA_GROUP_SEARCH_KEY = ProcessTypeField.METADATA + ".mdWrap.xmlData.kitodo.metadataGroup.metadata";
     private static final String METADATA_FILE_NAME = "meta.xml";
+    private static final FetchSourceContext DTO_PROJECTION = new FetchSourceContext(true, null,
+            new String[] {ProcessTypeField.METADATA.getKey() });
+    private static final FetchSourceContext RELATED_PROJECTION = new FetchSourceContext(true, null,
+            new String[] {ProcessTypeField.METADATA.getKey(), ProcessTypeField.TASKS.getKey() });
     private static final String NEW_LINE_ENTITY = "\n";
     private static final boolean USE_ORIG_FOLDER = ConfigCore
             .getBooleanParameterOrDefaultValue(ParameterCore.USE_ORIG_FOLDER);
@@ -325,38 +318,26 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return parents;
     }
 
-    private int getNumberOfImagesForIndex(Workpiece workpiece) {
-        return Math.toIntExact(Workpiece.treeStream(workpiece.getPhysicalStructure())
-                .filter(physicalDivision -> Objects.equals(physicalDivision.getType(), PhysicalDivision.TYPE_PAGE)).count());
-    }
-
-    private int getNumberOfMetadata(Workpiece workpiece) {
-        return Math.toIntExact(MetsService.countLogicalMetadata(workpiece));
-    }
-
-    private int getNumberOfStructures(Workpiece workpiece) {
-        return Math.toIntExact(Workpiece.treeStream(workpiece.getLogicalStructure()).count());
-    }
-
     @Override
-    public void addAllObjectsToIndex(List<Process> processes) throws CustomResponseException, DAOException, IOException {
+    public Map<Integer, Map<String, Object>> createIndexDocuments(List<Process> processes) throws IOException {
         for (Process process : processes) {
             enrichProcessData(process, true);
         }
-        super.addAllObjectsToIndex(processes);
+        return super.createIndexDocuments(processes);
     }
 
     private void enrichProcessData(Process process, boolean forIndexingAll) throws IOException {
-        process.setMetadata(getMetadataForIndex(process, forIndexingAll));
         URI metadataFilePath = fileService.getMetadataFilePath(process, false, forIndexingAll);
         if (!fileService.fileExist(metadataFilePath)) {
             logger.info("No metadata file for indexing: {}", metadataFilePath);
+            process.setMetadata(Collections.emptyList());
         } else {
-            Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metadataFilePath);
-            process.setNumberOfImages(getNumberOfImagesForIndex(workpiece));
-            process.setNumberOfMetadata(getNumberOfMetadata(workpiece));
-            process.setNumberOfStructures(getNumberOfStructures(workpiece));
-            process.setBaseType(getBaseType(workpiece));
+            MetsIndexData indexData = ServiceManager.getMetsService().readIndexData(metadataFilePath);
+            process.setMetadata(indexData.getMetadata());
+            process.setNumberOfImages(indexData.getNumberOfImages());
+            process.setNumberOfMetadata(indexData.getNumberOfMetadata());
+            process.setNumberOfStructures(indexData.getNumberOfStructures());
+            process.setBaseType(indexData.getBaseType());
         }
     }
 
@@ -378,11 +359,14 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     @Override
     public List<ProcessDTO> loadData(int first, int pageSize, String sortField,
             org.primefaces.model.SortOrder sortOrder, Map filters) throws DataException {
-        return loadData(first, pageSize, sortField, sortOrder, filters, false, false);
+        String filter = ServiceManager.getFilterService().parseFilterString(filters);
+        return findByQuery(getQueryForFilter(false, false, filter), getSortBuilder(sortField, sortOrder), first,
+            pageSize, false, DTO_PROJECTION);
     }
 
     /**
-     * Load processes with given parameters.
+     * Load processes with given parameters for the process list. Only the
+     * fields needed by the selected columns of the process list are read.
      * @param first index of first process to load
      * @param pageSize number of processes to load
      * @param sortField name of field by which processes are sorted
@@ -398,7 +382,82 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
                                      boolean showClosedProcesses, boolean showInactiveProjects) throws DataException {
         String filter = ServiceManager.getFilterService().parseFilterString(filters);
         return findByQuery(getQueryForFilter(showClosedProcesses, showInactiveProjects, filter),
-                getSortBuilder(sortField, sortOrder), first, pageSize, false);
+                getSortBuilder(sortField, sortOrder), first, pageSize, false, getProjectionForListColumns(
+                    ServiceManager.getListColumnService().getSelectedListColumnsForListAndClient("process")));
+    }
+
+    /**
+     * Returns the fields of the process documents to read for the process list
+     * with the given columns. The METS metadata are never shown and always
+     * excluded. The comments and the properties are only read if one of the
+     * columns shows them.
+     *
+     * @param listColumns
+     *            columns shown in the process list
+     * @return projection for the process list
+     */
+    public FetchSourceContext getProjectionForListColumns(List<ListColumn> listColumns) {
+        List<String> excludes = new ArrayList<>();
+        excludes.add(ProcessTypeField.METADATA.getKey());
+        if (listColumns.stream().noneMatch(listColumn -> Objects.equals(listColumn.getTitle(), "process.comments"))) {
+            excludes.add(ProcessTypeField.COMMENTS_MESSAGE.getKey());
+        }
+        if (listColumns.stream().noneMatch(ListColumn::isCustom)) {
+            excludes.add(ProcessTypeField.PROPERTIES.getKey());
+        }
+        return new FetchSourceContext(true, null, excludes.toArray(new String[0]));
+    }
+
+    /**
+     * Find process in ES and convert it to DTO. The METS metadata are not read
+     * from the index, because the DTO does not contain them, and neither are
+     * the tasks of related processes.
+     *
+     * @param id
+     *            process id
+     * @param related
+     *            whether the process is related to a previously found object
+     * @return process DTO
+     */
+    @Override
+    public ProcessDTO findById(Integer id, boolean related) throws DataException {
+        return findById(id, related, related ? RELATED_PROJECTION : DTO_PROJECTION);
+    }
+
+    /**
+     * Find processes by their ids with one query. As in
+     * {@link #findById(Integer, boolean)}, the METS metadata are not read from
+     * the index.
+     *
+     * @param ids
+     *            ids of the processes
+     * @param related
+     *            if true it converts only one level of related objects
+     * @return list of process DTOs
+     */
+    @Override
+    public List<ProcessDTO> findByIds(Collection<Integer> ids, boolean related) throws DataException {
+        return findByQuery(createSetQueryForIds(new ArrayList<>(ids)), null, null, null, related,
+            related ? RELATED_PROJECTION : DTO_PROJECTION);
+    }
+
+    /**
+     * Stream processes by query and convert them to DTOs. As in
+     * {@link #findById(Integer, boolean)}, the METS metadata are not read from
+     * the index.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as SortBuilder object, null to sort by score
+     * @param related
+     *            if true it converts only one level of related objects
+     * @return stream of process DTOs, which must be closed after use
+     */
+    @Override
+    public Stream<ProcessDTO> streamByQuery(QueryBuilder query, SortBuilder sort, boolean related)
+            throws DataException {
+        return streamByQuery(query, sort, related, related ? RELATED_PROJECTION : DTO_PROJECTION);
     }
 
     /**
@@ -925,23 +984,12 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
             processDTO.setBaseType(ProcessTypeField.BASE_TYPE.getStringValue(jsonObject));
             processDTO.setLastEditingUser(ProcessTypeField.LAST_EDITING_USER.getStringValue(jsonObject));
             processDTO.setCorrectionCommentStatus(ProcessTypeField.CORRECTION_COMMENT_STATUS.getIntValue(jsonObject));
-            processDTO.setHasComments(!ProcessTypeField.COMMENTS_MESSAGE.getStringValue(jsonObject).isEmpty());
+            String comments = ProcessTypeField.COMMENTS_MESSAGE.getStringValue(jsonObject);
+            processDTO.setHasComments(Objects.nonNull(comments) && !comments.isEmpty());
             convertLastProcessingDates(jsonObject, processDTO);
             convertTaskProgress(jsonObject, processDTO);
 
-            List<Map<String, Object>> jsonArray = ProcessTypeField.PROPERTIES.getJsonArray(jsonObject);
-            List<PropertyDTO> properties = new ArrayList<>();
-            for (Map<String, Object> stringObjectMap : jsonArray) {
-                PropertyDTO propertyDTO = new PropertyDTO();
-                Object title = stringObjectMap.get(JSON_TITLE);
-                Object value = stringObjectMap.get(JSON_VALUE);
-                if (Objects.nonNull(title)) {
-                    propertyDTO.setTitle(title.toString());
-                    propertyDTO.setValue(Objects.nonNull(value) ? value.toString() : "");
-                    properties.add(propertyDTO);
-                }
-            }
-            processDTO.setProperties(properties);
+            processDTO.setProperties(convertProperties(jsonObject));
 
             if (!related) {
                 convertRelatedJSONObjects(jsonObject, processDTO);
@@ -957,6 +1005,32 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
     }
 
 
+    /**
+     * Parses the properties from the jsonObject. If the properties were
+     * excluded from the search result, the list is empty.
+     *
+     * @param jsonObject the json object retrieved from elastic search
+     * @return the properties of the process
+     */
+    private List<PropertyDTO> convertProperties(Map<String, Object> jsonObject) throws DataException {
+        List<Map<String, Object>> jsonArray = ProcessTypeField.PROPERTIES.getJsonArray(jsonObject);
+        List<PropertyDTO> properties = new ArrayList<>();
+        if (Objects.isNull(jsonArray)) {
+            return properties;
+        }
+        for (Map<String, Object> stringObjectMap : jsonArray) {
+            PropertyDTO propertyDTO = new PropertyDTO();
+            Object title = stringObjectMap.get(JSON_TITLE);
+            Object value = stringObjectMap.get(JSON_VALUE);
+            if (Objects.nonNull(title)) {
+                propertyDTO.setTitle(title.toString());
+                propertyDTO.setValue(Objects.nonNull(value) ? value.toString() : "");
+                properties.add(propertyDTO);
+            }
+        }
+        return properties;
+    }
+
     /**
      * Parses last processing dates from the jsonObject and adds them to the processDTO bean.
      * 
@@ -984,14 +1058,62 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         processDTO.setProgressCombined(ProcessTypeField.PROGRESS_COMBINED.getStringValue(jsonObject));
     }
 
+    /**
+     * Converts the documents of processes to DTOs. If the related objects are
+     * converted too, the projects, rulesets and tasks of all processes are
+     * read with one query per type before, instead of one query per process.
+     *
+     * @param jsonObjects
+     *            documents of processes
+     * @param related
+     *            if true it converts only one level of related objects
+     * @return list of process DTOs
+     */
+    @Override
+    protected List<ProcessDTO> convertJSONObjectsToDTOs(List<Map<String, Object>> jsonObjects, boolean related)
+            throws DataException {
+        if (related || jsonObjects.size() < 2) {
+            return super.convertJSONObjectsToDTOs(jsonObjects, related);
+        }
+        RelatedDTOCache.beginBatch();
+        try {
+            Set<Integer> projects = new HashSet<>();
+            Set<Integer> rulesets = new HashSet<>();
+            Set<Integer> tasks = new HashSet<>();
+            for (Map<String, Object> jsonObject : jsonObjects) {
+                projects.add(ProcessTypeField.PROJECT_ID.getIntValue(jsonObject));
+                rulesets.add(ProcessTypeField.RULESET.getIntValue(jsonObject));
+                List<Map<String, Object>> taskObjects = ProcessTypeField.TASKS.getJsonArray(jsonObject);
+                if (Objects.nonNull(taskObjects)) {
+                    for (Map<String, Object> task : taskObjects) {
+                        tasks.add(TaskTypeField.ID.getIntValue(task));
+                    }
+                }
+            }
+            findRelatedByIds(ServiceManager.getProjectService(), projects);
+            findRelatedByIds(ServiceManager.getRulesetService(), rulesets);
+            findRelatedByIds(ServiceManager.getTaskService(), tasks);
+            return super.convertJSONObjectsToDTOs(jsonObjects, false);
+        } finally {
+            RelatedDTOCache.endBatch();
+        }
+    }
+
+    private static void findRelatedByIds(SearchService<?, ?, ?> service, Set<Integer> ids) throws DataException {
+        ids.remove(0);
+        if (!ids.isEmpty()) {
+            service.findRelatedByIds(ids);
+        }
+    }
+
     private void convertRelatedJSONObjects(Map<String, Object> jsonObject, ProcessDTO processDTO) throws DataException {
         int project = ProcessTypeField.PROJECT_ID.getIntValue(jsonObject);
         if (project > 0) {
-            processDTO.setProject(ServiceManager.getProjectService().findById(project, true));
+            processDTO.setProject(ServiceManager.getProjectService().findRelatedById(project));
         }
         int ruleset = ProcessTypeField.RULESET.getIntValue(jsonObject);
         if (ruleset > 0) {
-            processDTO.setRuleset(ServiceManager.getRulesetService().findById(ruleset, true));
+            processDTO.setRuleset(ServiceManager.getRulesetService().findRelatedById(ruleset));
         }
 
         processDTO.setBatchID(getBatchID(processDTO));
@@ -1520,47 +1642,20 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
      *            for generating search results
      */
     public void generateResultAsPdf(String filter, boolean showClosedProcesses, boolean showInactiveProjects)
-            throws DocumentException, IOException {
+            throws IOException {
         FacesContext facesContext = FacesContext.getCurrentInstance();
         if (!facesContext.getResponseComplete()) {
             ExternalContext response = prepareHeaderInformation(facesContext, "search.pdf");
-            try (OutputStream out = response.getResponseOutputStream()) {
-                SearchResultGeneration sr = new SearchResultGeneration(filter, showClosedProcesses,
-                        showInactiveProjects);
-                HSSFWorkbook wb = sr.getResult();
-                List<List<HSSFCell>> rowList = new ArrayList<>();
-                HSSFSheet mySheet = wb.getSheetAt(0);
-                Iterator<Row> rowIter = mySheet.rowIterator();
-                while (rowIter.hasNext()) {
-                    HSSFRow myRow = (HSSFRow) rowIter.next();
-                    Iterator<Cell> cellIter = myRow.cellIterator();
-                    List<HSSFCell> row = new ArrayList<>();
-                    while (cellIter.hasNext()) {
-                        HSSFCell myCell = (HSSFCell) cellIter.next();
-                        row.add(myCell);
-                    }
-                    rowList.add(row);
-                }
-                Document document = new Document();
-                Rectangle rectangle = new Rectangle(PageSize.A3.getHeight(), PageSize.A3.getWidth());
-                PdfWriter.getInstance(document, out);
-                document.setPageSize(rectangle);
-                document.open();
-                if (!rowList.isEmpty()) {
-                    Paragraph paragraph = new Paragraph(rowList.get(0).get(0).toString());
-                    document.add(paragraph);
-                    document.add(getPdfTable(rowList));
-                }
-
-                document.close();
-                out.flush();
-                facesContext.responseComplete();
+            try (SearchResultWriter writer = new PdfSearchResultWriter(response.getResponseOutputStream(),
+                    new int[] {4, 1, 2, 1, 1, 1, 2, 2 })) {
+                new SearchResultGeneration(filter, showClosedProcesses, showInactiveProjects).write(writer);
             }
+            facesContext.responseComplete();
         }
     }
 
     /**
-     * Generate result set.
+     * Generate result set as Excel workbook.
      *
      * @param filter
      *            for generating search results
@@ -1569,15 +1664,29 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
             throws IOException {
         FacesContext facesContext = FacesContext.getCurrentInstance();
         if (!facesContext.getResponseComplete()) {
-            ExternalContext response = prepareHeaderInformation(facesContext, "search.xls");
-            try (OutputStream out = response.getResponseOutputStream()) {
-                SearchResultGeneration sr = new SearchResultGeneration(filter, showClosedProcesses,
-                        showInactiveProjects);
-                HSSFWorkbook wb = sr.getResult();
-                wb.write(out);
-                out.flush();
-                facesContext.responseComplete();
+            ExternalContext response = prepareHeaderInformation(facesContext, "search.xlsx");
+            try (SearchResultWriter writer = new XlsxSearchResultWriter(response.getResponseOutputStream())) {
+                new SearchResultGeneration(filter, showClosedProcesses, showInactiveProjects).write(writer);
+            }
+            facesContext.responseComplete();
+        }
+    }
+
+    /**
+     * Generate result set as CSV file.
+     *
+     * @param filter
+     *            for generating search results
+     */
+    public void generateResultAsCsv(String filter, boolean showClosedProcesses, boolean showInactiveProjects)
+            throws IOException {
+        FacesContext facesContext = FacesContext.getCurrentInstance();
+        if (!facesContext.getResponseComplete()) {
+            ExternalContext response = prepareHeaderInformation(facesContext, "search.csv");
+            try (SearchResultWriter writer = new CsvSearchResultWriter(response.getResponseOutputStream())) {
+                new SearchResultGeneration(filter, showClosedProcesses, showInactiveProjects).write(writer);
             }
+            facesContext.responseComplete();
         }
     }
 
@@ -1615,23 +1724,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return externalContext;
     }
 
-    private PdfPTable getPdfTable(List<List<HSSFCell>> rowList) throws DocumentException {
-        // create formatter for cells with default locale
-        DataFormatter formatter = new DataFormatter();
-
-        PdfPTable table = new PdfPTable(8);
-        table.setSpacingBefore(20);
-        table.setWidths(new int[] {4, 1, 2, 1, 1, 1, 2, 2 });
-        for (List<HSSFCell> row : rowList) {
-            for (HSSFCell hssfCell : row) {
-                String stringCellValue = formatter.formatCellValue(hssfCell);
-                table.addCell(stringCellValue);
-            }
-        }
-
-        return table;
-    }
-
     private static DocketInterface initialiseDocketModule() {
         KitodoServiceLoader<DocketInterface> loader = new KitodoServiceLoader<>(DocketInterface.class);
         return loader.loadModule();
@@ -2077,83 +2169,6 @@ public class ProcessService extends ProjectSearchService<Process, ProcessDTO, Pr
         return commentsForDocket;
     }
 
-    private List<Map<String, Object>> getMetadataForIndex(Process process) {
-        return getMetadataForIndex(process, false);
-    }
-
-    @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> getMetadataForIndex(Process process, boolean forIndexingAll) {
-        try {
-            URI metadataFileUri = ServiceManager.getFileService().getMetadataFilePath(process, false, true);
-            if (!ServiceManager.getFileService().fileExist(metadataFileUri)) {
-                logger.info("No metadata file for indexing: {}", metadataFileUri);
-                return Collections.emptyList();
-            }
-            String metadataFile;
-            try (InputStream inputStream = ServiceManager.getFileService().readMetadataFile(process, forIndexingAll)) {
-                metadataFile = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            }
-            JSONObject xmlJSONObject = XML.toJSONObject(metadataFile);
-            Map<String, Object> json = iterateOverJsonObject(xmlJSONObject);
-            if (json.containsKey("mets")) {
-                Map<String, Object> mets = (Map<String, Object>) json.get("mets");
-                Object dmdSec = mets.get("dmdSec");
-                List<Map<String, Object>> metadata = new ArrayList<>();
-                if (dmdSec instanceof List) {
-                    metadata = (List<Map<String, Object>>) dmdSec;
-                } else if (dmdSec instanceof Map) {
-                    metadata.add((Map<String, Object>) dmdSec);
-                }
-                return metadata;
-            }
-        } catch (NullPointerException | IOException e) {
-            logger.warn(e.getMessage(), e);
-        }
-        return Collections.emptyList();
-    }
-
-    private Map<String, Object> iterateOverJsonObject(JSONObject xmlJSONObject) {
-        Iterator<String> keys = xmlJSONObject.keys();
-        Map<String, Object> json = new HashMap<>();
-        while (keys.hasNext()) {
-            String key = keys.next();
-            Object value = xmlJSONObject.get(key);
-            if (value instanceof String || value instanceof Integer) {
-                json.put(prepareKey(key), value);
-            } else if (value instanceof JSONObject) {
-                JSONObject jsonObject = (JSONObject) value;
-                Map<String, Object> map = iterateOverJsonObject(jsonObject);
-                json.put(prepareKey(key), map);
-            } else if (value instanceof JSONArray) {
-                json.put(prepareKey(key), iterateOverJsonArray((JSONArray) value));
-            }
-        }
-        return json;
-    }
-
-    private Object iterateOverJsonArray(JSONArray jsonArray) {
-        int jsonArraySize = jsonArray.length();
-        List<Object> json = new ArrayList<>(jsonArraySize);
-        for (int i = 0; i < jsonArraySize; i++) {
-            Object value = jsonArray.get(i);
-            if (value instanceof JSONObject) {
-                json.add(iterateOverJsonObject((JSONObject) value));
-            } else if (value instanceof String) {
-                json.add(value);
-            } else if (value instanceof JSONArray) {
-                json.add(iterateOverJsonArray((JSONArray) value));
-            }
-        }
-        return json;
-    }
-
-    private String prepareKey(String key) {
-        if (key.contains(":")) {
-            return key.substring(key.indexOf(':') + 1);
-        }
-        return key;
-    }
-
     /**
      * Retrieve and return process property value of property with given name
      * 'propertyName' from given ProcessDTO 'process'.
@@ -11,14 +11,17 @@
 
 package org.kitodo.production.services.data;
 
+import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
@@ -53,6 +56,12 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
     private static final Logger logger = LogManager.getLogger(RulesetService.class);
     private static volatile RulesetService instance = null;
 
+    /**
+     * Loaded rulesets by ruleset ID. A ruleset is loaded again if one of its
+     * files has changed.
+     */
+    private final Map<Integer, LoadedRuleset> loadedRulesets = new ConcurrentHashMap<>();
+
     /**
      * Constructor with Searcher and Indexer assigning.
      */
@@ -205,13 +214,12 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
      * @return preferences
      */
     public LegacyPrefsHelper getPreferences(Ruleset ruleset) {
-        LegacyPrefsHelper myPreferences = new LegacyPrefsHelper();
         try {
-            myPreferences.loadPrefs(ConfigCore.getParameter(ParameterCore.DIR_RULESETS) + ruleset.getFile());
+            return new LegacyPrefsHelper(openRuleset(ruleset));
         } catch (IOException e) {
             logger.error(e.getMessage(), e);
+            return new LegacyPrefsHelper();
         }
-        return myPreferences;
     }
 
     private QueryBuilder getRulesetsForCurrentUserQuery() {
@@ -222,7 +230,11 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
     }
 
     /**
-     * Acquires a ruleset Management and loads a ruleset into it.
+     * Acquires a ruleset Management and loads a ruleset into it. A ruleset
+     * saved in the database is loaded only once and shared, as long as neither
+     * its file nor one of the files it includes or looks up for namespaces
+     * changes. The returned ruleset Management must therefore not be loaded
+     * again by the caller.
      *
      * @param ruleset
      *            database object that references the ruleset
@@ -230,14 +242,22 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
      */
     public RulesetManagementInterface openRuleset(Ruleset ruleset) throws IOException {
         final long begin = System.nanoTime();
+        String fileName = ruleset.getFile();
+        Integer rulesetId = ruleset.getId();
+        LoadedRuleset loadedRuleset = Objects.nonNull(rulesetId) ? loadedRulesets.get(rulesetId) : null;
+        if (Objects.nonNull(loadedRuleset) && loadedRuleset.isUpToDate(fileName)) {
+            return loadedRuleset.getRulesetManagement();
+        }
         RulesetManagementInterface rulesetManagement = ServiceManager.getRulesetManagementService()
                 .getRulesetManagement();
-        String fileName = ruleset.getFile();
         try {
             rulesetManagement.load(Paths.get(ConfigCore.getParameter(ParameterCore.DIR_RULESETS), fileName).toFile());
         } catch (FileNotFoundException | IllegalArgumentException e) {
             throw new RulesetNotFoundException(fileName);
         }
+        if (Objects.nonNull(rulesetId)) {
+            loadedRulesets.put(rulesetId, new LoadedRuleset(fileName, rulesetManagement));
+        }
 
         if (logger.isTraceEnabled()) {
             logger.trace("Reading ruleset took {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin));
@@ -245,6 +265,26 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
         return rulesetManagement;
     }
 
+    /**
+     * Discards the loaded ruleset, so that it is read again from its files the
+     * next time it is opened.
+     *
+     * @param rulesetId
+     *            ID of the ruleset to discard
+     */
+    public void reloadRuleset(Integer rulesetId) {
+        if (Objects.nonNull(rulesetId)) {
+            loadedRulesets.remove(rulesetId);
+        }
+    }
+
+    /**
+     * Discards all loaded rulesets.
+     */
+    public void reloadRulesets() {
+        loadedRulesets.clear();
+    }
+
     /**
      * Returns the names of those divisions that fulfill a given function.
      * 
@@ -266,4 +306,47 @@ public class RulesetService extends ClientSearchService<Ruleset, RulesetDTO, Rul
             return Collections.emptySet();
         }
     }
+
+    /**
+     * A loaded ruleset, together with the modification times of its files at
+     * the time it was loaded.
+     */
+    private static class LoadedRuleset {
+        private final String fileName;
+        private final RulesetManagementInterface rulesetManagement;
+        private final Map<File, Long> lastModified = new HashMap<>();
+
+        LoadedRuleset(String fileName, RulesetManagementInterface rulesetManagement) {
+            this.fileName = fileName;
+            this.rulesetManagement = rulesetManagement;
+            for (File file : rulesetManagement.getSourceFiles()) {
+                lastModified.put(file, file.lastModified());
+            }
+        }
+
+        RulesetManagementInterface getRulesetManagement() {
+            return rulesetManagement;
+        }
+
+        /**
+         * Returns whether the ruleset was loaded from the given file, and none
+         * of its files has changed since. A ruleset Management that does not
+         * report its files is never up to date.
+         *
+         * @param fileName
+         *            file name of the ruleset
+         * @return whether the loaded ruleset can be used
+         */
+        boolean isUpToDate(String fileName) {
+            if (!this.fileName.equals(fileName) || lastModified.isEmpty()) {
+                return false;
+            }
+            for (Map.Entry<File, Long> entry : lastModified.entrySet()) {
+                if (entry.getKey().lastModified() != entry.getValue()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
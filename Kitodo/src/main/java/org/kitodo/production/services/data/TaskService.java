@@ -17,6 +17,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -62,6 +63,7 @@ import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.helper.Helper;
 import org.kitodo.production.helper.SearchResultGeneration;
 import org.kitodo.production.helper.VariableReplacer;
+import org.kitodo.production.helper.cache.RelatedDTOCache;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetsModsDigitalDocumentHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyPrefsHelper;
 import org.kitodo.production.helper.tasks.EmptyTask;
@@ -332,7 +334,7 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
          */
         int process = TaskTypeField.PROCESS_ID.getIntValue(jsonObject);
         if (process > 0 && !related) {
-            taskDTO.setProcess(ServiceManager.getProcessService().findById(process, true));
+            taskDTO.setProcess(ServiceManager.getProcessService().findRelatedById(process));
             taskDTO.setBatchAvailable(ServiceManager.getProcessService()
                     .isProcessAssignedToOnlyOneBatch(taskDTO.getProcess().getBatches()));
         }
@@ -350,6 +352,41 @@ public class TaskService extends ProjectSearchService<Task, TaskDTO, TaskDAO> {
         return taskDTO;
     }
 
+    /**
+     * Converts the documents of tasks to DTOs. If the related processes are
+     * converted too, the processes of all tasks are read with one query
+     * before, instead of one query per task.
+     *
+     * @param jsonObjects
+     *            documents of tasks
+     * @param related
+     *            if true it converts only one level of related objects
+     * @return list of task DTOs
+     */
+    @Override
+    protected List<TaskDTO> convertJSONObjectsToDTOs(List<Map<String, Object>> jsonObjects, boolean related)
+            throws DataException {
+        if (related || jsonObjects.size() < 2) {
+            return super.convertJSONObjectsToDTOs(jsonObjects, related);
+        }
+        RelatedDTOCache.beginBatch();
+        try {
+            Set<Integer> processes = new HashSet<>();
+            for (Map<String, Object> jsonObject : jsonObjects) {
+                int process = TaskTypeField.PROCESS_ID.getIntValue(jsonObject);
+                if (process > 0) {
+                    processes.add(process);
+                }
+            }
+            if (!processes.isEmpty()) {
+                ServiceManager.getProcessService().findRelatedByIds(processes);
+            }
+            return super.convertJSONObjectsToDTOs(jsonObjects, false);
+        } finally {
+            RelatedDTOCache.endBatch();
+        }
+    }
+
     /**
      * Parses and adds properties related to the project of a task to the taskDTO.
      * 
@@ -197,6 +197,22 @@ public abstract class SearchDatabaseService<T extends BaseBean, S extends BaseDA
         return dao.getAll(offset, size);
     }
 
+    /**
+     * Get list of objects from database with an ID greater than the given one,
+     * ordered by ID. Use this instead of {@link #getAll(int, int)} to iterate
+     * over large tables.
+     *
+     * @param lastId
+     *            ID of the last object of the previous page, 0 for the first
+     *            page
+     * @param size
+     *            amount of results
+     * @return list of objects from database following the given ID
+     */
+    public List<T> getAllAfter(int lastId, int size) throws DAOException {
+        return dao.getAllAfter(lastId, size);
+    }
+
     /**
      * Evict given bean object.
      *
@@ -19,12 +19,17 @@ import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.json.JsonObject;
 import javax.ws.rs.HttpMethod;
@@ -40,14 +45,18 @@ import org.elasticsearch.search.aggregations.BucketOrder;
 import org.elasticsearch.search.aggregations.bucket.terms.ParsedStringTerms;
 import org.elasticsearch.search.aggregations.bucket.terms.Terms;
 import org.elasticsearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
 import org.elasticsearch.search.sort.SortBuilder;
 import org.elasticsearch.search.sort.SortBuilders;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.BaseBean;
 import org.kitodo.data.database.beans.BaseIndexedBean;
 import org.kitodo.data.database.enums.IndexAction;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.database.persistence.BaseDAO;
 import org.kitodo.data.elasticsearch.exceptions.CustomResponseException;
+import org.kitodo.data.elasticsearch.index.IndexUnitOfWork;
 import org.kitodo.data.elasticsearch.index.Indexer;
 import org.kitodo.data.elasticsearch.index.type.BaseType;
 import org.kitodo.data.elasticsearch.search.Searcher;
@@ -55,6 +64,7 @@ import org.kitodo.data.elasticsearch.search.enums.SearchCondition;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.BaseDTO;
 import org.kitodo.production.helper.Helper;
+import org.kitodo.production.helper.cache.RelatedDTOCache;
 import org.kitodo.production.services.data.ProjectService;
 import org.primefaces.model.SortOrder;
 
@@ -132,6 +142,22 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         return dao.getAllNotIndexed(offset, size);
     }
 
+    /**
+     * Get not indexed objects from database with an ID greater than the given
+     * one, ordered by ID. Not indexed means that row has index action INDEX or
+     * NULL.
+     *
+     * @param lastId
+     *            ID of the last object of the previous page, 0 for the first
+     *            page
+     * @param size
+     *            amount of results
+     * @return list of not indexed objects from database following the given ID
+     */
+    public List<T> getAllNotIndexedAfter(int lastId, int size) throws DAOException {
+        return dao.getAllNotIndexedAfter(lastId, size);
+    }
+
     /**
      * Get all DTO objects from index an convert them for frontend with all
      * relations.
@@ -157,11 +183,9 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * @return List of ids
      */
     public List<Integer> findAllIDs() throws DataException {
-        List<Integer> allIds = new ArrayList<>();
-        for (Map<String, Object> document : findAllDocuments()) {
-            allIds.add(Integer.parseInt((String) document.get("id")));
+        try (Stream<Integer> ids = streamAllIDs()) {
+            return ids.collect(Collectors.toList());
         }
-        return allIds;
     }
 
     /**
@@ -177,6 +201,18 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
         return allIds;
     }
 
+    /**
+     * Stream all ids from index. The ids are read lazily page by page, so
+     * there is no limit on the number of ids. The stream must be closed after
+     * use.
+     *
+     * @return stream of ids
+     */
+    public Stream<Integer> streamAllIDs() throws DataException {
+        return streamDocuments(matchAllQuery(), SortBuilders.fieldSort("_doc"), new FetchSourceContext(false))
+                .map(document -> Integer.parseInt((String) document.get("id")));
+    }
+
 
     /**
      * Method saves document to the index of Elastic Search.
@@ -203,11 +239,40 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * @param baseIndexedBeans
      *            List of BaseIndexedBean objects
      */
-    @SuppressWarnings("unchecked")
     public void addAllObjectsToIndex(List<T> baseIndexedBeans) throws CustomResponseException, DAOException, IOException {
-        indexer.setMethod(HttpMethod.PUT);
         if (!baseIndexedBeans.isEmpty()) {
-            indexer.performMultipleRequests(baseIndexedBeans, type, false);
+            addIndexDocuments(baseIndexedBeans, createIndexDocuments(baseIndexedBeans));
+        }
+    }
+
+    /**
+     * Creates the documents for the Elastic Search index of the given objects
+     * without sending them to the index.
+     *
+     * @param baseIndexedBeans
+     *            List of BaseIndexedBean objects
+     * @return documents mapped by ID of the object
+     */
+    @SuppressWarnings("unchecked")
+    public Map<Integer, Map<String, Object>> createIndexDocuments(List<T> baseIndexedBeans) throws IOException {
+        return type.createDocuments(baseIndexedBeans);
+    }
+
+    /**
+     * Adds documents created by {@link #createIndexDocuments(List)} to the
+     * Elastic Search index in one bulk request and marks the objects as
+     * indexed in the database.
+     *
+     * @param baseIndexedBeans
+     *            List of BaseIndexedBean objects the documents were created from
+     * @param documents
+     *            documents mapped by ID of the object
+     */
+    public void addIndexDocuments(List<T> baseIndexedBeans, Map<Integer, Map<String, Object>> documents)
+            throws CustomResponseException, DAOException {
+        indexer.setMethod(HttpMethod.PUT);
+        if (!documents.isEmpty()) {
+            indexer.performMultipleRequests(documents, false);
             saveAsIndexed(baseIndexedBeans);
         }
     }
@@ -255,6 +320,26 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
             throws CustomResponseException, DAOException, DataException, IOException {
     }
 
+    /**
+     * Saves the document of the object and the documents of the related
+     * objects to the index. The documents are sent in one unit of work, so
+     * every document is sent only once and the index is refreshed only once.
+     *
+     * @param baseIndexedBean
+     *            object
+     */
+    private void saveToIndexWithDependencies(T baseIndexedBean)
+            throws CustomResponseException, DAOException, DataException, IOException {
+        IndexUnitOfWork.begin();
+        try {
+            saveToIndex(baseIndexedBean, true);
+            manageDependenciesForIndex(baseIndexedBean);
+            IndexUnitOfWork.commit();
+        } finally {
+            IndexUnitOfWork.end();
+        }
+    }
+
     /**
      * calls save method with default updateRelatedObjectsInIndex=false.
      * @param object the object to save
@@ -290,9 +375,10 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
             saveToDatabase(baseIndexedBean);
             // TODO: find out why properties lists are save double
             T savedBean = getById(baseIndexedBean.getId());
-            saveToIndex(savedBean, true);
             if (updateRelatedObjectsInIndex) {
-                manageDependenciesForIndex(savedBean);
+                saveToIndexWithDependencies(savedBean);
+            } else {
+                saveToIndex(savedBean, true);
             }
             savedBean.setIndexAction(IndexAction.DONE);
             saveToDatabase(savedBean);
@@ -304,8 +390,7 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
             int maxTries = 5;
             while (true) {
                 try {
-                    saveToIndex(baseIndexedBean, true);
-                    manageDependenciesForIndex(baseIndexedBean);
+                    saveToIndexWithDependencies(baseIndexedBean);
                     baseIndexedBean.setIndexAction(IndexAction.DONE);
                     saveToDatabase(baseIndexedBean);
                     break;
@@ -350,8 +435,14 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
             baseIndexedBean.setIndexAction(IndexAction.DELETE);
             saveToDatabase(baseIndexedBean);
             T savedBean = getById(baseIndexedBean.getId());
-            removeFromIndex(savedBean, true);
-            manageDependenciesForIndex(savedBean);
+            IndexUnitOfWork.begin();
+            try {
+                removeFromIndex(savedBean, true);
+                manageDependenciesForIndex(savedBean);
+                IndexUnitOfWork.commit();
+            } finally {
+                IndexUnitOfWork.end();
+            }
             removeFromDatabase(savedBean);
         } catch (DAOException e) {
             logger.debug(e);
@@ -407,11 +498,8 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * @return list of all documents
      */
     public List<Map<String, Object>> findAllDocuments() throws DataException {
-        QueryBuilder queryBuilder = matchAllQuery();
-        try {
-            return searcher.findDocuments(queryBuilder, null, null, Math.toIntExact(count()));
-        } catch (CustomResponseException e) {
-            throw new DataException(e);
+        try (Stream<Map<String, Object>> documents = streamDocuments(matchAllQuery(), null, null)) {
+            return documents.collect(Collectors.toList());
         }
     }
 
@@ -451,8 +539,27 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      * @return related DTO object
      */
     public S findById(Integer id, boolean related) throws DataException {
+        return findById(id, related, null);
+    }
+
+    /**
+     * Find object related to previously found object in ES and convert it to
+     * DTO. Only the fields of the given projection are read from the index.
+     *
+     * @param id
+     *            related object id
+     * @param related
+     *            this method should ba called only with true, if false call method
+     *            findById(Integer id).
+     * @param projection
+     *            fields to include or exclude, null to read all fields. The
+     *            fields needed by {@link #convertJSONObjectToDTO(Map, boolean)}
+     *            must not be excluded.
+     * @return related DTO object
+     */
+    public S findById(Integer id, boolean related, FetchSourceContext projection) throws DataException {
         try {
-            return convertJSONObjectToDTO(searcher.findDocument(id), related);
+            return convertJSONObjectToDTO(searcher.findDocument(id, projection), related);
         } catch (CustomResponseException e) {
             throw new DataException(e);
         }
@@ -515,8 +622,125 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
      */
     public List<S> findByQuery(QueryBuilder query, SortBuilder sort, Integer offset, Integer size, boolean related)
             throws DataException {
+        return findByQuery(query, sort, offset, size, related, null);
+    }
+
+    /**
+     * Find list of sorted DTO objects by query with defined offset and size of
+     * results. Only the fields of the given projection are read from the
+     * index, which keeps large fields that a list does not show out of the
+     * response.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as String
+     * @param offset
+     *            as Integer
+     * @param size
+     *            as Integer
+     * @param related
+     *            determines if converted object is related to some other object (if
+     *            so, objects related to it are not included in conversion)
+     * @param projection
+     *            fields to include or exclude, null to read all fields. The
+     *            fields needed by {@link #convertJSONObjectToDTO(Map, boolean)}
+     *            must not be excluded.
+     * @return list of found DTO objects
+     */
+    public List<S> findByQuery(QueryBuilder query, SortBuilder sort, Integer offset, Integer size, boolean related,
+            FetchSourceContext projection) throws DataException {
+        try {
+            return convertJSONObjectsToDTOs(searcher.findDocuments(query, sort, offset, size, projection), related);
+        } catch (CustomResponseException e) {
+            throw new DataException(e);
+        }
+    }
+
+    /**
+     * Find the IDs of all objects matching the query. Only the IDs are read
+     * from the index, page by page, so their number is not limited by the
+     * maximum result window of the index.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @return set of IDs
+     */
+    public Set<Integer> findIdsByQuery(QueryBuilder query) throws DataException {
+        try (Stream<Map<String, Object>> documents = streamDocuments(query, SortBuilders.fieldSort("_doc"),
+            new FetchSourceContext(false))) {
+            return documents.map(document -> Integer.parseInt((String) document.get("id")))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    /**
+     * Stream DTO objects by query. The objects are read lazily from the index,
+     * page by page, so that result sets of any size can be processed in
+     * constant memory. The stream must be closed after use, preferably with a
+     * try-with-resources statement.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as SortBuilder object, null to sort by score
+     * @param related
+     *            if true it converts only one level of related objects
+     * @return stream of DTO objects
+     */
+    public Stream<S> streamByQuery(QueryBuilder query, SortBuilder sort, boolean related) throws DataException {
+        return streamByQuery(query, sort, related, null);
+    }
+
+    /**
+     * Stream DTO objects by query, reading only the fields of the given
+     * projection from the index. Errors converting a document are thrown as
+     * {@link IllegalStateException} when the stream is consumed.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as SortBuilder object, null to sort by score
+     * @param related
+     *            if true it converts only one level of related objects
+     * @param projection
+     *            fields of the source to include or exclude, null for the
+     *            whole source; it must contain the fields needed by
+     *            {@link #convertJSONObjectToDTO(Map, boolean)}
+     * @return stream of DTO objects
+     */
+    public Stream<S> streamByQuery(QueryBuilder query, SortBuilder sort, boolean related,
+            FetchSourceContext projection) throws DataException {
+        return streamDocuments(query, sort, projection).map(document -> {
+            try {
+                return convertJSONObjectToDTO(document, related);
+            } catch (DataException e) {
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+        });
+    }
+
+    /**
+     * Stream documents by query. The documents are read lazily from the
+     * index, in pages of the size configured by
+     * {@code elasticsearch.indexLimit}, so the number of documents is not
+     * limited by the maximum result window of the index. The stream must be
+     * closed after use.
+     *
+     * @param query
+     *            as QueryBuilder object
+     * @param sort
+     *            as SortBuilder object, null to sort by score
+     * @param projection
+     *            fields of the source to include or exclude, null for the
+     *            whole source
+     * @return stream of JSON objects
+     */
+    public Stream<Map<String, Object>> streamDocuments(QueryBuilder query, SortBuilder sort,
+            FetchSourceContext projection) throws DataException {
         try {
-            return convertJSONObjectsToDTOs(searcher.findDocuments(query, sort, offset, size), related);
+            return searcher.streamDocuments(query, sort, projection,
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXLIMIT));
         } catch (CustomResponseException e) {
             throw new DataException(e);
         }
@@ -536,13 +760,74 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
             throws DataException {
         List<S> results = new ArrayList<>();
 
-        for (Map<String, Object> jsonObject : jsonObjects) {
-            results.add(convertJSONObjectToDTO(jsonObject, related));
+        RelatedDTOCache.beginBatch();
+        try {
+            for (Map<String, Object> jsonObject : jsonObjects) {
+                results.add(convertJSONObjectToDTO(jsonObject, related));
+            }
+        } finally {
+            RelatedDTOCache.endBatch();
         }
 
         return results;
     }
 
+    /**
+     * Find DTO objects by their ids with one query.
+     *
+     * @param ids
+     *            ids of the objects
+     * @param related
+     *            if true it converts only one level of related objects
+     * @return list of DTO objects, in the order of the index
+     */
+    public List<S> findByIds(Collection<Integer> ids, boolean related) throws DataException {
+        return findByQuery(createSetQueryForIds(new ArrayList<>(ids)), related);
+    }
+
+    /**
+     * Find DTO objects by their ids as related objects of previously found
+     * objects. Objects which were already found while converting the current
+     * search results are taken from {@link RelatedDTOCache}, the remaining
+     * ones are read with one query.
+     *
+     * @param ids
+     *            ids of the objects
+     * @return map of ids to DTO objects, in the order of the given ids,
+     *         without objects not found in the index
+     */
+    public Map<Integer, S> findRelatedByIds(Collection<Integer> ids) throws DataException {
+        Map<Integer, S> cache = RelatedDTOCache.getCache(getClass().getName());
+        Set<Integer> missingIds = new HashSet<>(ids);
+        missingIds.removeAll(cache.keySet());
+        if (!missingIds.isEmpty()) {
+            for (S dto : findByIds(missingIds, true)) {
+                cache.put(dto.getId(), dto);
+            }
+        }
+        Map<Integer, S> relatedObjects = new LinkedHashMap<>();
+        for (Integer id : ids) {
+            S dto = cache.get(id);
+            if (Objects.nonNull(dto)) {
+                relatedObjects.put(id, dto);
+            }
+        }
+        return relatedObjects;
+    }
+
+    /**
+     * Find DTO object by id as related object of a previously found object,
+     * see {@link #findRelatedByIds(Collection)}.
+     *
+     * @param id
+     *            object id
+     * @return DTO object
+     */
+    public S findRelatedById(Integer id) throws DataException {
+        S dto = findRelatedByIds(Collections.singletonList(id)).get(id);
+        return Objects.nonNull(dto) ? dto : findById(id, true);
+    }
+
     /**
      * Convert related JSONObject object to bean object.
      *
@@ -564,7 +849,7 @@ public abstract class SearchService<T extends BaseIndexedBean, S extends BaseDTO
             query.must(((ProjectService)service).getProjectsForCurrentUserQuery());
             return service.findByQuery(query, true);
         }
-        return service.findByQuery(createSetQueryForIds(ids), true);
+        return new ArrayList<>(service.findRelatedByIds(ids).values());
     }
 
     /**
@@ -0,0 +1,85 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.dataformat;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The data of a METS file that is stored in the search index together with
+ * the process: the descriptive metadata sections and some figures about the
+ * structure of the workpiece.
+ */
+public class MetsIndexData {
+    private final List<Map<String, Object>> metadata;
+    private final int numberOfImages;
+    private final int numberOfMetadata;
+    private final int numberOfStructures;
+    private final String baseType;
+
+    MetsIndexData(List<Map<String, Object>> metadata, int numberOfImages, int numberOfMetadata,
+            int numberOfStructures, String baseType) {
+        this.metadata = metadata;
+        this.numberOfImages = numberOfImages;
+        this.numberOfMetadata = numberOfMetadata;
+        this.numberOfStructures = numberOfStructures;
+        this.baseType = baseType;
+    }
+
+    /**
+     * Returns the {@code <mets:dmdSec>} elements of the METS file as maps, in
+     * the form in which they are stored in the index.
+     *
+     * @return the descriptive metadata sections
+     */
+    public List<Map<String, Object>> getMetadata() {
+        return metadata;
+    }
+
+    /**
+     * Returns the number of physical divisions of type page.
+     *
+     * @return the number of images
+     */
+    public int getNumberOfImages() {
+        return numberOfImages;
+    }
+
+    /**
+     * Returns the number of metadata entries and groups of the logical
+     * structure, not counting empty entries.
+     *
+     * @return the number of metadata
+     */
+    public int getNumberOfMetadata() {
+        return numberOfMetadata;
+    }
+
+    /**
+     * Returns the number of logical divisions.
+     *
+     * @return the number of structures
+     */
+    public int getNumberOfStructures() {
+        return numberOfStructures;
+    }
+
+    /**
+     * Returns the type of the top element of the logical structure, and thus
+     * the type of the workpiece.
+     *
+     * @return the base type, may be {@code null}
+     */
+    public String getBaseType() {
+        return baseType;
+    }
+}
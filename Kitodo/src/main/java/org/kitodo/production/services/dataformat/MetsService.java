@@ -17,6 +17,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.xml.transform.Result;
@@ -28,10 +33,16 @@ import javax.xml.transform.stream.StreamResult;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.XML;
 import org.kitodo.api.MetadataEntry;
 import org.kitodo.api.dataformat.LogicalDivision;
 import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.api.dataformat.mets.IndexData;
 import org.kitodo.api.dataformat.mets.MetsXmlElementAccessInterface;
+import org.kitodo.metrics.MetricsRegistry;
+import org.kitodo.metrics.Timer;
 import org.kitodo.production.services.ServiceManager;
 import org.kitodo.serviceloader.KitodoServiceLoader;
 import org.w3c.dom.Document;
@@ -39,6 +50,10 @@ import org.w3c.dom.Document;
 public class MetsService {
     private static final Logger logger = LogManager.getLogger(MetsService.class);
 
+    private static final Timer LOAD_TIMER = getTimer("load");
+    private static final Timer READ_INDEX_DATA_TIMER = getTimer("read_index_data");
+    private static final Timer SAVE_TIMER = getTimer("save");
+
     private static volatile MetsService instance = null;
     private final MetsXmlElementAccessInterface metsXmlElementAccess;
 
@@ -110,7 +125,8 @@ public class MetsService {
      *             if reading is not working (disk broken, ...)
      */
     public Workpiece loadWorkpiece(URI uri) throws IOException {
-        try (InputStream inputStream = ServiceManager.getFileService().read(uri)) {
+        try (Timer.Sample sample = LOAD_TIMER.start();
+                InputStream inputStream = ServiceManager.getFileService().read(uri)) {
             logger.info("Reading {}", uri.toString());
             return metsXmlElementAccess.read(inputStream);
         }
@@ -132,7 +148,103 @@ public class MetsService {
         Result outputTarget = new StreamResult(outputStream);
         TransformerFactory.newInstance().newTransformer().transform(xmlSource, outputTarget);
         InputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray());
-        return metsXmlElementAccess.read(inputStream);
+        try (Timer.Sample sample = LOAD_TIMER.start()) {
+            return metsXmlElementAccess.read(inputStream);
+        }
+    }
+
+    /**
+     * Reads the data needed for the search index from a METS file. Unlike
+     * {@link #loadWorkpiece(URI)}, the file is read in one streaming pass
+     * without creating a workpiece. The {@code <mets:dmdSec>} elements are
+     * converted with {@code org.json.XML}, as if the whole file had been
+     * converted.
+     *
+     * @param uri
+     *            address of the file to be read
+     * @return the index data of the METS file
+     * @throws IOException
+     *             if reading is not working (disk broken, ...) or the file is
+     *             not well-formed
+     */
+    public MetsIndexData readIndexData(URI uri) throws IOException {
+        try (Timer.Sample sample = READ_INDEX_DATA_TIMER.start();
+                InputStream inputStream = ServiceManager.getFileService().read(uri)) {
+            logger.info("Reading {} for indexing", uri.toString());
+            IndexData indexData = metsXmlElementAccess.readIndexData(inputStream);
+            return new MetsIndexData(getDmdSecsForIndex(indexData.getDmdSecs()), indexData.getNumberOfImages(),
+                    indexData.getNumberOfMetadata(), indexData.getNumberOfStructures(), indexData.getBaseType());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> getDmdSecsForIndex(List<String> dmdSecs) {
+        JSONObject xmlJSONObject = new JSONObject();
+        for (String dmdSec : dmdSecs) {
+            JSONObject dmdSecJSONObject = XML.toJSONObject(dmdSec);
+            for (String key : dmdSecJSONObject.keySet()) {
+                xmlJSONObject.accumulate(key, dmdSecJSONObject.get(key));
+            }
+        }
+        Object dmdSec = iterateOverJsonObject(xmlJSONObject).get("dmdSec");
+        List<Map<String, Object>> metadata = new ArrayList<>();
+        if (dmdSec instanceof List) {
+            metadata = (List<Map<String, Object>>) dmdSec;
+        } else if (dmdSec instanceof Map) {
+            metadata.add((Map<String, Object>) dmdSec);
+        }
+        return metadata;
+    }
+
+    /**
+     * Converts a JSON object into the maps stored in the index. Namespace
+     * prefixes are removed from the keys, and only strings, integers and
+     * nested structures are kept.
+     *
+     * @param xmlJSONObject
+     *            JSON object to convert
+     * @return the converted map
+     */
+    static Map<String, Object> iterateOverJsonObject(JSONObject xmlJSONObject) {
+        Iterator<String> keys = xmlJSONObject.keys();
+        Map<String, Object> json = new HashMap<>();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            Object value = xmlJSONObject.get(key);
+            if (value instanceof String || value instanceof Integer) {
+                json.put(prepareKey(key), value);
+            } else if (value instanceof JSONObject) {
+                JSONObject jsonObject = (JSONObject) value;
+                Map<String, Object> map = iterateOverJsonObject(jsonObject);
+                json.put(prepareKey(key), map);
+            } else if (value instanceof JSONArray) {
+                json.put(prepareKey(key), iterateOverJsonArray((JSONArray) value));
+            }
+        }
+        return json;
+    }
+
+    private static Object iterateOverJsonArray(JSONArray jsonArray) {
+        int jsonArraySize = jsonArray.length();
+        List<Object> json = new ArrayList<>(jsonArraySize);
+        for (int i = 0; i < jsonArraySize; i++) {
+            Object value = jsonArray.get(i);
+            if (value instanceof JSONObject) {
+                json.add(iterateOverJsonObject((JSONObject) value));
+            } else if (value instanceof String) {
+                json.add(value);
+            } else if (value instanceof JSONArray) {
+                json.add(iterateOverJsonArray((JSONArray) value));
+            }
+        }
+        return json;
+    }
+
+    private static String prepareKey(String key) {
+        if (key.contains(":")) {
+            return key.substring(key.indexOf(':') + 1);
+        }
+        return key;
     }
 
     /**
@@ -154,8 +266,42 @@ public class MetsService {
         }
     }
 
+    /**
+     * Writes a workpiece as METS to an output stream.
+     *
+     * @param workpiece
+     *            workpiece to save
+     * @param outputStream
+     *            stream to write to
+     * @throws IOException
+     *             if the writing fails
+     */
     public void save(Workpiece workpiece, OutputStream outputStream) throws IOException {
-        metsXmlElementAccess.save(workpiece, outputStream);
+        try (Timer.Sample sample = SAVE_TIMER.start()) {
+            metsXmlElementAccess.save(workpiece, outputStream);
+        }
+    }
+
+    /**
+     * Writes a workpiece as METS to a result, for example into an XSLT
+     * transformation.
+     *
+     * @param workpiece
+     *            workpiece to save
+     * @param result
+     *            result to write to
+     * @throws IOException
+     *             if the writing fails
+     */
+    public void save(Workpiece workpiece, Result result) throws IOException {
+        try (Timer.Sample sample = SAVE_TIMER.start()) {
+            metsXmlElementAccess.save(workpiece, result);
+        }
+    }
+
+    private static Timer getTimer(String operation) {
+        return MetricsRegistry.getInstance().timer("kitodo_mets_seconds", "Duration of reading and writing METS files",
+            "operation", operation);
     }
 
     /**
@@ -0,0 +1,95 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.image;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of the times needed to generate the derivatives of one image. The
+ * times may be recorded by several threads at once.
+ */
+public class ImageGenerationTimes {
+
+    /**
+     * Upper bounds of the buckets of the histogram, in milliseconds. The last
+     * bucket holds all longer times.
+     */
+    private static final long[] BOUNDS = {250, 500, 1000, 2000, 5000, 10000};
+
+    private final AtomicLongArray counts = new AtomicLongArray(BOUNDS.length + 1);
+
+    private final AtomicLong totalMillis = new AtomicLong();
+
+    /**
+     * Records the time needed to generate the derivatives of one image.
+     *
+     * @param nanos
+     *            time needed, in nanoseconds
+     */
+    public void record(long nanos) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+        while (bucket < BOUNDS.length && millis >= BOUNDS[bucket]) {
+            bucket++;
+        }
+        counts.incrementAndGet(bucket);
+        totalMillis.addAndGet(millis);
+    }
+
+    /**
+     * Returns the number of images recorded.
+     *
+     * @return the number of images
+     */
+    public long getCount() {
+        long count = 0;
+        for (int bucket = 0; bucket < counts.length(); bucket++) {
+            count += counts.get(bucket);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of images whose generation took at least the given
+     * number of milliseconds, but less than the next bound.
+     *
+     * @param bucket
+     *            index of the bucket, from 0 to the number of bounds
+     * @return the number of images in the bucket
+     */
+    public long getCount(int bucket) {
+        return counts.get(bucket);
+    }
+
+    /**
+     * Returns the histogram as text, one line per bucket, followed by the
+     * average time.
+     *
+     * @return the histogram as text
+     */
+    @Override
+    public String toString() {
+        long count = getCount();
+        if (count == 0) {
+            return "";
+        }
+        StringBuilder histogram = new StringBuilder();
+        for (int bucket = 0; bucket <= BOUNDS.length; bucket++) {
+            histogram.append(bucket < BOUNDS.length ? "< " + BOUNDS[bucket] : ">= " + BOUNDS[BOUNDS.length - 1]);
+            histogram.append(" ms: ").append(counts.get(bucket)).append('\n');
+        }
+        histogram.append("average: ").append(totalMillis.get() / count).append(" ms");
+        return histogram.toString();
+    }
+}
@@ -20,12 +20,17 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -36,6 +41,9 @@ import javax.imageio.ImageIO;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.kitodo.api.validation.ValidationResult;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.config.xml.fileformats.FileFormat;
 import org.kitodo.data.database.beans.Folder;
 import org.kitodo.production.enums.GenerationMode;
@@ -99,6 +107,23 @@ public class ImageGenerator implements Runnable {
      */
     private final GenerationMode mode;
 
+    /**
+     * Number of images generated at the same time.
+     */
+    private int parallelism;
+
+    /**
+     * Times needed to generate the derivatives of each image.
+     */
+    private final ImageGenerationTimes generationTimes = new ImageGenerationTimes();
+
+    /**
+     * Results of validating all files of an output folder, by canonical part
+     * of the file name. Each folder is validated once, when the first image is
+     * checked.
+     */
+    private final Map<Subfolder, Map<String, ValidationResult>> validationResults = new HashMap<>();
+
     /**
      * Creates a new image generator.
      *
@@ -116,6 +141,11 @@ public class ImageGenerator implements Runnable {
         this.state = ImageGeneratorStep.LIST_SOURCE_FOLDER;
         this.sources = Collections.emptyList();
         this.contentToBeGenerated = new LinkedList<>();
+        int cores = Runtime.getRuntime().availableProcessors();
+        // share the cores among the image generation tasks run in parallel by the task manager
+        int autoRunLimit = Math.max(1, ConfigCore.getIntParameter(ParameterCore.TASK_MANAGER_AUTORUN_LIMIT, cores));
+        this.parallelism = ConfigCore.getIntParameter(ParameterCore.IMAGE_GENERATOR_PARALLELISM,
+            Math.max(1, cores / autoRunLimit));
     }
 
     /**
@@ -163,6 +193,7 @@ public class ImageGenerator implements Runnable {
      *            defined in the properties of the destination folder.
      */
     public void createDerivatives(ContentToBeGenerated instruction) {
+        long start = System.nanoTime();
         try {
             for (Subfolder destinationFolder : instruction.getSubfoldersWhoseContentsAreToBeGenerated()) {
                 generateDerivative(instruction.getSourceURI(), destinationFolder, instruction.getCanonical());
@@ -170,6 +201,7 @@ public class ImageGenerator implements Runnable {
         } catch (IOException e) {
             throw new UndeclaredThrowableException(e);
         }
+        generationTimes.record(System.nanoTime() - start);
     }
 
     /**
@@ -215,7 +247,7 @@ public class ImageGenerator implements Runnable {
      */
     public List<Subfolder> determineFoldersThatNeedDerivatives(String canonical) {
         List<Subfolder> foldersThatNeedDerivatives = new ArrayList<>(outputs.size());
-        Predicate<? super Subfolder> requiresGeneration = mode.getFilter(canonical);
+        Predicate<? super Subfolder> requiresGeneration = mode.getFilter(canonical, this::getValidationResults);
         for (Subfolder folder : outputs) {
             if (requiresGeneration.test(folder)) {
                 foldersThatNeedDerivatives.add(folder);
@@ -224,6 +256,20 @@ public class ImageGenerator implements Runnable {
         return foldersThatNeedDerivatives;
     }
 
+    /**
+     * Returns the results of validating all files of an output folder. The
+     * files of the folder are validated in parallel when the folder is first
+     * requested.
+     *
+     * @param folder
+     *            output folder
+     * @return the validation results, by canonical part of the file name
+     */
+    private Map<String, ValidationResult> getValidationResults(Subfolder folder) {
+        return validationResults.computeIfAbsent(folder,
+            unused -> ServiceManager.getLongTermPreservationValidationService().validate(folder, parallelism));
+    }
+
     /**
      * Gets the file list from the content folder, converts it into the required
      * form, and stores it in the sources field.
@@ -300,6 +346,16 @@ public class ImageGenerator implements Runnable {
         return contentToBeGenerated;
     }
 
+    /**
+     * Returns the times needed to generate the derivatives of each image so
+     * far.
+     *
+     * @return the histogram of the generation times
+     */
+    public ImageGenerationTimes getGenerationTimes() {
+        return generationTimes;
+    }
+
     /**
      * Returns the enum constant inicating the variant of the image generator
      * task.
@@ -361,6 +417,11 @@ public class ImageGenerator implements Runnable {
     @Override
     public void run() {
         do {
+            if (state.equals(ImageGeneratorStep.GENERATE_IMAGES) && parallelism > 1
+                    && getContentToBeGenerated().size() - getPosition() > 1) {
+                generateImagesInParallel();
+                return;
+            }
             state.accept(this);
             if (state.equals(ImageGeneratorStep.DETERMINE_WHICH_IMAGES_NEED_TO_BE_GENERATED) && position == -1
                     && sources.isEmpty()) {
@@ -380,6 +441,50 @@ public class ImageGenerator implements Runnable {
         logger.info("Completed");
     }
 
+    /**
+     * Generates the remaining images with a pool of worker threads. The
+     * position advances in the order of the list, when all images before have
+     * been generated, so that an interrupted generation can be continued from
+     * the position.
+     */
+    private void generateImagesInParallel() {
+        List<ContentToBeGenerated> remaining = new ArrayList<>(
+                getContentToBeGenerated().subList(getPosition(), getContentToBeGenerated().size()));
+        /*
+         * The threads of the pool are created by this thread, so they inherit
+         * its context class loader, which the module loader depends on.
+         */
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<?>> generations = new ArrayList<>(remaining.size());
+            for (ContentToBeGenerated instruction : remaining) {
+                generations.add(executor.submit(() -> createDerivatives(instruction)));
+            }
+            for (int i = 0; i < remaining.size(); i++) {
+                String canonical = remaining.get(i).getCanonical();
+                letTheSupervisorDo(emptyTask -> emptyTask.setWorkDetail(
+                    Helper.getTranslation("generateImages", canonical)));
+                generations.get(i).get();
+                position++;
+                setProgress();
+                if (Objects.nonNull(supervisor) && supervisor.isInterrupted()) {
+                    return;
+                }
+            }
+            letTheSupervisorDo(emptyTask -> emptyTask.setProgress(100));
+            logger.info("Completed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new UndeclaredThrowableException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Sets the current position in the list.
      *
@@ -12,7 +12,10 @@
 package org.kitodo.production.services.image;
 
 import java.net.URI;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.apache.logging.log4j.LogManager;
@@ -21,7 +24,7 @@ import org.kitodo.api.validation.State;
 import org.kitodo.api.validation.ValidationResult;
 import org.kitodo.api.validation.longtermpreservation.FileType;
 import org.kitodo.production.model.Subfolder;
-import org.kitodo.production.services.validation.LongTermPreservationValidationService;
+import org.kitodo.production.services.ServiceManager;
 
 /**
  * A filter predicate that checks if the file exists in the folder and can be
@@ -62,6 +65,12 @@ public class MissingOrDamagedImagesFilterPredicate implements Predicate<Subfolde
      */
     private final String canonical;
 
+    /**
+     * Returns the results of validating all files of a folder at once, by
+     * canonical part of the file name.
+     */
+    private final Function<Subfolder, Map<String, ValidationResult>> validationResults;
+
     /**
      * Creates a filter predicate that checks if the file exists in the folder
      * and can be validated. The name of the file results from the settings of
@@ -70,9 +79,15 @@ public class MissingOrDamagedImagesFilterPredicate implements Predicate<Subfolde
      *
      * @param canonical
      *            the canonical part of the file name
+     * @param validationResults
+     *            returns the results of validating all files of a folder, by
+     *            canonical part of the file name. Files not contained are
+     *            validated one by one.
      */
-    public MissingOrDamagedImagesFilterPredicate(String canonical) {
+    public MissingOrDamagedImagesFilterPredicate(String canonical,
+            Function<Subfolder, Map<String, ValidationResult>> validationResults) {
         this.canonical = canonical;
+        this.validationResults = validationResults;
     }
 
     /**
@@ -95,8 +110,11 @@ public class MissingOrDamagedImagesFilterPredicate implements Predicate<Subfolde
         }
         Optional<FileType> fileType = folder.getFileFormat().getFileType();
         if (fileType.isPresent()) {
-            LongTermPreservationValidationService serviceLoader = new LongTermPreservationValidationService();
-            ValidationResult validated = serviceLoader.validate(imageURI.get(), fileType.get());
+            ValidationResult validated = validationResults.apply(folder).get(canonical);
+            if (Objects.isNull(validated)) {
+                validated = ServiceManager.getLongTermPreservationValidationService().validate(imageURI.get(),
+                    fileType.get());
+            }
             if (validated.getState().equals(State.SUCCESS)) {
                 logger.info(VALIDATION_SUCCESS, canonical, folder, validated.getState());
                 return false;
@@ -0,0 +1,383 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+
+/**
+ * Scales images to small thumbnails for the gallery of the metadata editor.
+ * The thumbnails are created when they are first requested and kept in
+ * memory and in a folder on disk, both of limited size. If the limit is
+ * exceeded, the thumbnails requested longest ago are discarded. A thumbnail
+ * is identified by the path, the size and the time of last modification of
+ * its image, so a changed image gets a new thumbnail.
+ *
+ * <p>
+ * The service can be used by any number of threads at once. The same
+ * thumbnail is only created once, even if it is requested by several threads
+ * at the same time, and no more thumbnails are created at once than there
+ * are processors.
+ */
+public class ThumbnailService {
+    private static final Logger logger = LogManager.getLogger(ThumbnailService.class);
+
+    private static final String THUMBNAIL_FOLDER = "thumbnails";
+    private static final String THUMBNAIL_SUFFIX = ".jpg";
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private static volatile ThumbnailService instance = null;
+
+    private final int size;
+    private final Path cacheDirectory;
+    private final Map<String, Thumbnail> memoryCache;
+    private final Map<String, Path> diskCache;
+    private final ConcurrentMap<String, Object> creationLocks = new ConcurrentHashMap<>();
+    private final Semaphore creationPermits = new Semaphore(Runtime.getRuntime().availableProcessors());
+    private volatile boolean diskCacheIndexed = false;
+
+    /**
+     * A thumbnail of an image.
+     */
+    public static class Thumbnail {
+        private final byte[] data;
+        private final String name;
+        private final long lastModified;
+        private final String entityTag;
+
+        private Thumbnail(byte[] data, String name, long lastModified, String key) {
+            this.data = data;
+            this.name = name;
+            this.lastModified = lastModified;
+            this.entityTag = "\"" + key + "\"";
+        }
+
+        /**
+         * Returns the content of the thumbnail file.
+         *
+         * @return the bytes of the thumbnail
+         */
+        public byte[] getData() {
+            return data;
+        }
+
+        /**
+         * Returns the Internet MIME type of the thumbnail.
+         *
+         * @return the content type
+         */
+        public String getContentType() {
+            return CONTENT_TYPE;
+        }
+
+        /**
+         * Returns a file name for the thumbnail, derived from the name of the
+         * image.
+         *
+         * @return the file name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the time the image was last modified.
+         *
+         * @return the time of the last modification, in milliseconds since
+         *         the epoch
+         */
+        public long getLastModified() {
+            return lastModified;
+        }
+
+        /**
+         * Returns an entity tag that changes if the image changes.
+         *
+         * @return the entity tag
+         */
+        public String getEntityTag() {
+            return entityTag;
+        }
+    }
+
+    private ThumbnailService() {
+        this(ConfigCore.getIntParameterOrDefaultValue(ParameterCore.THUMBNAIL_SIZE),
+                Paths.get(ConfigCore.getParameterOrDefaultValue(ParameterCore.DIR_TEMP), THUMBNAIL_FOLDER),
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.THUMBNAIL_MEMORY_CACHE_SIZE),
+                ConfigCore.getIntParameterOrDefaultValue(ParameterCore.THUMBNAIL_DISK_CACHE_SIZE));
+    }
+
+    /**
+     * Creates a thumbnail service.
+     *
+     * @param size
+     *            length of the longer edge of the thumbnails, in pixels
+     * @param cacheDirectory
+     *            directory to keep the thumbnails in
+     * @param memoryCacheSize
+     *            number of thumbnails kept in memory
+     * @param diskCacheSize
+     *            number of thumbnails kept on disk
+     */
+    ThumbnailService(int size, Path cacheDirectory, int memoryCacheSize, int diskCacheSize) {
+        this.size = size;
+        this.cacheDirectory = cacheDirectory;
+        this.memoryCache = Collections.synchronizedMap(new LinkedHashMap<String, Thumbnail>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Thumbnail> eldest) {
+                return size() > memoryCacheSize;
+            }
+        });
+        this.diskCache = Collections.synchronizedMap(new LinkedHashMap<String, Path>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Path> eldest) {
+                if (size() <= diskCacheSize) {
+                    return false;
+                }
+                try {
+                    Files.deleteIfExists(eldest.getValue());
+                } catch (IOException e) {
+                    logger.warn("Cannot delete thumbnail {}: {}", eldest.getValue(), e.getMessage());
+                }
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Returns whether thumbnails are shown. If not, the preview images are
+     * shown as they are.
+     *
+     * @return whether thumbnails are shown
+     */
+    public boolean isEnabled() {
+        return size > 0;
+    }
+
+    /**
+     * Returns the thumbnail of an image. If the image cannot be read, because
+     * its format is not supported, the optional is empty, and the image
+     * should be shown as it is.
+     *
+     * @param image
+     *            image file to get the thumbnail for
+     * @return the thumbnail, if the image can be read
+     * @throws IOException
+     *             if the image does not exist, or if the thumbnail cannot be
+     *             written
+     */
+    public Optional<Thumbnail> getThumbnail(File image) throws IOException {
+        Path imagePath = image.toPath();
+        long lastModified = Files.getLastModifiedTime(imagePath).toMillis();
+        String key = UUID.nameUUIDFromBytes((imagePath.toAbsolutePath().toString() + '\n' + Files.size(imagePath)
+                + '\n' + lastModified + '\n' + size).getBytes(StandardCharsets.UTF_8)).toString();
+        Thumbnail thumbnail = memoryCache.get(key);
+        if (Objects.nonNull(thumbnail)) {
+            // keeps the file of a much requested thumbnail in the disk cache
+            diskCache.get(key);
+            return Optional.of(thumbnail);
+        }
+        Object lock = creationLocks.computeIfAbsent(key, unused -> new Object());
+        try {
+            synchronized (lock) {
+                return Optional.ofNullable(loadThumbnail(imagePath, lastModified, key));
+            }
+        } finally {
+            creationLocks.remove(key, lock);
+        }
+    }
+
+    private Thumbnail loadThumbnail(Path imagePath, long lastModified, String key) throws IOException {
+        Thumbnail thumbnail = memoryCache.get(key);
+        if (Objects.nonNull(thumbnail)) {
+            return thumbnail;
+        }
+        indexDiskCache();
+        String name = imagePath.getFileName().toString().replaceFirst("\\.[^.]*$", "") + THUMBNAIL_SUFFIX;
+        Path thumbnailFile = cacheDirectory.resolve(key + THUMBNAIL_SUFFIX);
+        byte[] data;
+        if (Files.isRegularFile(thumbnailFile)) {
+            data = Files.readAllBytes(thumbnailFile);
+        } else {
+            data = createThumbnail(imagePath);
+            if (Objects.isNull(data)) {
+                return null;
+            }
+            Path temporaryFile = Files.createTempFile(cacheDirectory, key, ".tmp");
+            Files.write(temporaryFile, data);
+            Files.move(temporaryFile, thumbnailFile, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        }
+        diskCache.put(key, thumbnailFile);
+        thumbnail = new Thumbnail(data, name, lastModified, key);
+        memoryCache.put(key, thumbnail);
+        return thumbnail;
+    }
+
+    /**
+     * Adds the thumbnails left from earlier runs to the disk cache, those
+     * least recently written first, so that the cache limit also applies to
+     * them.
+     */
+    private void indexDiskCache() throws IOException {
+        if (diskCacheIndexed) {
+            return;
+        }
+        synchronized (diskCache) {
+            if (diskCacheIndexed) {
+                return;
+            }
+            Files.createDirectories(cacheDirectory);
+            try (Stream<Path> files = Files.list(cacheDirectory)) {
+                Iterator<Path> thumbnails = files.filter(file -> file.toString().endsWith(THUMBNAIL_SUFFIX))
+                        .sorted(Comparator.comparing(file -> file.toFile().lastModified())).iterator();
+                while (thumbnails.hasNext()) {
+                    Path thumbnail = thumbnails.next();
+                    String fileName = thumbnail.getFileName().toString();
+                    diskCache.put(fileName.substring(0, fileName.length() - THUMBNAIL_SUFFIX.length()), thumbnail);
+                }
+            }
+            diskCacheIndexed = true;
+        }
+    }
+
+    private byte[] createThumbnail(Path imagePath) throws IOException {
+        try {
+            creationPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting to create thumbnail of " + imagePath, e);
+        }
+        try {
+            BufferedImage image = readImage(imagePath);
+            if (Objects.isNull(image)) {
+                logger.debug("Cannot create thumbnail of {}: Image format not supported", imagePath);
+                return null;
+            }
+            return writeJpeg(scale(image));
+        } finally {
+            creationPermits.release();
+        }
+    }
+
+    /**
+     * Reads an image. Large images are read with subsampling, so that only
+     * about twice the pixels needed for the thumbnail are held in memory.
+     */
+    private BufferedImage readImage(Path imagePath) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(imagePath.toFile())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longerEdge = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(longerEdge / (2 * size), 1);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage image) {
+        double factor = Math.min((double) size / Math.max(image.getWidth(), image.getHeight()), 1);
+        int width = Math.max((int) Math.round(image.getWidth() * factor), 1);
+        int height = Math.max((int) Math.round(image.getHeight() * factor), 1);
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            // transparent areas appear white, as JPEG has no transparency
+            graphics.drawImage(image, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return thumbnail;
+    }
+
+    private static byte[] writeJpeg(BufferedImage thumbnail) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(buffer)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.write(null, new IIOImage(thumbnail, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * Return singleton variable of type ThumbnailService.
+     *
+     * @return unique instance of ThumbnailService
+     */
+    public static ThumbnailService getInstance() {
+        ThumbnailService localReference = instance;
+        if (Objects.isNull(localReference)) {
+            synchronized (ThumbnailService.class) {
+                localReference = instance;
+                if (Objects.isNull(localReference)) {
+                    localReference = new ThumbnailService();
+                    instance = localReference;
+                }
+            }
+        }
+        return localReference;
+    }
+}
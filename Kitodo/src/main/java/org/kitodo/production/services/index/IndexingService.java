@@ -17,7 +17,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +28,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
+import java.util.stream.Stream;
 
 import javax.faces.push.PushContext;
 import javax.json.Json;
@@ -235,26 +238,11 @@ public class IndexingService {
     public IndexWorkerStatus runIndexing(ObjectType type, PushContext pushContext, boolean indexAllObjects) 
             throws DataException, CustomResponseException, DAOException {
         SearchService searchService = searchServices.get(type);
-        int indexLimit = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXLIMIT);
 
         if (countDatabaseObjects.get(type) > 0) {
             if (indexAllObjects) {
                 // only check for loose index data when indexing full objects
-                Long amountInIndex = searchService.count();
-                long offset = 0L;
-
-                // remove documents in index that are no longer available in database
-                // by iterating over all indexed documents in elastic search
-                try {
-                    while (offset < amountInIndex) {
-                        // TODO: actually iterate over all elastic search documents
-                        searchService.removeLooseIndexData(searchService.findAllIDs(offset, indexLimit));
-                        offset += indexLimit;
-                    }
-                } catch (RuntimeException e) {
-                    // this is an elastic search exception, but elastic search is not available here
-                    logger.info("Cannot check documents beyond elastic search max_result_window, continuing ...");
-                }
+                removeLooseIndexData(searchService);
             }
 
             return spawnIndexingThreads(type, pushContext, indexAllObjects);
@@ -263,6 +251,28 @@ public class IndexingService {
         return null;
     }
 
+    /**
+     * Remove documents from the index that are no longer available in the
+     * database, by iterating over the IDs of all indexed documents.
+     *
+     * @param searchService
+     *            service of the type whose documents are checked
+     */
+    private void removeLooseIndexData(SearchService searchService) throws DataException, CustomResponseException {
+        int indexLimit = ConfigCore.getIntParameterOrDefaultValue(ParameterCore.ELASTICSEARCH_INDEXLIMIT);
+        List<Integer> ids = new ArrayList<>(indexLimit);
+        try (Stream<Integer> indexedIds = searchService.streamAllIDs()) {
+            Iterator<Integer> iterator = indexedIds.iterator();
+            while (iterator.hasNext()) {
+                ids.add(iterator.next());
+                if (ids.size() == indexLimit || !iterator.hasNext()) {
+                    searchService.removeLooseIndexData(ids);
+                    ids.clear();
+                }
+            }
+        }
+    }
+
     /**
      * Return the number of objects in the database for the given ObjectType.
      *
@@ -318,13 +328,17 @@ public class IndexingService {
         logger.info("start " + threads + " threads for indexing " + type.toString());
         ExecutorService executor = null;
         try {
-            executor = createDeamonizedExecutorService(threads);
+            // one thread each for loading the objects and storing the documents
+            executor = createDeamonizedExecutorService(threads + 2);
 
+            IndexWorker indexWorker = new IndexWorker(getService(type), type, indexWorkerStatus, indexAllObjects,
+                    threads);
             List<Future<?>> futures = new LinkedList<Future<?>>();
+            futures.add(executor.submit(indexWorker::loadObjects));
             for (int i = 0; i < threads; i++) {
-                Future<?> future = executor.submit(new IndexWorker(getService(type), type, indexWorkerStatus, indexAllObjects));
-                futures.add(future);
+                futures.add(executor.submit(indexWorker::createDocuments));
             }
+            futures.add(executor.submit(indexWorker::storeDocuments));
 
             waitWhileIndexing(type, futures, pollingChannel);
         } finally {
@@ -12,10 +12,15 @@
 package org.kitodo.production.services.validation;
 
 import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 import org.kitodo.api.validation.ValidationResult;
 import org.kitodo.api.validation.longtermpreservation.FileType;
 import org.kitodo.api.validation.longtermpreservation.LongTermPreservationValidationInterface;
+import org.kitodo.production.model.Subfolder;
 import org.kitodo.serviceloader.KitodoServiceLoader;
 
 /**
@@ -53,4 +58,29 @@ public class LongTermPreservationValidationService {
     public ValidationResult validate(URI fileUri, FileType fileType) {
         return longTermPreservationValidation.validate(fileUri, fileType);
     }
+
+    /**
+     * Validates all files in a folder for longTimePreservation. The files are
+     * validated in parallel.
+     *
+     * @param folder
+     *            The folder whose files should be validated.
+     * @param parallelism
+     *            The maximum number of files validated at the same time.
+     * @return the validation results, by canonical part of the file name.
+     *         Empty, if there is no validator for the file format of the
+     *         folder.
+     */
+    public Map<String, ValidationResult> validate(Subfolder folder, int parallelism) {
+        Optional<FileType> fileType = folder.getFileFormat().getFileType();
+        if (!fileType.isPresent()) {
+            return Collections.emptyMap();
+        }
+        Map<String, URI> contents = folder.listContents();
+        Map<URI, ValidationResult> validationResults = longTermPreservationValidation.validate(contents.values(),
+            fileType.get(), parallelism);
+        Map<String, ValidationResult> validationResultsByCanonical = new HashMap<>();
+        contents.forEach((canonical, uri) -> validationResultsByCanonical.put(canonical, validationResults.get(uri)));
+        return validationResultsByCanonical;
+    }
 }
@@ -11,6 +11,8 @@
 
 package org.kitodo.production.thread;
 
+import java.util.Objects;
+
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.kitodo.production.helper.tasks.EmptyTask;
@@ -69,6 +71,21 @@ public class TaskImageGeneratorThread extends EmptyTask {
         }
     }
 
+    /**
+     * Returns the histogram of the times needed to generate the images, or
+     * the stack trace if the task crashed.
+     *
+     * @return the histogram of the generation times
+     */
+    @Override
+    public String getLongMessage() {
+        if (Objects.nonNull(getException())) {
+            return super.getLongMessage();
+        }
+        String generationTimes = imageGenerator.getGenerationTimes().toString();
+        return generationTimes.isEmpty() ? null : generationTimes;
+    }
+
     /**
      * Calls the clone constructor to create a not yet executed instance of this
      * thread object. This is necessary for threads that have terminated in
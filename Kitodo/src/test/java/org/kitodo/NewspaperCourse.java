@@ -21,6 +21,7 @@ import org.kitodo.production.model.bibliography.course.Issue;
 public class NewspaperCourse {
     private static Course course;
     private static Course duplicatedCourse;
+    private static Course continuationCourse;
 
     /**
      * Returns a course of appearance.
@@ -46,6 +47,25 @@ public class NewspaperCourse {
         return duplicatedCourse;
     }
 
+    /**
+     * Returns a course of appearance which continues the year 1703 of the
+     * course returned by {@link #getCourse()}.
+     *
+     * @return a course of appearance
+     */
+    public static Course getContinuationCourse() {
+        if (Objects.isNull(continuationCourse)) {
+            continuationCourse = new Course();
+            Block block = new Block(continuationCourse);
+            block.setPublicationPeriod(LocalDate.of(1703, 10, 1), LocalDate.of(1703, 10, 31));
+            Issue issue = new Issue(continuationCourse);
+            issue.setMonday(true);
+            block.addIssue(issue);
+            continuationCourse.add(block);
+        }
+        return continuationCourse;
+    }
+
     private static Course createCourse() {
         Course course = new Course();
         addFirstBlock(course);
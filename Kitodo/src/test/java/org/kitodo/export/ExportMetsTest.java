@@ -0,0 +1,94 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.export;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeFalse;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kitodo.api.dataformat.Workpiece;
+
+public class ExportMetsTest {
+
+    private static final String FAILING_STYLESHEET = "<xsl:stylesheet version=\"1.0\" "
+            + "xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\"><xsl:template match=\"/\">"
+            + "<xsl:message terminate=\"yes\">failed</xsl:message></xsl:template></xsl:stylesheet>";
+
+    private static final String COPYING_STYLESHEET = "<xsl:stylesheet version=\"1.0\" "
+            + "xmlns:xsl=\"http://www.w3.org/1999/XSL/Transform\"><xsl:template match=\"/\">"
+            + "<xsl:copy-of select=\".\"/></xsl:template></xsl:stylesheet>";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldLeaveNoFileIfStylesheetFails() throws Exception {
+        File stylesheet = temporaryFolder.newFile("failing.xsl");
+        Files.write(stylesheet.toPath(), FAILING_STYLESHEET.getBytes(StandardCharsets.UTF_8));
+        File exportFolder = temporaryFolder.newFolder("export");
+        Path metaFile = exportFolder.toPath().resolve("process_mets.xml");
+        byte[] previousExport = "previous export".getBytes(StandardCharsets.UTF_8);
+        Files.write(metaFile, previousExport);
+
+        try {
+            ExportMets.writeTransformedMetsFile(new Workpiece(), stylesheet.toURI(), metaFile);
+            fail("Failing stylesheet did not cause an exception!");
+        } catch (IOException e) {
+            assertArrayEquals("Previous export was changed!", previousExport, Files.readAllBytes(metaFile));
+            assertEquals("Partial METS file was left behind!", 1,
+                Objects.requireNonNull(exportFolder.list()).length);
+        }
+    }
+
+    @Test
+    public void shouldReplaceFileIfStylesheetSucceeds() throws Exception {
+        File stylesheet = temporaryFolder.newFile("copying.xsl");
+        Files.write(stylesheet.toPath(), COPYING_STYLESHEET.getBytes(StandardCharsets.UTF_8));
+        File exportFolder = temporaryFolder.newFolder("export");
+        Path metaFile = exportFolder.toPath().resolve("process_mets.xml");
+        Files.write(metaFile, "previous export".getBytes(StandardCharsets.UTF_8));
+
+        ExportMets.writeTransformedMetsFile(new Workpiece(), stylesheet.toURI(), metaFile);
+
+        assertTrue("METS file was not written!",
+            new String(Files.readAllBytes(metaFile), StandardCharsets.UTF_8).contains("mets"));
+        assertEquals("Temporary file was left behind!", 1, Objects.requireNonNull(exportFolder.list()).length);
+    }
+
+    @Test
+    public void shouldWriteFileWithDefaultPermissions() throws Exception {
+        assumeFalse(SystemUtils.IS_OS_WINDOWS);
+        File stylesheet = temporaryFolder.newFile("copying.xsl");
+        Files.write(stylesheet.toPath(), COPYING_STYLESHEET.getBytes(StandardCharsets.UTF_8));
+        File exportFolder = temporaryFolder.newFolder("export");
+        Path metaFile = exportFolder.toPath().resolve("process_mets.xml");
+        Path otherFile = Files.createFile(exportFolder.toPath().resolve("other.xml"));
+
+        ExportMets.writeTransformedMetsFile(new Workpiece(), stylesheet.toURI(), metaFile);
+
+        assertEquals("METS file was not written with default permissions!",
+            Files.getPosixFilePermissions(otherFile), Files.getPosixFilePermissions(metaFile));
+    }
+}
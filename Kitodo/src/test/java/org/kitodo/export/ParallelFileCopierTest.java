@@ -0,0 +1,96 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.export;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ParallelFileCopierTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldCopyAllFiles() throws Exception {
+        File sources = temporaryFolder.newFolder("sources");
+        File targets = temporaryFolder.newFolder("targets");
+        ParallelFileCopier copier = new ParallelFileCopier(3, false, true);
+        for (int i = 1; i <= 10; i++) {
+            Path source = createFile(sources, String.format("%08d.tif", i), i * 1000);
+            copier.addFile(source, targets.toPath().resolve(source.getFileName()));
+        }
+        assertEquals("Wrong number of bytes to copy", 55000, copier.getTotalBytes());
+
+        AtomicLong reported = new AtomicLong();
+        copier.copy((copiedBytes, totalBytes, fileName) -> reported.set(copiedBytes));
+
+        assertEquals("Wrong number of bytes reported", 55000, reported.get());
+        for (int i = 1; i <= 10; i++) {
+            String fileName = String.format("%08d.tif", i);
+            assertArrayEquals("Copy of " + fileName + " differs", Files.readAllBytes(new File(sources, fileName)
+                    .toPath()), Files.readAllBytes(new File(targets, fileName).toPath()));
+        }
+    }
+
+    @Test
+    public void shouldReplaceTargetWithLink() throws Exception {
+        File sources = temporaryFolder.newFolder("sources");
+        File targets = temporaryFolder.newFolder("targets");
+        Path source = createFile(sources, "00000001.tif", 4096);
+        Path target = createFile(targets, "00000001.tif", 10);
+        ParallelFileCopier copier = new ParallelFileCopier(1, true, false);
+        copier.addFile(source, target);
+
+        copier.copy((copiedBytes, totalBytes, fileName) -> { });
+
+        assertArrayEquals("Target was not replaced", Files.readAllBytes(source), Files.readAllBytes(target));
+    }
+
+    @Test(expected = InterruptedException.class)
+    public void shouldStopCopyingWhenInterrupted() throws Exception {
+        File sources = temporaryFolder.newFolder("sources");
+        File targets = temporaryFolder.newFolder("targets");
+        ParallelFileCopier copier = new ParallelFileCopier(1, false, false);
+        for (int i = 1; i <= 10; i++) {
+            Path source = createFile(sources, String.format("%08d.tif", i), 1000);
+            copier.addFile(source, targets.toPath().resolve(source.getFileName()));
+        }
+
+        try {
+            copier.copy((copiedBytes, totalBytes, fileName) -> {
+                throw new InterruptedException();
+            });
+        } finally {
+            int copied = targets.list().length;
+            Thread.sleep(100);
+            assertEquals("Copying was not stopped", copied, targets.list().length);
+        }
+    }
+
+    private static Path createFile(File directory, String name, int size) throws IOException {
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) (i * 31 + name.hashCode());
+        }
+        return Files.write(new File(directory, name).toPath(), content);
+    }
+}
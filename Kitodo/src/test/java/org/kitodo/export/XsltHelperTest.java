@@ -15,13 +15,18 @@ import static org.junit.Assert.assertThat;
 
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamSource;
 
 import org.apache.commons.io.FileUtils;
 import org.junit.Test;
+import org.xml.sax.XMLReader;
 import org.xmlunit.matchers.CompareMatcher;
 
 public class XsltHelperTest {
@@ -41,4 +46,25 @@ public class XsltHelperTest {
 
         FileUtils.deleteQuietly(result);
     }
+
+    @Test
+    public void shouldTransformKitodoToModsWhileParsing() throws Exception {
+        final String path = "src/test/resources/";
+
+        File result = new File(path + "mets.xml");
+        try (OutputStream outputStream = new FileOutputStream(result)) {
+            TransformerHandler transformerHandler = XsltHelper.newTransformerHandler(
+                URI.create(path + "xslt/kitodo2mods.xsl"), outputStream);
+            SAXParserFactory saxParserFactory = SAXParserFactory.newInstance();
+            saxParserFactory.setNamespaceAware(true);
+            XMLReader xmlReader = saxParserFactory.newSAXParser().getXMLReader();
+            xmlReader.setContentHandler(transformerHandler);
+            xmlReader.setProperty("http://xml.org/sax/properties/lexical-handler", transformerHandler);
+            xmlReader.parse(new File(path + "metadata/2/meta.xml").toURI().toString());
+        }
+
+        assertThat(result, CompareMatcher.isIdenticalTo(new File(path + "metsFromKitodo.xml")).ignoreWhitespace());
+
+        FileUtils.deleteQuietly(result);
+    }
 }
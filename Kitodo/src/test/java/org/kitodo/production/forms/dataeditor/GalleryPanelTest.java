@@ -0,0 +1,147 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.forms.dataeditor;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.kitodo.DummyRulesetManagement;
+import org.kitodo.api.dataformat.LogicalDivision;
+import org.kitodo.api.dataformat.PhysicalDivision;
+import org.kitodo.api.dataformat.View;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Template;
+import org.kitodo.data.database.beans.Workflow;
+import org.kitodo.production.enums.MediaContentType;
+
+public class GalleryPanelTest {
+
+    @Test
+    public void shouldUpdateOnlyTheChangedStripes() throws Exception {
+        Workpiece workpiece = createWorkpiece(3, 4);
+        GalleryPanel underTest = createGalleryPanel(workpiece);
+        LogicalDivision first = workpiece.getLogicalStructure().getChildren().get(0);
+        GalleryStripe secondStripe = underTest.getStripes().get(2);
+
+        LogicalDivision section = new LogicalDivision();
+        section.setType("section");
+        View view = first.getViews().removeLast();
+        view.getPhysicalDivision().getLogicalDivisions().remove(first);
+        view.getPhysicalDivision().getLogicalDivisions().add(section);
+        section.getViews().add(view);
+        first.getChildren().add(section);
+        underTest.updateStripes(first);
+        String incrementalUpdate = dump(underTest);
+
+        Assert.assertSame("Unchanged sibling was rebuilt", secondStripe, underTest.getStripes().get(3));
+        underTest.updateStripes();
+        Assert.assertEquals("Incremental update differs from full build", dump(underTest), incrementalUpdate);
+    }
+
+    @Test
+    public void shouldSortMediaAfterPagesWereMoved() throws Exception {
+        Workpiece workpiece = createWorkpiece(3, 4);
+        GalleryPanel underTest = createGalleryPanel(workpiece);
+        LogicalDivision root = workpiece.getLogicalStructure();
+        LogicalDivision first = root.getChildren().get(0);
+        LogicalDivision second = root.getChildren().get(1);
+
+        View view = second.getViews().removeFirst();
+        view.getPhysicalDivision().getLogicalDivisions().remove(second);
+        view.getPhysicalDivision().getLogicalDivisions().add(first);
+        first.getViews().addFirst(view);
+        List<PhysicalDivision> pages = workpiece.getPhysicalStructure().getChildren();
+        pages.add(0, pages.remove(4));
+        for (int i = 0; i < pages.size(); i++) {
+            pages.get(i).setOrder(i + 1);
+        }
+        Assert.assertTrue("Media could not be sorted", underTest.sortMedia());
+        underTest.updateStripes(root);
+        String incrementalUpdate = dump(underTest);
+
+        Assert.assertSame("Media were not sorted", view.getPhysicalDivision(),
+            underTest.getMedias().get(0).getView().getPhysicalDivision());
+        underTest.updateStripes();
+        Assert.assertEquals("Incremental update differs from full build", dump(underTest), incrementalUpdate);
+    }
+
+    private static Workpiece createWorkpiece(int chapters, int pagesPerChapter) {
+        Workpiece workpiece = new Workpiece();
+        LogicalDivision root = workpiece.getLogicalStructure();
+        root.setType("book");
+        for (int i = 0; i < chapters; i++) {
+            LogicalDivision chapter = new LogicalDivision();
+            chapter.setType("chapter");
+            for (int j = 0; j < pagesPerChapter; j++) {
+                PhysicalDivision page = new PhysicalDivision();
+                page.setType("page");
+                page.setOrder(workpiece.getPhysicalStructure().getChildren().size() + 1);
+                page.setOrderlabel(Integer.toString(page.getOrder()));
+                workpiece.getPhysicalStructure().getChildren().add(page);
+                View view = new View();
+                view.setPhysicalDivision(page);
+                page.getLogicalDivisions().add(chapter);
+                chapter.getViews().add(view);
+            }
+            root.getChildren().add(chapter);
+        }
+        return workpiece;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static GalleryPanel createGalleryPanel(Workpiece workpiece) throws Exception {
+        DataEditorForm dummyDataEditorForm = new DataEditorForm();
+        Process process = new Process();
+        process.setId(1);
+        Template template = new Template();
+        template.setWorkflow(new Workflow());
+        process.setTemplate(template);
+        dummyDataEditorForm.setProcess(process);
+        Field ruleset = DataEditorForm.class.getDeclaredField("ruleset");
+        ruleset.setAccessible(true);
+        ruleset.set(dummyDataEditorForm, new DummyRulesetManagement());
+        Field workpieceField = DataEditorForm.class.getDeclaredField("workpiece");
+        workpieceField.setAccessible(true);
+        workpieceField.set(dummyDataEditorForm, workpiece);
+        Field mediaProvider = DataEditorForm.class.getDeclaredField("mediaProvider");
+        mediaProvider.setAccessible(true);
+        mediaProvider.set(dummyDataEditorForm, new MediaProvider());
+        GalleryPanel galleryPanel = dummyDataEditorForm.getGalleryPanel();
+        Field mediaContentTypeVariants = GalleryPanel.class.getDeclaredField("mediaContentTypeVariants");
+        mediaContentTypeVariants.setAccessible(true);
+        ((Map<MediaContentType, Map<GalleryViewMode, ?>>) mediaContentTypeVariants.get(galleryPanel))
+                .put(MediaContentType.IMAGE, Collections.emptyMap());
+        galleryPanel.updateStripes();
+        return galleryPanel;
+    }
+
+    private static String dump(GalleryPanel galleryPanel) {
+        StringBuilder dump = new StringBuilder();
+        for (GalleryMediaContent media : galleryPanel.getMedias()) {
+            dump.append(media.getView().getPhysicalDivision().getOrder()).append(' ')
+                    .append(media.getLogicalTreeNodeId()).append('\n');
+        }
+        for (GalleryStripe stripe : galleryPanel.getStripes()) {
+            dump.append(stripe.getLogicalTreeNodeId()).append(' ').append(stripe.getStructure().getType()).append(':');
+            for (GalleryMediaContent media : stripe.getMedias()) {
+                dump.append(' ').append(media.getView().getPhysicalDivision().getOrder());
+            }
+            dump.append('\n');
+        }
+        return dump.toString();
+    }
+}
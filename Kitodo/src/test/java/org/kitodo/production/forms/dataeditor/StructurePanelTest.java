@@ -14,11 +14,19 @@ package org.kitodo.production.forms.dataeditor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.junit.Assert;
 import org.junit.Test;
 import org.kitodo.DummyRulesetManagement;
 import org.kitodo.api.dataformat.LogicalDivision;
+import org.kitodo.api.dataformat.PhysicalDivision;
+import org.kitodo.api.dataformat.View;
+import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.dataformat.mets.LinkedMetsResource;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Template;
@@ -27,6 +35,7 @@ import org.primefaces.model.DefaultTreeNode;
 import org.primefaces.model.TreeNode;
 
 public class StructurePanelTest {
+    private static final Logger logger = LogManager.getLogger(StructurePanelTest.class);
 
     @Test
     public void testBuildStructureTreeRecursively() throws Exception {
@@ -61,4 +70,134 @@ public class StructurePanelTest {
         final StructurePanel underTest = new StructurePanel(dummyDataEditorForm);
         Assert.assertFalse(underTest.isSeparateMedia());
     }
+
+    @Test
+    public void shouldUpdateOnlyTheChangedSubtree() throws Exception {
+        Workpiece workpiece = createWorkpiece(3, 4);
+        StructurePanel underTest = createStructurePanel(workpiece);
+        LogicalDivision root = workpiece.getLogicalStructure();
+        LogicalDivision first = root.getChildren().get(0);
+        LogicalDivision second = root.getChildren().get(1);
+        TreeNode thirdNode = getRootNode(underTest).getChildren().get(2);
+        thirdNode.setExpanded(false);
+
+        View view = second.getViews().removeFirst();
+        view.getPhysicalDivision().getLogicalDivisions().remove(second);
+        view.getPhysicalDivision().getLogicalDivisions().add(first);
+        first.getViews().add(view);
+        LogicalDivision updated = underTest.updateLogicalSubtree(Arrays.asList(first, second));
+
+        Assert.assertSame("Wrong subtree was updated", root, updated);
+        Assert.assertEquals("Incremental update differs from full build", dump(buildLogicalTree(underTest)),
+            dump(underTest.getLogicalTree()));
+        Assert.assertFalse("Expansion state was lost", getRootNode(underTest).getChildren().get(2).isExpanded());
+    }
+
+    @Test
+    public void shouldKeepUnchangedSiblings() throws Exception {
+        Workpiece workpiece = createWorkpiece(3, 4);
+        StructurePanel underTest = createStructurePanel(workpiece);
+        LogicalDivision first = workpiece.getLogicalStructure().getChildren().get(0);
+        TreeNode secondNode = getRootNode(underTest).getChildren().get(1);
+
+        LogicalDivision section = new LogicalDivision();
+        section.setType("section");
+        first.getChildren().add(section);
+        LogicalDivision updated = underTest.updateLogicalSubtree(Collections.singletonList(first));
+
+        Assert.assertSame("Wrong subtree was updated", first, updated);
+        Assert.assertSame("Unchanged sibling was rebuilt", secondNode, getRootNode(underTest).getChildren().get(1));
+        Assert.assertEquals("Incremental update differs from full build", dump(buildLogicalTree(underTest)),
+            dump(underTest.getLogicalTree()));
+    }
+
+    @Test
+    public void shouldCompareIncrementalUpdateWithFullBuild() throws Exception {
+        Workpiece workpiece = createWorkpiece(100, 50);
+        StructurePanel underTest = createStructurePanel(workpiece);
+        LogicalDivision chapter = workpiece.getLogicalStructure().getChildren().get(50);
+
+        long fullBuild = System.nanoTime();
+        buildLogicalTree(underTest);
+        fullBuild = System.nanoTime() - fullBuild;
+        chapter.getChildren().add(new LogicalDivision());
+        long incrementalUpdate = System.nanoTime();
+        underTest.updateLogicalSubtree(Collections.singletonList(chapter));
+        incrementalUpdate = System.nanoTime() - incrementalUpdate;
+
+        logger.info("Logical tree of 5000 pages: full build {} ms, incremental update {} ms",
+            TimeUnit.NANOSECONDS.toMillis(fullBuild), TimeUnit.NANOSECONDS.toMillis(incrementalUpdate));
+        Assert.assertEquals("Incremental update differs from full build", dump(buildLogicalTree(underTest)),
+            dump(underTest.getLogicalTree()));
+    }
+
+    private static Workpiece createWorkpiece(int chapters, int pagesPerChapter) {
+        Workpiece workpiece = new Workpiece();
+        LogicalDivision root = workpiece.getLogicalStructure();
+        root.setType("book");
+        for (int i = 0; i < chapters; i++) {
+            LogicalDivision chapter = new LogicalDivision();
+            chapter.setType("chapter");
+            for (int j = 0; j < pagesPerChapter; j++) {
+                PhysicalDivision page = new PhysicalDivision();
+                page.setType("page");
+                page.setOrder(workpiece.getPhysicalStructure().getChildren().size() + 1);
+                page.setOrderlabel(Integer.toString(page.getOrder()));
+                workpiece.getPhysicalStructure().getChildren().add(page);
+                View view = new View();
+                view.setPhysicalDivision(page);
+                page.getLogicalDivisions().add(chapter);
+                chapter.getViews().add(view);
+            }
+            root.getChildren().add(chapter);
+        }
+        return workpiece;
+    }
+
+    private static StructurePanel createStructurePanel(Workpiece workpiece) throws Exception {
+        DataEditorForm dummyDataEditorForm = new DataEditorForm();
+        Process process = new Process();
+        Template template = new Template();
+        template.setWorkflow(new Workflow());
+        process.setTemplate(template);
+        dummyDataEditorForm.setProcess(process);
+        Field ruleset = DataEditorForm.class.getDeclaredField("ruleset");
+        ruleset.setAccessible(true);
+        ruleset.set(dummyDataEditorForm, new DummyRulesetManagement());
+        Field workpieceField = DataEditorForm.class.getDeclaredField("workpiece");
+        workpieceField.setAccessible(true);
+        workpieceField.set(dummyDataEditorForm, workpiece);
+        StructurePanel structurePanel = new StructurePanel(dummyDataEditorForm);
+        Field structure = StructurePanel.class.getDeclaredField("structure");
+        structure.setAccessible(true);
+        structure.set(structurePanel, workpiece.getLogicalStructure());
+        Field logicalTree = StructurePanel.class.getDeclaredField("logicalTree");
+        logicalTree.setAccessible(true);
+        logicalTree.set(structurePanel, buildLogicalTree(structurePanel));
+        return structurePanel;
+    }
+
+    private static DefaultTreeNode buildLogicalTree(StructurePanel structurePanel) throws Exception {
+        Method buildStructureTree = StructurePanel.class.getDeclaredMethod("buildStructureTree");
+        buildStructureTree.setAccessible(true);
+        return (DefaultTreeNode) buildStructureTree.invoke(structurePanel);
+    }
+
+    private static TreeNode getRootNode(StructurePanel structurePanel) {
+        return structurePanel.getLogicalTree().getChildren().get(0);
+    }
+
+    private static String dump(TreeNode treeNode) {
+        StringBuilder dump = new StringBuilder();
+        if (treeNode.getData() instanceof StructureTreeNode) {
+            StructureTreeNode structureTreeNode = (StructureTreeNode) treeNode.getData();
+            dump.append(treeNode.getRowKey()).append(' ').append(treeNode.getType()).append(' ')
+                    .append(structureTreeNode.getLabel()).append(' ').append(structureTreeNode.getPageRange())
+                    .append('\n');
+        }
+        for (TreeNode child : treeNode.getChildren()) {
+            dump.append(dump(child));
+        }
+        return dump.toString();
+    }
 }
@@ -14,12 +14,15 @@ package org.kitodo.production.handler;
 import static org.apache.commons.io.IOUtils.toInputStream;
 import static org.junit.Assert.assertEquals;
 import static org.kitodo.production.helper.RangeStreamHelper.DEFAULT_BUFFER_SIZE;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
@@ -179,4 +182,56 @@ public class RangeStreamContentHandlerIT extends BasePrimefaceTest {
         assertEquals(data.substring(start,end + 1), byteArrayOutputStream.toString(StandardCharsets.UTF_8));
     }
 
+    /**
+     * Test requesting partial content of a file.
+     *
+     * @throws Exception the exceptions thrown by method
+     */
+    @Test
+    public void partialContentOfFile() throws Exception {
+        int start = 5;
+        int end = 22;
+        Path file = Files.createTempFile("range", ".mp4");
+        try {
+            Files.write(file, data.getBytes(StandardCharsets.UTF_8));
+            FileStreamedContent fileStreamedContent = new FileStreamedContent(file, MIMETYPE);
+            when(valueExpression.getValue(facesContext.getELContext())).thenReturn(fileStreamedContent);
+            when(httpServletRequest.getHeader("Range")).thenReturn("bytes=" + start + "-" + end);
+
+            rangeStreamContentHandler.handle(facesContext);
+
+            verify(httpServletResponse).setHeader("ETag", fileStreamedContent.getEntityTag());
+            verify(httpServletResponse).setDateHeader("Last-Modified", fileStreamedContent.getLastModified());
+            verify(httpServletResponse).setHeader("Content-Range", "bytes " + start + "-" + end + "/34");
+            verify(httpServletResponse).setHeader("Content-Length", "18");
+            verify(httpServletResponse).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            assertEquals(data.substring(start, end + 1), byteArrayOutputStream.toString(StandardCharsets.UTF_8));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Test requesting a file the browser already has.
+     *
+     * @throws Exception the exceptions thrown by method
+     */
+    @Test
+    public void notModifiedFile() throws Exception {
+        Path file = Files.createTempFile("range", ".mp4");
+        try {
+            Files.write(file, data.getBytes(StandardCharsets.UTF_8));
+            FileStreamedContent fileStreamedContent = new FileStreamedContent(file, MIMETYPE);
+            when(valueExpression.getValue(facesContext.getELContext())).thenReturn(fileStreamedContent);
+            when(httpServletRequest.getHeader("If-None-Match")).thenReturn(fileStreamedContent.getEntityTag());
+
+            rangeStreamContentHandler.handle(facesContext);
+
+            verify(httpServletResponse).setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            verify(httpServletResponse, never()).setHeader("Content-Length", "34");
+            assertEquals(0, byteArrayOutputStream.size());
+        } finally {
+            Files.delete(file);
+        }
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kitodo.MockDatabase;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Task;
+import org.kitodo.production.enums.ObjectType;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.ProcessService;
+import org.kitodo.production.services.data.TaskService;
+import org.kitodo.production.services.data.base.SearchService;
+
+public class IndexWorkerIT {
+
+    private static final ProcessService processService = ServiceManager.getProcessService();
+    private static final TaskService taskService = ServiceManager.getTaskService();
+
+    @BeforeClass
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertProcessesFull();
+        MockDatabase.setUpAwaitility();
+    }
+
+    @AfterClass
+    public static void cleanDatabase() throws Exception {
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+    }
+
+    @Test
+    public void shouldIndexAllTasks() throws Exception {
+        for (Task task : taskService.getAll()) {
+            taskService.removeFromIndex(task.getId(), true);
+        }
+        assertEquals("Tasks were not removed from index!", Long.valueOf(0), taskService.count());
+
+        assertFalse("Indexing failed!", runIndexWorker(taskService, ObjectType.TASK).hasFailed());
+        await().untilAsserted(() -> assertEquals("Tasks were not indexed!", taskService.countDatabaseRows(),
+            taskService.count()));
+    }
+
+    @Test
+    public void shouldIndexAllProcesses() throws Exception {
+        for (Process process : processService.getAll()) {
+            processService.removeFromIndex(process.getId(), true);
+        }
+        assertEquals("Processes were not removed from index!", Long.valueOf(0), processService.count());
+
+        assertFalse("Indexing failed!", runIndexWorker(processService, ObjectType.PROCESS).hasFailed());
+        await().untilAsserted(() -> assertEquals("Processes were not indexed!", processService.countDatabaseRows(),
+            processService.count()));
+    }
+
+    private static IndexWorkerStatus runIndexWorker(SearchService searchService, ObjectType objectType)
+            throws Exception {
+        IndexWorkerStatus indexWorkerStatus = new IndexWorkerStatus(1);
+        IndexWorker indexWorker = new IndexWorker(searchService, objectType, indexWorkerStatus, true, 2);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            futures.add(executor.submit(indexWorker::loadObjects));
+            futures.add(executor.submit(indexWorker::createDocuments));
+            futures.add(executor.submit(indexWorker::createDocuments));
+            futures.add(executor.submit(indexWorker::storeDocuments));
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return indexWorkerStatus;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+
+public class RelatedDTOCacheTest {
+
+    private static final String TYPE = "project";
+
+    @Test
+    public void shouldCacheOnlyWithinBatch() {
+        RelatedDTOCache.<String>getCache(TYPE).put(1, "Project");
+        assertTrue("Object was cached outside of batch", RelatedDTOCache.getCache(TYPE).isEmpty());
+
+        RelatedDTOCache.beginBatch();
+        try {
+            RelatedDTOCache.<String>getCache(TYPE).put(1, "Project");
+            RelatedDTOCache.beginBatch();
+            try {
+                Map<Integer, String> cache = RelatedDTOCache.getCache(TYPE);
+                assertEquals("Object was not cached in nested batch", "Project", cache.get(1));
+                assertTrue("Caches of types are not separated", RelatedDTOCache.getCache("ruleset").isEmpty());
+            } finally {
+                RelatedDTOCache.endBatch();
+            }
+            assertEquals("Object was removed at end of nested batch", "Project",
+                RelatedDTOCache.<String>getCache(TYPE).get(1));
+        } finally {
+            RelatedDTOCache.endBatch();
+        }
+        assertTrue("Object was cached after end of batch", RelatedDTOCache.getCache(TYPE).isEmpty());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.searchresult;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Test;
+
+public class SearchResultWriterTest {
+
+    private static final int ROWS = 250;
+
+    @Test
+    public void shouldWriteCsv() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        write(new CsvSearchResultWriter(outputStream));
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("Wrong number of lines", ROWS + 2, lines.length);
+        assertEquals("Wrong title", "\"project:\"\"Test\"\"\"", lines[0]);
+        assertEquals("Wrong header", "\"Title\",\"ID\",\"Status\"", lines[1]);
+        assertEquals("Wrong row", "\"Process 1\",\"1\",\"\"", lines[2]);
+    }
+
+    @Test
+    public void shouldWriteXlsx() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        write(new XlsxSearchResultWriter(outputStream));
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals("Wrong number of rows", ROWS + 1, sheet.getLastRowNum());
+            assertEquals("Wrong title", "project:\"Test\"", sheet.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("Wrong header", "ID", sheet.getRow(1).getCell(1).getStringCellValue());
+            assertEquals("Wrong title of last row", "Process " + ROWS,
+                sheet.getRow(ROWS + 1).getCell(0).getStringCellValue());
+            assertEquals("ID should be numeric", CellType.NUMERIC, sheet.getRow(ROWS + 1).getCell(1).getCellType());
+            assertEquals("Wrong ID", ROWS, sheet.getRow(ROWS + 1).getCell(1).getNumericCellValue(), 0);
+        }
+    }
+
+    @Test
+    public void shouldWritePdf() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        write(new PdfSearchResultWriter(outputStream, new int[] {4, 1, 2 }));
+
+        String pdf = outputStream.toString(StandardCharsets.ISO_8859_1);
+        assertTrue("Not a PDF document", pdf.startsWith("%PDF"));
+        assertTrue("PDF document is incomplete", pdf.trim().endsWith("%%EOF"));
+    }
+
+    private static void write(SearchResultWriter writer) throws IOException {
+        try (writer) {
+            writer.writeTitle("project:\"Test\"");
+            writer.writeHeader(Arrays.asList("Title", "ID", "Status"));
+            for (int id = 1; id <= ROWS; id++) {
+                writer.writeRow(Arrays.asList("Process " + id, id, null));
+            }
+        }
+    }
+}
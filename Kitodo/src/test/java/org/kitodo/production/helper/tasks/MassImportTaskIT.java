@@ -0,0 +1,120 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.helper.tasks;
+
+import static com.xebialabs.restito.builder.stub.StubHttp.whenHttp;
+import static com.xebialabs.restito.semantics.Action.contentType;
+import static com.xebialabs.restito.semantics.Action.ok;
+import static com.xebialabs.restito.semantics.Action.stringContent;
+import static com.xebialabs.restito.semantics.Condition.get;
+import static com.xebialabs.restito.semantics.Condition.parameter;
+
+import com.xebialabs.restito.server.StubServer;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.kitodo.ExecutionPermission;
+import org.kitodo.MockDatabase;
+import org.kitodo.SecurityTestUtils;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.production.dto.ProcessDTO;
+import org.kitodo.production.services.ServiceManager;
+import org.kitodo.production.services.data.ProcessService;
+
+public class MassImportTaskIT {
+
+    private static final String TEST_FILE_PATH = "src/test/resources/sruTestRecord.xml";
+    private static final String RECORD_ID = "11111";
+    private static final String MISSING_RECORD_ID = "99999";
+    private static final int PORT = 8888;
+    private static StubServer server;
+
+    @BeforeClass
+    public static void prepareDatabase() throws Exception {
+        MockDatabase.startNode();
+        MockDatabase.insertMappingFiles();
+        MockDatabase.insertImportConfigurations();
+        MockDatabase.insertProcessesFull();
+        MockDatabase.insertProcessesForHierarchyTests();
+        SecurityTestUtils.addUserDataToSecurityContext(ServiceManager.getUserService().getById(1), 1);
+        server = new StubServer(PORT).run();
+        try (InputStream inputStream = Files.newInputStream(Paths.get(TEST_FILE_PATH))) {
+            whenHttp(server)
+                    .match(get("/sru"), parameter("query", "pica.ppn=" + RECORD_ID))
+                    .then(ok(), contentType("text/xml"),
+                        stringContent(IOUtils.toString(inputStream, StandardCharsets.UTF_8)));
+        }
+    }
+
+    @AfterClass
+    public static void cleanDatabase() throws Exception {
+        MockDatabase.stopNode();
+        MockDatabase.cleanDatabase();
+        server.stop();
+        SecurityTestUtils.cleanSecurityContext();
+    }
+
+    @Test
+    public void shouldImportRecordsAndReportFailures() throws Exception {
+        long numberOfProcesses = ServiceManager.getProcessService().count();
+        Map<String, Map<String, String>> records = new LinkedHashMap<>();
+        records.put(MISSING_RECORD_ID, Collections.emptyMap());
+        records.put(RECORD_ID, Collections.emptyMap());
+        MassImportTask massImportTask = new MassImportTask(records, 1, 1,
+                MockDatabase.getK10PlusImportConfiguration());
+
+        File script = new File(ConfigCore.getParameter(ParameterCore.SCRIPT_CREATE_DIR_META));
+        if (!SystemUtils.IS_OS_WINDOWS) {
+            ExecutionPermission.setExecutePermission(script);
+        }
+        try {
+            massImportTask.start();
+            massImportTask.join();
+        } finally {
+            if (!SystemUtils.IS_OS_WINDOWS) {
+                ExecutionPermission.setNoExecutePermission(script);
+            }
+        }
+
+        Assert.assertEquals("Mass import did not finish", 100, massImportTask.getProgress());
+        Map<String, String> results = massImportTask.getResults();
+        Assert.assertEquals("Wrong number of results", 2, results.size());
+        Assert.assertNull("Record was not imported", results.get(RECORD_ID));
+        Assert.assertNotNull("Missing record was not reported", results.get(MISSING_RECORD_ID));
+        Assert.assertTrue("Failure is missing from message",
+            massImportTask.getLongMessage().startsWith(MISSING_RECORD_ID + ": "));
+        Assert.assertEquals("Wrong number of processes", numberOfProcesses + 1,
+            (long) ServiceManager.getProcessService().count());
+    }
+
+    @After
+    public void deleteImportedProcesses() throws Exception {
+        for (ProcessDTO process : ServiceManager.getProcessService().findByTitle("Kitodo_" + RECORD_ID)) {
+            ProcessService.deleteProcess(process.getId());
+        }
+    }
+}
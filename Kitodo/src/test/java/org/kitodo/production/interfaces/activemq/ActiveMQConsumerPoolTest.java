@@ -0,0 +1,150 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.interfaces.activemq;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jms.Connection;
+import javax.jms.JMSException;
+import javax.jms.MapMessage;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.apache.activemq.ActiveMQConnectionFactory;
+import org.apache.activemq.broker.BrokerService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kitodo.metrics.MetricsRegistry;
+import org.kitodo.metrics.Timer;
+
+public class ActiveMQConsumerPoolTest {
+
+    private static final String QUEUE_NAME = "KitodoProduction.Test.Queue";
+    private static final int MESSAGES = 24;
+
+    private BrokerService broker;
+    private Connection connection;
+
+    private final CountDownLatch processed = new CountDownLatch(MESSAGES);
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final Map<String, AtomicInteger> runningByKey = new ConcurrentHashMap<>();
+    private final AtomicInteger maxRunningByKey = new AtomicInteger();
+
+    /**
+     * Processor which records how many messages it processes at the same
+     * time, in total and for each key.
+     */
+    private class RecordingProcessor extends ActiveMQProcessor {
+
+        RecordingProcessor() {
+            super(QUEUE_NAME);
+        }
+
+        @Override
+        protected void process(MapMessageObjectReader ticket) {
+        }
+
+        @Override
+        protected Optional<String> getOrderingKey(MapMessageObjectReader ticket) throws JMSException {
+            return Optional.of(ticket.getMandatoryString("key"));
+        }
+
+        @Override
+        public void onMessage(Message message) {
+            try {
+                String key = ((MapMessage) message).getString("key");
+                AtomicInteger runningWithKey = runningByKey.computeIfAbsent(key, unused -> new AtomicInteger());
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                maxRunningByKey.accumulateAndGet(runningWithKey.incrementAndGet(), Math::max);
+                Thread.sleep(50);
+                runningWithKey.decrementAndGet();
+                running.decrementAndGet();
+            } catch (JMSException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            processed.countDown();
+        }
+    }
+
+    @Before
+    public void startBroker() throws Exception {
+        broker = new BrokerService();
+        broker.setPersistent(false);
+        broker.setUseJmx(false);
+        broker.start();
+        connection = new ActiveMQConnectionFactory("vm://localhost?create=false").createConnection();
+        connection.start();
+    }
+
+    @After
+    public void stopBroker() throws Exception {
+        connection.close();
+        broker.stop();
+    }
+
+    @Test
+    public void shouldProcessMessagesConcurrentlyButNotThoseWithTheSameKey() throws Exception {
+        ActiveMQConsumerPool consumerPool = new ActiveMQConsumerPool(RecordingProcessor::new, 4, true);
+        consumerPool.start(connection);
+        assertEquals("Wrong number of consumers", 4, consumerPool.getConsumers());
+        Timer processingTimer = MetricsRegistry.getInstance().timer("kitodo_activemq_message_processing_seconds",
+            null, "queue", QUEUE_NAME);
+        long processedBefore = processingTimer.getCount();
+
+        Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        MessageProducer producer = session.createProducer(session.createQueue(QUEUE_NAME));
+        for (int i = 0; i < MESSAGES; i++) {
+            MapMessage message = session.createMapMessage();
+            message.setString("id", Integer.toString(i));
+            message.setString("key", Integer.toString(i % 3));
+            producer.send(message);
+        }
+        session.close();
+
+        assertTrue("Messages were not processed in time", processed.await(30, TimeUnit.SECONDS));
+        consumerPool.close();
+        assertTrue("Messages were not processed concurrently", maxRunning.get() > 1);
+        assertEquals("Messages with the same key were processed concurrently", 1, maxRunningByKey.get());
+        assertEquals("Wrong number of processed messages", MESSAGES, processingTimer.getCount() - processedBefore);
+        assertTrue("Messages still in progress", MetricsRegistry.getInstance().write()
+                .contains("kitodo_activemq_messages_in_progress{queue=\"" + QUEUE_NAME + "\"} 0\n"));
+    }
+
+    @Test
+    public void shouldCountMessagesWaitingInTheQueue() throws Exception {
+        ActiveMQConsumerPool consumerPool = new ActiveMQConsumerPool(RecordingProcessor::new, 2, true);
+        consumerPool.start(connection);
+        consumerPool.close();
+
+        Session session = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+        MessageProducer producer = session.createProducer(session.createQueue(QUEUE_NAME));
+        for (int i = 0; i < 3; i++) {
+            producer.send(session.createMapMessage());
+        }
+        session.close();
+
+        assertEquals("Wrong queue depth", 3, consumerPool.getQueueDepth());
+        assertTrue("Queue depth was not published", MetricsRegistry.getInstance().write()
+                .contains("kitodo_activemq_queue_depth{queue=\"" + QUEUE_NAME + "\"} 3\n"));
+    }
+}
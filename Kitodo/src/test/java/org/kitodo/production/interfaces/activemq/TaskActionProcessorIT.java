@@ -18,6 +18,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 import javax.jms.JMSException;
 
@@ -254,6 +255,15 @@ public class TaskActionProcessorIT {
                 taskService.getById(task.getId()).getProcessingStatus());
     }
 
+    @Test
+    public void testOrderingKeyIsTheProcess() throws Exception {
+        Task task = taskService.getById(9);
+        MapMessageObjectReader mapMessageObjectReader = mock(MapMessageObjectReader.class);
+        when(mapMessageObjectReader.getMandatoryInteger(TaskActionProcessor.KEY_TASK_ID)).thenReturn(task.getId());
+        assertEquals("Ordering key should be the process", Optional.of(task.getProcess().getId().toString()),
+            new TaskActionProcessor().getOrderingKey(mapMessageObjectReader));
+    }
+
     private static void processAction(Task task, TaskAction taskAction) throws JMSException, ProcessorException {
         processAction(task, taskAction, null, 1);
     }
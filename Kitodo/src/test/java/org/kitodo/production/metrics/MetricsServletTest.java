@@ -0,0 +1,57 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.metrics;
+
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.Test;
+import org.kitodo.metrics.MetricsRegistry;
+
+public class MetricsServletTest {
+
+    @Test
+    public void shouldWriteMetricsForLocalHost() throws Exception {
+        MetricsRegistry.getInstance().counter("kitodo_test_total", "Test").increment();
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        StringWriter output = new StringWriter();
+        when(response.getWriter()).thenReturn(new PrintWriter(output));
+
+        new MetricsServlet().doGet(request, response);
+
+        verify(response, never()).sendError(HttpServletResponse.SC_FORBIDDEN);
+        assertTrue("Metrics were not written", output.toString().contains("kitodo_test_total 1"));
+    }
+
+    @Test
+    public void shouldRejectOtherHosts() throws Exception {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRemoteAddr()).thenReturn("192.0.2.1");
+        HttpServletResponse response = mock(HttpServletResponse.class);
+
+        new MetricsServlet().doGet(request, response);
+
+        verify(response).sendError(HttpServletResponse.SC_FORBIDDEN);
+        verify(response, never()).getWriter();
+    }
+}
@@ -138,6 +138,39 @@ public class NewspaperProcessesGeneratorIT {
         cleanUp();
     }
 
+    /**
+     * Tests whether the newspaper generator continues the existing year
+     * process when further issues of that year are generated later.
+     */
+    @Test
+    public void shouldContinueExistingYearProcess() throws Exception {
+        // create backup of meta data file as this file is modified inside test
+        File metaFile = new File("src/test/resources/metadata/10/meta.xml");
+        File backupFile = new File("src/test/resources/metadata/10/meta.xml.1");
+        FileUtils.copyFile(metaFile, backupFile);
+
+        for (Course course : Arrays.asList(NewspaperCourse.getCourse(), NewspaperCourse.getContinuationCourse())) {
+            course.splitInto(Granularity.DAYS);
+            NewspaperProcessesGenerator underTest = new NewspaperProcessesGenerator(processService.getById(10),
+                    course);
+            while (underTest.getProgress() < underTest.getNumberOfSteps()) {
+                underTest.nextStep();
+            }
+        }
+        List<Process> yearProcesses = processService.getById(10).getChildren().stream()
+                .filter(child -> child.getTitle().equals("NewspaperOverallProcess_1703")).collect(Collectors.toList());
+        Assert.assertEquals("Year process was created twice", 1, yearProcesses.size());
+        Workpiece yearWorkpiece = metsService.loadWorkpiece(processService.getMetadataFileUri(yearProcesses.get(0)));
+        Assert.assertEquals("Months of the year process are missing", Arrays.asList("8", "9", "10"),
+            yearWorkpiece.getLogicalStructure().getChildren().stream().map(LogicalDivision::getOrderlabel)
+                    .collect(Collectors.toList()));
+
+        // restore backuped meta data file
+        FileUtils.deleteQuietly(metaFile);
+        FileUtils.moveFile(backupFile, metaFile);
+        cleanUp();
+    }
+
     /*
      * @param issue
      *            In the overall process and in the annual processes (both
@@ -12,12 +12,14 @@
 package org.kitodo.production.services.command;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -27,6 +29,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.kitodo.ExecutionPermission;
 import org.kitodo.api.command.CommandResult;
+import org.kitodo.metrics.Counter;
+import org.kitodo.metrics.MetricsRegistry;
 
 public class CommandServiceTest {
     private static String scriptExtension;
@@ -188,6 +192,38 @@ public class CommandServiceTest {
         assertTrue("successful booleans are not identical", result.isSuccessful());
     }
 
+    @Test
+    public void runScriptWithTimeout() throws IOException {
+        String commandString = scriptPath + "long_working_script_2s" + scriptExtension;
+        CommandService service = new CommandService(0, 0, Duration.ofMillis(500));
+        Counter timeouts = getRunsCounter("long_working_script_2s" + scriptExtension, "timeout");
+        long timeoutsBefore = timeouts.getCount();
+        CommandResult result = service.runCommand(commandString);
+
+        assertFalse("script should have been killed", result.isSuccessful());
+        assertEquals("timeout should have been counted", 1, timeouts.getCount() - timeoutsBefore);
+    }
+
+    @Test
+    public void runSameScriptOneAfterTheOther() throws InterruptedException {
+        String commandString = scriptPath + "long_working_script_1s" + scriptExtension;
+        CommandService service = new CommandService(0, 1, Duration.ZERO);
+        Counter successfulRuns = getRunsCounter("long_working_script_1s" + scriptExtension, "0");
+        long successfulRunsBefore = successfulRuns.getCount();
+        service.runCommandAsync(commandString);
+        service.runCommandAsync(commandString);
+        Thread.sleep(1500); // the second run must still be waiting or running
+        assertEquals("runs of the same script should not overlap", 1, service.getFinishedCommandResults().size());
+        Thread.sleep(1500); // wait for async thread to finish;
+        assertEquals("both runs should have finished", 2, service.getFinishedCommandResults().size());
+        assertEquals("wrong number of runs counted", 2, successfulRuns.getCount() - successfulRunsBefore);
+    }
+
+    private static Counter getRunsCounter(String scriptName, String exitCode) {
+        return MetricsRegistry.getInstance().counter("kitodo_script_runs_total", "Number of finished script runs",
+            "script", scriptName, "exit_code", exitCode);
+    }
+
     /**
      * Returns the last finished CommandResult.
      * 
@@ -16,6 +16,9 @@ import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
@@ -31,8 +34,13 @@ import org.junit.Test;
 import org.junit.jupiter.api.Assertions;
 import org.kitodo.MockDatabase;
 import org.kitodo.SecurityTestUtils;
+import org.kitodo.data.database.beans.Batch;
 import org.kitodo.data.database.beans.Filter;
+import org.kitodo.data.database.beans.Process;
+import org.kitodo.data.database.beans.Task;
+import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.enums.ObjectType;
 import org.kitodo.production.services.ServiceManager;
@@ -562,4 +570,81 @@ public class FilterServiceIT {
         Assertions.assertThrows(ElasticsearchStatusException.class,
                 () -> processService.findByQuery(finalQuery, true));
     }
+
+    @Test
+    public void shouldPageThroughFilteredProcessListWithReusedQuery() throws Exception {
+        ProcessService processService = ServiceManager.getProcessService();
+        FilterService cachingFilterService = FilterService.create(Duration.ofMinutes(1));
+        String filter = "\"id:1 2 3\"";
+
+        QueryBuilder countQuery = cachingFilterService.queryBuilder(filter, ObjectType.PROCESS, false, false);
+        assertEquals("Incorrect amount of processes with id 1, 2 or 3!", Long.valueOf(3),
+            processService.count(countQuery));
+        List<Integer> ids = new ArrayList<>();
+        for (int first = 0; first < 3; first += 2) {
+            QueryBuilder pageQuery = cachingFilterService.queryBuilder(filter, ObjectType.PROCESS, false, false);
+            assertEquals("Reused query differs from first query!", countQuery, pageQuery);
+            for (ProcessDTO process : processService.findByQuery(pageQuery,
+                SortBuilders.fieldSort("id").order(SortOrder.ASC), first, 2, false)) {
+                ids.add(process.getId());
+            }
+        }
+        assertEquals("Incorrect processes on the pages!", Arrays.asList(1, 2, 3), ids);
+    }
+
+    @Test
+    public void shouldReuseLookedUpTasksUntilQueryExpires() throws Exception {
+        ProcessService processService = ServiceManager.getProcessService();
+        TaskService taskService = ServiceManager.getTaskService();
+        FilterService cachingFilterService = FilterService.create(Duration.ofHours(1));
+        String filter = "\"stepopen:Open\"";
+
+        QueryBuilder query = cachingFilterService.queryBuilder(filter, ObjectType.PROCESS, false, false);
+        List<ProcessDTO> processes = processService.findByQuery(query, true);
+        assertEquals("Incorrect amount of processes with open task 'Open'!", 1, processes.size());
+        Task task = processService.getById(processes.get(0).getId()).getTasks().stream()
+                .filter(processTask -> "Open".equals(processTask.getTitle())).findFirst().orElseThrow(Exception::new);
+        task.setProcessingStatus(TaskStatus.DONE);
+        taskService.save(task);
+        try {
+            given().ignoreExceptions().await().until(() -> processService
+                    .count(filterService.queryBuilder(filter, ObjectType.PROCESS, false, false)) == 0);
+            assertEquals("Looked up tasks were not reused until the query expires!", Long.valueOf(1),
+                processService.count(cachingFilterService.queryBuilder(filter, ObjectType.PROCESS, false, false)));
+        } finally {
+            task.setProcessingStatus(TaskStatus.OPEN);
+            taskService.save(task);
+            given().ignoreExceptions().await().until(() -> processService
+                    .count(filterService.queryBuilder(filter, ObjectType.PROCESS, false, false)) == 1);
+        }
+    }
+
+    @Test
+    public void shouldReuseLookedUpProcessesOfBatchUntilQueryExpires() throws Exception {
+        ProcessService processService = ServiceManager.getProcessService();
+        TaskService taskService = ServiceManager.getTaskService();
+        BatchService batchService = ServiceManager.getBatchService();
+        FilterService cachingFilterService = FilterService.create(Duration.ofHours(1));
+        String filter = "\"batch:1\"";
+
+        Long tasksOfBatch = taskService.count(cachingFilterService.queryBuilder(filter, ObjectType.TASK, false, false));
+        Batch batch = batchService.getById(1);
+        Process process = processService.getById(2);
+        batch.getProcesses().add(process);
+        process.getBatches().add(batch);
+        batchService.save(batch);
+        try {
+            given().ignoreExceptions().await().until(() -> taskService
+                    .count(filterService.queryBuilder(filter, ObjectType.TASK, false, false)) > tasksOfBatch);
+            assertEquals("Looked up processes were not reused until the query expires!", tasksOfBatch,
+                taskService.count(cachingFilterService.queryBuilder(filter, ObjectType.TASK, false, false)));
+        } finally {
+            batch.getProcesses().remove(process);
+            process.getBatches().remove(batch);
+            batchService.save(batch);
+            processService.save(process);
+            given().ignoreExceptions().await().until(() -> taskService
+                    .count(filterService.queryBuilder(filter, ObjectType.TASK, false, false)).equals(tasksOfBatch));
+        }
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.junit.Test;
+import org.kitodo.data.exceptions.DataException;
+import org.kitodo.production.enums.ObjectType;
+
+public class FilterServiceTest {
+
+    private static final String FILTER = "\"id:1 2\" \"-process:Test | Manuscript\"";
+
+    @Test
+    public void shouldBuildQueryFromFiltersAndConditions() throws DataException {
+        BoolQueryBuilder query = FilterService.create(Duration.ZERO).queryBuilder(FILTER, ObjectType.PROCESS, false,
+            false);
+
+        assertEquals("Filters were not parsed correctly!", 2, query.must().size());
+        BoolQueryBuilder conditions = (BoolQueryBuilder) query.must().get(1);
+        assertEquals("Conditions were not parsed correctly!", 2, conditions.should().size());
+        BoolQueryBuilder negatedCondition = (BoolQueryBuilder) conditions.should().get(0);
+        assertEquals("Negated condition was not parsed correctly!", 1, negatedCondition.mustNot().size());
+    }
+
+    @Test
+    public void shouldReuseQueryWithoutSharingIt() throws DataException {
+        FilterService filterService = FilterService.create(Duration.ofMinutes(1));
+        BoolQueryBuilder uncachedQuery = FilterService.create(Duration.ZERO).queryBuilder(FILTER, ObjectType.PROCESS,
+            false, false);
+
+        BoolQueryBuilder firstQuery = filterService.queryBuilder(FILTER, ObjectType.PROCESS, false, false);
+        firstQuery.mustNot(QueryBuilders.matchAllQuery());
+        BoolQueryBuilder secondQuery = filterService.queryBuilder(FILTER, ObjectType.PROCESS, false, false);
+
+        assertNotSame("Cached query was returned itself!", firstQuery, secondQuery);
+        assertTrue("Cached query was changed by the caller!", secondQuery.mustNot().isEmpty());
+        assertEquals("Cached query differs from built query!", uncachedQuery, secondQuery);
+        assertNotEquals("Query was reused for another object type!", secondQuery,
+            filterService.queryBuilder(FILTER, ObjectType.TEMPLATE, false, false));
+    }
+}
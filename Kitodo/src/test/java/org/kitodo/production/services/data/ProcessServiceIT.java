@@ -26,12 +26,18 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.SystemUtils;
 import org.elasticsearch.index.query.Operator;
 import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.search.sort.SortBuilder;
+import org.elasticsearch.search.sort.SortOrder;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -48,15 +54,19 @@ import org.kitodo.api.dataformat.Workpiece;
 import org.kitodo.api.dataformat.mets.LinkedMetsResource;
 import org.kitodo.config.ConfigCore;
 import org.kitodo.config.enums.ParameterCore;
+import org.kitodo.data.database.beans.Comment;
+import org.kitodo.data.database.beans.ListColumn;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.data.database.beans.Project;
 import org.kitodo.data.database.beans.Task;
 import org.kitodo.data.database.beans.User;
+import org.kitodo.data.database.enums.CommentType;
 import org.kitodo.data.database.enums.TaskStatus;
 import org.kitodo.data.database.exceptions.DAOException;
 import org.kitodo.data.elasticsearch.index.converter.ProcessConverter;
 import org.kitodo.data.exceptions.DataException;
 import org.kitodo.production.dto.ProcessDTO;
+import org.kitodo.production.dto.TaskDTO;
 import org.kitodo.production.enums.ProcessState;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyMetsModsDigitalDocumentHelper;
 import org.kitodo.production.helper.metadata.legacytypeimplementations.LegacyPrefsHelper;
@@ -207,6 +217,71 @@ public class ProcessServiceIT {
         assertEquals(processNotFound, expected, processService.findById(1).getId());
     }
 
+    @Test
+    public void shouldFindByQueryWithProjection() throws DataException {
+        QueryBuilder query = processService.createSetQueryForIds(Arrays.asList(1, 2, 3));
+        SortBuilder sort = processService.sortById(SortOrder.ASC);
+        List<ProcessDTO> processes = processService.findByQuery(query, sort, 0, 10, true);
+
+        List<ProcessDTO> projected = processService.findByQuery(query, sort, 0, 10, true,
+            processService.getProjectionForListColumns(Collections.emptyList()));
+        assertEquals("Processes were not found with projection!", processes.size(), projected.size());
+        assertTrue("Comments were not excluded!", projected.stream().noneMatch(ProcessDTO::hasComments));
+        assertTrue("Properties were not excluded!",
+            projected.stream().allMatch(process -> process.getProperties().isEmpty()));
+
+        projected = processService.findByQuery(query, sort, 0, 10, true,
+            processService.getProjectionForListColumns(
+                Arrays.asList(new ListColumn("process.comments"), new ListColumn("process.Signatur", true))));
+        for (int i = 0; i < processes.size(); i++) {
+            assertEquals("Title was excluded!", processes.get(i).getTitle(), projected.get(i).getTitle());
+            assertEquals("Comments were excluded!", processes.get(i).hasComments(), projected.get(i).hasComments());
+            assertEquals("Properties were excluded!", processes.get(i).getProperties().size(),
+                projected.get(i).getProperties().size());
+        }
+    }
+
+    @Test
+    public void shouldLoadCommentsOutsideOfProcessList() throws Exception {
+        Process process = processService.getById(1);
+        Comment comment = new Comment();
+        comment.setMessage("Check the images");
+        comment.setAuthor(ServiceManager.getUserService().getById(1));
+        comment.setProcess(process);
+        comment.setType(CommentType.INFO);
+        comment.setCreationDate(new Date());
+        ServiceManager.getCommentService().saveToDatabase(comment);
+        process.getComments().add(comment);
+        processService.save(process);
+        try {
+            List<ProcessDTO> processes = processService.loadData(0, 10, "id",
+                org.primefaces.model.SortOrder.DESCENDING, null);
+            ProcessDTO processWithComment = processes.stream().filter(loaded -> loaded.getId().equals(1))
+                    .findFirst().orElseThrow(AssertionError::new);
+            assertTrue("Comments were excluded outside of the process list!", processWithComment.hasComments());
+        } finally {
+            ServiceManager.getCommentService().removeComment(comment);
+            processService.save(process);
+        }
+    }
+
+    @Test
+    public void shouldConvertRelatedObjectsOfAllProcessesAtOnce() throws DataException {
+        QueryBuilder query = processService.createSetQueryForIds(Arrays.asList(1, 2, 3));
+        List<ProcessDTO> processes = processService.findByQuery(query, processService.sortById(SortOrder.ASC), 0, 10,
+            false);
+        assertEquals("Processes were not found!", 3, processes.size());
+        for (ProcessDTO process : processes) {
+            ProcessDTO singleProcess = processService.findById(process.getId());
+            assertEquals("Wrong project!", singleProcess.getProject().getTitle(), process.getProject().getTitle());
+            assertEquals("Wrong ruleset!", Objects.isNull(singleProcess.getRuleset()),
+                Objects.isNull(process.getRuleset()));
+            assertEquals("Wrong tasks!",
+                singleProcess.getTasks().stream().map(TaskDTO::getTitle).collect(Collectors.toList()),
+                process.getTasks().stream().map(TaskDTO::getTitle).collect(Collectors.toList()));
+        }
+    }
+
     @Test
     public void shouldFindByTitle() throws DataException {
         assertEquals(processNotFound, 1, processService.findByTitle(firstProcess, true).size());
@@ -623,6 +698,22 @@ public class ProcessServiceIT {
         Assert.assertEquals("Wrong amount of id's in index", 2, allIDs.size());
     }
 
+    @Test
+    public void shouldStreamByQuery() throws DataException {
+        QueryBuilder query = processService.createSetQueryForIds(Arrays.asList(1, 2, 3));
+        try (Stream<ProcessDTO> processes = processService.streamByQuery(query, processService.sortById(SortOrder.ASC),
+            true)) {
+            List<Integer> ids = processes.map(ProcessDTO::getId).collect(Collectors.toList());
+            assertEquals("Wrong processes streamed", Arrays.asList(1, 2, 3), ids);
+        }
+    }
+
+    @Test
+    public void shouldFindIdsByQuery() throws DataException {
+        QueryBuilder query = processService.createSetQueryForIds(Arrays.asList(1, 2, 3));
+        assertEquals("Wrong ids found", new HashSet<>(Arrays.asList(1, 2, 3)), processService.findIdsByQuery(query));
+    }
+
     @Test
     public void testCountMetadata() throws DAOException, IOException {
         Process process = ServiceManager.getProcessService().getById(2);
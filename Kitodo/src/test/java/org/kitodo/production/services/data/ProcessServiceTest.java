@@ -12,9 +12,13 @@
 package org.kitodo.production.services.data;
 
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.kitodo.data.database.beans.ListColumn;
 import org.kitodo.data.database.beans.Process;
 import org.kitodo.production.dto.ProcessDTO;
 import org.kitodo.production.dto.PropertyDTO;
@@ -64,6 +68,19 @@ public class ProcessServiceTest {
 
     }
 
+    @Test
+    public void shouldGetProjectionForListColumns() {
+        ProcessService processService = ServiceManager.getProcessService();
+
+        List<String> excludes = Arrays.asList(
+            processService.getProjectionForListColumns(Collections.emptyList()).excludes());
+        Assert.assertEquals(Arrays.asList("meta", "comments.message", "properties"), excludes);
+
+        excludes = Arrays.asList(processService.getProjectionForListColumns(
+            Arrays.asList(new ListColumn("process.comments"), new ListColumn("process.Signatur", true))).excludes());
+        Assert.assertEquals(Collections.singletonList("meta"), excludes);
+    }
+
     @Test
     public void testGetMetadataFileUri() {
         Process process = new Process();
@@ -14,8 +14,11 @@ package org.kitodo.production.services.data;
 import static org.awaitility.Awaitility.await;
 import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.io.File;
 import java.util.List;
 
 import org.elasticsearch.index.query.Operator;
@@ -27,6 +30,9 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.kitodo.MockDatabase;
 import org.kitodo.SecurityTestUtils;
+import org.kitodo.api.dataeditor.rulesetmanagement.RulesetManagementInterface;
+import org.kitodo.config.ConfigCore;
+import org.kitodo.config.enums.ParameterCore;
 import org.kitodo.data.database.beans.Ruleset;
 import org.kitodo.data.database.beans.User;
 import org.kitodo.data.database.exceptions.DAOException;
@@ -171,6 +177,27 @@ public class RulesetServiceIT {
         assertEquals("Not all rulesets were found in index!", 3, rulesetService.findAllDocuments().size());
     }
 
+    @Test
+    public void shouldReuseLoadedRuleset() throws Exception {
+        Ruleset ruleset = rulesetService.getById(1);
+        RulesetManagementInterface rulesetManagement = rulesetService.openRuleset(ruleset);
+        assertSame("Ruleset was loaded again!", rulesetManagement, rulesetService.openRuleset(ruleset));
+
+        rulesetService.reloadRuleset(1);
+        RulesetManagementInterface reloaded = rulesetService.openRuleset(ruleset);
+        assertNotSame("Ruleset was not loaded again after reload!", rulesetManagement, reloaded);
+
+        File rulesetFile = new File(ConfigCore.getParameter(ParameterCore.DIR_RULESETS), ruleset.getFile());
+        long lastModified = rulesetFile.lastModified();
+        try {
+            assertTrue("Could not touch ruleset file!", rulesetFile.setLastModified(lastModified + 2000));
+            assertNotSame("Ruleset was not loaded again after change!", reloaded,
+                rulesetService.openRuleset(ruleset));
+        } finally {
+            rulesetFile.setLastModified(lastModified);
+        }
+    }
+
     @Test
     public void shouldRemoveRuleset() throws Exception {
         Ruleset ruleset = new Ruleset();
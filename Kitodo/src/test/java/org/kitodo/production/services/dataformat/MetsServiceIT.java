@@ -68,4 +68,20 @@ public class MetsServiceIT {
                 "131", "132", "133", "134", "uncounted", "uncounted", "uncounted"),
             workpiece.getPhysicalStructure().getChildren().stream().map(PhysicalDivision::getOrderlabel).collect(Collectors.toList()));
     }
+
+    /**
+     * Tests that the in-memory copy of a workpiece equals the workpiece read
+     * again from the METS file.
+     */
+    @Test
+    public void testCopyWorkpiece() throws Exception {
+        URI metsFile = new File("../Kitodo-DataFormat/src/test/resources/meta.xml").toURI();
+        Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(metsFile);
+        Workpiece copy = workpiece.copy();
+
+        assertEquals(ServiceManager.getMetsService().loadWorkpiece(metsFile), copy);
+        assertEquals(183, copy.getPhysicalStructure().getChildren().size());
+        copy.getLogicalStructure().getChildren().remove(0);
+        assertEquals(16, workpiece.getLogicalStructure().getChildren().size());
+    }
 }
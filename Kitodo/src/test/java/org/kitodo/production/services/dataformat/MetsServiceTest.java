@@ -0,0 +1,103 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.dataformat;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.json.JSONObject;
+import org.json.XML;
+import org.junit.Test;
+import org.kitodo.api.dataformat.PhysicalDivision;
+import org.kitodo.api.dataformat.Workpiece;
+import org.kitodo.production.services.ServiceManager;
+
+public class MetsServiceTest {
+
+    private static final String[] METS_FILES = {
+        "src/test/resources/metadata/testIndexDataMeta.xml",
+        "src/test/resources/metadata/testmeta.xml",
+        "src/test/resources/metadata/testMultiVolumeWorkMeta.xml",
+        "src/test/resources/metadata/testParentProcessMeta.xml",
+        "src/test/resources/metadata/testRenameMediaMeta.xml",
+        "src/test/resources/metadata/2/meta.xml",
+        "src/test/resources/metadata/2/metaWithDuplicateMetadata.xml",
+        "src/test/resources/metadata/4/meta.xml",
+        "src/test/resources/metadata/10/meta.xml",
+        "src/test/resources/metadata/variableReplacer/newspaperIssue/meta.xml",
+        "src/test/resources/metadata/variableReplacer/periodicalVolume/meta.xml",
+        "../Kitodo-DataFormat/src/test/resources/meta.xml",
+    };
+
+    /**
+     * Tests that reading the index data yields the same index data as parsing
+     * the METS file with {@code org.json} and reading the workpiece.
+     */
+    @Test
+    public void shouldReadSameIndexDataAsWorkpiece() throws Exception {
+        for (String metsFile : METS_FILES) {
+            File file = new File(metsFile);
+            MetsIndexData indexData = ServiceManager.getMetsService().readIndexData(file.toURI());
+            Workpiece workpiece = ServiceManager.getMetsService().loadWorkpiece(file.toURI());
+
+            assertEquals("Metadata differ for " + metsFile, readMetadataWithJson(file), indexData.getMetadata());
+            assertEquals("Number of images differs for " + metsFile,
+                Workpiece.treeStream(workpiece.getPhysicalStructure())
+                        .filter(division -> Objects.equals(division.getType(), PhysicalDivision.TYPE_PAGE)).count(),
+                indexData.getNumberOfImages());
+            assertEquals("Number of metadata differs for " + metsFile, MetsService.countLogicalMetadata(workpiece),
+                indexData.getNumberOfMetadata());
+            assertEquals("Number of structures differs for " + metsFile,
+                Workpiece.treeStream(workpiece.getLogicalStructure()).count(), indexData.getNumberOfStructures());
+            assertEquals("Base type differs for " + metsFile, ServiceManager.getMetsService().getBaseType(workpiece),
+                indexData.getBaseType());
+        }
+    }
+
+    /**
+     * Tests the figures of a METS file with duplicate and empty metadata and
+     * a base type inherited from the first child.
+     */
+    @Test
+    public void shouldCountDistinctMetadata() throws Exception {
+        MetsIndexData indexData = ServiceManager.getMetsService()
+                .readIndexData(new File("src/test/resources/metadata/testIndexDataMeta.xml").toURI());
+        assertEquals(2, indexData.getNumberOfImages());
+        assertEquals(6, indexData.getNumberOfStructures());
+        assertEquals(18, indexData.getNumberOfMetadata());
+        assertEquals("NewspaperYear", indexData.getBaseType());
+        assertEquals(5, indexData.getMetadata().size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> readMetadataWithJson(File file) throws IOException {
+        JSONObject xmlJSONObject = XML.toJSONObject(Files.readString(file.toPath(), StandardCharsets.UTF_8));
+        Map<String, Object> json = MetsService.iterateOverJsonObject(xmlJSONObject);
+        Map<String, Object> mets = (Map<String, Object>) json.get("mets");
+        Object dmdSec = mets.get("dmdSec");
+        List<Map<String, Object>> metadata = new ArrayList<>();
+        if (dmdSec instanceof List) {
+            metadata = (List<Map<String, Object>>) dmdSec;
+        } else if (dmdSec instanceof Map) {
+            metadata.add((Map<String, Object>) dmdSec);
+        }
+        return metadata;
+    }
+}
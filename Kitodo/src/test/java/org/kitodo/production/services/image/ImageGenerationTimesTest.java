@@ -0,0 +1,43 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.image;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ImageGenerationTimesTest {
+
+    @Test
+    public void shouldSortTimesIntoBuckets() {
+        ImageGenerationTimes generationTimes = new ImageGenerationTimes();
+        generationTimes.record(TimeUnit.MILLISECONDS.toNanos(100));
+        generationTimes.record(TimeUnit.MILLISECONDS.toNanos(250));
+        generationTimes.record(TimeUnit.MILLISECONDS.toNanos(1500));
+        generationTimes.record(TimeUnit.SECONDS.toNanos(30));
+
+        assertEquals("Wrong number of images", 4, generationTimes.getCount());
+        assertEquals("Wrong number of fast images", 1, generationTimes.getCount(0));
+        assertEquals("Bound was not sorted into the next bucket", 1, generationTimes.getCount(1));
+        assertEquals("Wrong number of medium images", 1, generationTimes.getCount(3));
+        assertEquals("Wrong number of slow images", 1, generationTimes.getCount(6));
+        assertTrue("Average is missing", generationTimes.toString().endsWith("average: 7962 ms"));
+    }
+
+    @Test
+    public void shouldReturnEmptyTextWithoutTimes() {
+        assertEquals("Histogram of no images is not empty", "", new ImageGenerationTimes().toString());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * (c) Kitodo. Key to digital objects e. V. <contact@kitodo.org>
+ *
+ * This file is part of the Kitodo project.
+ *
+ * It is licensed under GNU General Public License version 3 or later.
+ *
+ * For the full copyright and license information, please read the
+ * GPL3-License.txt file that was distributed with this source code.
+ */
+
+package org.kitodo.production.services.image;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kitodo.production.services.image.ThumbnailService.Thumbnail;
+
+public class ThumbnailServiceTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldScaleImage() throws Exception {
+        File image = createImage("00000001.png", 1200, 800);
+        ThumbnailService thumbnailService = new ThumbnailService(300, temporaryFolder.newFolder().toPath(), 10, 10);
+
+        Optional<Thumbnail> thumbnail = thumbnailService.getThumbnail(image);
+
+        assertTrue("No thumbnail was created", thumbnail.isPresent());
+        assertEquals("Wrong content type", "image/jpeg", thumbnail.get().getContentType());
+        assertEquals("Wrong file name", "00000001.jpg", thumbnail.get().getName());
+        BufferedImage scaled = ImageIO.read(new ByteArrayInputStream(thumbnail.get().getData()));
+        assertEquals("Wrong width", 300, scaled.getWidth());
+        assertEquals("Wrong height", 200, scaled.getHeight());
+    }
+
+    @Test
+    public void shouldCacheThumbnailUntilImageChanges() throws Exception {
+        File image = createImage("00000001.png", 400, 400);
+        File cacheDirectory = temporaryFolder.newFolder();
+        ThumbnailService thumbnailService = new ThumbnailService(100, cacheDirectory.toPath(), 10, 10);
+
+        Thumbnail first = thumbnailService.getThumbnail(image).orElseThrow(AssertionError::new);
+        assertSame("Thumbnail was not kept in memory", first,
+            thumbnailService.getThumbnail(image).orElseThrow(AssertionError::new));
+        assertEquals("Thumbnail was not kept on disk", 1, cacheDirectory.list().length);
+
+        Files.setLastModifiedTime(image.toPath(), FileTime.fromMillis(image.lastModified() + 60_000));
+        Thumbnail second = thumbnailService.getThumbnail(image).orElseThrow(AssertionError::new);
+        assertNotEquals("Changed image has the same entity tag", first.getEntityTag(), second.getEntityTag());
+    }
+
+    @Test
+    public void shouldLimitDiskCache() throws Exception {
+        File cacheDirectory = temporaryFolder.newFolder();
+        ThumbnailService thumbnailService = new ThumbnailService(50, cacheDirectory.toPath(), 1, 3);
+
+        for (int i = 1; i <= 5; i++) {
+            thumbnailService.getThumbnail(createImage(String.format("%08d.png", i), 100, 100));
+        }
+
+        assertEquals("Wrong number of thumbnails on disk", 3, cacheDirectory.list().length);
+    }
+
+    @Test
+    public void shouldNotCreateThumbnailOfUnsupportedFormat() throws Exception {
+        File file = temporaryFolder.newFile("00000001.jp2");
+        Files.write(file.toPath(), new byte[] {0, 1, 2, 3 });
+        ThumbnailService thumbnailService = new ThumbnailService(100, temporaryFolder.newFolder().toPath(), 10, 10);
+
+        assertFalse("Thumbnail of unsupported format was created", thumbnailService.getThumbnail(file).isPresent());
+    }
+
+    private File createImage(String name, int width, int height) throws Exception {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int x = 0; x < width; x++) {
+            image.setRGB(x, x * height / width, 0xFF000000);
+        }
+        File file = temporaryFolder.newFile(name);
+        ImageIO.write(image, "png", file);
+        return file;
+    }
+}